@@ -0,0 +1,15 @@
+package com.example.bangbillija;
+
+import android.app.Application;
+
+import com.example.bangbillija.data.LocalCache;
+
+public class BangbillijaApplication extends Application {
+
+    @Override
+    public void onCreate() {
+        super.onCreate();
+        // 저장소(Repository)보다 먼저 로컬 캐시를 준비
+        LocalCache.init(this);
+    }
+}
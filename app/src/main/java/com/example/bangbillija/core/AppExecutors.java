@@ -0,0 +1,65 @@
+package com.example.bangbillija.core;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 앱 전역 실행기
+ * 디스크 I/O(로컬 캐시)는 단일 스레드에서 순서대로, 결과 반영은 메인 스레드에서 수행합니다.
+ * 스냅샷 변환(문서 → 모델)과 목록 분류는 별도의 파싱 스레드에서 순서대로 처리합니다.
+ * QR 비트맵처럼 CPU를 쓰는 이미지 생성은 렌더링 스레드에서 처리합니다.
+ */
+public final class AppExecutors {
+
+    private static AppExecutors instance;
+
+    private final ExecutorService diskIO = Executors.newSingleThreadExecutor();
+    private final ExecutorService parsing = Executors.newSingleThreadExecutor();
+    private final ExecutorService rendering = Executors.newSingleThreadExecutor();
+    private final Executor mainThread = new MainThreadExecutor();
+
+    private AppExecutors() {
+    }
+
+    public static synchronized AppExecutors getInstance() {
+        if (instance == null) {
+            instance = new AppExecutors();
+        }
+        return instance;
+    }
+
+    public Executor diskIO() {
+        return diskIO;
+    }
+
+    /**
+     * 스냅샷 파싱/분류 전용 단일 스레드 (이벤트 순서 보장)
+     */
+    public Executor parsing() {
+        return parsing;
+    }
+
+    /**
+     * 비트맵 생성 전용 단일 스레드 (파싱 작업을 지연시키지 않도록 분리)
+     */
+    public Executor rendering() {
+        return rendering;
+    }
+
+    public Executor mainThread() {
+        return mainThread;
+    }
+
+    private static class MainThreadExecutor implements Executor {
+        private final Handler handler = new Handler(Looper.getMainLooper());
+
+        @Override
+        public void execute(Runnable command) {
+            handler.post(command);
+        }
+    }
+}
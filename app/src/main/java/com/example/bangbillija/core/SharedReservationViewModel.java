@@ -5,15 +5,18 @@ import androidx.lifecycle.MediatorLiveData;
 import androidx.lifecycle.MutableLiveData;
 import androidx.lifecycle.ViewModel;
 
+import com.example.bangbillija.data.ListDiff;
 import com.example.bangbillija.data.ReservationRepository;
 import com.example.bangbillija.data.RoomRepository;
 import com.example.bangbillija.model.Reservation;
 import com.example.bangbillija.model.Room;
 import com.example.bangbillija.model.TimeSlot;
+import com.example.bangbillija.service.FirestoreManager;
 
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 public class SharedReservationViewModel extends ViewModel {
 
@@ -35,6 +38,14 @@ public class SharedReservationViewModel extends ViewModel {
         return roomRepository.getRooms();
     }
 
+    public LiveData<ListDiff<Room>> getRoomChanges() {
+        return roomRepository.getRoomChanges();
+    }
+
+    public void searchRooms(String query, Predicate<Room> filter, FirestoreManager.FirestoreCallback<List<Room>> callback) {
+        roomRepository.searchRooms(query, filter, callback);
+    }
+
     public LiveData<List<TimeSlot>> getTimeSlots() {
         return timeSlots;
     }
@@ -59,6 +70,18 @@ public class SharedReservationViewModel extends ViewModel {
         return reservationRepository.getCancelledReservations();
     }
 
+    public LiveData<ListDiff<Reservation>> getUpcomingChanges() {
+        return reservationRepository.getUpcomingChanges();
+    }
+
+    public LiveData<ListDiff<Reservation>> getPastChanges() {
+        return reservationRepository.getPastChanges();
+    }
+
+    public LiveData<ListDiff<Reservation>> getCancelledChanges() {
+        return reservationRepository.getCancelledChanges();
+    }
+
     public LiveData<Room> getSelectedRoom() {
         return selectedRoom;
     }
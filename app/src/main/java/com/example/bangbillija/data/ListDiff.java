@@ -0,0 +1,86 @@
+package com.example.bangbillija.data;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 정렬 목록의 이전 게시본 대비 변경 내역 (어댑터가 DiffUtil 없이 바로 적용)
+ * 변경은 순서대로 적용해야 하며, 어댑터의 현재 버전이 fromVersion과 다르면
+ * (LiveData가 중간 게시를 합친 경우 등) items로 전체 교체해야 합니다.
+ */
+public final class ListDiff<T> {
+
+    public enum Type {
+        INSERT,
+        REMOVE,
+        CHANGE,
+        MOVE
+    }
+
+    public static final class Op {
+        private final Type type;
+        private final int position;
+        private final int toPosition;
+
+        Op(Type type, int position, int toPosition) {
+            this.type = type;
+            this.position = position;
+            this.toPosition = toPosition;
+        }
+
+        public Type getType() {
+            return type;
+        }
+
+        public int getPosition() {
+            return position;
+        }
+
+        /**
+         * MOVE의 도착 위치 (다른 종류는 position과 같음)
+         */
+        public int getToPosition() {
+            return toPosition;
+        }
+    }
+
+    private final List<T> items;
+    private final List<Op> ops;
+    private final long fromVersion;
+    private final long toVersion;
+    private final boolean reset;
+
+    ListDiff(List<T> items, List<Op> ops, long fromVersion, long toVersion, boolean reset) {
+        this.items = Collections.unmodifiableList(items);
+        this.ops = Collections.unmodifiableList(ops);
+        this.fromVersion = fromVersion;
+        this.toVersion = toVersion;
+        this.reset = reset;
+    }
+
+    /**
+     * 변경 적용 후의 전체 목록
+     */
+    public List<T> getItems() {
+        return items;
+    }
+
+    public List<Op> getOps() {
+        return ops;
+    }
+
+    public long getFromVersion() {
+        return fromVersion;
+    }
+
+    public long getToVersion() {
+        return toVersion;
+    }
+
+    /**
+     * 변경이 너무 많거나 전체 재구성된 경우 (개별 변경 대신 전체 교체)
+     */
+    public boolean isReset() {
+        return reset;
+    }
+}
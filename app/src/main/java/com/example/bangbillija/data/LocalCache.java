@@ -0,0 +1,485 @@
+package com.example.bangbillija.data;
+
+import android.content.ContentValues;
+import android.content.Context;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteOpenHelper;
+
+import com.example.bangbillija.model.PendingMutation;
+import com.example.bangbillija.model.Reservation;
+import com.example.bangbillija.model.ReservationStatus;
+import com.example.bangbillija.model.Room;
+import com.example.bangbillija.model.RoomStatus;
+import com.example.bangbillija.model.TimetableEntry;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기기 내 SQLite 캐시
+ * 예약/강의실/시간표를 updatedAt과 함께 보관하여 앱 시작 시 서버 전체 조회 없이 바로 화면을 그리고,
+ * 이후에는 마지막 워터마크 이후 변경된 문서만 동기화합니다.
+ * 서버에 아직 반영되지 않은 예약 변경(outbox)도 함께 보관하여 앱을 다시 시작해도 순서대로 재전송합니다.
+ * 모든 메서드는 디스크 I/O이므로 AppExecutors.diskIO()에서 호출해야 합니다.
+ */
+public class LocalCache extends SQLiteOpenHelper {
+
+    private static final String DATABASE_NAME = "bangbillija_cache.db";
+    private static final int DATABASE_VERSION = 2;
+
+    private static final String TABLE_RESERVATIONS = "reservations";
+    private static final String TABLE_ROOMS = "rooms";
+    private static final String TABLE_TIMETABLE = "timetable";
+    private static final String TABLE_SYNC_STATE = "sync_state";
+    private static final String TABLE_OUTBOX = "outbox";
+
+    // 시설 목록 구분자 (시설명에 등장하지 않는 제어 문자)
+    private static final String FACILITY_SEPARATOR = "\u001F";
+
+    private static LocalCache instance;
+
+    private LocalCache(Context context) {
+        super(context, DATABASE_NAME, null, DATABASE_VERSION);
+    }
+
+    public static synchronized void init(Context context) {
+        if (instance == null) {
+            instance = new LocalCache(context.getApplicationContext());
+        }
+    }
+
+    public static synchronized LocalCache getInstance() {
+        if (instance == null) {
+            throw new IllegalStateException("LocalCache.init()이 호출되지 않았습니다");
+        }
+        return instance;
+    }
+
+    @Override
+    public void onCreate(SQLiteDatabase db) {
+        db.execSQL("CREATE TABLE " + TABLE_RESERVATIONS + " ("
+                + "id TEXT PRIMARY KEY, room_id TEXT, room_name TEXT, title TEXT, owner TEXT, "
+                + "owner_student_id TEXT, date TEXT, start_time TEXT, end_time TEXT, attendees INTEGER, "
+                + "status TEXT, note TEXT, updated_at INTEGER NOT NULL DEFAULT 0)");
+        db.execSQL("CREATE INDEX idx_reservations_updated_at ON " + TABLE_RESERVATIONS + " (updated_at)");
+        db.execSQL("CREATE INDEX idx_reservations_owner_date ON " + TABLE_RESERVATIONS + " (owner, date)");
+
+        db.execSQL("CREATE TABLE " + TABLE_ROOMS + " ("
+                + "id TEXT PRIMARY KEY, building TEXT, name TEXT, capacity INTEGER, floor TEXT, "
+                + "facilities TEXT, status TEXT, updated_at INTEGER NOT NULL DEFAULT 0)");
+
+        db.execSQL("CREATE TABLE " + TABLE_TIMETABLE + " ("
+                + "id TEXT PRIMARY KEY, course_name TEXT, room_id TEXT, room_name TEXT, day_of_week TEXT, "
+                + "start_time TEXT, end_time TEXT, attendees INTEGER, professor TEXT, note TEXT, "
+                + "semester TEXT, updated_at INTEGER NOT NULL DEFAULT 0)");
+        db.execSQL("CREATE INDEX idx_timetable_semester ON " + TABLE_TIMETABLE + " (semester)");
+
+        db.execSQL("CREATE TABLE " + TABLE_SYNC_STATE + " (key TEXT PRIMARY KEY, value TEXT)");
+
+        // seq 순서가 곧 재전송 순서
+        db.execSQL("CREATE TABLE IF NOT EXISTS " + TABLE_OUTBOX + " ("
+                + "seq INTEGER PRIMARY KEY AUTOINCREMENT, id TEXT NOT NULL UNIQUE, kind TEXT NOT NULL, "
+                + "reservation_id TEXT NOT NULL, payload TEXT, expected_status TEXT, user_id TEXT, "
+                + "user_email TEXT, created_at INTEGER NOT NULL)");
+    }
+
+    @Override
+    public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
+        // 캐시는 서버에서 다시 받을 수 있으므로 스키마 변경 시 새로 만든다
+        // (outbox는 서버에 없는 변경이므로 유지)
+        db.execSQL("DROP TABLE IF EXISTS " + TABLE_RESERVATIONS);
+        db.execSQL("DROP TABLE IF EXISTS " + TABLE_ROOMS);
+        db.execSQL("DROP TABLE IF EXISTS " + TABLE_TIMETABLE);
+        db.execSQL("DROP TABLE IF EXISTS " + TABLE_SYNC_STATE);
+        onCreate(db);
+    }
+
+    // ==================== Reservations ====================
+
+    public List<Reservation> loadReservations() {
+        List<Reservation> reservations = new ArrayList<>();
+        try (Cursor cursor = getReadableDatabase().query(TABLE_RESERVATIONS, null,
+                null, null, null, null, null)) {
+            while (cursor.moveToNext()) {
+                Reservation reservation = cursorToReservation(cursor);
+                if (reservation != null) {
+                    reservations.add(reservation);
+                }
+            }
+        }
+        return reservations;
+    }
+
+    /**
+     * 동기화 배치를 한 트랜잭션으로 반영합니다.
+     */
+    public void applyReservations(List<Reservation> upserts, UpdatedAtLookup updatedAt, Collection<String> removedIds) {
+        SQLiteDatabase db = getWritableDatabase();
+        db.beginTransaction();
+        try {
+            for (Reservation reservation : upserts) {
+                db.insertWithOnConflict(TABLE_RESERVATIONS, null,
+                        reservationToValues(reservation, updatedAt.get(reservation.getId())),
+                        SQLiteDatabase.CONFLICT_REPLACE);
+            }
+            for (String id : removedIds) {
+                db.delete(TABLE_RESERVATIONS, "id = ?", new String[]{id});
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    public void clearReservations() {
+        getWritableDatabase().delete(TABLE_RESERVATIONS, null, null);
+    }
+
+    // ==================== Rooms ====================
+
+    public List<Room> loadRooms() {
+        List<Room> rooms = new ArrayList<>();
+        try (Cursor cursor = getReadableDatabase().query(TABLE_ROOMS, null,
+                null, null, null, null, "rowid")) {
+            while (cursor.moveToNext()) {
+                Room room = cursorToRoom(cursor);
+                if (room != null) {
+                    rooms.add(room);
+                }
+            }
+        }
+        return rooms;
+    }
+
+    /**
+     * 강의실 전체를 서버 스냅샷으로 교체합니다.
+     */
+    public void replaceRooms(List<Room> rooms) {
+        SQLiteDatabase db = getWritableDatabase();
+        db.beginTransaction();
+        try {
+            db.delete(TABLE_ROOMS, null, null);
+            long now = System.currentTimeMillis();
+            for (Room room : rooms) {
+                db.insertWithOnConflict(TABLE_ROOMS, null, roomToValues(room, now),
+                        SQLiteDatabase.CONFLICT_REPLACE);
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    // ==================== Timetable ====================
+
+    public List<TimetableEntry> loadTimetable(String semester) {
+        List<TimetableEntry> entries = new ArrayList<>();
+        String selection = semester != null ? "semester = ?" : null;
+        String[] args = semester != null ? new String[]{semester} : null;
+        try (Cursor cursor = getReadableDatabase().query(TABLE_TIMETABLE, null,
+                selection, args, null, null, "rowid")) {
+            while (cursor.moveToNext()) {
+                TimetableEntry entry = cursorToTimetableEntry(cursor);
+                if (entry != null) {
+                    entries.add(entry);
+                }
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * 학기(또는 전체, semester == null) 시간표를 서버 스냅샷으로 교체합니다.
+     */
+    public void replaceTimetable(String semester, List<TimetableEntry> entries) {
+        SQLiteDatabase db = getWritableDatabase();
+        db.beginTransaction();
+        try {
+            if (semester != null) {
+                db.delete(TABLE_TIMETABLE, "semester = ?", new String[]{semester});
+            } else {
+                db.delete(TABLE_TIMETABLE, null, null);
+            }
+            long now = System.currentTimeMillis();
+            for (TimetableEntry entry : entries) {
+                db.insertWithOnConflict(TABLE_TIMETABLE, null, timetableEntryToValues(entry, now),
+                        SQLiteDatabase.CONFLICT_REPLACE);
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    // ==================== Sync State ====================
+
+    public String getSyncState(String key) {
+        try (Cursor cursor = getReadableDatabase().query(TABLE_SYNC_STATE, new String[]{"value"},
+                "key = ?", new String[]{key}, null, null, null)) {
+            return cursor.moveToFirst() ? cursor.getString(0) : null;
+        }
+    }
+
+    public long getSyncStateLong(String key) {
+        String value = getSyncState(key);
+        if (value == null) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    public void putSyncState(String key, String value) {
+        ContentValues values = new ContentValues();
+        values.put("key", key);
+        values.put("value", value);
+        getWritableDatabase().insertWithOnConflict(TABLE_SYNC_STATE, null, values, SQLiteDatabase.CONFLICT_REPLACE);
+    }
+
+    // ==================== Outbox ====================
+
+    public void insertMutation(PendingMutation mutation) {
+        ContentValues values = new ContentValues();
+        values.put("id", mutation.getId());
+        values.put("kind", mutation.getKind().name());
+        values.put("reservation_id", mutation.getReservationId());
+        values.put("payload", mutation.getKind() == PendingMutation.Kind.CREATE
+                ? reservationToJson(mutation.getReservation()).toString()
+                : new JSONObject(mutation.getUpdates()).toString());
+        values.put("expected_status", mutation.getExpectedStatus() != null ? mutation.getExpectedStatus().name() : null);
+        values.put("user_id", mutation.getUserId());
+        values.put("user_email", mutation.getUserEmail());
+        values.put("created_at", mutation.getCreatedAt());
+        getWritableDatabase().insertWithOnConflict(TABLE_OUTBOX, null, values, SQLiteDatabase.CONFLICT_IGNORE);
+    }
+
+    /**
+     * 보내지 않은 변경 (기록 순서)
+     */
+    public List<PendingMutation> loadMutations() {
+        List<PendingMutation> mutations = new ArrayList<>();
+        try (Cursor cursor = getReadableDatabase().query(TABLE_OUTBOX, null,
+                null, null, null, null, "seq")) {
+            while (cursor.moveToNext()) {
+                PendingMutation mutation = cursorToMutation(cursor);
+                if (mutation != null) {
+                    mutations.add(mutation);
+                }
+            }
+        }
+        return mutations;
+    }
+
+    public void deleteMutation(String mutationId) {
+        getWritableDatabase().delete(TABLE_OUTBOX, "id = ?", new String[]{mutationId});
+    }
+
+    // ==================== Conversion Utilities ====================
+
+    private ContentValues reservationToValues(Reservation reservation, long updatedAt) {
+        ContentValues values = new ContentValues();
+        values.put("id", reservation.getId());
+        values.put("room_id", reservation.getRoomId());
+        values.put("room_name", reservation.getRoomName());
+        values.put("title", reservation.getTitle());
+        values.put("owner", reservation.getOwner());
+        values.put("owner_student_id", reservation.getOwnerStudentId());
+        values.put("date", reservation.getDate().toString());
+        values.put("start_time", reservation.getStartTime().toString());
+        values.put("end_time", reservation.getEndTime().toString());
+        values.put("attendees", reservation.getAttendees());
+        values.put("status", reservation.getStatus().name());
+        values.put("note", reservation.getNote());
+        values.put("updated_at", updatedAt);
+        return values;
+    }
+
+    private Reservation cursorToReservation(Cursor cursor) {
+        try {
+            return new Reservation(
+                    cursor.getString(cursor.getColumnIndexOrThrow("id")),
+                    cursor.getString(cursor.getColumnIndexOrThrow("room_id")),
+                    cursor.getString(cursor.getColumnIndexOrThrow("room_name")),
+                    cursor.getString(cursor.getColumnIndexOrThrow("title")),
+                    cursor.getString(cursor.getColumnIndexOrThrow("owner")),
+                    cursor.getString(cursor.getColumnIndexOrThrow("owner_student_id")),
+                    LocalDate.parse(cursor.getString(cursor.getColumnIndexOrThrow("date"))),
+                    LocalTime.parse(cursor.getString(cursor.getColumnIndexOrThrow("start_time"))),
+                    LocalTime.parse(cursor.getString(cursor.getColumnIndexOrThrow("end_time"))),
+                    cursor.getInt(cursor.getColumnIndexOrThrow("attendees")),
+                    ReservationStatus.valueOf(cursor.getString(cursor.getColumnIndexOrThrow("status"))),
+                    cursor.getString(cursor.getColumnIndexOrThrow("note"))
+            );
+        } catch (Exception e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    private PendingMutation cursorToMutation(Cursor cursor) {
+        try {
+            PendingMutation.Kind kind = PendingMutation.Kind.valueOf(cursor.getString(cursor.getColumnIndexOrThrow("kind")));
+            String payload = cursor.getString(cursor.getColumnIndexOrThrow("payload"));
+            JSONObject json = payload != null ? new JSONObject(payload) : new JSONObject();
+            String expectedStatus = cursor.getString(cursor.getColumnIndexOrThrow("expected_status"));
+
+            Reservation reservation = null;
+            Map<String, Object> updates = new HashMap<>();
+            if (kind == PendingMutation.Kind.CREATE) {
+                reservation = jsonToReservation(json);
+            } else {
+                Iterator<String> keys = json.keys();
+                while (keys.hasNext()) {
+                    String key = keys.next();
+                    updates.put(key, json.get(key));
+                }
+            }
+            return new PendingMutation(
+                    cursor.getString(cursor.getColumnIndexOrThrow("id")),
+                    kind,
+                    cursor.getString(cursor.getColumnIndexOrThrow("reservation_id")),
+                    reservation,
+                    updates,
+                    expectedStatus != null ? ReservationStatus.valueOf(expectedStatus) : null,
+                    cursor.getString(cursor.getColumnIndexOrThrow("user_id")),
+                    cursor.getString(cursor.getColumnIndexOrThrow("user_email")),
+                    cursor.getLong(cursor.getColumnIndexOrThrow("created_at"))
+            );
+        } catch (Exception e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    private JSONObject reservationToJson(Reservation reservation) {
+        JSONObject json = new JSONObject();
+        try {
+            json.put("id", reservation.getId());
+            json.put("roomId", reservation.getRoomId());
+            json.put("roomName", reservation.getRoomName());
+            json.put("title", reservation.getTitle());
+            json.put("owner", reservation.getOwner());
+            json.put("ownerStudentId", reservation.getOwnerStudentId());
+            json.put("date", reservation.getDate().toString());
+            json.put("startTime", reservation.getStartTime().toString());
+            json.put("endTime", reservation.getEndTime().toString());
+            json.put("attendees", reservation.getAttendees());
+            json.put("status", reservation.getStatus().name());
+            json.put("note", reservation.getNote());
+        } catch (JSONException e) {
+            throw new IllegalArgumentException(e);
+        }
+        return json;
+    }
+
+    private Reservation jsonToReservation(JSONObject json) throws JSONException {
+        return new Reservation(
+                json.getString("id"),
+                json.getString("roomId"),
+                json.optString("roomName"),
+                json.optString("title"),
+                json.optString("owner"),
+                json.optString("ownerStudentId"),
+                LocalDate.parse(json.getString("date")),
+                LocalTime.parse(json.getString("startTime")),
+                LocalTime.parse(json.getString("endTime")),
+                json.optInt("attendees"),
+                ReservationStatus.valueOf(json.getString("status")),
+                json.optString("note")
+        );
+    }
+
+    private ContentValues roomToValues(Room room, long updatedAt) {
+        ContentValues values = new ContentValues();
+        values.put("id", room.getId());
+        values.put("building", room.getBuilding());
+        values.put("name", room.getName());
+        values.put("capacity", room.getCapacity());
+        values.put("floor", room.getFloor());
+        values.put("facilities", String.join(FACILITY_SEPARATOR, room.getFacilities()));
+        values.put("status", room.getStatus().name());
+        values.put("updated_at", updatedAt);
+        return values;
+    }
+
+    private Room cursorToRoom(Cursor cursor) {
+        try {
+            String facilities = cursor.getString(cursor.getColumnIndexOrThrow("facilities"));
+            List<String> facilityList = facilities == null || facilities.isEmpty()
+                    ? new ArrayList<>()
+                    : new ArrayList<>(Arrays.asList(facilities.split(FACILITY_SEPARATOR)));
+            return new Room(
+                    cursor.getString(cursor.getColumnIndexOrThrow("id")),
+                    cursor.getString(cursor.getColumnIndexOrThrow("building")),
+                    cursor.getString(cursor.getColumnIndexOrThrow("name")),
+                    cursor.getInt(cursor.getColumnIndexOrThrow("capacity")),
+                    cursor.getString(cursor.getColumnIndexOrThrow("floor")),
+                    facilityList,
+                    RoomStatus.valueOf(cursor.getString(cursor.getColumnIndexOrThrow("status")))
+            );
+        } catch (Exception e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    private ContentValues timetableEntryToValues(TimetableEntry entry, long updatedAt) {
+        ContentValues values = new ContentValues();
+        values.put("id", entry.getId());
+        values.put("course_name", entry.getCourseName());
+        values.put("room_id", entry.getRoomId());
+        values.put("room_name", entry.getRoomName());
+        values.put("day_of_week", entry.getDayOfWeek().name());
+        values.put("start_time", entry.getStartTime().toString());
+        values.put("end_time", entry.getEndTime().toString());
+        values.put("attendees", entry.getAttendees());
+        values.put("professor", entry.getProfessor());
+        values.put("note", entry.getNote());
+        values.put("semester", entry.getSemester());
+        values.put("updated_at", updatedAt);
+        return values;
+    }
+
+    private TimetableEntry cursorToTimetableEntry(Cursor cursor) {
+        try {
+            return new TimetableEntry(
+                    cursor.getString(cursor.getColumnIndexOrThrow("id")),
+                    cursor.getString(cursor.getColumnIndexOrThrow("course_name")),
+                    cursor.getString(cursor.getColumnIndexOrThrow("room_id")),
+                    cursor.getString(cursor.getColumnIndexOrThrow("room_name")),
+                    DayOfWeek.valueOf(cursor.getString(cursor.getColumnIndexOrThrow("day_of_week"))),
+                    LocalTime.parse(cursor.getString(cursor.getColumnIndexOrThrow("start_time"))),
+                    LocalTime.parse(cursor.getString(cursor.getColumnIndexOrThrow("end_time"))),
+                    cursor.getInt(cursor.getColumnIndexOrThrow("attendees")),
+                    cursor.getString(cursor.getColumnIndexOrThrow("professor")),
+                    cursor.getString(cursor.getColumnIndexOrThrow("note")),
+                    cursor.getString(cursor.getColumnIndexOrThrow("semester"))
+            );
+        } catch (Exception e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * 문서 ID별 updatedAt 조회 (SyncBatch::getUpdatedAt)
+     */
+    public interface UpdatedAtLookup {
+        long get(String id);
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.bangbillija.data;
+
+import com.example.bangbillija.model.DayOccupancy;
+import com.example.bangbillija.model.MonthLoad;
+import com.example.bangbillija.model.Reservation;
+import com.example.bangbillija.model.ReservationStatus;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 현재 구독 범위의 예약을 날짜(epoch day)별로 보관하는 인덱스 (캘린더용)
+ * 날짜 조회는 TreeMap 탐색 한 번으로 끝나고, 날짜별 예약 수와 점유 셀 수를 변경 시점에 미리 합산해 두므로
+ * 월 히트맵은 해당 월 범위의 날짜만 읽어 만듭니다.
+ * 변경은 파싱 스레드, 조회는 메인 스레드에서 이루어지므로 모든 메서드를 동기화합니다.
+ */
+public class ReservationDateIndex {
+
+    private static final Comparator<Reservation> BY_START_TIME = (r1, r2) -> {
+        int timeCompare = r1.getStartTime().compareTo(r2.getStartTime());
+        if (timeCompare != 0) return timeCompare;
+        return r1.getId().compareTo(r2.getId());
+    };
+
+    // epoch day -> 그날의 예약 (시작 시간 순)과 합계
+    private final TreeMap<Long, DayBucket> days = new TreeMap<>();
+    private final Map<String, Reservation> byId = new HashMap<>();
+    // 내용이 바뀔 때마다 증가 (화면 갱신 여부 판단용)
+    private long version;
+
+    public synchronized void replaceAll(Collection<Reservation> reservations) {
+        days.clear();
+        byId.clear();
+        for (Reservation reservation : reservations) {
+            byId.put(reservation.getId(), reservation);
+            bucketFor(reservation.getDate()).reservations.add(reservation);
+        }
+        for (DayBucket bucket : days.values()) {
+            bucket.reservations.sort(BY_START_TIME);
+            bucket.recount();
+        }
+        version++;
+    }
+
+    /**
+     * 예약 추가/수정 (날짜가 바뀌었으면 이전 날짜에서 옮김)
+     */
+    public synchronized void put(Reservation reservation) {
+        removeInternal(reservation.getId());
+        byId.put(reservation.getId(), reservation);
+        DayBucket bucket = bucketFor(reservation.getDate());
+        int index = Collections.binarySearch(bucket.reservations, reservation, BY_START_TIME);
+        bucket.reservations.add(index < 0 ? -index - 1 : index, reservation);
+        bucket.add(reservation, 1);
+        version++;
+    }
+
+    public synchronized void remove(String reservationId) {
+        if (removeInternal(reservationId)) {
+            version++;
+        }
+    }
+
+    public synchronized void clear() {
+        if (!byId.isEmpty()) {
+            days.clear();
+            byId.clear();
+            version++;
+        }
+    }
+
+    public synchronized long version() {
+        return version;
+    }
+
+    /**
+     * 해당 날짜의 예약 (시작 시간 순, 취소 포함)
+     */
+    public synchronized List<Reservation> forDate(LocalDate date) {
+        DayBucket bucket = days.get(date.toEpochDay());
+        return bucket == null ? Collections.emptyList() : new ArrayList<>(bucket.reservations);
+    }
+
+    /**
+     * 한 달의 날짜별 예약 수/점유 셀 수
+     */
+    public synchronized MonthLoad monthLoad(YearMonth month) {
+        int length = month.lengthOfMonth();
+        int[] counts = new int[length];
+        int[] cells = new int[length];
+        long first = month.atDay(1).toEpochDay();
+        for (Map.Entry<Long, DayBucket> entry : days.subMap(first, true, first + length - 1, true).entrySet()) {
+            int dayIndex = (int) (entry.getKey() - first);
+            counts[dayIndex] = entry.getValue().activeCount;
+            cells[dayIndex] = entry.getValue().occupiedCells;
+        }
+        return new MonthLoad(month, counts, cells);
+    }
+
+    private boolean removeInternal(String reservationId) {
+        Reservation previous = byId.remove(reservationId);
+        if (previous == null) {
+            return false;
+        }
+        long key = previous.getDate().toEpochDay();
+        DayBucket bucket = days.get(key);
+        if (bucket != null && bucket.reservations.remove(previous)) {
+            bucket.add(previous, -1);
+            if (bucket.reservations.isEmpty()) {
+                days.remove(key);
+            }
+        }
+        return true;
+    }
+
+    private DayBucket bucketFor(LocalDate date) {
+        long key = date.toEpochDay();
+        DayBucket bucket = days.get(key);
+        if (bucket == null) {
+            bucket = new DayBucket();
+            days.put(key, bucket);
+        }
+        return bucket;
+    }
+
+    private static final class DayBucket {
+        final List<Reservation> reservations = new ArrayList<>();
+        // 취소되지 않은 예약 수와 그 예약들이 차지하는 셀 수
+        int activeCount;
+        int occupiedCells;
+
+        void add(Reservation reservation, int sign) {
+            if (reservation.getStatus() == ReservationStatus.CANCELLED) {
+                return;
+            }
+            activeCount += sign;
+            occupiedCells += sign * DayOccupancy.ofRange(reservation.getStartTime(), reservation.getEndTime())
+                    .occupiedCellCount();
+        }
+
+        void recount() {
+            activeCount = 0;
+            occupiedCells = 0;
+            for (Reservation reservation : reservations) {
+                add(reservation, 1);
+            }
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.example.bangbillija.data;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import com.example.bangbillija.core.AppExecutors;
+import com.example.bangbillija.model.PendingMutation;
+import com.example.bangbillija.service.FirestoreManager;
+import com.example.bangbillija.service.ReservationBookingService;
+import com.google.firebase.firestore.FirebaseFirestoreException;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 예약 변경 outbox
+ * 변경을 로컬 DB에 먼저 기록한 뒤 기록 순서대로 서버에 보냅니다. 연속된 수정/취소는 한 트랜잭션으로 묶고,
+ * 생성은 충돌 검사 트랜잭션으로 하나씩 보냅니다. 네트워크 오류는 지수 백오프로 재시도하고,
+ * 서버가 거절한 변경(충돌, 이미 취소됨 등)은 기록에서 지우고 Listener에 알려 화면 상태를 되돌리게 합니다.
+ * 메인 스레드에서만 사용합니다. (Firestore 콜백도 메인 스레드)
+ */
+public class ReservationOutbox {
+
+    public interface Listener {
+        /**
+         * 서버에 반영됨 (메인 스레드)
+         */
+        void onConfirmed(PendingMutation mutation);
+
+        /**
+         * 서버가 거절하여 기록에서 제거됨 (메인 스레드)
+         */
+        void onRejected(PendingMutation mutation, Exception e);
+    }
+
+    // 한 트랜잭션에서 읽는 문서 수를 제한 (트랜잭션 안의 읽기는 문서마다 왕복)
+    static final int MAX_MUTATIONS_PER_TRANSACTION = 20;
+    private static final long INITIAL_RETRY_DELAY_MILLIS = 1000L;
+    private static final long MAX_RETRY_DELAY_MILLIS = 60_000L;
+
+    private final ReservationBookingService bookingService = ReservationBookingService.getInstance();
+    private final FirestoreManager firestoreManager = FirestoreManager.getInstance();
+    private final AppExecutors executors = AppExecutors.getInstance();
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final ArrayDeque<PendingMutation> queue = new ArrayDeque<>();
+    private final Listener listener;
+
+    private boolean restored;
+    private boolean flushing;
+    private boolean retryScheduled;
+    private long retryDelayMillis = INITIAL_RETRY_DELAY_MILLIS;
+
+    public ReservationOutbox(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * 이전 실행에서 보내지 못한 변경을 큐 앞에 복원하고 전송 시작
+     */
+    public void restore(List<PendingMutation> mutations) {
+        for (int i = mutations.size() - 1; i >= 0; i--) {
+            queue.addFirst(mutations.get(i));
+        }
+        restored = true;
+        flush();
+    }
+
+    /**
+     * 변경을 로컬 DB에 기록한 뒤 큐에 추가
+     * @param onQueued 기록이 끝나면 메인 스레드에서 실행 (서버 응답을 기다리지 않음)
+     */
+    public void enqueue(PendingMutation mutation, Runnable onQueued) {
+        executors.diskIO().execute(() -> {
+            LocalCache.getInstance().insertMutation(mutation);
+            executors.mainThread().execute(() -> {
+                queue.addLast(mutation);
+                onQueued.run();
+                flush();
+            });
+        });
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    /**
+     * 큐 앞에서부터 전송 (이미 전송 중이면 무시, 대기 중인 재시도는 앞당김)
+     */
+    public void flush() {
+        if (!restored || flushing || queue.isEmpty()) {
+            return;
+        }
+        if (retryScheduled) {
+            handler.removeCallbacksAndMessages(null);
+            retryScheduled = false;
+        }
+        flushing = true;
+
+        PendingMutation head = queue.peekFirst();
+        if (head.getKind() == PendingMutation.Kind.CREATE) {
+            sendCreate(head);
+            return;
+        }
+        List<PendingMutation> group = new ArrayList<>();
+        for (PendingMutation mutation : queue) {
+            if (mutation.getKind() == PendingMutation.Kind.CREATE || group.size() >= MAX_MUTATIONS_PER_TRANSACTION) {
+                break;
+            }
+            group.add(mutation);
+        }
+        sendGroup(group);
+    }
+
+    private void sendCreate(PendingMutation mutation) {
+        bookingService.book(mutation.getReservation(), mutation.getUserId(), mutation.getUserEmail(), mutation.getId(),
+                new FirestoreManager.FirestoreCallback<String>() {
+                    @Override
+                    public void onSuccess(String reservationId) {
+                        confirm(mutation);
+                        continueFlush();
+                    }
+
+                    @Override
+                    public void onFailure(Exception e) {
+                        handleFailure(mutation, e);
+                    }
+                });
+    }
+
+    private void sendGroup(List<PendingMutation> group) {
+        bookingService.applyMutations(group, new FirestoreManager.FirestoreCallback<ReservationBookingService.MutationResult>() {
+            @Override
+            public void onSuccess(ReservationBookingService.MutationResult result) {
+                List<PendingMutation> missing = new ArrayList<>();
+                for (PendingMutation mutation : group) {
+                    String rejection = result.rejectionOf(mutation.getId());
+                    if (result.isApplied(mutation.getId())) {
+                        confirm(mutation);
+                    } else if (rejection != null) {
+                        reject(mutation, new Exception(rejection));
+                    } else if (result.isMissing(mutation.getId())) {
+                        missing.add(mutation);
+                    }
+                }
+                sendIndividually(missing, 0);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                if (isRetryable(e)) {
+                    scheduleRetry();
+                } else {
+                    // 어떤 변경 때문인지 알 수 없으므로 첫 번째 변경만 개별 경로로 확인
+                    sendIndividually(new ArrayList<>(group.subList(0, 1)), 0);
+                }
+            }
+        });
+    }
+
+    /**
+     * 예약 ID 문서가 없는 변경은 기존 개별 경로로 전송 (마이그레이션 전 자동 ID 문서를 조회하여 처리)
+     */
+    private void sendIndividually(List<PendingMutation> mutations, int index) {
+        if (index >= mutations.size()) {
+            continueFlush();
+            return;
+        }
+        PendingMutation mutation = mutations.get(index);
+        FirestoreManager.FirestoreCallback<Void> callback = new FirestoreManager.FirestoreCallback<Void>() {
+            @Override
+            public void onSuccess(Void result) {
+                confirm(mutation);
+                sendIndividually(mutations, index + 1);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                if (isRetryable(e)) {
+                    scheduleRetry();
+                    return;
+                }
+                reject(mutation, e);
+                sendIndividually(mutations, index + 1);
+            }
+        };
+        if (mutation.getKind() == PendingMutation.Kind.CANCEL) {
+            bookingService.cancel(mutation.getReservationId(), callback);
+        } else {
+            Map<String, Object> updates = new HashMap<>(mutation.getUpdates());
+            updates.put("lastMutationId", mutation.getId());
+            firestoreManager.updateReservationByReservationId(mutation.getReservationId(), updates, callback);
+        }
+    }
+
+    private void handleFailure(PendingMutation mutation, Exception e) {
+        if (isRetryable(e)) {
+            scheduleRetry();
+            return;
+        }
+        reject(mutation, e);
+        continueFlush();
+    }
+
+    private void confirm(PendingMutation mutation) {
+        retryDelayMillis = INITIAL_RETRY_DELAY_MILLIS;
+        remove(mutation);
+        listener.onConfirmed(mutation);
+    }
+
+    private void reject(PendingMutation mutation, Exception e) {
+        remove(mutation);
+        listener.onRejected(mutation, e);
+    }
+
+    private void remove(PendingMutation mutation) {
+        queue.remove(mutation);
+        executors.diskIO().execute(() -> LocalCache.getInstance().deleteMutation(mutation.getId()));
+    }
+
+    private void continueFlush() {
+        flushing = false;
+        flush();
+    }
+
+    /**
+     * 네트워크 오류: 순서를 지키기 위해 큐 앞의 변경부터 나중에 다시 전송
+     */
+    private void scheduleRetry() {
+        flushing = false;
+        retryScheduled = true;
+        long delay = retryDelayMillis;
+        retryDelayMillis = Math.min(MAX_RETRY_DELAY_MILLIS, retryDelayMillis * 2);
+        handler.postDelayed(() -> {
+            retryScheduled = false;
+            flush();
+        }, delay);
+    }
+
+    /**
+     * 다시 보내면 성공할 수 있는 오류인지 (오프라인, 시간 초과, 트랜잭션 경합 등)
+     */
+    private static boolean isRetryable(Exception e) {
+        if (e instanceof FirebaseFirestoreException) {
+            switch (((FirebaseFirestoreException) e).getCode()) {
+                case UNAVAILABLE:
+                case DEADLINE_EXCEEDED:
+                case ABORTED:
+                case INTERNAL:
+                case RESOURCE_EXHAUSTED:
+                case CANCELLED:
+                case UNKNOWN:
+                    return true;
+                default:
+                    return false;
+            }
+        }
+        return e instanceof IOException;
+    }
+}
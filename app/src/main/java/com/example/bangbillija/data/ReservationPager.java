@@ -0,0 +1,191 @@
+package com.example.bangbillija.data;
+
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+
+import com.example.bangbillija.model.Reservation;
+import com.example.bangbillija.service.FirestoreManager;
+import com.example.bangbillija.service.ReservationPage;
+import com.example.bangbillija.service.ReservationPageQuery;
+import com.google.firebase.firestore.DocumentSnapshot;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 예약 이력을 커서 기반 페이지로 불러오는 목록
+ * 목록 끝에 가까워지면 다음 페이지를 미리 불러오고, 메모리에는 최대 maxPages개 페이지만 유지합니다.
+ * 반대쪽 끝에서 밀려난 페이지는 다시 그쪽으로 스크롤할 때 커서로 다시 불러옵니다.
+ * 메인 스레드에서만 사용합니다. (Firestore 콜백도 메인 스레드)
+ */
+public class ReservationPager {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int DEFAULT_MAX_PAGES = 5;
+
+    private final FirestoreManager firestoreManager = FirestoreManager.getInstance();
+    private final ReservationPageQuery query;
+    private final int pageSize;
+    private final int maxPages;
+    // 남은 항목이 이 수 이하이면 다음(이전) 페이지를 미리 요청
+    private final int prefetchDistance;
+
+    private final ArrayDeque<ReservationPage> pages = new ArrayDeque<>();
+    private final MutableLiveData<List<Reservation>> items = new MutableLiveData<>(Collections.emptyList());
+    private final MutableLiveData<Boolean> loading = new MutableLiveData<>(false);
+    private final MutableLiveData<String> error = new MutableLiveData<>();
+
+    private boolean hasNext = true;
+    private boolean hasPrevious = false;
+    private boolean inFlight;
+    private boolean stale = true;
+    // refresh 이전에 보낸 요청의 응답을 무시하기 위한 세대 번호
+    private int generation;
+
+    public ReservationPager(ReservationPageQuery query) {
+        this(query, DEFAULT_PAGE_SIZE, DEFAULT_MAX_PAGES);
+    }
+
+    public ReservationPager(ReservationPageQuery query, int pageSize, int maxPages) {
+        this.query = query;
+        this.pageSize = Math.max(1, pageSize);
+        this.maxPages = Math.max(2, maxPages);
+        this.prefetchDistance = Math.max(1, this.pageSize / 2);
+    }
+
+    /**
+     * 현재 메모리에 있는 페이지들을 이어 붙인 목록
+     */
+    public LiveData<List<Reservation>> getItems() {
+        return items;
+    }
+
+    public LiveData<Boolean> getLoading() {
+        return loading;
+    }
+
+    public LiveData<String> getError() {
+        return error;
+    }
+
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    public boolean hasPrevious() {
+        return hasPrevious;
+    }
+
+    /**
+     * 처음부터 다시 불러오기 (첫 페이지 한 번만 조회)
+     */
+    public void refresh() {
+        generation++;
+        pages.clear();
+        hasNext = true;
+        hasPrevious = false;
+        inFlight = false;
+        stale = false;
+        publish();
+        request(null, null, true);
+    }
+
+    /**
+     * 다음에 보일 때 다시 불러오도록 표시 (화면 복귀, 예약 변경 후)
+     */
+    public void invalidate() {
+        stale = true;
+    }
+
+    /**
+     * 아직 불러오지 않았거나 invalidate된 경우에만 refresh
+     */
+    public void ensureLoaded() {
+        if (stale) {
+            refresh();
+        }
+    }
+
+    public void loadNext() {
+        if (inFlight || !hasNext || stale) {
+            return;
+        }
+        DocumentSnapshot after = pages.isEmpty() ? null : pages.peekLast().getLast();
+        request(after, null, true);
+    }
+
+    public void loadPrevious() {
+        if (inFlight || !hasPrevious || pages.isEmpty()) {
+            return;
+        }
+        request(null, pages.peekFirst().getFirst(), false);
+    }
+
+    /**
+     * 스크롤 위치에 따라 앞뒤 페이지를 미리 요청
+     */
+    public void onScrolled(int firstVisible, int lastVisible, int itemCount) {
+        if (lastVisible >= 0 && lastVisible >= itemCount - 1 - prefetchDistance) {
+            loadNext();
+        }
+        if (firstVisible >= 0 && firstVisible <= prefetchDistance) {
+            loadPrevious();
+        }
+    }
+
+    private void request(DocumentSnapshot after, DocumentSnapshot before, boolean forward) {
+        int requestGeneration = generation;
+        inFlight = true;
+        loading.setValue(true);
+        firestoreManager.getReservationPage(query, after, before, pageSize, new FirestoreManager.FirestoreCallback<ReservationPage>() {
+            @Override
+            public void onSuccess(ReservationPage page) {
+                if (requestGeneration != generation) {
+                    return;
+                }
+                inFlight = false;
+                loading.setValue(false);
+                if (forward) {
+                    hasNext = page.isFull();
+                    if (page.getLast() != null) {
+                        pages.addLast(page);
+                    }
+                    if (pages.size() > maxPages) {
+                        pages.removeFirst();
+                        hasPrevious = true;
+                    }
+                } else {
+                    hasPrevious = page.isFull();
+                    if (page.getFirst() != null) {
+                        pages.addFirst(page);
+                    }
+                    if (pages.size() > maxPages) {
+                        pages.removeLast();
+                        hasNext = true;
+                    }
+                }
+                publish();
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                if (requestGeneration != generation) {
+                    return;
+                }
+                inFlight = false;
+                loading.setValue(false);
+                error.setValue(e.getMessage());
+            }
+        });
+    }
+
+    private void publish() {
+        List<Reservation> merged = new ArrayList<>(pages.size() * pageSize);
+        for (ReservationPage page : pages) {
+            merged.addAll(page.getItems());
+        }
+        items.setValue(Collections.unmodifiableList(merged));
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.bangbillija.data;
+
+import com.example.bangbillija.model.Reservation;
+import com.example.bangbillija.model.ReservationStatus;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 예약을 예정/지난/취소 목록으로 분류하고 각 목록을 항상 정렬된 상태로 유지합니다.
+ * 스냅샷 변경분(ADDED/MODIFIED/REMOVED)은 이진 탐색 위치에 삽입/삭제하므로
+ * 변경 한 건마다 전체를 다시 정렬하지 않으며, 목록별 위치 변경은 ListDiff로 꺼낼 수 있습니다.
+ * (스레드 안전하지 않음, 한 스레드에서만 사용)
+ */
+public class ReservationPartitioner {
+
+    /**
+     * 최신 예약이 먼저 오도록 날짜, 시작 시간 내림차순 (같으면 ID 순으로 고정하여 이진 탐색 위치가 유일하도록 함)
+     */
+    static final Comparator<Reservation> NEWEST_FIRST = (r1, r2) -> {
+        int dateCompare = r2.getDate().compareTo(r1.getDate());
+        if (dateCompare != 0) return dateCompare;
+        int timeCompare = r2.getStartTime().compareTo(r1.getStartTime());
+        if (timeCompare != 0) return timeCompare;
+        return r1.getId().compareTo(r2.getId());
+    };
+
+    private final SortedKeyedList<Reservation> upcoming;
+    private final SortedKeyedList<Reservation> past;
+    private final SortedKeyedList<Reservation> cancelled;
+    // 예약 ID -> 현재 분류된 예약 (수정/삭제 시 기존 목록을 찾기 위함)
+    private final Map<String, Reservation> byId = new HashMap<>();
+    private LocalDate today;
+
+    public ReservationPartitioner() {
+        this(NEWEST_FIRST);
+    }
+
+    ReservationPartitioner(Comparator<Reservation> order) {
+        this.upcoming = new SortedKeyedList<>(order, Reservation::getId);
+        this.past = new SortedKeyedList<>(order, Reservation::getId);
+        this.cancelled = new SortedKeyedList<>(order, Reservation::getId);
+        this.today = LocalDate.now();
+    }
+
+    /**
+     * 전체 목록으로 다시 구성합니다. (구독 범위 변경, 캐시 로드 시)
+     */
+    public void replaceAll(Collection<Reservation> reservations) {
+        byId.clear();
+        List<Reservation> upcomingItems = new ArrayList<>();
+        List<Reservation> pastItems = new ArrayList<>();
+        List<Reservation> cancelledItems = new ArrayList<>();
+        for (Reservation reservation : reservations) {
+            byId.put(reservation.getId(), reservation);
+            SortedKeyedList<Reservation> bucket = bucketOf(reservation);
+            if (bucket == upcoming) {
+                upcomingItems.add(reservation);
+            } else if (bucket == past) {
+                pastItems.add(reservation);
+            } else {
+                cancelledItems.add(reservation);
+            }
+        }
+        upcoming.replaceAll(upcomingItems);
+        past.replaceAll(pastItems);
+        cancelled.replaceAll(cancelledItems);
+    }
+
+    /**
+     * 추가(ADDED) 또는 수정(MODIFIED)된 예약을 반영합니다.
+     */
+    public void upsert(Reservation reservation) {
+        Reservation existing = byId.put(reservation.getId(), reservation);
+        SortedKeyedList<Reservation> bucket = bucketOf(reservation);
+        if (existing != null && bucketOf(existing) != bucket) {
+            bucketOf(existing).remove(existing.getId());
+        }
+        bucket.upsert(reservation);
+    }
+
+    /**
+     * 삭제(REMOVED)된 예약을 제거합니다.
+     * @return 제거된 예약 (없으면 null)
+     */
+    public Reservation remove(String reservationId) {
+        Reservation existing = byId.remove(reservationId);
+        if (existing == null) {
+            return null;
+        }
+        bucketOf(existing).remove(reservationId);
+        return existing;
+    }
+
+    /**
+     * 기준 날짜를 갱신합니다. 날짜가 바뀌었으면 예정 목록 중 지난 예약을 지난 목록으로 옮깁니다.
+     * @return 목록이 바뀌었는지 여부
+     */
+    public boolean setToday(LocalDate date) {
+        if (date.equals(today)) {
+            return false;
+        }
+        today = date;
+        replaceAll(new ArrayList<>(byId.values()));
+        return true;
+    }
+
+    public boolean contains(String reservationId) {
+        return byId.containsKey(reservationId);
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    /**
+     * 오늘 이후 예약 (최신순 사본)
+     */
+    public List<Reservation> getUpcoming() {
+        return upcoming.snapshot();
+    }
+
+    /**
+     * 지난 예약 (최신순 사본)
+     */
+    public List<Reservation> getPast() {
+        return past.snapshot();
+    }
+
+    /**
+     * 취소된 예약 (최신순 사본)
+     */
+    public List<Reservation> getCancelled() {
+        return cancelled.snapshot();
+    }
+
+    /**
+     * 마지막 게시 이후 예정 목록의 변경 내역
+     */
+    public ListDiff<Reservation> drainUpcomingDiff() {
+        return upcoming.drainDiff();
+    }
+
+    public ListDiff<Reservation> drainPastDiff() {
+        return past.drainDiff();
+    }
+
+    public ListDiff<Reservation> drainCancelledDiff() {
+        return cancelled.drainDiff();
+    }
+
+    private SortedKeyedList<Reservation> bucketOf(Reservation reservation) {
+        if (reservation.getStatus() == ReservationStatus.CANCELLED) {
+            return cancelled;
+        }
+        return reservation.getDate().isBefore(today) ? past : upcoming;
+    }
+}
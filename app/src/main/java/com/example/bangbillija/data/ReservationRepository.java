@@ -3,36 +3,95 @@ package com.example.bangbillija.data;
 import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
 
+import com.example.bangbillija.core.AppExecutors;
+import com.example.bangbillija.model.DayOccupancy;
+import com.example.bangbillija.model.PendingMutation;
 import com.example.bangbillija.model.Reservation;
+import com.example.bangbillija.model.ReservationSeries;
 import com.example.bangbillija.model.ReservationStatus;
 import com.example.bangbillija.model.TimeSlot;
 import com.example.bangbillija.model.TimetableEntry;
 import com.example.bangbillija.service.AuthManager;
 import com.example.bangbillija.service.FirestoreManager;
+import com.example.bangbillija.service.NotificationDispatcher;
+import com.example.bangbillija.service.OccupancyIndex;
+import com.example.bangbillija.service.ReservationBookingService;
+import com.example.bangbillija.service.RoomFinder;
 import com.example.bangbillija.service.SlotEngine;
+import com.example.bangbillija.service.SyncBatch;
 import com.google.firebase.auth.FirebaseUser;
 import com.google.firebase.firestore.ListenerRegistration;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.Executor;
 
 public class ReservationRepository {
 
     private static ReservationRepository instance;
     private final FirestoreManager firestoreManager = FirestoreManager.getInstance();
+    private final NotificationDispatcher notificationDispatcher = NotificationDispatcher.getInstance();
     private final AuthManager authManager = AuthManager.getInstance();
     private final TimetableRepository timetableRepository = TimetableRepository.getInstance();
+    private final OccupancyIndex occupancyIndex = new OccupancyIndex();
+    private final ReservationBookingService bookingService = ReservationBookingService.getInstance();
 
     private final MutableLiveData<List<Reservation>> upcomingReservations = new MutableLiveData<>();
     private final MutableLiveData<List<Reservation>> pastReservations = new MutableLiveData<>();
     private final MutableLiveData<List<Reservation>> cancelledReservations = new MutableLiveData<>();
+    // 목록별 변경 내역 (어댑터가 DiffUtil 없이 바로 적용)
+    private final MutableLiveData<ListDiff<Reservation>> upcomingChanges = new MutableLiveData<>();
+    private final MutableLiveData<ListDiff<Reservation>> pastChanges = new MutableLiveData<>();
+    private final MutableLiveData<ListDiff<Reservation>> cancelledChanges = new MutableLiveData<>();
     private final MutableLiveData<String> error = new MutableLiveData<>();
     private ListenerRegistration reservationsListener;
 
+    // 스냅샷 반영/분류 전용 스레드 (store, 구독 범위 상태는 이 스레드에서만 접근)
+    private final Executor worker = AppExecutors.getInstance().parsing();
+    // 로컬 캐시와 동기화된 예약 저장소 (예약 ID 기준)
+    private final Map<String, Reservation> store = new LinkedHashMap<>();
+    // 현재 구독 범위의 예약을 예정/지난/취소로 정렬 유지
+    private final ReservationPartitioner partitioner = new ReservationPartitioner();
+    // 현재 사용자의 오늘 예약 (강의실별, QR 체크인용)
+    private final TodayReservationIndex todayIndex = new TodayReservationIndex();
+    // 현재 구독 범위의 예약을 날짜별로 (캘린더 조회/월 히트맵용)
+    private final ReservationDateIndex dateIndex = new ReservationDateIndex();
+    // 날짜 인덱스가 바뀌었음을 알림 (값은 인덱스 버전)
+    private final MutableLiveData<Long> dateIndexChanges = new MutableLiveData<>();
+    private long publishedDateIndexVersion = -1;
+    // 서버에 보내지 않은 변경 (예약 ID -> 기록 순서), 화면에는 store(서버 상태)에 이 변경을 적용한 결과를 표시
+    private final Map<String, List<PendingMutation>> overlay = new HashMap<>();
+    private final ReservationOutbox outbox = new ReservationOutbox(new OutboxListener());
+    // 서버가 거절하여 되돌린 변경 안내 (메인 스레드에서 게시)
+    private final MutableLiveData<String> mutationRejections = new MutableLiveData<>();
+    // 연속된 스냅샷을 한 번의 게시로 합치기 위한 플래그
+    private boolean publishPending;
+    // 워터마크는 구독 범위별로 저장 (키 뒤에 범위를 붙임)
+    private static final String SYNC_KEY_WATERMARK = "reservations.watermark.";
+    private static final String SYNC_KEY_FULL_SYNC_AT = "reservations.fullSyncAt.";
+    // 기기 간 시계 오차로 인한 누락 방지용 여유 구간
+    private static final long WATERMARK_OVERLAP_MILLIS = 5 * 60 * 1000L;
+    private static final long FULL_SYNC_INTERVAL_MILLIS = 7 * 24 * 60 * 60 * 1000L;
+
+    // 구독 범위: 전체(관리자), 상태별(관리자 필터), 사용자별(일반 사용자)
+    private static final String SCOPE_ALL = "all";
+    private static final String SCOPE_STATUS_PREFIX = "status:";
+    private static final String SCOPE_USER_PREFIX = "user:";
+    private String currentScope;
+    private int subscriptionGeneration;
+    private volatile ReservationStatus statusFilter;
+    private boolean migrationRequested;
+
     private ReservationRepository() {
+        authManager.addRoleChangeListener(this::startListening);
+        restorePendingMutations();
         startListening();
     }
 
@@ -52,15 +111,14 @@ public class ReservationRepository {
                 firestoreManager.getTimetableEntriesForRoom(roomId, new FirestoreManager.FirestoreCallback<List<TimetableEntry>>() {
                     @Override
                     public void onSuccess(List<TimetableEntry> timetableEntries) {
-                        // 예약 + 시간표를 고려하여 슬롯 계산
-                        callback.onSuccess(SlotEngine.calculateDailySlots(date, reservations, timetableEntries));
+                        buildSlotsFromIndex(roomId, date, reservations, timetableEntries, callback);
                     }
 
                     @Override
                     public void onFailure(Exception e) {
-                        // 시간표 로드 실패 시 예약만으로 계산
+                        // 시간표 로드 실패 시 예약만 반영 (수업은 인덱스에 이미 있는 것만 사용)
                         error.setValue("시간표 로드 실패: " + e.getMessage());
-                        callback.onSuccess(SlotEngine.calculateDailySlots(date, reservations));
+                        buildSlotsFromIndex(roomId, date, reservations, null, callback);
                     }
                 });
             }
@@ -73,10 +131,128 @@ public class ReservationRepository {
         });
     }
 
+    /**
+     * 조회 결과를 점유 인덱스에 반영한 뒤 인덱스로 슬롯 계산 (overlay는 파싱 스레드에서만 접근, 콜백은 메인 스레드)
+     * @param timetableEntries 강의실 수업 (null이면 인덱스의 수업을 그대로 사용)
+     */
+    private void buildSlotsFromIndex(String roomId, LocalDate date, List<Reservation> reservations,
+                                     List<TimetableEntry> timetableEntries, FirestoreManager.FirestoreCallback<List<TimeSlot>> callback) {
+        worker.execute(() -> {
+            // 아직 서버에 반영되지 않은 예약/취소는 조회 결과로 덮어쓰지 않음
+            List<Reservation> pending = new ArrayList<>();
+            for (String id : overlay.keySet()) {
+                Reservation visible = visibleReservation(id);
+                if (visible != null) {
+                    pending.add(visible);
+                }
+            }
+            occupancyIndex.replaceReservations(roomId, date, reservations, pending);
+            if (timetableEntries != null) {
+                occupancyIndex.replaceTimetable(roomId, timetableEntries);
+            }
+            List<TimeSlot> slots = SlotEngine.calculateDailySlots(roomId, date, occupancyIndex);
+            AppExecutors.getInstance().mainThread().execute(() -> callback.onSuccess(slots));
+        });
+    }
+
+    /**
+     * 조건에 맞는 빈 강의실 찾기
+     * 날짜의 강의실별 예약 점유(room_occupancy)와 요일 수업을 한 번씩 함께 조회한 뒤,
+     * 로컬 점유 인덱스(아직 전송 중인 예약 포함)와 합쳐 모든 강의실을 한 번에 평가합니다.
+     * 최종 충돌 검사는 예약 생성 트랜잭션이 다시 수행합니다.
+     */
+    public void findAvailableRooms(RoomFinder.Criteria criteria, FirestoreManager.FirestoreCallback<List<RoomFinder.Match>> callback) {
+        if (DayOccupancy.ofRange(criteria.getStartTime(), criteria.getEndTime()).isEmpty()) {
+            callback.onFailure(new Exception("운영 시간(09:00~21:00) 내에서만 예약할 수 있습니다"));
+            return;
+        }
+        LocalDate date = criteria.getDate();
+        Map<String, DayOccupancy> reserved = new HashMap<>();
+        Map<String, DayOccupancy> classes = new HashMap<>();
+        // 두 조회가 모두 끝나면 평가 (콜백은 모두 메인 스레드)
+        int[] remaining = {2};
+        boolean[] failed = {false};
+        Runnable evaluate = () -> worker.execute(() -> {
+            RoomFinder finder = RoomRepository.getInstance().getRoomFinder();
+            List<RoomFinder.Match> matches = finder.find(criteria, roomId -> {
+                DayOccupancy occupancy = occupancyIndex.dayOccupancy(roomId, date);
+                DayOccupancy server = reserved.get(roomId);
+                DayOccupancy lectures = classes.get(roomId);
+                if (server != null) {
+                    occupancy = occupancy.or(server);
+                }
+                if (lectures != null) {
+                    occupancy = occupancy.or(lectures);
+                }
+                return occupancy;
+            });
+            AppExecutors.getInstance().mainThread().execute(() -> callback.onSuccess(matches));
+        });
+        FirestoreManager.FirestoreCallback<Void> done = new FirestoreManager.FirestoreCallback<Void>() {
+            @Override
+            public void onSuccess(Void result) {
+                if (!failed[0] && --remaining[0] == 0) {
+                    evaluate.run();
+                }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                if (!failed[0]) {
+                    failed[0] = true;
+                    callback.onFailure(e);
+                }
+            }
+        };
+
+        bookingService.getDayOccupancies(date, new FirestoreManager.FirestoreCallback<Map<String, DayOccupancy>>() {
+            @Override
+            public void onSuccess(Map<String, DayOccupancy> result) {
+                reserved.putAll(result);
+                done.onSuccess(null);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                done.onFailure(e);
+            }
+        });
+        firestoreManager.getTimetableEntriesForDay(date.getDayOfWeek(), new FirestoreManager.FirestoreCallback<List<TimetableEntry>>() {
+            @Override
+            public void onSuccess(List<TimetableEntry> entries) {
+                Map<String, List<TimetableEntry>> byRoom = new HashMap<>();
+                for (TimetableEntry entry : entries) {
+                    List<TimetableEntry> roomEntries = byRoom.get(entry.getRoomId());
+                    if (roomEntries == null) {
+                        roomEntries = new ArrayList<>();
+                        byRoom.put(entry.getRoomId(), roomEntries);
+                    }
+                    roomEntries.add(entry);
+                }
+                for (Map.Entry<String, List<TimetableEntry>> entry : byRoom.entrySet()) {
+                    classes.put(entry.getKey(), DayOccupancy.fromTimetable(entry.getValue(), date.getDayOfWeek()));
+                }
+                done.onSuccess(null);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                done.onFailure(e);
+            }
+        });
+    }
+
     public void getReservationsByRoomAndDate(String roomId, LocalDate date, FirestoreManager.FirestoreCallback<List<Reservation>> callback) {
         firestoreManager.getReservationsByRoomAndDate(roomId, date, callback);
     }
 
+    /**
+     * 강의실별 점유 인덱스 (빈 강의실/빈 시간 검색용)
+     */
+    public OccupancyIndex getOccupancyIndex() {
+        return occupancyIndex;
+    }
+
     public LiveData<List<Reservation>> getUpcomingReservations() {
         return upcomingReservations;
     }
@@ -89,170 +265,511 @@ public class ReservationRepository {
         return cancelledReservations;
     }
 
+    public LiveData<ListDiff<Reservation>> getUpcomingChanges() {
+        return upcomingChanges;
+    }
+
+    public LiveData<ListDiff<Reservation>> getPastChanges() {
+        return pastChanges;
+    }
+
+    public LiveData<ListDiff<Reservation>> getCancelledChanges() {
+        return cancelledChanges;
+    }
+
+    /**
+     * 현재 구독 범위의 날짜별 예약 인덱스 (조회는 메인 스레드에서 바로 가능)
+     * 관리자는 전체(또는 상태 필터) 예약, 일반 사용자는 본인 예약이 들어 있습니다.
+     */
+    public ReservationDateIndex getDateIndex() {
+        return dateIndex;
+    }
+
+    /**
+     * 날짜 인덱스 내용이 바뀔 때마다 게시 (연속된 변경은 한 번으로 합쳐짐)
+     */
+    public LiveData<Long> getDateIndexChanges() {
+        return dateIndexChanges;
+    }
+
+    /**
+     * 서버가 거절하여 되돌린 예약 변경 안내 메시지
+     */
+    public LiveData<String> getMutationRejections() {
+        return mutationRejections;
+    }
+
     public LiveData<String> getError() {
         return error;
     }
 
     /**
-     * 실시간 리스너 시작 (다른 사용자의 변경사항 자동 반영)
+     * 관리자용 상태 필터 (null이면 전체 예약 구독)
+     * 필터가 바뀌면 해당 상태의 예약만 구독하도록 리스너를 교체합니다.
+     */
+    public void setStatusFilter(ReservationStatus status) {
+        statusFilter = status;
+        startListening();
+    }
+
+    public ReservationStatus getStatusFilter() {
+        return statusFilter;
+    }
+
+    /**
+     * 현재 역할에 맞는 가장 좁은 구독 범위
+     * 일반 사용자는 자신의 예약, 관리자는 전체 또는 상태 필터 범위
+     */
+    private String resolveScope() {
+        FirebaseUser user = authManager.currentUser();
+        if (user == null) {
+            return null;
+        }
+        if (authManager.isAdmin()) {
+            return statusFilter == null ? SCOPE_ALL : SCOPE_STATUS_PREFIX + statusFilter.name();
+        }
+        return SCOPE_USER_PREFIX + user.getUid();
+    }
+
+    private boolean inScope(Reservation reservation, String scope) {
+        if (scope == null) {
+            return false;
+        }
+        if (scope.equals(SCOPE_ALL)) {
+            return true;
+        }
+        if (scope.startsWith(SCOPE_STATUS_PREFIX)) {
+            return reservation.getStatus().name().equals(scope.substring(SCOPE_STATUS_PREFIX.length()));
+        }
+        return scope.substring(SCOPE_USER_PREFIX.length()).equals(reservation.getOwner());
+    }
+
+    /**
+     * 로컬 캐시를 먼저 화면에 반영한 뒤, 현재 범위에서 마지막 워터마크 이후 변경분만 구독합니다.
+     * 범위가 이전과 같으면 기존 리스너를 유지합니다.
      */
     private void startListening() {
-        if (reservationsListener != null) {
-            reservationsListener.remove();
+        String scope = resolveScope();
+        worker.execute(() -> switchScope(scope));
+    }
+
+    private void switchScope(String scope) {
+        if (scope != null && scope.equals(currentScope)) {
+            return;
         }
 
-        reservationsListener = firestoreManager.listenToReservations(new FirestoreManager.FirestoreCallback<List<Reservation>>() {
+        removeListener();
+        if (scope == null) {
+            // 로그아웃: 화면 목록 비우기
+            partitioner.replaceAll(Collections.emptyList());
+            dateIndex.clear();
+            todayIndex.clear();
+            publish();
+            return;
+        }
+
+        currentScope = scope;
+        int generation = ++subscriptionGeneration;
+
+        if (!scope.startsWith(SCOPE_USER_PREFIX)) {
+            migrateReservationDocumentIdsOnce();
+        }
+
+        AppExecutors.getInstance().diskIO().execute(() -> {
+            LocalCache cache = LocalCache.getInstance();
+            List<Reservation> cached = cache.loadReservations();
+            long watermark = cache.getSyncStateLong(SYNC_KEY_WATERMARK + scope);
+            long lastFullSync = cache.getSyncStateLong(SYNC_KEY_FULL_SYNC_AT + scope);
+
+            worker.execute(() -> {
+                if (generation != subscriptionGeneration) {
+                    // 캐시를 읽는 사이 범위가 바뀜
+                    return;
+                }
+
+                // 캐시 테이블은 모든 범위가 함께 쓰므로 현재 범위의 예약만 불러옴
+                // (다른 범위/이전 사용자의 예약은 이 범위의 리스너가 REMOVED를 보내지 않아 바로잡히지 않음)
+                store.clear();
+                List<Reservation> scoped = new ArrayList<>();
+                for (Reservation reservation : cached) {
+                    if (inScope(reservation, scope)) {
+                        store.put(reservation.getId(), reservation);
+                        scoped.add(reservation);
+                    }
+                }
+                occupancyIndex.replaceAllReservations(store.values());
+                partitioner.replaceAll(scoped);
+                dateIndex.replaceAll(scoped);
+                // 캐시 내용은 서버 스냅샷이 도착할 때까지 확정하지 않음 (clear 후 live 아님)
+                todayIndex.clear();
+                todayIndex.rebuild(todayOwner(scope), LocalDate.now(), store.values());
+                // 서버에 보내지 않은 변경은 캐시 내용 위에 다시 적용
+                for (String id : new ArrayList<>(overlay.keySet())) {
+                    showReservation(id, scope);
+                }
+                requestPublish();
+
+                // 오래된 캐시는 서버에서 하드 삭제된 문서를 놓쳤을 수 있으므로 주기적으로 전체 동기화
+                boolean fullSync = watermark == 0
+                        || System.currentTimeMillis() - lastFullSync > FULL_SYNC_INTERVAL_MILLIS;
+                long since = fullSync ? 0 : Math.max(0, watermark - WATERMARK_OVERLAP_MILLIS);
+                subscribe(scope, since, fullSync);
+            });
+        });
+    }
+
+    private void subscribe(String scope, long since, boolean fullSync) {
+        FirestoreManager.FirestoreCallback<SyncBatch<Reservation>> callback = new FirestoreManager.FirestoreCallback<SyncBatch<Reservation>>() {
             @Override
-            public void onSuccess(List<Reservation> allReservations) {
-                FirebaseUser user = authManager.currentUser();
-                if (user == null) {
+            public void onSuccess(SyncBatch<Reservation> batch) {
+                List<String> removedIds = new ArrayList<>(batch.getRemovedIds());
+                if (fullSync && batch.isInitial()) {
+                    // 전체 스냅샷에 없는 범위 내 캐시 항목은 서버에서 삭제된 것
+                    Set<String> present = new HashSet<>();
+                    for (Reservation reservation : batch.getUpserts()) {
+                        present.add(reservation.getId());
+                    }
+                    for (Reservation reservation : store.values()) {
+                        if (inScope(reservation, scope) && !present.contains(reservation.getId())) {
+                            removedIds.add(reservation.getId());
+                        }
+                    }
+                }
+
+                if (batch.isEmpty() && removedIds.isEmpty()) {
+                    if (batch.isInitial()) {
+                        todayIndex.markLive();
+                    }
                     return;
                 }
 
-                // 관리자는 모든 예약, 일반 사용자는 자신의 예약만 필터링
-                List<Reservation> filteredReservations;
-                if (authManager.isAdmin()) {
-                    filteredReservations = allReservations;
-                } else {
-                    filteredReservations = allReservations.stream()
-                            .filter(r -> r.getOwner().equals(user.getUid()))
-                            .collect(Collectors.toList());
+                // 분류 목록은 바뀐 예약만 이진 탐색 위치에 삽입/삭제
+                partitioner.setToday(LocalDate.now());
+                for (Reservation reservation : batch.getUpserts()) {
+                    store.put(reservation.getId(), reservation);
+                    showReservation(reservation.getId(), scope);
+                }
+                // 상태 필터 범위에서 빠진 예약은 삭제가 아니라 상태 변경(예: 승인 PENDING -> RESERVED)일 수 있으므로
+                // 범위 목록에서만 빼고, 저장소/캐시는 서버에서 현재 상태를 확인한 뒤 반영
+                boolean statusScope = scope.startsWith(SCOPE_STATUS_PREFIX);
+                List<String> deletedIds = statusScope ? Collections.emptyList() : removedIds;
+                for (String id : removedIds) {
+                    if (statusScope) {
+                        partitioner.remove(id);
+                        dateIndex.remove(id);
+                    } else {
+                        store.remove(id);
+                        showReservation(id, scope);
+                    }
+                }
+                if (statusScope && !removedIds.isEmpty()) {
+                    resolveLeftScope(removedIds, scope);
                 }
+                if (batch.isInitial()) {
+                    todayIndex.markLive();
+                }
+                requestPublish();
+
+                boolean markFullSync = fullSync && batch.isInitial();
+                AppExecutors.getInstance().diskIO().execute(() -> {
+                    LocalCache cache = LocalCache.getInstance();
+                    cache.applyReservations(batch.getUpserts(), batch::getUpdatedAt, deletedIds);
+                    long watermark = cache.getSyncStateLong(SYNC_KEY_WATERMARK + scope);
+                    if (batch.getWatermark() > watermark) {
+                        cache.putSyncState(SYNC_KEY_WATERMARK + scope, String.valueOf(batch.getWatermark()));
+                    }
+                    if (markFullSync) {
+                        cache.putSyncState(SYNC_KEY_FULL_SYNC_AT + scope, String.valueOf(System.currentTimeMillis()));
+                    }
+                });
+            }
 
-                processAndSetReservations(filteredReservations);
+            @Override
+            public void onFailure(Exception e) {
+                error.postValue(e.getMessage());
+            }
+        };
+
+        if (scope.equals(SCOPE_ALL)) {
+            reservationsListener = firestoreManager.listenToReservationChangesSince(since, callback);
+        } else if (scope.startsWith(SCOPE_STATUS_PREFIX)) {
+            ReservationStatus status = ReservationStatus.valueOf(scope.substring(SCOPE_STATUS_PREFIX.length()));
+            reservationsListener = firestoreManager.listenToReservationChangesByStatus(status, since, callback);
+        } else {
+            String userId = scope.substring(SCOPE_USER_PREFIX.length());
+            reservationsListener = firestoreManager.listenToUserReservationChanges(userId, since, callback);
+        }
+    }
+
+    /**
+     * 상태 필터 범위를 벗어난 예약의 현재 상태를 서버에서 확인합니다. (파싱 스레드)
+     * 문서가 남아 있으면 새 상태로 저장소/캐시에 유지하고(점유 인덱스 포함), 문서가 없을 때만 삭제합니다.
+     * 확인에 실패하면 범위 목록에서만 빠진 채로 남고, 저장소/캐시는 다음 전체 동기화에서 바로잡힙니다.
+     */
+    private void resolveLeftScope(List<String> reservationIds, String scope) {
+        int generation = subscriptionGeneration;
+        firestoreManager.getReservationsByIds(reservationIds, new FirestoreManager.FirestoreCallback<Map<String, Reservation>>() {
+            @Override
+            public void onSuccess(Map<String, Reservation> current) {
+                worker.execute(() -> {
+                    if (generation != subscriptionGeneration) {
+                        // 확인하는 사이 범위가 바뀜
+                        return;
+                    }
+                    List<Reservation> changed = new ArrayList<>();
+                    List<String> deleted = new ArrayList<>();
+                    for (String id : reservationIds) {
+                        Reservation reservation = current.get(id);
+                        if (reservation != null) {
+                            store.put(id, reservation);
+                            changed.add(reservation);
+                        } else {
+                            store.remove(id);
+                            deleted.add(id);
+                        }
+                        showReservation(id, scope);
+                    }
+                    requestPublish();
+                    AppExecutors.getInstance().diskIO().execute(() ->
+                            LocalCache.getInstance().applyReservations(changed, id -> 0L, deleted));
+                });
             }
 
             @Override
             public void onFailure(Exception e) {
-                error.setValue(e.getMessage());
+                error.postValue(e.getMessage());
             }
         });
     }
 
     /**
-     * 리스너 해제 (필요 시 호출)
+     * 오늘 예약 인덱스 대상 사용자 (상태 필터 범위는 본인 예약이 일부만 있으므로 제외)
      */
-    public void stopListening() {
-        if (reservationsListener != null) {
-            reservationsListener.remove();
-            reservationsListener = null;
+    private String todayOwner(String scope) {
+        if (scope.startsWith(SCOPE_USER_PREFIX)) {
+            return scope.substring(SCOPE_USER_PREFIX.length());
         }
+        FirebaseUser user = authManager.currentUser();
+        return scope.equals(SCOPE_ALL) && user != null ? user.getUid() : null;
     }
 
-    public void loadReservations() {
-        // 실시간 리스너가 이미 실행 중이므로 별도 조회 불필요
-        if (reservationsListener == null) {
-            startListening();
+    /**
+     * 오늘 해당 강의실의 본인 예약 (QR 체크인용, 취소 포함)
+     * 실시간 구독으로 유지되는 오늘 인덱스에 있으면 바로 반환하고,
+     * 인덱스가 아직 준비되지 않았거나 해당 강의실 예약이 없으면 사용자+날짜+강의실 조건으로 한 번만 조회합니다.
+     */
+    public void getTodayReservationsForRoom(String userId, String roomId, FirestoreManager.FirestoreCallback<List<Reservation>> callback) {
+        LocalDate today = LocalDate.now();
+        List<Reservation> indexed = todayIndex.lookup(userId, roomId, today);
+        if (indexed != null && !indexed.isEmpty()) {
+            callback.onSuccess(indexed);
+            return;
+        }
+        if (indexed == null) {
+            // 날짜가 바뀐 경우 다음 체크인부터 인덱스를 쓰도록 백그라운드에서 다시 구성
+            worker.execute(() -> {
+                if (currentScope != null && !todayIndex.isCurrent(userId, today)) {
+                    todayIndex.rebuild(todayOwner(currentScope), LocalDate.now(), store.values());
+                    for (String id : new ArrayList<>(overlay.keySet())) {
+                        showReservation(id, currentScope);
+                    }
+                }
+            });
         }
+        firestoreManager.getUserReservationsForRoomOnDate(userId, roomId, today, callback);
     }
 
     /**
-     * 관리자용: 모든 사용자의 예약을 로드합니다.
+     * 기존 자동 ID 예약 문서를 예약 ID 문서로 옮기는 마이그레이션을 관리자 세션에서 한 번 실행합니다.
      */
-    private void loadAllReservations() {
-        // 실시간 리스너가 자동으로 처리
+    private void migrateReservationDocumentIdsOnce() {
+        if (migrationRequested) {
+            return;
+        }
+        migrationRequested = true;
+        firestoreManager.migrateReservationDocumentIds(new FirestoreManager.FirestoreCallback<Integer>() {
+            @Override
+            public void onSuccess(Integer moved) {
+                // 이동된 문서는 증분 리스너로 다시 반영됨
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                // 다음 관리자 세션에서 재시도
+                migrationRequested = false;
+            }
+        });
+    }
+
+    /**
+     * 게시 예약: 이미 대기 중인 게시가 있으면 합쳐지고, 대기열의 스냅샷이 모두 반영된 뒤 한 번만 분류합니다.
+     */
+    private void requestPublish() {
+        if (publishPending) {
+            return;
+        }
+        publishPending = true;
+        worker.execute(() -> {
+            publishPending = false;
+            publish();
+        });
     }
 
     /**
-     * 일반 사용자용: 자신의 예약만 로드합니다.
+     * 분류된 예약 목록과 마지막 게시 이후의 변경 내역을 LiveData에 게시합니다. (파싱 스레드에서 호출)
+     * 날짜가 바뀌었으면 예정 예약 중 지난 것을 먼저 옮깁니다.
      */
-    private void loadUserReservations(String userId) {
-        firestoreManager.getReservationsByUser(userId, new FirestoreManager.FirestoreCallback<List<Reservation>>() {
+    private void publish() {
+        partitioner.setToday(LocalDate.now());
+        ListDiff<Reservation> upcomingDiff = partitioner.drainUpcomingDiff();
+        ListDiff<Reservation> pastDiff = partitioner.drainPastDiff();
+        ListDiff<Reservation> cancelledDiff = partitioner.drainCancelledDiff();
+        upcomingChanges.postValue(upcomingDiff);
+        pastChanges.postValue(pastDiff);
+        cancelledChanges.postValue(cancelledDiff);
+        upcomingReservations.postValue(upcomingDiff.getItems());
+        pastReservations.postValue(pastDiff.getItems());
+        cancelledReservations.postValue(cancelledDiff.getItems());
+        long dateIndexVersion = dateIndex.version();
+        if (dateIndexVersion != publishedDateIndexVersion) {
+            publishedDateIndexVersion = dateIndexVersion;
+            dateIndexChanges.postValue(dateIndexVersion);
+        }
+    }
+
+    /**
+     * 강의실의 기간 내 예약을 실시간 구독합니다. (예약 생성 화면의 충돌 검사용)
+     * 결과는 보내지 않은 변경을 적용해 점유 인덱스에도 반영되며, 취소된 예약은 제외하고 전달합니다.
+     * @return ListenerRegistration (화면 종료 또는 강의실/날짜 변경 시 remove() 호출)
+     */
+    public ListenerRegistration listenToRoomReservations(String roomId, LocalDate from, LocalDate to, FirestoreManager.FirestoreCallback<List<Reservation>> callback) {
+        Map<String, Reservation> roomReservations = new LinkedHashMap<>();
+        return firestoreManager.listenToRoomReservations(roomId, from, to, new FirestoreManager.FirestoreCallback<SyncBatch<Reservation>>() {
             @Override
-            public void onSuccess(List<Reservation> allReservations) {
-                processAndSetReservations(allReservations);
+            public void onSuccess(SyncBatch<Reservation> batch) {
+                for (Reservation reservation : batch.getUpserts()) {
+                    roomReservations.put(reservation.getId(), reservation);
+                    // 아직 서버에 반영되지 않은 취소/변경은 스냅샷으로 덮어쓰지 않음
+                    Reservation visible = applyOverlay(reservation.getId(), reservation);
+                    if (visible != null) {
+                        occupancyIndex.putReservation(visible);
+                    } else {
+                        occupancyIndex.removeReservation(reservation.getId());
+                    }
+                }
+                for (String id : batch.getRemovedIds()) {
+                    roomReservations.remove(id);
+                    // 삭제되었거나 다른 강의실/기간으로 옮겨진 예약 (내 예약이면 기준 상태의 새 위치로)
+                    Reservation visible = visibleReservation(id);
+                    if (visible != null) {
+                        occupancyIndex.putReservation(visible);
+                    } else {
+                        occupancyIndex.removeReservation(id);
+                    }
+                }
+
+                List<Reservation> active = new ArrayList<>();
+                for (Reservation reservation : roomReservations.values()) {
+                    Reservation visible = applyOverlay(reservation.getId(), reservation);
+                    if (visible != null && visible.getStatus() != ReservationStatus.CANCELLED
+                            && roomId.equals(visible.getRoomId())
+                            && !visible.getDate().isBefore(from) && !visible.getDate().isAfter(to)) {
+                        active.add(visible);
+                    }
+                }
+                // 화면 콜백은 메인 스레드에서
+                AppExecutors.getInstance().mainThread().execute(() -> callback.onSuccess(active));
             }
 
             @Override
             public void onFailure(Exception e) {
-                error.setValue(e.getMessage());
+                error.postValue(e.getMessage());
+                AppExecutors.getInstance().mainThread().execute(() -> callback.onFailure(e));
             }
         });
     }
 
     /**
-     * 예약 목록을 날짜와 상태에 따라 분류합니다.
+     * 리스너 해제 (필요 시 호출)
      */
-    private void processAndSetReservations(List<Reservation> allReservations) {
-        LocalDate today = LocalDate.now();
+    public void stopListening() {
+        worker.execute(this::removeListener);
+    }
+
+    private void removeListener() {
+        if (reservationsListener != null) {
+            reservationsListener.remove();
+            reservationsListener = null;
+        }
+        currentScope = null;
+        todayIndex.clear();
+        subscriptionGeneration++;
+    }
 
-        List<Reservation> upcoming = allReservations.stream()
-                .filter(r -> !r.getDate().isBefore(today) && r.getStatus() != ReservationStatus.CANCELLED)
-                .sorted((r1, r2) -> {
-                    int dateCompare = r2.getDate().compareTo(r1.getDate());
-                    if (dateCompare != 0) return dateCompare;
-                    return r2.getStartTime().compareTo(r1.getStartTime());
-                })
-                .collect(Collectors.toList());
-
-        List<Reservation> past = allReservations.stream()
-                .filter(r -> r.getDate().isBefore(today) && r.getStatus() != ReservationStatus.CANCELLED)
-                .sorted((r1, r2) -> {
-                    int dateCompare = r2.getDate().compareTo(r1.getDate());
-                    if (dateCompare != 0) return dateCompare;
-                    return r2.getStartTime().compareTo(r1.getStartTime());
-                })
-                .collect(Collectors.toList());
-
-        List<Reservation> cancelled = allReservations.stream()
-                .filter(r -> r.getStatus() == ReservationStatus.CANCELLED)
-                .sorted((r1, r2) -> {
-                    int dateCompare = r2.getDate().compareTo(r1.getDate());
-                    if (dateCompare != 0) return dateCompare;
-                    return r2.getStartTime().compareTo(r1.getStartTime());
-                })
-                .collect(Collectors.toList());
-
-        upcomingReservations.setValue(upcoming);
-        pastReservations.setValue(past);
-        cancelledReservations.setValue(cancelled);
+    public void loadReservations() {
+        // 같은 범위의 리스너가 이미 실행 중이면 유지됨
+        startListening();
     }
 
     public void refresh() {
         // 실시간 리스너가 자동으로 업데이트하므로 별도 리프레시 불필요
-        // 필요 시 리스너 재시작
-        if (reservationsListener == null) {
-            startListening();
-        }
+        // 역할(관리자 여부)이 바뀌었으면 범위에 맞는 리스너로 교체
+        startListening();
     }
 
+    /**
+     * 예약 생성: 화면에 먼저 반영하고 outbox에 기록되면 바로 성공 콜백 (서버 충돌 검사는 outbox가 이어서 수행)
+     * 서버에서 충돌로 거절되면 목록에서 빠지고 getMutationRejections()로 안내됩니다.
+     */
     public void createReservation(Reservation reservation, String userId, String userEmail, FirestoreManager.FirestoreCallback<String> callback) {
-        firestoreManager.createReservation(reservation, userId, userEmail, new FirestoreManager.FirestoreCallback<String>() {
+        if (DayOccupancy.ofRange(reservation.getStartTime(), reservation.getEndTime()).isEmpty()) {
+            callback.onFailure(new Exception("운영 시간(09:00~21:00) 내에서만 예약할 수 있습니다"));
+            return;
+        }
+        PendingMutation mutation = PendingMutation.create(reservation, userId, userEmail);
+        worker.execute(() -> submit(mutation, () -> callback.onSuccess(reservation.getId())));
+    }
+
+    /**
+     * 반복 예약 생성: 모든 발생의 충돌을 서버 데이터로 먼저 확인해야 하므로 outbox를 거치지 않고 바로 전송합니다.
+     * 발생 예약은 실시간 리스너로 목록에 반영됩니다.
+     * 충돌 시 ReservationBookingService.SeriesConflictException으로 실패하며 충돌 날짜를 알려줍니다.
+     * @return 생성한 발생 수
+     */
+    public void createReservationSeries(ReservationSeries series, String userId, String userEmail,
+                                        FirestoreManager.FirestoreCallback<Integer> callback) {
+        bookingService.bookSeries(series, userId, userEmail, new FirestoreManager.FirestoreCallback<Integer>() {
             @Override
-            public void onSuccess(String documentId) {
-                // 관리자에게 알림 생성
-                String title = "새로운 예약";
-                String message = String.format("%s님이 %s %s~%s 예약을 생성했습니다.",
+            public void onSuccess(Integer count) {
+                // 관리자에게 시리즈 단위로 한 번만 알림
+                String message = String.format("%s님이 %s %s~%s 반복 예약 %d건을 생성했습니다.",
                         userEmail,
-                        reservation.getDate(),
-                        reservation.getStartTime(),
-                        reservation.getEndTime());
-
-                firestoreManager.createNotification(title, message, "reservation", documentId, new FirestoreManager.FirestoreCallback<Void>() {
-                    @Override
-                    public void onSuccess(Void result) {
-                        // 알림 생성 성공 (무시 가능)
-                    }
-
-                    @Override
-                    public void onFailure(Exception e) {
-                        // 알림 생성 실패해도 예약은 성공했으므로 로그만 남김
-                        error.setValue("알림 생성 실패: " + e.getMessage());
-                    }
-                });
-
-                // 실시간 리스너가 자동으로 업데이트
-                callback.onSuccess(documentId);
+                        series.getRule().describe(),
+                        series.getStartTime(),
+                        series.getEndTime(),
+                        count);
+                notificationDispatcher.post("reservation", buildingOf(series.getRoomName()), "새로운 반복 예약", message, series.getId());
+                callback.onSuccess(count);
             }
 
             @Override
             public void onFailure(Exception e) {
-                error.setValue(e.getMessage());
                 callback.onFailure(e);
             }
         });
     }
 
+    /**
+     * 강의실명에서 건물명 추출 (알림 요약 단위, 예: "공학관 301호" -> "공학관")
+     */
+    private static String buildingOf(String roomName) {
+        if (roomName == null) {
+            return "";
+        }
+        int spaceIndex = roomName.indexOf(' ');
+        return spaceIndex > 0 ? roomName.substring(0, spaceIndex) : roomName;
+    }
+
     public void updateReservation(String documentId, Map<String, Object> updates, FirestoreManager.FirestoreCallback<Void> callback) {
         firestoreManager.updateReservation(documentId, updates, new FirestoreManager.FirestoreCallback<Void>() {
             @Override
@@ -285,27 +802,204 @@ public class ReservationRepository {
         });
     }
 
+    /**
+     * 예약 취소 (점유 셀 해제 포함): 화면에 먼저 반영하고 outbox에 기록되면 바로 성공 콜백
+     */
     public void cancelReservationByReservationId(String reservationId, FirestoreManager.FirestoreCallback<Void> callback) {
-        firestoreManager.cancelReservationByReservationId(reservationId, new FirestoreManager.FirestoreCallback<Void>() {
-            @Override
-            public void onSuccess(Void result) {
-                // 실시간 리스너가 자동으로 업데이트
-                callback.onSuccess(result);
+        worker.execute(() -> {
+            Reservation current = visibleReservation(reservationId);
+            PendingMutation mutation = PendingMutation.cancel(reservationId, current != null ? current.getStatus() : null);
+            submit(mutation, () -> callback.onSuccess(null));
+        });
+    }
+
+    /**
+     * 예약 수정/승인/체크인: 화면에 먼저 반영하고 outbox에 기록되면 바로 성공 콜백
+     * 요청 시점의 상태를 함께 기록하여, 그 사이 서버에서 상태가 바뀌었으면 되돌립니다.
+     */
+    public void updateReservationByReservationId(String reservationId, Map<String, Object> updates, FirestoreManager.FirestoreCallback<Void> callback) {
+        worker.execute(() -> {
+            Reservation current = visibleReservation(reservationId);
+            PendingMutation mutation = PendingMutation.update(reservationId, current != null ? current.getStatus() : null, updates);
+            submit(mutation, () -> callback.onSuccess(null));
+        });
+    }
+
+    /**
+     * 대기 중인 변경을 바로 다시 전송 (화면 복귀 시, 메인 스레드)
+     */
+    public void flushPendingMutations() {
+        outbox.flush();
+    }
+
+    /**
+     * 변경을 화면에 먼저 반영하고 outbox에 기록 (파싱 스레드에서 호출)
+     * @param onQueued 기록이 끝나면 메인 스레드에서 실행
+     */
+    private void submit(PendingMutation mutation, Runnable onQueued) {
+        addOverlay(mutation);
+        showReservation(mutation.getReservationId(), currentScope);
+        requestPublish();
+        outbox.enqueue(mutation, onQueued);
+    }
+
+    /**
+     * 이전 실행에서 보내지 못한 변경을 화면에 다시 적용하고 outbox 전송 재개
+     */
+    private void restorePendingMutations() {
+        AppExecutors executors = AppExecutors.getInstance();
+        executors.diskIO().execute(() -> {
+            List<PendingMutation> pending = LocalCache.getInstance().loadMutations();
+            worker.execute(() -> {
+                for (PendingMutation mutation : pending) {
+                    addOverlay(mutation);
+                    showReservation(mutation.getReservationId(), currentScope);
+                }
+                requestPublish();
+                executors.mainThread().execute(() -> outbox.restore(pending));
+            });
+        });
+    }
+
+    private void addOverlay(PendingMutation mutation) {
+        List<PendingMutation> pending = overlay.get(mutation.getReservationId());
+        if (pending == null) {
+            pending = new ArrayList<>();
+            overlay.put(mutation.getReservationId(), pending);
+        }
+        pending.add(mutation);
+    }
+
+    private void removeOverlay(PendingMutation mutation) {
+        List<PendingMutation> pending = overlay.get(mutation.getReservationId());
+        if (pending != null) {
+            pending.remove(mutation);
+            if (pending.isEmpty()) {
+                overlay.remove(mutation.getReservationId());
             }
+        }
+    }
 
-            @Override
-            public void onFailure(Exception e) {
-                error.setValue(e.getMessage());
-                callback.onFailure(e);
+    /**
+     * 서버 상태에 보내지 않은 변경을 순서대로 적용한 예약 (없으면 null, 파싱 스레드)
+     */
+    private Reservation visibleReservation(String reservationId) {
+        return applyOverlay(reservationId, store.get(reservationId));
+    }
+
+    /**
+     * 주어진 서버 상태에 보내지 않은 변경을 순서대로 적용 (없으면 null, 파싱 스레드)
+     */
+    private Reservation applyOverlay(String reservationId, Reservation server) {
+        Reservation visible = server;
+        List<PendingMutation> pending = overlay.get(reservationId);
+        if (pending != null) {
+            for (PendingMutation mutation : pending) {
+                visible = mutation.applyTo(visible);
             }
-        });
+        }
+        return visible;
     }
 
-    public void updateReservationByReservationId(String reservationId, Map<String, Object> updates, FirestoreManager.FirestoreCallback<Void> callback) {
-        firestoreManager.updateReservationByReservationId(reservationId, updates, new FirestoreManager.FirestoreCallback<Void>() {
+    /**
+     * 한 예약의 화면 상태를 분류 목록과 점유/오늘 인덱스에 반영 (파싱 스레드)
+     */
+    private void showReservation(String reservationId, String scope) {
+        Reservation visible = visibleReservation(reservationId);
+        if (visible == null) {
+            occupancyIndex.removeReservation(reservationId);
+            todayIndex.remove(reservationId);
+            partitioner.remove(reservationId);
+            dateIndex.remove(reservationId);
+            return;
+        }
+        occupancyIndex.putReservation(visible);
+        todayIndex.put(visible);
+        if (inScope(visible, scope)) {
+            partitioner.upsert(visible);
+            dateIndex.put(visible);
+        } else {
+            partitioner.remove(reservationId);
+            dateIndex.remove(reservationId);
+        }
+    }
+
+    /**
+     * outbox 전송 결과 반영
+     */
+    private class OutboxListener implements ReservationOutbox.Listener {
+        @Override
+        public void onConfirmed(PendingMutation mutation) {
+            if (mutation.getKind() == PendingMutation.Kind.CREATE) {
+                // 관리자에게 알림 생성
+                Reservation reservation = mutation.getReservation();
+                String message = String.format("%s님이 %s %s~%s 예약을 생성했습니다.",
+                        mutation.getUserEmail(),
+                        reservation.getDate(),
+                        reservation.getStartTime(),
+                        reservation.getEndTime());
+                notificationDispatcher.post("reservation", buildingOf(reservation.getRoomName()), "새로운 예약", message, reservation.getId());
+            }
+            worker.execute(() -> {
+                // 확정된 변경은 서버 스냅샷을 기다리지 않고 기준 상태에 반영 (스냅샷이 오면 같은 내용으로 덮어씀)
+                String reservationId = mutation.getReservationId();
+                Reservation confirmed = mutation.applyTo(store.get(reservationId));
+                removeOverlay(mutation);
+                if (confirmed != null) {
+                    store.put(reservationId, confirmed);
+                }
+                showReservation(reservationId, currentScope);
+                requestPublish();
+            });
+        }
+
+        @Override
+        public void onRejected(PendingMutation mutation, Exception e) {
+            worker.execute(() -> {
+                // 서버 상태로 되돌림
+                removeOverlay(mutation);
+                showReservation(mutation.getReservationId(), currentScope);
+                requestPublish();
+            });
+            String action;
+            if (mutation.getKind() == PendingMutation.Kind.CREATE) {
+                action = "예약이 확정되지 않았습니다";
+            } else if (mutation.getKind() == PendingMutation.Kind.CANCEL) {
+                action = "예약 취소가 반영되지 않았습니다";
+            } else {
+                action = "예약 변경이 반영되지 않았습니다";
+            }
+            mutationRejections.setValue(action + ": " + e.getMessage());
+        }
+    }
+
+    public void deleteReservation(String reservationId, FirestoreManager.FirestoreCallback<Void> callback) {
+        firestoreManager.deleteReservation(reservationId, new FirestoreManager.FirestoreCallback<Void>() {
             @Override
             public void onSuccess(Void result) {
-                // 실시간 리스너가 자동으로 업데이트
+                // 하드 삭제는 증분 리스너 범위 밖일 수 있으므로 저장소와 캐시에서 직접 제거
+                worker.execute(() -> {
+                    Reservation known = store.remove(reservationId);
+                    // 분류 목록, 날짜/오늘/점유 인덱스를 한 번에 정리
+                    showReservation(reservationId, currentScope);
+                    requestPublish();
+                    if (known != null && known.getStatus() != ReservationStatus.CANCELLED) {
+                        // 취소되지 않은 예약이면 점유 셀도 해제 (실패해도 삭제는 완료된 것으로 처리)
+                        bookingService.releaseHold(known, new FirestoreManager.FirestoreCallback<Void>() {
+                            @Override
+                            public void onSuccess(Void ignored) {
+                            }
+
+                            @Override
+                            public void onFailure(Exception e) {
+                                error.postValue("점유 정보 해제 실패: " + e.getMessage());
+                            }
+                        });
+                    }
+                });
+                AppExecutors.getInstance().diskIO().execute(() ->
+                        LocalCache.getInstance().applyReservations(
+                                new ArrayList<>(), id -> 0L, Collections.singletonList(reservationId)));
                 callback.onSuccess(result);
             }
 
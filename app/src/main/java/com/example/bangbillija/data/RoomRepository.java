@@ -3,20 +3,42 @@ package com.example.bangbillija.data;
 import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
 
+import com.example.bangbillija.core.AppExecutors;
 import com.example.bangbillija.model.Room;
 import com.example.bangbillija.service.FirestoreManager;
+import com.example.bangbillija.service.NotificationDispatcher;
+import com.example.bangbillija.service.RoomFinder;
+import com.example.bangbillija.service.SyncBatch;
 import com.google.firebase.firestore.ListenerRegistration;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
 
 public class RoomRepository {
 
     private static RoomRepository instance;
     private final FirestoreManager firestoreManager = FirestoreManager.getInstance();
+    private final NotificationDispatcher notificationDispatcher = NotificationDispatcher.getInstance();
     private final MutableLiveData<List<Room>> rooms = new MutableLiveData<>();
+    private final MutableLiveData<ListDiff<Room>> roomChanges = new MutableLiveData<>();
     private final MutableLiveData<String> error = new MutableLiveData<>();
     private ListenerRegistration roomsListener;
 
+    // 스냅샷 반영 전용 스레드 (roomList, snapshotReceived는 이 스레드에서만 접근)
+    private final Executor worker = AppExecutors.getInstance().parsing();
+    // 강의실 ID 순 목록 (Firestore 기본 정렬과 동일)
+    private final SortedKeyedList<Room> roomList =
+            new SortedKeyedList<>(Comparator.comparing(Room::getId), Room::getId);
+    private boolean snapshotReceived;
+    // 강의실 검색 인덱스 (목록을 게시할 때 다시 구성, 파싱 스레드 전용)
+    private final RoomSearchIndex searchIndex = new RoomSearchIndex();
+    // 조건 검색용 (불변 객체라 목록을 게시할 때 교체)
+    private volatile RoomFinder roomFinder = new RoomFinder(new ArrayList<>());
+
     private RoomRepository() {
         startListening();
     }
@@ -32,6 +54,31 @@ public class RoomRepository {
         return rooms;
     }
 
+    /**
+     * 강의실 목록의 변경 내역 (어댑터가 DiffUtil 없이 바로 적용)
+     */
+    public LiveData<ListDiff<Room>> getRoomChanges() {
+        return roomChanges;
+    }
+
+    /**
+     * 강의실 검색 (이름, 건물, 층, 시설, 초성) - 파싱 스레드에서 평가하고 결과는 메인 스레드로 전달
+     * @param filter 검색어 외 추가 조건 (null이면 조건 없음)
+     */
+    public void searchRooms(String query, Predicate<Room> filter, FirestoreManager.FirestoreCallback<List<Room>> callback) {
+        worker.execute(() -> {
+            List<Room> result = searchIndex.search(query, filter);
+            AppExecutors.getInstance().mainThread().execute(() -> callback.onSuccess(result));
+        });
+    }
+
+    /**
+     * 현재 강의실 목록으로 만든 조건 검색기 (어느 스레드에서나 사용 가능)
+     */
+    public RoomFinder getRoomFinder() {
+        return roomFinder;
+    }
+
     public LiveData<String> getError() {
         return error;
     }
@@ -44,21 +91,67 @@ public class RoomRepository {
             roomsListener.remove();
         }
 
-        roomsListener = firestoreManager.listenToRooms(new FirestoreManager.FirestoreCallback<List<Room>>() {
+        worker.execute(() -> snapshotReceived = false);
+
+        // 서버 스냅샷이 도착하기 전까지 로컬 캐시로 먼저 표시
+        AppExecutors.getInstance().diskIO().execute(() -> {
+            List<Room> cached = LocalCache.getInstance().loadRooms();
+            if (!cached.isEmpty()) {
+                worker.execute(() -> {
+                    if (!snapshotReceived && roomList.size() == 0) {
+                        roomList.replaceAll(cached);
+                        publish();
+                    }
+                });
+            }
+        });
+
+        roomsListener = firestoreManager.listenToRooms(new FirestoreManager.FirestoreCallback<SyncBatch<Room>>() {
             @Override
-            public void onSuccess(List<Room> result) {
-                rooms.setValue(result);
+            public void onSuccess(SyncBatch<Room> batch) {
+                if (batch.isInitial()) {
+                    // 첫 스냅샷은 전체 목록 (캐시에만 있던 강의실은 제거됨)
+                    snapshotReceived = true;
+                    roomList.replaceAll(batch.getUpserts());
+                } else {
+                    // 이후에는 바뀐 강의실만 반영
+                    for (Room room : batch.getUpserts()) {
+                        roomList.upsert(room);
+                    }
+                    for (String id : batch.getRemovedIds()) {
+                        roomList.remove(id);
+                    }
+                }
+                List<Room> snapshot = publish();
+                AppExecutors.getInstance().diskIO().execute(() ->
+                        LocalCache.getInstance().replaceRooms(snapshot));
             }
 
             @Override
             public void onFailure(Exception e) {
-                error.setValue(e.getMessage());
-                // Fallback to fake data on error
-                rooms.setValue(FakeDataSource.getRooms());
+                error.postValue(e.getMessage());
+                // 캐시가 있으면 유지, 없으면 샘플 데이터로 대체
+                if (roomList.size() == 0) {
+                    roomList.replaceAll(FakeDataSource.getRooms());
+                    publish();
+                }
             }
         });
     }
 
+    /**
+     * 변경 내역과 전체 목록을 게시합니다. (파싱 스레드에서 호출)
+     * @return 게시한 전체 목록
+     */
+    private List<Room> publish() {
+        ListDiff<Room> diff = roomList.drainDiff();
+        searchIndex.rebuild(diff.getItems());
+        roomFinder = new RoomFinder(diff.getItems());
+        roomChanges.postValue(diff);
+        rooms.postValue(diff.getItems());
+        return diff.getItems();
+    }
+
     /**
      * 리스너 해제 (필요 시 호출)
      */
@@ -94,21 +187,67 @@ public class RoomRepository {
                         room.getName(),
                         room.getCapacity());
 
-                firestoreManager.createNotification(title, message, "room", room.getId(), new FirestoreManager.FirestoreCallback<Void>() {
+                notificationDispatcher.post("room", room.getBuilding(), title, message, room.getId());
+
+                // 실시간 리스너가 자동으로 업데이트
+                callback.onSuccess(result);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                error.setValue(e.getMessage());
+                callback.onFailure(e);
+            }
+        });
+    }
+
+    /**
+     * 등록되지 않은 강의실만 일괄 등록 (시간표 가져오기용)
+     * 존재 여부는 묶음 쿼리로 확인하고, 새 강의실은 배치로 저장한 뒤 요약 알림을 한 번만 생성합니다.
+     * @param candidates 등록 후보 강의실 (이미 있는 강의실은 건너뜀)
+     * @param callback 새로 등록된 강의실 목록
+     */
+    public void registerMissingRooms(List<Room> candidates, FirestoreManager.FirestoreCallback<List<Room>> callback) {
+        List<String> roomIds = new ArrayList<>(candidates.size());
+        for (Room room : candidates) {
+            roomIds.add(room.getId());
+        }
+
+        firestoreManager.findExistingRoomIds(roomIds, new FirestoreManager.FirestoreCallback<Set<String>>() {
+            @Override
+            public void onSuccess(Set<String> existingIds) {
+                List<Room> missing = new ArrayList<>();
+                for (Room room : candidates) {
+                    if (!existingIds.contains(room.getId())) {
+                        missing.add(room);
+                    }
+                }
+                if (missing.isEmpty()) {
+                    callback.onSuccess(missing);
+                    return;
+                }
+
+                firestoreManager.addRooms(missing, new FirestoreManager.FirestoreCallback<Void>() {
                     @Override
-                    public void onSuccess(Void notifResult) {
-                        // 알림 생성 성공 (무시 가능)
+                    public void onSuccess(Void result) {
+                        // 강의실마다 알림을 만들지 않고 요약 알림 하나만 생성
+                        String title = "강의실 자동 등록";
+                        String message = missing.size() == 1
+                                ? String.format("%s (수용인원: %d명)", missing.get(0).getName(), missing.get(0).getCapacity())
+                                : String.format("시간표 가져오기로 %d개의 강의실이 등록되었습니다.", missing.size());
+
+                        notificationDispatcher.post("room", "", title, message, "");
+
+                        // 실시간 리스너가 자동으로 업데이트
+                        callback.onSuccess(missing);
                     }
 
                     @Override
                     public void onFailure(Exception e) {
-                        // 알림 생성 실패해도 강의실 추가는 성공했으므로 로그만 남김
-                        error.setValue("알림 생성 실패: " + e.getMessage());
+                        error.setValue(e.getMessage());
+                        callback.onFailure(e);
                     }
                 });
-
-                // 실시간 리스너가 자동으로 업데이트
-                callback.onSuccess(result);
             }
 
             @Override
@@ -0,0 +1,272 @@
+package com.example.bangbillija.data;
+
+import com.example.bangbillija.model.Room;
+import com.example.bangbillija.util.HangulUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * 강의실 검색 인덱스 (강의실명, 건물, 층, 시설)
+ * 각 필드를 소문자/공백 제거 형태의 문자 배열로 미리 만들어 두고, 문자와 그 초성마다 해당 문자가 들어 있는
+ * 강의실 목록(posting)을 유지합니다. 검색은 검색어 문자 중 가장 짧은 posting만 후보로 검사하므로
+ * 강의실이 많아도 대부분을 건너뛰며, 검색 중에는 결과 목록 외에 객체를 만들지 않습니다.
+ * 자음만 입력한 문자는 초성과 비교합니다. ("ㄱㅎㄱ" -> 공학관)
+ * 목록 갱신과 검색 모두 저장소의 파싱 스레드에서만 호출합니다.
+ */
+public class RoomSearchIndex {
+
+    // 필드별 점수 (높을수록 앞에 표시)
+    private static final int SCORE_NAME_EXACT = 100;
+    private static final int SCORE_NAME_PREFIX = 90;
+    private static final int SCORE_NAME_CONTAINS = 70;
+    private static final int SCORE_BUILDING_PREFIX = 60;
+    private static final int SCORE_BUILDING_CONTAINS = 50;
+    private static final int SCORE_FLOOR = 40;
+    private static final int SCORE_FACILITY = 30;
+    // 건물+강의실명에 검색어 문자가 순서대로 나타남 ("공3" -> 공학관 301)
+    private static final int SCORE_ABBREVIATION = 10;
+    private static final int MAX_SCORE = 128;
+
+    private Room[] rooms = new Room[0];
+    private char[][] names = new char[0][];
+    private char[][] buildings = new char[0][];
+    private char[][] floors = new char[0][];
+    // 시설은 '\n'으로 구분하여 이어 붙임 (시설 경계를 넘는 일치 방지)
+    private char[][] facilities = new char[0][];
+    private char[][] buildingNames = new char[0][];
+
+    // 문자(또는 초성) -> 포함하는 강의실 번호 (오름차순)
+    private char[] postingKeys = new char[0];
+    private int[][] postings = new int[0][];
+
+    // 검색용 재사용 버퍼: (MAX_SCORE - 점수) << 32 | 강의실 번호
+    private long[] ranked = new long[0];
+    private char[] queryBuffer = new char[32];
+
+    /**
+     * 강의실 목록으로 인덱스를 다시 구성 (목록 순서가 같은 점수 안에서의 표시 순서)
+     */
+    public void rebuild(List<Room> roomList) {
+        int count = roomList.size();
+        rooms = roomList.toArray(new Room[0]);
+        names = new char[count][];
+        buildings = new char[count][];
+        floors = new char[count][];
+        facilities = new char[count][];
+        buildingNames = new char[count][];
+        ranked = new long[count];
+
+        Map<Character, List<Integer>> byChar = new TreeMap<>();
+        for (int i = 0; i < count; i++) {
+            Room room = rooms[i];
+            names[i] = normalize(room.getName());
+            buildings[i] = normalize(room.getBuilding());
+            floors[i] = normalize(room.getFloor());
+            facilities[i] = normalize(room.getFacilities() == null ? null : String.join("\n", room.getFacilities()));
+            buildingNames[i] = concat(buildings[i], names[i]);
+
+            addPostings(byChar, buildingNames[i], i);
+            addPostings(byChar, floors[i], i);
+            addPostings(byChar, facilities[i], i);
+        }
+
+        postingKeys = new char[byChar.size()];
+        postings = new int[byChar.size()][];
+        int k = 0;
+        for (Map.Entry<Character, List<Integer>> entry : byChar.entrySet()) {
+            postingKeys[k] = entry.getKey();
+            List<Integer> ids = entry.getValue();
+            int[] posting = new int[ids.size()];
+            for (int j = 0; j < posting.length; j++) {
+                posting[j] = ids.get(j);
+            }
+            postings[k++] = posting;
+        }
+    }
+
+    public int size() {
+        return rooms.length;
+    }
+
+    /**
+     * 검색어와 일치하는 강의실을 점수 순으로 (같은 점수는 목록 순서)
+     * @param query 빈 문자열이면 filter만 적용한 전체 목록
+     * @param filter 추가 조건 (상태, 수용 인원 등), null이면 조건 없음
+     */
+    public List<Room> search(String query, Predicate<Room> filter) {
+        int queryLength = normalizeInto(query);
+        if (queryLength == 0) {
+            List<Room> all = new ArrayList<>(rooms.length);
+            for (Room room : rooms) {
+                if (filter == null || filter.test(room)) {
+                    all.add(room);
+                }
+            }
+            return all;
+        }
+
+        int[] candidates = shortestPosting(queryLength);
+        if (candidates == null) {
+            return new ArrayList<>();
+        }
+
+        int matched = 0;
+        for (int index : candidates) {
+            int score = score(index, queryLength);
+            if (score > 0 && (filter == null || filter.test(rooms[index]))) {
+                ranked[matched++] = ((long) (MAX_SCORE - score) << 32) | index;
+            }
+        }
+        Arrays.sort(ranked, 0, matched);
+
+        List<Room> result = new ArrayList<>(matched);
+        for (int i = 0; i < matched; i++) {
+            result.add(rooms[(int) ranked[i]]);
+        }
+        return result;
+    }
+
+    private int score(int index, int queryLength) {
+        char[] name = names[index];
+        int position = indexOf(name, queryLength);
+        if (position == 0) {
+            return name.length == queryLength ? SCORE_NAME_EXACT : SCORE_NAME_PREFIX;
+        }
+        if (position > 0) {
+            return SCORE_NAME_CONTAINS;
+        }
+        position = indexOf(buildings[index], queryLength);
+        if (position == 0) {
+            return SCORE_BUILDING_PREFIX;
+        }
+        if (position > 0) {
+            return SCORE_BUILDING_CONTAINS;
+        }
+        if (indexOf(floors[index], queryLength) >= 0) {
+            return SCORE_FLOOR;
+        }
+        if (indexOf(facilities[index], queryLength) >= 0) {
+            return SCORE_FACILITY;
+        }
+        if (isSubsequence(buildingNames[index], queryLength)) {
+            return SCORE_ABBREVIATION;
+        }
+        return 0;
+    }
+
+    /**
+     * 검색어가 target에 연속으로 나타나는 첫 위치 (없으면 -1)
+     */
+    private int indexOf(char[] target, int queryLength) {
+        int last = target.length - queryLength;
+        for (int start = 0; start <= last; start++) {
+            int j = 0;
+            while (j < queryLength && HangulUtil.matches(queryBuffer[j], target[start + j])) {
+                j++;
+            }
+            if (j == queryLength) {
+                return start;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isSubsequence(char[] target, int queryLength) {
+        int j = 0;
+        for (int i = 0; i < target.length && j < queryLength; i++) {
+            if (HangulUtil.matches(queryBuffer[j], target[i])) {
+                j++;
+            }
+        }
+        return j == queryLength;
+    }
+
+    /**
+     * 검색어 문자들의 posting 중 가장 짧은 것 (어느 문자라도 없으면 null)
+     */
+    private int[] shortestPosting(int queryLength) {
+        int[] shortest = null;
+        for (int i = 0; i < queryLength; i++) {
+            int key = Arrays.binarySearch(postingKeys, queryBuffer[i]);
+            if (key < 0) {
+                return null;
+            }
+            if (shortest == null || postings[key].length < shortest.length) {
+                shortest = postings[key];
+            }
+        }
+        return shortest;
+    }
+
+    /**
+     * 검색어를 소문자/공백 제거 형태로 queryBuffer에 기록
+     * @return 기록한 길이
+     */
+    private int normalizeInto(String query) {
+        if (query == null) {
+            return 0;
+        }
+        if (queryBuffer.length < query.length()) {
+            queryBuffer = new char[query.length()];
+        }
+        int length = 0;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                queryBuffer[length++] = Character.toLowerCase(c);
+            }
+        }
+        return length;
+    }
+
+    private static char[] normalize(String text) {
+        if (text == null) {
+            return new char[0];
+        }
+        StringBuilder builder = new StringBuilder(text.length());
+        String lower = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (c == '\n' || !Character.isWhitespace(c)) {
+                builder.append(c);
+            }
+        }
+        return builder.toString().toCharArray();
+    }
+
+    private static char[] concat(char[] first, char[] second) {
+        char[] joined = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, joined, first.length, second.length);
+        return joined;
+    }
+
+    /**
+     * 문자와 그 초성 모두에 강의실 번호 등록 (같은 강의실은 한 번만)
+     */
+    private static void addPostings(Map<Character, List<Integer>> byChar, char[] text, int index) {
+        for (char c : text) {
+            addPosting(byChar, c, index);
+            char initial = HangulUtil.initialOf(c);
+            if (initial != c) {
+                addPosting(byChar, initial, index);
+            }
+        }
+    }
+
+    private static void addPosting(Map<Character, List<Integer>> byChar, char c, int index) {
+        List<Integer> ids = byChar.get(c);
+        if (ids == null) {
+            ids = new ArrayList<>();
+            byChar.put(c, ids);
+        }
+        if (ids.isEmpty() || ids.get(ids.size() - 1) != index) {
+            ids.add(index);
+        }
+    }
+}
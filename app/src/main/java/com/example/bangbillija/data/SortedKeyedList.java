@@ -0,0 +1,154 @@
+package com.example.bangbillija.data;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ID로 찾을 수 있는 정렬 목록
+ * 추가/수정/삭제는 이진 탐색 위치에서 처리하고, 마지막 게시 이후의 위치 변경을 기록해
+ * {@link #drainDiff()}로 ListDiff를 만듭니다. (스레드 안전하지 않음, 한 스레드에서만 사용)
+ */
+public class SortedKeyedList<T> {
+
+    public interface KeyFunction<T> {
+        String keyOf(T item);
+    }
+
+    // 변경이 이보다 많으면 개별 알림보다 전체 교체가 빠름
+    private static final int MAX_OPS = 64;
+    // 목록 간에 버전이 겹치지 않도록 전역 카운터 사용 (어댑터가 다른 목록의 변경을 잘못 적용하지 않도록)
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    private final Comparator<T> order;
+    private final KeyFunction<T> keyFunction;
+    private final List<T> items = new ArrayList<>();
+    private final Map<String, T> byKey = new HashMap<>();
+
+    private final List<ListDiff.Op> pendingOps = new ArrayList<>();
+    private boolean pendingReset = true;
+    private long publishedVersion = VERSIONS.incrementAndGet();
+
+    public SortedKeyedList(Comparator<T> order, KeyFunction<T> keyFunction) {
+        this.order = order;
+        this.keyFunction = keyFunction;
+    }
+
+    public void replaceAll(Collection<T> newItems) {
+        items.clear();
+        byKey.clear();
+        for (T item : newItems) {
+            T previous = byKey.put(keyFunction.keyOf(item), item);
+            if (previous != null) {
+                items.remove(previous);
+            }
+            items.add(item);
+        }
+        items.sort(order);
+        markReset();
+    }
+
+    /**
+     * 추가 또는 수정 (정렬 위치가 그대로면 CHANGE, 바뀌면 MOVE + CHANGE)
+     */
+    public void upsert(T item) {
+        String key = keyFunction.keyOf(item);
+        T existing = byKey.put(key, item);
+        if (existing == null) {
+            int index = insertionPoint(item);
+            items.add(index, item);
+            record(ListDiff.Type.INSERT, index, index);
+            return;
+        }
+
+        int from = indexOf(existing);
+        items.remove(from);
+        int to = insertionPoint(item);
+        items.add(to, item);
+        if (from != to) {
+            record(ListDiff.Type.MOVE, from, to);
+        }
+        record(ListDiff.Type.CHANGE, to, to);
+    }
+
+    /**
+     * @return 제거된 항목 (없으면 null)
+     */
+    public T remove(String key) {
+        T existing = byKey.remove(key);
+        if (existing == null) {
+            return null;
+        }
+        int index = indexOf(existing);
+        items.remove(index);
+        record(ListDiff.Type.REMOVE, index, index);
+        return existing;
+    }
+
+    public T get(String key) {
+        return byKey.get(key);
+    }
+
+    public boolean contains(String key) {
+        return byKey.containsKey(key);
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * 현재 목록 사본
+     */
+    public List<T> snapshot() {
+        return new ArrayList<>(items);
+    }
+
+    /**
+     * 마지막 호출 이후의 변경 내역을 꺼내고 기록을 비웁니다.
+     */
+    public ListDiff<T> drainDiff() {
+        long fromVersion = publishedVersion;
+        publishedVersion = VERSIONS.incrementAndGet();
+        List<ListDiff.Op> ops = pendingReset ? Collections.emptyList() : new ArrayList<>(pendingOps);
+        ListDiff<T> diff = new ListDiff<>(snapshot(), ops, fromVersion, publishedVersion, pendingReset);
+        pendingOps.clear();
+        pendingReset = false;
+        return diff;
+    }
+
+    private void markReset() {
+        pendingOps.clear();
+        pendingReset = true;
+    }
+
+    private void record(ListDiff.Type type, int position, int toPosition) {
+        if (pendingReset) {
+            return;
+        }
+        if (pendingOps.size() >= MAX_OPS) {
+            markReset();
+            return;
+        }
+        pendingOps.add(new ListDiff.Op(type, position, toPosition));
+    }
+
+    private int indexOf(T existing) {
+        int index = Collections.binarySearch(items, existing, order);
+        if (index >= 0 && items.get(index) == existing) {
+            return index;
+        }
+        // 비교 기준이 같은 항목이 여러 개인 경우에만 선형 탐색
+        return items.indexOf(existing);
+    }
+
+    private int insertionPoint(T item) {
+        int index = Collections.binarySearch(items, item, order);
+        return index < 0 ? -index - 1 : index;
+    }
+}
@@ -3,21 +3,32 @@ package com.example.bangbillija.data;
 import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
 
+import com.example.bangbillija.core.AppExecutors;
+import com.example.bangbillija.model.SemesterSummary;
 import com.example.bangbillija.model.TimetableEntry;
+import com.example.bangbillija.service.BatchWriter;
 import com.example.bangbillija.service.FirestoreManager;
+import com.example.bangbillija.service.NotificationDispatcher;
+import com.example.bangbillija.service.SyncBatch;
 import com.google.firebase.firestore.ListenerRegistration;
 
 import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 public class TimetableRepository {
 
     private static TimetableRepository instance;
     private final FirestoreManager firestoreManager = FirestoreManager.getInstance();
+    private final NotificationDispatcher notificationDispatcher = NotificationDispatcher.getInstance();
     private final MutableLiveData<List<TimetableEntry>> timetableEntries = new MutableLiveData<>();
     private final MutableLiveData<String> error = new MutableLiveData<>();
     private ListenerRegistration timetableListener;
     private String currentListeningSemester = null;
+    // 현재 리스너의 서버 스냅샷 수신 여부 (수신 후에는 캐시로 덮어쓰지 않음)
+    private volatile boolean snapshotReceived = false;
 
     private TimetableRepository() {
         // 초기에는 리스너를 시작하지 않음 (학기가 선택되면 시작)
@@ -53,18 +64,10 @@ public class TimetableRepository {
         // 전체 시간표 실시간 리스너
         stopListening();
         currentListeningSemester = null;
+        snapshotReceived = false;
+        showCached(null);
 
-        timetableListener = firestoreManager.listenToTimetableEntries(new FirestoreManager.FirestoreCallback<List<TimetableEntry>>() {
-            @Override
-            public void onSuccess(List<TimetableEntry> result) {
-                timetableEntries.setValue(result);
-            }
-
-            @Override
-            public void onFailure(Exception e) {
-                error.setValue(e.getMessage());
-            }
-        });
+        timetableListener = firestoreManager.listenToTimetableEntries(newListenerCallback(null));
     }
 
     public void loadTimetableBySemester(String semester) {
@@ -76,17 +79,62 @@ public class TimetableRepository {
         // 학기별 시간표 실시간 리스너
         stopListening();
         currentListeningSemester = semester;
+        snapshotReceived = false;
+        showCached(semester);
+
+        timetableListener = firestoreManager.listenToTimetableEntriesBySemester(semester, newListenerCallback(semester));
+    }
 
-        timetableListener = firestoreManager.listenToTimetableEntriesBySemester(semester, new FirestoreManager.FirestoreCallback<List<TimetableEntry>>() {
+    /**
+     * 리스너별 ID 맵에 변경분만 반영한 뒤 전체 목록을 게시합니다. (콜백은 파싱 스레드에서 호출)
+     * @param semester 구독 중인 학기 (전체 시간표면 null)
+     */
+    private FirestoreManager.FirestoreCallback<SyncBatch<TimetableEntry>> newListenerCallback(String semester) {
+        Map<String, TimetableEntry> entriesById = new LinkedHashMap<>();
+        return new FirestoreManager.FirestoreCallback<SyncBatch<TimetableEntry>>() {
             @Override
-            public void onSuccess(List<TimetableEntry> result) {
-                timetableEntries.setValue(result);
+            public void onSuccess(SyncBatch<TimetableEntry> batch) {
+                if (!batch.isInitial() && batch.isEmpty()) {
+                    return;
+                }
+                for (TimetableEntry entry : batch.getUpserts()) {
+                    entriesById.put(entry.getId(), entry);
+                }
+                for (String id : batch.getRemovedIds()) {
+                    entriesById.remove(id);
+                }
+                snapshotReceived = true;
+                List<TimetableEntry> result = new ArrayList<>(entriesById.values());
+                timetableEntries.postValue(result);
+                AppExecutors.getInstance().diskIO().execute(() ->
+                        LocalCache.getInstance().replaceTimetable(semester, result));
             }
 
             @Override
             public void onFailure(Exception e) {
-                error.setValue(e.getMessage());
+                error.postValue(e.getMessage());
+            }
+        };
+    }
+
+    /**
+     * 서버 스냅샷이 도착하기 전까지 로컬 캐시의 시간표를 먼저 표시합니다.
+     * 그 사이 다른 학기로 전환되었으면 무시합니다.
+     */
+    private void showCached(String semester) {
+        AppExecutors.getInstance().diskIO().execute(() -> {
+            List<TimetableEntry> cached = LocalCache.getInstance().loadTimetable(semester);
+            if (cached.isEmpty()) {
+                return;
             }
+            AppExecutors.getInstance().mainThread().execute(() -> {
+                boolean sameScope = semester == null
+                        ? currentListeningSemester == null
+                        : semester.equals(currentListeningSemester);
+                if (sameScope && timetableListener != null && !snapshotReceived) {
+                    timetableEntries.setValue(cached);
+                }
+            });
         });
     }
 
@@ -103,18 +151,7 @@ public class TimetableRepository {
                         entry.getStartTime(),
                         entry.getEndTime());
 
-                firestoreManager.createNotification(title, message, "timetable", entry.getId(), new FirestoreManager.FirestoreCallback<Void>() {
-                    @Override
-                    public void onSuccess(Void notifResult) {
-                        // 알림 생성 성공 (무시 가능)
-                    }
-
-                    @Override
-                    public void onFailure(Exception e) {
-                        // 알림 생성 실패해도 시간표는 성공했으므로 로그만 남김
-                        error.setValue("알림 생성 실패: " + e.getMessage());
-                    }
-                });
+                notificationDispatcher.post("timetable", "", title, message, entry.getId());
 
                 // 실시간 리스너가 자동으로 업데이트
                 callback.onSuccess(result);
@@ -129,25 +166,22 @@ public class TimetableRepository {
     }
 
     public void addEntries(List<TimetableEntry> entries, FirestoreManager.FirestoreCallback<Void> callback) {
-        firestoreManager.addTimetableEntries(entries, new FirestoreManager.FirestoreCallback<Void>() {
+        addEntries(entries, null, callback);
+    }
+
+    /**
+     * 시간표 일괄 등록 (대량 등록 시 500개 단위로 나누어 저장하며 진행 상황 전달)
+     */
+    public void addEntries(List<TimetableEntry> entries, BatchWriter.ProgressListener progress,
+                           FirestoreManager.FirestoreCallback<Void> callback) {
+        firestoreManager.addTimetableEntries(entries, progress, new FirestoreManager.FirestoreCallback<Void>() {
             @Override
             public void onSuccess(Void result) {
                 // 관리자에게 알림 생성
                 String title = "시간표 일괄 등록";
                 String message = String.format("%d개의 시간표 항목이 등록되었습니다.", entries.size());
 
-                firestoreManager.createNotification(title, message, "timetable", "", new FirestoreManager.FirestoreCallback<Void>() {
-                    @Override
-                    public void onSuccess(Void notifResult) {
-                        // 알림 생성 성공 (무시 가능)
-                    }
-
-                    @Override
-                    public void onFailure(Exception e) {
-                        // 알림 생성 실패해도 시간표는 성공했으므로 로그만 남김
-                        error.setValue("알림 생성 실패: " + e.getMessage());
-                    }
-                });
+                notificationDispatcher.post("timetable", "", title, message, "");
 
                 // 실시간 리스너가 자동으로 업데이트
                 callback.onSuccess(result);
@@ -217,6 +251,13 @@ public class TimetableRepository {
         firestoreManager.getAllSemesters(callback);
     }
 
+    /**
+     * 학기별 수업/강의실 수를 포함한 학기 목록 (최신 학기부터)
+     */
+    public void getSemesterCatalog(FirestoreManager.FirestoreCallback<List<SemesterSummary>> callback) {
+        firestoreManager.getSemesterCatalog(callback);
+    }
+
     public void refresh() {
         // 실시간 리스너가 자동으로 업데이트하므로 별도 리프레시 불필요
         // 필요 시 리스너 재시작
@@ -0,0 +1,136 @@
+package com.example.bangbillija.data;
+
+import com.example.bangbillija.model.Reservation;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 사용자의 오늘 예약을 강의실 ID별로 보관하는 인덱스 (QR 체크인용)
+ * 예약 저장소가 실시간 구독 변경분을 반영하므로 체크인 시 서버 조회나 전체 이력 탐색 없이 바로 응답합니다.
+ * 첫 서버 스냅샷이 반영되기 전(로컬 캐시만 있는 상태)이나 날짜가 바뀐 뒤에는 결과를 확정하지 않습니다.
+ * 변경은 파싱 스레드, 조회는 메인 스레드에서 이루어지므로 모든 메서드를 동기화합니다.
+ */
+public class TodayReservationIndex {
+
+    private static final Comparator<Reservation> BY_START_TIME = (r1, r2) -> {
+        int timeCompare = r1.getStartTime().compareTo(r2.getStartTime());
+        if (timeCompare != 0) return timeCompare;
+        return r1.getId().compareTo(r2.getId());
+    };
+
+    // 강의실 ID -> 오늘 예약 (시작 시간 순)
+    private final Map<String, List<Reservation>> byRoom = new HashMap<>();
+    private final Map<String, Reservation> byId = new HashMap<>();
+    private String ownerId;
+    private LocalDate date;
+    // 서버 스냅샷이 한 번 이상 반영되어 결과를 신뢰할 수 있는지
+    private boolean live;
+
+    /**
+     * 주어진 사용자/날짜로 다시 구성 (서버 반영 여부는 유지)
+     * @param ownerId 인덱스 대상 사용자 (null이면 인덱스 사용 안 함)
+     */
+    public synchronized void rebuild(String ownerId, LocalDate date, Collection<Reservation> reservations) {
+        byRoom.clear();
+        byId.clear();
+        this.ownerId = ownerId;
+        this.date = date;
+        if (ownerId == null) {
+            return;
+        }
+        for (Reservation reservation : reservations) {
+            if (matches(reservation)) {
+                byId.put(reservation.getId(), reservation);
+                roomList(reservation.getRoomId()).add(reservation);
+            }
+        }
+        for (List<Reservation> list : byRoom.values()) {
+            list.sort(BY_START_TIME);
+        }
+    }
+
+    /**
+     * 서버 스냅샷 반영 완료 (이후 조회 결과를 확정)
+     */
+    public synchronized void markLive() {
+        live = ownerId != null;
+    }
+
+    /**
+     * 로그아웃/구독 범위 변경 시 비우기
+     */
+    public synchronized void clear() {
+        byRoom.clear();
+        byId.clear();
+        ownerId = null;
+        date = null;
+        live = false;
+    }
+
+    /**
+     * 예약 추가/수정 (다른 사용자나 다른 날짜의 예약이면 기존 항목만 제거)
+     */
+    public synchronized void put(Reservation reservation) {
+        remove(reservation.getId());
+        if (ownerId == null || !matches(reservation)) {
+            return;
+        }
+        byId.put(reservation.getId(), reservation);
+        List<Reservation> list = roomList(reservation.getRoomId());
+        int index = Collections.binarySearch(list, reservation, BY_START_TIME);
+        list.add(index < 0 ? -index - 1 : index, reservation);
+    }
+
+    public synchronized void remove(String reservationId) {
+        Reservation previous = byId.remove(reservationId);
+        if (previous == null) {
+            return;
+        }
+        List<Reservation> list = byRoom.get(previous.getRoomId());
+        if (list != null) {
+            list.remove(previous);
+            if (list.isEmpty()) {
+                byRoom.remove(previous.getRoomId());
+            }
+        }
+    }
+
+    /**
+     * 오늘 해당 강의실의 예약 (시작 시간 순)
+     * @return 인덱스가 해당 사용자/날짜로 서버와 동기화된 상태가 아니면 null
+     */
+    public synchronized List<Reservation> lookup(String ownerId, String roomId, LocalDate today) {
+        if (!isCurrent(ownerId, today)) {
+            return null;
+        }
+        List<Reservation> list = byRoom.get(roomId);
+        return list == null ? Collections.emptyList() : new ArrayList<>(list);
+    }
+
+    /**
+     * 해당 사용자/날짜의 서버 동기화된 인덱스인지
+     */
+    public synchronized boolean isCurrent(String ownerId, LocalDate today) {
+        return live && ownerId != null && ownerId.equals(this.ownerId) && today.equals(date);
+    }
+
+    private boolean matches(Reservation reservation) {
+        return ownerId.equals(reservation.getOwner()) && date.equals(reservation.getDate());
+    }
+
+    private List<Reservation> roomList(String roomId) {
+        List<Reservation> list = byRoom.get(roomId);
+        if (list == null) {
+            list = new ArrayList<>();
+            byRoom.put(roomId, list);
+        }
+        return list;
+    }
+}
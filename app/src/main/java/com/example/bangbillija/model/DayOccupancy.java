@@ -0,0 +1,267 @@
+package com.example.bangbillija.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 하루 운영 시간(09:00~21:00)의 30분 셀 점유 상태 (불변 값 타입)
+ * 24개 셀을 long 비트마스크 하나로 표현하며 bit 0 = 09:00~09:30, bit 23 = 20:30~21:00 입니다.
+ * 셀에 일부만 걸친 시간도 해당 셀 전체를 점유한 것으로 봅니다. (바깥쪽으로 반올림)
+ */
+public final class DayOccupancy {
+
+    public static final LocalTime DAY_START = LocalTime.of(9, 0);
+    public static final LocalTime DAY_END = LocalTime.of(21, 0);
+    public static final int CELL_MINUTES = 30;
+    public static final int CELLS = 24;
+
+    private static final int DAY_START_MINUTE = DAY_START.getHour() * 60 + DAY_START.getMinute();
+    private static final int DAY_END_MINUTE = DAY_END.getHour() * 60 + DAY_END.getMinute();
+    private static final long ALL_CELLS = (1L << CELLS) - 1;
+
+    private static final DayOccupancy EMPTY = new DayOccupancy(0L);
+    private static final DayOccupancy FULL = new DayOccupancy(ALL_CELLS);
+
+    private final long bits;
+
+    private DayOccupancy(long bits) {
+        this.bits = bits & ALL_CELLS;
+    }
+
+    public static DayOccupancy empty() {
+        return EMPTY;
+    }
+
+    public static DayOccupancy full() {
+        return FULL;
+    }
+
+    public static DayOccupancy of(long bits) {
+        return new DayOccupancy(bits);
+    }
+
+    /**
+     * [start, end) 구간이 걸치는 셀을 점유한 상태 (운영 시간 밖은 잘라냄)
+     */
+    public static DayOccupancy ofRange(LocalTime start, LocalTime end) {
+        int from = Math.max(toMinute(start), DAY_START_MINUTE);
+        int to = Math.min(toMinute(end), DAY_END_MINUTE);
+        if (from >= to) {
+            return EMPTY;
+        }
+        int firstCell = (from - DAY_START_MINUTE) / CELL_MINUTES;
+        int endCell = (to - DAY_START_MINUTE + CELL_MINUTES - 1) / CELL_MINUTES;
+        return new DayOccupancy(rangeBits(firstCell, endCell));
+    }
+
+    /**
+     * 예약 목록의 점유 상태 (취소된 예약 제외)
+     */
+    public static DayOccupancy fromReservations(Collection<Reservation> reservations) {
+        long bits = 0L;
+        for (Reservation reservation : reservations) {
+            if (reservation.getStatus() != ReservationStatus.CANCELLED) {
+                bits |= ofRange(reservation.getStartTime(), reservation.getEndTime()).bits;
+            }
+        }
+        return new DayOccupancy(bits);
+    }
+
+    /**
+     * 시간표 중 해당 요일 수업의 점유 상태
+     */
+    public static DayOccupancy fromTimetable(Collection<TimetableEntry> entries, DayOfWeek dayOfWeek) {
+        long bits = 0L;
+        for (TimetableEntry entry : entries) {
+            if (entry.getDayOfWeek() == dayOfWeek) {
+                bits |= ofRange(entry.getStartTime(), entry.getEndTime()).bits;
+            }
+        }
+        return new DayOccupancy(bits);
+    }
+
+    /**
+     * TimeSlot 목록 중 예약 가능(AVAILABLE)이 아닌 슬롯의 점유 상태
+     */
+    public static DayOccupancy fromSlots(Collection<TimeSlot> slots) {
+        long bits = 0L;
+        for (TimeSlot slot : slots) {
+            if (slot.getStatus() != ReservationStatus.AVAILABLE) {
+                bits |= ofRange(slot.getStart(), slot.getEnd()).bits;
+            }
+        }
+        return new DayOccupancy(bits);
+    }
+
+    // ==================== Bit Operations ====================
+
+    public DayOccupancy or(DayOccupancy other) {
+        return new DayOccupancy(bits | other.bits);
+    }
+
+    public DayOccupancy and(DayOccupancy other) {
+        return new DayOccupancy(bits & other.bits);
+    }
+
+    /**
+     * 점유/비점유 반전 (비어 있는 셀 집합)
+     */
+    public DayOccupancy not() {
+        return new DayOccupancy(~bits);
+    }
+
+    public boolean overlaps(DayOccupancy other) {
+        return (bits & other.bits) != 0;
+    }
+
+    public boolean isEmpty() {
+        return bits == 0L;
+    }
+
+    public boolean isCellOccupied(int cell) {
+        return cell >= 0 && cell < CELLS && (bits & (1L << cell)) != 0;
+    }
+
+    /**
+     * [start, end) 구간이 모두 비어 있는지 확인
+     */
+    public boolean isFree(LocalTime start, LocalTime end) {
+        DayOccupancy range = ofRange(start, end);
+        return !range.isEmpty() && !overlaps(range);
+    }
+
+    public int occupiedCellCount() {
+        return Long.bitCount(bits);
+    }
+
+    public long bits() {
+        return bits;
+    }
+
+    // ==================== Free Run Search ====================
+
+    /**
+     * cell부터 연속으로 비어 있는 셀 수 (cell이 점유되어 있으면 0)
+     */
+    public int freeRunFrom(int cell) {
+        if (cell < 0 || cell >= CELLS) {
+            return 0;
+        }
+        long occupiedAfter = bits >>> cell;
+        int run = occupiedAfter == 0 ? CELLS - cell : Long.numberOfTrailingZeros(occupiedAfter);
+        return Math.min(run, CELLS - cell);
+    }
+
+    /**
+     * fromCell 이후 처음으로 minCells개 이상 연속으로 비어 있는 구간의 시작 셀 (없으면 -1)
+     */
+    public int firstFreeRun(int fromCell, int minCells) {
+        if (minCells <= 0) {
+            return Math.max(fromCell, 0);
+        }
+        // 빈 셀 마스크를 minCells-1번 자기 자신과 AND 하면 연속 구간의 시작 셀만 남음
+        long free = ~bits & ALL_CELLS;
+        long starts = free;
+        for (int i = 1; i < minCells && starts != 0; i++) {
+            starts &= free >>> i;
+        }
+        starts &= ALL_CELLS >>> (minCells - 1);
+        if (fromCell > 0) {
+            starts &= ~((1L << Math.min(fromCell, CELLS)) - 1);
+        }
+        return starts == 0 ? -1 : Long.numberOfTrailingZeros(starts);
+    }
+
+    /**
+     * 비어 있는 구간을 "예약 가능" TimeSlot 목록으로 변환
+     */
+    public List<TimeSlot> toAvailableSlots(LocalDate date) {
+        List<TimeSlot> slots = new ArrayList<>();
+        int cell = 0;
+        while (cell < CELLS) {
+            int run = freeRunFrom(cell);
+            if (run == 0) {
+                cell++;
+                continue;
+            }
+            slots.add(TimeSlot.available(date, timeOf(cell), timeOf(cell + run)));
+            cell += run;
+        }
+        return slots;
+    }
+
+    /**
+     * 점유 구간을 "14:00~15:30" 형태로 표현
+     */
+    public String describe() {
+        StringBuilder builder = new StringBuilder();
+        DayOccupancy free = not();
+        int cell = 0;
+        while (cell < CELLS) {
+            int run = free.freeRunFrom(cell);
+            if (run == 0) {
+                cell++;
+                continue;
+            }
+            if (builder.length() > 0) {
+                builder.append(", ");
+            }
+            builder.append(timeOf(cell)).append('~').append(timeOf(cell + run));
+            cell += run;
+        }
+        return builder.toString();
+    }
+
+    // ==================== Cell Conversion ====================
+
+    /**
+     * 시각이 속한 셀 번호 (운영 시간 밖이면 -1)
+     */
+    public static int cellOf(LocalTime time) {
+        int minute = toMinute(time);
+        if (minute < DAY_START_MINUTE || minute >= DAY_END_MINUTE) {
+            return -1;
+        }
+        return (minute - DAY_START_MINUTE) / CELL_MINUTES;
+    }
+
+    /**
+     * 셀 경계 시각 (cell == CELLS 이면 운영 종료 시각)
+     */
+    public static LocalTime timeOf(int cell) {
+        int minute = DAY_START_MINUTE + cell * CELL_MINUTES;
+        return LocalTime.of(minute / 60, minute % 60);
+    }
+
+    private static long rangeBits(int fromCell, int toCell) {
+        if (fromCell >= toCell) {
+            return 0L;
+        }
+        return ((1L << (toCell - fromCell)) - 1) << fromCell;
+    }
+
+    private static int toMinute(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DayOccupancy)) return false;
+        return bits == ((DayOccupancy) o).bits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(bits);
+    }
+
+    @Override
+    public String toString() {
+        return "DayOccupancy{" + describe() + "}";
+    }
+}
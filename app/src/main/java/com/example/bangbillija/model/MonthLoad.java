@@ -0,0 +1,60 @@
+package com.example.bangbillija.model;
+
+import java.time.YearMonth;
+
+/**
+ * 한 달의 날짜별 예약 수와 점유 셀 수 (캘린더 히트맵용 불변 값 타입)
+ * 점유 셀은 취소되지 않은 예약이 운영 시간(09:00~21:00)에서 차지하는 30분 셀 수의 합입니다.
+ */
+public final class MonthLoad {
+
+    private final YearMonth month;
+    // 인덱스 0 = 1일
+    private final int[] reservationCounts;
+    private final int[] occupiedCells;
+
+    public MonthLoad(YearMonth month, int[] reservationCounts, int[] occupiedCells) {
+        this.month = month;
+        this.reservationCounts = reservationCounts.clone();
+        this.occupiedCells = occupiedCells.clone();
+    }
+
+    public static MonthLoad empty(YearMonth month) {
+        int days = month.lengthOfMonth();
+        return new MonthLoad(month, new int[days], new int[days]);
+    }
+
+    public YearMonth getMonth() {
+        return month;
+    }
+
+    /**
+     * 해당 일의 예약 수 (취소 제외)
+     */
+    public int getReservationCount(int dayOfMonth) {
+        return reservationCounts[dayOfMonth - 1];
+    }
+
+    public int getOccupiedCells(int dayOfMonth) {
+        return occupiedCells[dayOfMonth - 1];
+    }
+
+    /**
+     * 해당 일의 이용률 (0~1, 강의실 수 x 하루 셀 수 대비 점유 셀 수)
+     */
+    public float utilization(int dayOfMonth, int roomCount) {
+        if (roomCount <= 0) {
+            return 0f;
+        }
+        float ratio = occupiedCells[dayOfMonth - 1] / (float) (roomCount * DayOccupancy.CELLS);
+        return Math.min(1f, ratio);
+    }
+
+    public int totalReservations() {
+        int total = 0;
+        for (int count : reservationCounts) {
+            total += count;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.bangbillija.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 서버 반영을 기다리는 예약 변경 (로컬 outbox 항목)
+ * id는 멱등 키로, 서버 문서의 lastMutationId와 같으면 이미 반영된 것으로 처리합니다.
+ * applyTo()는 서버 응답 전 화면에 보여 줄 예약 상태를 계산합니다.
+ */
+public class PendingMutation {
+
+    public enum Kind {
+        CREATE,
+        UPDATE,
+        CANCEL
+    }
+
+    private final String id;
+    private final Kind kind;
+    private final String reservationId;
+    // CREATE: 생성할 예약
+    private final Reservation reservation;
+    // UPDATE: 변경할 필드 (attendees, note, title, status)
+    private final Map<String, Object> updates;
+    // UPDATE/CANCEL: 변경을 요청한 시점의 상태 (서버 상태가 달라졌으면 충돌로 거절)
+    private final ReservationStatus expectedStatus;
+    private final String userId;
+    private final String userEmail;
+    private final long createdAt;
+
+    public PendingMutation(String id, Kind kind, String reservationId, Reservation reservation,
+                           Map<String, Object> updates, ReservationStatus expectedStatus,
+                           String userId, String userEmail, long createdAt) {
+        this.id = id;
+        this.kind = kind;
+        this.reservationId = reservationId;
+        this.reservation = reservation;
+        this.updates = updates == null ? Collections.emptyMap() : Collections.unmodifiableMap(new HashMap<>(updates));
+        this.expectedStatus = expectedStatus;
+        this.userId = userId;
+        this.userEmail = userEmail;
+        this.createdAt = createdAt;
+    }
+
+    public static PendingMutation create(Reservation reservation, String userId, String userEmail) {
+        return new PendingMutation(UUID.randomUUID().toString(), Kind.CREATE, reservation.getId(), reservation,
+                null, null, userId, userEmail, System.currentTimeMillis());
+    }
+
+    public static PendingMutation update(String reservationId, ReservationStatus expectedStatus, Map<String, Object> updates) {
+        return new PendingMutation(UUID.randomUUID().toString(), Kind.UPDATE, reservationId, null,
+                updates, expectedStatus, null, null, System.currentTimeMillis());
+    }
+
+    public static PendingMutation cancel(String reservationId, ReservationStatus expectedStatus) {
+        return new PendingMutation(UUID.randomUUID().toString(), Kind.CANCEL, reservationId, null,
+                null, expectedStatus, null, null, System.currentTimeMillis());
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public String getReservationId() {
+        return reservationId;
+    }
+
+    public Reservation getReservation() {
+        return reservation;
+    }
+
+    public Map<String, Object> getUpdates() {
+        return updates;
+    }
+
+    public ReservationStatus getExpectedStatus() {
+        return expectedStatus;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getUserEmail() {
+        return userEmail;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * 이 변경이 바꾸려는 예약 상태 (상태를 바꾸지 않으면 null)
+     */
+    public ReservationStatus targetStatus() {
+        if (kind == Kind.CANCEL) {
+            return ReservationStatus.CANCELLED;
+        }
+        Object status = updates.get("status");
+        if (status == null) {
+            return null;
+        }
+        try {
+            return ReservationStatus.valueOf(String.valueOf(status));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 기준 상태에 이 변경을 적용한 예약 (화면 표시용)
+     * @param base 서버(또는 앞선 변경)까지 반영된 예약, 없으면 null
+     * @return 적용 결과 (수정/취소할 예약이 없으면 null)
+     */
+    public Reservation applyTo(Reservation base) {
+        if (kind == Kind.CREATE) {
+            return reservation;
+        }
+        if (base == null) {
+            return null;
+        }
+        ReservationStatus status = targetStatus();
+        Object attendees = updates.get("attendees");
+        Object note = updates.get("note");
+        Object title = updates.get("title");
+        return new Reservation(
+                base.getId(),
+                base.getRoomId(),
+                base.getRoomName(),
+                title != null ? String.valueOf(title) : base.getTitle(),
+                base.getOwner(),
+                base.getOwnerStudentId(),
+                base.getDate(),
+                base.getStartTime(),
+                base.getEndTime(),
+                attendees instanceof Number ? ((Number) attendees).intValue() : base.getAttendees(),
+                status != null ? status : base.getStatus(),
+                note != null ? String.valueOf(note) : base.getNote()
+        );
+    }
+}
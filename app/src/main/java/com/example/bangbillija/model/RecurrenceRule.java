@@ -0,0 +1,124 @@
+package com.example.bangbillija.model;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 반복 예약 규칙 (매주/격주, 종료일까지, 제외 날짜 지정) - 불변 값 타입
+ * 첫 날짜의 요일에 intervalWeeks주 간격으로 반복하며, 발생 날짜는 저장하지 않고 조회 구간마다 계산합니다.
+ */
+public final class RecurrenceRule {
+
+    // 한 번에 만들 수 있는 최대 발생 수 (1년 매주 반복 수준, 발생마다 2개 문서를 쓰는 생성 트랜잭션이 쓰기 한도 500개 안에 들도록)
+    public static final int MAX_OCCURRENCES = 53;
+
+    private final LocalDate startDate;
+    private final LocalDate untilDate;
+    private final int intervalWeeks;
+    private final Set<LocalDate> exceptions;
+
+    /**
+     * @param startDate 첫 발생 날짜 (반복 요일 기준)
+     * @param untilDate 마지막으로 발생할 수 있는 날짜 (포함)
+     * @param intervalWeeks 1 = 매주, 2 = 격주
+     * @param exceptions 건너뛸 날짜
+     */
+    public RecurrenceRule(LocalDate startDate, LocalDate untilDate, int intervalWeeks, Collection<LocalDate> exceptions) {
+        if (intervalWeeks < 1) {
+            throw new IllegalArgumentException("반복 간격은 1주 이상이어야 합니다");
+        }
+        if (untilDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("반복 종료일이 시작일보다 빠릅니다");
+        }
+        this.startDate = startDate;
+        this.untilDate = untilDate;
+        this.intervalWeeks = intervalWeeks;
+        this.exceptions = Collections.unmodifiableSet(
+                exceptions == null ? new TreeSet<>() : new TreeSet<>(exceptions));
+    }
+
+    public static RecurrenceRule weekly(LocalDate startDate, LocalDate untilDate) {
+        return new RecurrenceRule(startDate, untilDate, 1, null);
+    }
+
+    public static RecurrenceRule biweekly(LocalDate startDate, LocalDate untilDate) {
+        return new RecurrenceRule(startDate, untilDate, 2, null);
+    }
+
+    /**
+     * 제외 날짜를 더한 규칙
+     */
+    public RecurrenceRule withExceptions(Collection<LocalDate> dates) {
+        Set<LocalDate> merged = new TreeSet<>(exceptions);
+        merged.addAll(dates);
+        return new RecurrenceRule(startDate, untilDate, intervalWeeks, merged);
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getUntilDate() {
+        return untilDate;
+    }
+
+    public int getIntervalWeeks() {
+        return intervalWeeks;
+    }
+
+    public Set<LocalDate> getExceptions() {
+        return exceptions;
+    }
+
+    /**
+     * [from, to] 구간의 발생 날짜 (오름차순)
+     * 구간 시작 직후의 발생 날짜로 바로 건너뛰므로 전체 반복을 펼치지 않습니다.
+     */
+    public List<LocalDate> occurrencesBetween(LocalDate from, LocalDate to) {
+        List<LocalDate> dates = new ArrayList<>();
+        LocalDate low = from.isAfter(startDate) ? from : startDate;
+        LocalDate high = to.isBefore(untilDate) ? to : untilDate;
+        if (low.isAfter(high)) {
+            return dates;
+        }
+        long step = 7L * intervalWeeks;
+        long offset = ChronoUnit.DAYS.between(startDate, low);
+        long periods = (offset + step - 1) / step;
+        for (LocalDate date = startDate.plusDays(periods * step); !date.isAfter(high); date = date.plusDays(step)) {
+            if (!exceptions.contains(date)) {
+                dates.add(date);
+            }
+        }
+        return dates;
+    }
+
+    /**
+     * 전체 발생 날짜
+     */
+    public List<LocalDate> occurrences() {
+        return occurrencesBetween(startDate, untilDate);
+    }
+
+    public boolean occursOn(LocalDate date) {
+        if (date.isBefore(startDate) || date.isAfter(untilDate) || exceptions.contains(date)) {
+            return false;
+        }
+        return ChronoUnit.DAYS.between(startDate, date) % (7L * intervalWeeks) == 0;
+    }
+
+    /**
+     * 화면 표시용 설명 (예: "매주 월요일, 2025-12-15까지")
+     */
+    public String describe() {
+        String[] days = {"월", "화", "수", "목", "금", "토", "일"};
+        String day = days[startDate.getDayOfWeek().getValue() - 1];
+        String interval = intervalWeeks == 1 ? "매주" : intervalWeeks == 2 ? "격주" : intervalWeeks + "주마다";
+        return interval + " " + day + "요일, " + untilDate + "까지";
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.bangbillija.model;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 반복 예약 (강의실/시간/내용 + 반복 규칙)
+ * 서버에는 reservation_series 문서 하나로 저장하고, 각 날짜의 예약은 규칙에서 필요한 구간만 펼쳐 만듭니다.
+ * 펼친 예약의 ID는 "{시리즈 ID}-{yyyyMMdd}"로 고정되어 같은 날짜를 다시 펼쳐도 같은 문서를 가리킵니다.
+ */
+public class ReservationSeries {
+
+    private static final DateTimeFormatter ID_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final String id;
+    private final String roomId;
+    private final String roomName;
+    private final String title;
+    private final String owner;
+    private final String ownerStudentId;  // 예약자 학번
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+    private final int attendees;
+    private final String note;
+    private final RecurrenceRule rule;
+
+    public ReservationSeries(String id, String roomId, String roomName, String title, String owner,
+                             String ownerStudentId, LocalTime startTime, LocalTime endTime,
+                             int attendees, String note, RecurrenceRule rule) {
+        this.id = id;
+        this.roomId = roomId;
+        this.roomName = roomName;
+        this.title = title;
+        this.owner = owner;
+        this.ownerStudentId = ownerStudentId;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.attendees = attendees;
+        this.note = note;
+        this.rule = rule;
+    }
+
+    /**
+     * 규칙만 바꾼 시리즈 (충돌 날짜 제외 후 다시 예약할 때)
+     */
+    public ReservationSeries withRule(RecurrenceRule newRule) {
+        return new ReservationSeries(id, roomId, roomName, title, owner, ownerStudentId,
+                startTime, endTime, attendees, note, newRule);
+    }
+
+    public String occurrenceId(LocalDate date) {
+        return id + "-" + date.format(ID_DATE_FORMAT);
+    }
+
+    /**
+     * [from, to] 구간의 예약 (날짜 오름차순, 상태는 RESERVED)
+     */
+    public List<Reservation> occurrencesBetween(LocalDate from, LocalDate to) {
+        List<LocalDate> dates = rule.occurrencesBetween(from, to);
+        List<Reservation> occurrences = new ArrayList<>(dates.size());
+        for (LocalDate date : dates) {
+            occurrences.add(new Reservation(occurrenceId(date), roomId, roomName, title, owner, ownerStudentId,
+                    date, startTime, endTime, attendees, ReservationStatus.RESERVED, note));
+        }
+        return occurrences;
+    }
+
+    /**
+     * 전체 기간의 예약
+     */
+    public List<Reservation> occurrences() {
+        return occurrencesBetween(rule.getStartDate(), rule.getUntilDate());
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getRoomId() {
+        return roomId;
+    }
+
+    public String getRoomName() {
+        return roomName;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public String getOwnerStudentId() {
+        return ownerStudentId;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    public int getAttendees() {
+        return attendees;
+    }
+
+    public String getNote() {
+        return note;
+    }
+
+    public RecurrenceRule getRule() {
+        return rule;
+    }
+}
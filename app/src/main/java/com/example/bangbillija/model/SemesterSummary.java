@@ -0,0 +1,37 @@
+package com.example.bangbillija.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 학기 목록(semesters 컬렉션)의 한 항목
+ * 시간표 전체를 읽지 않고도 학기 선택 화면을 구성할 수 있도록 학기별 집계를 보관합니다.
+ */
+public class SemesterSummary {
+    private final String semester;
+    private final int entryCount;
+    private final int roomCount;
+    private final LocalDateTime updatedAt; // 서버 반영 전이면 null
+
+    public SemesterSummary(String semester, int entryCount, int roomCount, LocalDateTime updatedAt) {
+        this.semester = semester;
+        this.entryCount = entryCount;
+        this.roomCount = roomCount;
+        this.updatedAt = updatedAt;
+    }
+
+    public String getSemester() {
+        return semester;
+    }
+
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    public int getRoomCount() {
+        return roomCount;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -28,7 +28,11 @@ public class AuthManager {
     private final Set<String> adminEmails = new HashSet<>(FALLBACK_ADMIN_EMAILS);
     private boolean adminListLoaded = false;
 
+    // 로그인 사용자 또는 관리자 여부가 바뀔 때 호출되는 리스너
+    private final List<Runnable> roleChangeListeners = new ArrayList<>();
+
     private AuthManager() {
+        auth.addAuthStateListener(firebaseAuth -> notifyRoleChanged());
         loadAdminList();
     }
 
@@ -61,6 +65,7 @@ public class AuthManager {
                     }
                     adminListLoaded = true;
                     android.util.Log.d("AuthManager", "Admin list loaded: " + adminEmails.size() + " admins");
+                    notifyRoleChanged();
                 })
                 .addOnFailureListener(e -> {
                     android.util.Log.e("AuthManager", "Failed to load admin list, using fallback", e);
@@ -76,6 +81,19 @@ public class AuthManager {
         loadAdminList();
     }
 
+    /**
+     * 로그인/로그아웃 또는 관리자 목록 갱신 시 호출될 리스너를 등록합니다. (메인 스레드에서 호출됨)
+     */
+    public void addRoleChangeListener(Runnable listener) {
+        roleChangeListeners.add(listener);
+    }
+
+    private void notifyRoleChanged() {
+        for (Runnable listener : new ArrayList<>(roleChangeListeners)) {
+            listener.run();
+        }
+    }
+
     public FirebaseUser currentUser() {
         return auth.getCurrentUser();
     }
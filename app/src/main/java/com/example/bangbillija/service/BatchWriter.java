@@ -0,0 +1,172 @@
+package com.example.bangbillija.service;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.TaskCompletionSource;
+import com.google.firebase.firestore.DocumentReference;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.SetOptions;
+import com.google.firebase.firestore.WriteBatch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 500회 제한을 넘는 대량 쓰기를 여러 WriteBatch로 나누어 커밋합니다.
+ * 동시에 커밋 중인 배치 수를 제한하고, 실패한 배치는 같은 쓰기로 다시 만들어 재시도합니다.
+ * 서버에는 반영되었지만 클라이언트는 시간 초과로 받은 배치도 다시 커밋되므로,
+ * 두 번 반영되어도 결과가 같은 쓰기(문서 ID가 고정된 절대값 set/delete)만 담아야 합니다.
+ * FieldValue.increment/arrayUnion 같은 증감 값은 트랜잭션으로 따로 기록하세요.
+ * 배치 간 원자성은 없으므로 일부만 반영된 상태에서 실패할 수 있습니다.
+ * 커밋 결과 콜백은 메인 스레드에서 처리됩니다.
+ */
+public class BatchWriter {
+
+    public static final int MAX_OPS_PER_BATCH = 500;
+    static final int DEFAULT_MAX_IN_FLIGHT = 3;
+    static final int DEFAULT_MAX_ATTEMPTS = 3;
+    private static final long RETRY_BASE_DELAY_MILLIS = 500;
+
+    /**
+     * 진행 상황 콜백 (메인 스레드)
+     */
+    public interface ProgressListener {
+        void onProgress(int completedOps, int totalOps);
+    }
+
+    private interface Operation {
+        void addTo(WriteBatch batch);
+    }
+
+    private final FirebaseFirestore db;
+    private final List<Operation> operations = new ArrayList<>();
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+    private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+    private ProgressListener progressListener;
+
+    // 커밋 진행 상태 (메인 스레드에서만 접근)
+    private TaskCompletionSource<Integer> completion;
+    private int nextChunk;
+    private int inFlight;
+    private int completedOps;
+    private boolean failed;
+
+    public BatchWriter(FirebaseFirestore db) {
+        this.db = db;
+    }
+
+    public BatchWriter set(DocumentReference reference, Map<String, Object> data) {
+        operations.add(batch -> batch.set(reference, data));
+        return this;
+    }
+
+    public BatchWriter set(DocumentReference reference, Map<String, Object> data, SetOptions options) {
+        operations.add(batch -> batch.set(reference, data, options));
+        return this;
+    }
+
+    public BatchWriter delete(DocumentReference reference) {
+        operations.add(batch -> batch.delete(reference));
+        return this;
+    }
+
+    /**
+     * 동시에 커밋할 최대 배치 수 (기본 3)
+     */
+    public BatchWriter maxInFlight(int maxInFlight) {
+        this.maxInFlight = Math.max(1, maxInFlight);
+        return this;
+    }
+
+    /**
+     * 배치당 최대 시도 횟수 (기본 3)
+     */
+    public BatchWriter maxAttempts(int maxAttempts) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        return this;
+    }
+
+    public BatchWriter onProgress(ProgressListener progressListener) {
+        this.progressListener = progressListener;
+        return this;
+    }
+
+    public int size() {
+        return operations.size();
+    }
+
+    /**
+     * 모든 쓰기를 커밋합니다. (한 번만 호출)
+     * @return 전체 완료 시 쓰기 수를 돌려주는 Task, 재시도 후에도 실패한 배치가 있으면 그 예외로 실패
+     */
+    public Task<Integer> commit() {
+        if (completion != null) {
+            throw new IllegalStateException("BatchWriter.commit()은 한 번만 호출할 수 있습니다");
+        }
+        completion = new TaskCompletionSource<>();
+        if (operations.isEmpty()) {
+            completion.setResult(0);
+            return completion.getTask();
+        }
+        handler.post(this::launchChunks);
+        return completion.getTask();
+    }
+
+    private int chunkCount() {
+        return (operations.size() + MAX_OPS_PER_BATCH - 1) / MAX_OPS_PER_BATCH;
+    }
+
+    private void launchChunks() {
+        while (!failed && inFlight < maxInFlight && nextChunk < chunkCount()) {
+            commitChunk(nextChunk++, 1);
+        }
+    }
+
+    private void commitChunk(int chunk, int attempt) {
+        int from = chunk * MAX_OPS_PER_BATCH;
+        int to = Math.min(from + MAX_OPS_PER_BATCH, operations.size());
+        // WriteBatch는 한 번만 커밋할 수 있으므로 시도할 때마다 새로 구성
+        WriteBatch batch = db.batch();
+        for (int i = from; i < to; i++) {
+            operations.get(i).addTo(batch);
+        }
+        inFlight++;
+        batch.commit()
+                .addOnSuccessListener(aVoid -> {
+                    inFlight--;
+                    if (failed) {
+                        return;
+                    }
+                    completedOps += to - from;
+                    if (progressListener != null) {
+                        progressListener.onProgress(completedOps, operations.size());
+                    }
+                    if (completedOps == operations.size()) {
+                        completion.trySetResult(completedOps);
+                    } else {
+                        launchChunks();
+                    }
+                })
+                .addOnFailureListener(e -> {
+                    if (!failed && attempt < maxAttempts) {
+                        android.util.Log.w("BatchWriter", "Batch " + chunk + " failed (attempt " + attempt + "), retrying", e);
+                        // 슬롯은 유지한 채 지수 백오프 후 재시도
+                        handler.postDelayed(() -> {
+                            inFlight--;
+                            commitChunk(chunk, attempt + 1);
+                        }, RETRY_BASE_DELAY_MILLIS << (attempt - 1));
+                        return;
+                    }
+                    inFlight--;
+                    if (!failed) {
+                        failed = true;
+                        android.util.Log.e("BatchWriter", "Batch " + chunk + " failed after " + attempt + " attempts", e);
+                        completion.trySetException(e);
+                    }
+                });
+    }
+}
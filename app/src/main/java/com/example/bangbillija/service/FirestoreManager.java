@@ -1,15 +1,26 @@
 package com.example.bangbillija.service;
 
+import com.example.bangbillija.core.AppExecutors;
 import com.example.bangbillija.model.Reservation;
 import com.example.bangbillija.model.ReservationStatus;
 import com.example.bangbillija.model.Room;
 import com.example.bangbillija.model.RoomStatus;
+import com.example.bangbillija.model.SemesterSummary;
 import com.example.bangbillija.model.TimetableEntry;
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.Tasks;
 import com.google.firebase.Timestamp;
+import com.google.firebase.firestore.DocumentChange;
+import com.google.firebase.firestore.DocumentReference;
 import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FieldPath;
+import com.google.firebase.firestore.FieldValue;
 import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.FirebaseFirestoreException;
 import com.google.firebase.firestore.ListenerRegistration;
 import com.google.firebase.firestore.Query;
+import com.google.firebase.firestore.QuerySnapshot;
+import com.google.firebase.firestore.SetOptions;
 
 import java.time.DayOfWeek;
 import java.time.Instant;
@@ -17,10 +28,14 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public class FirestoreManager {
 
@@ -31,6 +46,24 @@ public class FirestoreManager {
     private static final String COLLECTION_RESERVATIONS = "reservations";
     private static final String COLLECTION_TIMETABLE = "timetable";
     private static final String COLLECTION_NOTIFICATIONS = "notifications";
+    private static final String COLLECTION_META = "meta";
+    // 학기별 집계 (문서 ID: 학기, 필드: semester, entryCount, roomIds, updatedAt)
+    private static final String COLLECTION_SEMESTERS = "semesters";
+    // 강의실별 학기 참조 수 (문서 ID: 강의실 ID, 필드: roomId, semesters{학기: 수업 수}, totalRefs)
+    private static final String COLLECTION_ROOM_REFS = "room_semester_refs";
+    private static final String DOC_MIGRATIONS = "migrations";
+    // 문서 ID whereIn 쿼리 한 번에 넣을 수 있는 최대 값 수
+    private static final int MAX_WHERE_IN = 30;
+    // 관리자 알림 한 페이지 크기
+    public static final int ADMIN_NOTIFICATION_PAGE_SIZE = 50;
+    private static final String FIELD_RESERVATION_ID_MIGRATION = "reservationDocumentIds";
+    private static final String FIELD_SEMESTER_CATALOG_MIGRATION = "semesterCatalog";
+    private static final String FIELD_ROOM_REFS_MIGRATION = "roomSemesterRefs";
+
+    // 예약 문서 ID 마이그레이션 완료 여부 (완료 전에는 삭제 시 기존 자동 ID 문서도 확인)
+    private volatile boolean reservationIdsMigrated = false;
+    // 학기 목록/강의실 참조 수 작성 완료 여부 (완료 전에는 시간표 전체로 한 번 작성)
+    private volatile boolean timetableIndexesReady = false;
 
     private FirestoreManager() {
         db = FirebaseFirestore.getInstance();
@@ -63,27 +96,12 @@ public class FirestoreManager {
 
     /**
      * 강의실 실시간 리스너 (다른 사용자의 변경사항 즉시 반영)
+     * 첫 스냅샷에는 전체 강의실이, 이후에는 변경된 문서만 전달됩니다. (getDocumentChanges 기반)
+     * 문서 변환은 파싱 스레드에서 수행되며 콜백도 파싱 스레드에서 호출됩니다.
      * @return ListenerRegistration (해제 시 remove() 호출)
      */
-    public ListenerRegistration listenToRooms(FirestoreCallback<List<Room>> callback) {
-        return db.collection(COLLECTION_ROOMS)
-                .addSnapshotListener((querySnapshot, error) -> {
-                    if (error != null) {
-                        callback.onFailure(error);
-                        return;
-                    }
-
-                    if (querySnapshot != null) {
-                        List<Room> rooms = new ArrayList<>();
-                        for (DocumentSnapshot doc : querySnapshot.getDocuments()) {
-                            Room room = documentToRoom(doc);
-                            if (room != null) {
-                                rooms.add(room);
-                            }
-                        }
-                        callback.onSuccess(rooms);
-                    }
-                });
+    public ListenerRegistration listenToRooms(FirestoreCallback<SyncBatch<Room>> callback) {
+        return listenToDocumentChanges(db.collection(COLLECTION_ROOMS), this::documentToRoom, callback);
     }
 
     public void addRoom(Room room, FirestoreCallback<Void> callback) {
@@ -131,15 +149,87 @@ public class FirestoreManager {
                 .addOnFailureListener(callback::onFailure);
     }
 
+    /**
+     * 주어진 강의실 ID 중 이미 등록된 ID만 조회
+     * 문서 ID whereIn 쿼리(최대 30개)로 나누어 동시에 조회합니다.
+     * 일부 조회라도 실패하면 전체를 실패로 처리합니다. (존재 여부를 모른 채 덮어쓰지 않도록)
+     */
+    public void findExistingRoomIds(Collection<String> roomIds, FirestoreCallback<Set<String>> callback) {
+        List<String> ids = new ArrayList<>(new LinkedHashSet<>(roomIds));
+        if (ids.isEmpty()) {
+            callback.onSuccess(new HashSet<>());
+            return;
+        }
+
+        getDocumentsById(COLLECTION_ROOMS, ids)
+                .addOnSuccessListener(documents -> {
+                    Set<String> existing = new HashSet<>();
+                    for (DocumentSnapshot doc : documents) {
+                        existing.add(doc.getId());
+                    }
+                    callback.onSuccess(existing);
+                })
+                .addOnFailureListener(callback::onFailure);
+    }
+
+    /**
+     * 문서 ID 목록으로 조회 (whereIn 최대 30개 단위로 나누어 동시에 조회, 없는 문서는 결과에서 빠짐)
+     */
+    private Task<List<DocumentSnapshot>> getDocumentsById(String collection, List<String> ids) {
+        List<Task<QuerySnapshot>> queries = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += MAX_WHERE_IN) {
+            List<String> chunk = ids.subList(from, Math.min(from + MAX_WHERE_IN, ids.size()));
+            queries.add(db.collection(collection)
+                    .whereIn(FieldPath.documentId(), new ArrayList<>(chunk))
+                    .get());
+        }
+        return Tasks.whenAllSuccess(queries).continueWith(task -> {
+            List<DocumentSnapshot> documents = new ArrayList<>();
+            for (Object result : task.getResult()) {
+                documents.addAll(((QuerySnapshot) result).getDocuments());
+            }
+            return documents;
+        });
+    }
+
+    /**
+     * 강의실 일괄 등록 (500개 단위 배치)
+     */
+    public void addRooms(List<Room> rooms, FirestoreCallback<Void> callback) {
+        if (rooms.isEmpty()) {
+            callback.onSuccess(null);
+            return;
+        }
+
+        BatchWriter writer = new BatchWriter(db);
+        for (Room room : rooms) {
+            writer.set(db.collection(COLLECTION_ROOMS).document(room.getId()), roomToMap(room));
+        }
+        writer.commit()
+                .addOnSuccessListener(count -> callback.onSuccess(null))
+                .addOnFailureListener(callback::onFailure);
+    }
+
     // ==================== Reservation Operations ====================
 
+    /**
+     * 예약 ID를 문서 ID로 사용하여 저장합니다. (이후 ID 기반 작업은 조회 없이 바로 문서에 접근)
+     * 같은 ID의 문서가 이미 있으면 덮어쓰지 않고 실패합니다.
+     */
     public void createReservation(Reservation reservation, String userId, String userEmail, FirestoreCallback<String> callback) {
         Map<String, Object> data = reservationToMap(reservation);
         data.put("userId", userId);
         data.put("ownerEmail", userEmail);
-        db.collection(COLLECTION_RESERVATIONS)
-                .add(data)
-                .addOnSuccessListener(documentReference -> callback.onSuccess(documentReference.getId()))
+        DocumentReference ref = db.collection(COLLECTION_RESERVATIONS).document(reservation.getId());
+        db.runTransaction(transaction -> {
+                    if (transaction.get(ref).exists()) {
+                        throw new FirebaseFirestoreException("이미 존재하는 예약 ID입니다: " + reservation.getId(),
+                                FirebaseFirestoreException.Code.ALREADY_EXISTS);
+                    }
+                    transaction.set(ref, data);
+                    return null;
+                })
+                .addOnSuccessListener(result -> callback.onSuccess(reservation.getId()))
                 .addOnFailureListener(callback::onFailure);
     }
 
@@ -165,54 +255,169 @@ public class FirestoreManager {
     }
 
     public void cancelReservationByReservationId(String reservationId, FirestoreCallback<Void> callback) {
+        Map<String, Object> updates = new HashMap<>();
+        updates.put("status", ReservationStatus.CANCELLED.name());
+        updateReservationByReservationId(reservationId, updates, callback);
+    }
+
+    /**
+     * 예약 삭제 (문서 ID = 예약 ID)
+     * 마이그레이션 전에는 자동 ID로 저장된 기존 문서가 있을 수 있으므로 조회 후 함께 삭제합니다.
+     */
+    public void deleteReservation(String reservationId, FirestoreCallback<Void> callback) {
         db.collection(COLLECTION_RESERVATIONS)
-                .whereEqualTo("id", reservationId)
-                .get()
-                .addOnSuccessListener(querySnapshot -> {
-                    if (querySnapshot.isEmpty()) {
-                        callback.onFailure(new Exception("예약을 찾을 수 없습니다"));
+                .document(reservationId)
+                .delete()
+                .addOnSuccessListener(aVoid -> {
+                    if (reservationIdsMigrated) {
+                        callback.onSuccess(null);
                         return;
                     }
-                    String documentId = querySnapshot.getDocuments().get(0).getId();
-                    cancelReservation(documentId, callback);
+                    deleteLegacyReservation(reservationId, callback);
                 })
                 .addOnFailureListener(callback::onFailure);
     }
 
-    public void deleteReservation(String reservationId, FirestoreCallback<Void> callback) {
+    private void deleteLegacyReservation(String reservationId, FirestoreCallback<Void> callback) {
         db.collection(COLLECTION_RESERVATIONS)
                 .whereEqualTo("id", reservationId)
                 .get()
                 .addOnSuccessListener(querySnapshot -> {
-                    if (querySnapshot.isEmpty()) {
-                        callback.onFailure(new Exception("예약을 찾을 수 없습니다"));
-                        return;
+                    BatchWriter writer = new BatchWriter(db);
+                    for (DocumentSnapshot doc : querySnapshot.getDocuments()) {
+                        writer.delete(doc.getReference());
                     }
-                    String documentId = querySnapshot.getDocuments().get(0).getId();
-                    db.collection(COLLECTION_RESERVATIONS)
-                            .document(documentId)
-                            .delete()
-                            .addOnSuccessListener(aVoid -> callback.onSuccess(null))
+                    writer.commit()
+                            .addOnSuccessListener(count -> callback.onSuccess(null))
                             .addOnFailureListener(callback::onFailure);
                 })
                 .addOnFailureListener(callback::onFailure);
     }
 
+    /**
+     * 예약 ID로 바로 문서를 수정합니다. (한 번의 쓰기)
+     * 문서가 없으면(마이그레이션 전 자동 ID 문서) 예약 ID로 조회하여 수정합니다.
+     */
     public void updateReservationByReservationId(String reservationId, Map<String, Object> updates, FirestoreCallback<Void> callback) {
-        db.collection(COLLECTION_RESERVATIONS)
-                .whereEqualTo("id", reservationId)
-                .get()
-                .addOnSuccessListener(querySnapshot -> {
-                    if (querySnapshot.isEmpty()) {
-                        callback.onFailure(new Exception("예약을 찾을 수 없습니다"));
+        updateReservation(reservationId, updates, new FirestoreCallback<Void>() {
+            @Override
+            public void onSuccess(Void result) {
+                callback.onSuccess(null);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                if (!isNotFound(e)) {
+                    callback.onFailure(e);
+                    return;
+                }
+                db.collection(COLLECTION_RESERVATIONS)
+                        .whereEqualTo("id", reservationId)
+                        .get()
+                        .addOnSuccessListener(querySnapshot -> {
+                            if (querySnapshot.isEmpty()) {
+                                callback.onFailure(new Exception("예약을 찾을 수 없습니다"));
+                                return;
+                            }
+                            String documentId = querySnapshot.getDocuments().get(0).getId();
+                            updateReservation(documentId, updates, callback);
+                        })
+                        .addOnFailureListener(callback::onFailure);
+            }
+        });
+    }
+
+    private boolean isNotFound(Exception e) {
+        return e instanceof FirebaseFirestoreException
+                && ((FirebaseFirestoreException) e).getCode() == FirebaseFirestoreException.Code.NOT_FOUND;
+    }
+
+    /**
+     * 자동 ID로 저장된 기존 예약 문서를 예약 ID 문서로 옮기는 일회성 마이그레이션 (관리자 전용)
+     * 완료 여부는 meta/migrations 문서에 기록되어 이후에는 조회 한 번으로 끝납니다.
+     * @return 옮긴 문서 수
+     */
+    public void migrateReservationDocumentIds(FirestoreCallback<Integer> callback) {
+        DocumentReference marker = db.collection(COLLECTION_META).document(DOC_MIGRATIONS);
+        marker.get()
+                .addOnSuccessListener(markerDoc -> {
+                    if (Boolean.TRUE.equals(markerDoc.getBoolean(FIELD_RESERVATION_ID_MIGRATION))) {
+                        reservationIdsMigrated = true;
+                        callback.onSuccess(0);
                         return;
                     }
-                    String documentId = querySnapshot.getDocuments().get(0).getId();
-                    updateReservation(documentId, updates, callback);
+
+                    db.collection(COLLECTION_RESERVATIONS)
+                            .get()
+                            .addOnSuccessListener(querySnapshot -> {
+                                List<com.google.firebase.firestore.WriteBatch> batches = new ArrayList<>();
+                                com.google.firebase.firestore.WriteBatch batch = db.batch();
+                                int opsInBatch = 0;
+                                int moved = 0;
+
+                                for (DocumentSnapshot doc : querySnapshot.getDocuments()) {
+                                    String reservationId = doc.getString("id");
+                                    if (reservationId == null || reservationId.isEmpty()
+                                            || reservationId.equals(doc.getId()) || doc.getData() == null) {
+                                        continue;
+                                    }
+                                    // 복사 + 삭제 = 2회 쓰기 (배치당 최대 500회)
+                                    if (opsInBatch + 2 > 500) {
+                                        batches.add(batch);
+                                        batch = db.batch();
+                                        opsInBatch = 0;
+                                    }
+                                    // updatedAt을 갱신하여 증분 리스너가 새 문서를 확실히 받도록 함
+                                    Map<String, Object> data = new HashMap<>(doc.getData());
+                                    data.put("updatedAt", Timestamp.now());
+                                    batch.set(db.collection(COLLECTION_RESERVATIONS).document(reservationId), data);
+                                    batch.delete(doc.getReference());
+                                    opsInBatch += 2;
+                                    moved++;
+                                }
+                                Map<String, Object> markerData = new HashMap<>();
+                                markerData.put(FIELD_RESERVATION_ID_MIGRATION, true);
+                                markerData.put("updatedAt", Timestamp.now());
+                                if (opsInBatch + 1 > 500) {
+                                    batches.add(batch);
+                                    batch = db.batch();
+                                }
+                                // 마커는 마지막 배치에 함께 기록 (중간 실패 시 다음 실행에서 이어서 진행)
+                                batch.set(marker, markerData, SetOptions.merge());
+                                batches.add(batch);
+
+                                final int movedCount = moved;
+                                commitSequentially(batches, 0, new FirestoreCallback<Void>() {
+                                    @Override
+                                    public void onSuccess(Void result) {
+                                        reservationIdsMigrated = true;
+                                        android.util.Log.d("FirestoreManager",
+                                            "Migrated " + movedCount + " reservation documents to reservation-id keys");
+                                        callback.onSuccess(movedCount);
+                                    }
+
+                                    @Override
+                                    public void onFailure(Exception e) {
+                                        android.util.Log.e("FirestoreManager", "Reservation id migration failed", e);
+                                        callback.onFailure(e);
+                                    }
+                                });
+                            })
+                            .addOnFailureListener(callback::onFailure);
                 })
                 .addOnFailureListener(callback::onFailure);
     }
 
+    private void commitSequentially(List<com.google.firebase.firestore.WriteBatch> batches, int index, FirestoreCallback<Void> callback) {
+        if (index >= batches.size()) {
+            callback.onSuccess(null);
+            return;
+        }
+        batches.get(index).commit()
+                .addOnSuccessListener(aVoid -> commitSequentially(batches, index + 1, callback))
+                .addOnFailureListener(callback::onFailure);
+    }
+
     public void getReservationsForRoom(String roomId, LocalDate date, FirestoreCallback<List<Reservation>> callback) {
         String dateStr = date.toString();
         db.collection(COLLECTION_RESERVATIONS)
@@ -232,6 +437,119 @@ public class FirestoreManager {
                 .addOnFailureListener(callback::onFailure);
     }
 
+    /**
+     * 예약 ID(문서 ID) 목록으로 현재 예약 조회 (없는 문서는 결과에서 빠짐)
+     * 상태 필터 구독에서 범위를 벗어난 예약이 상태 변경인지 삭제인지 확인할 때 사용합니다.
+     * @return 예약 ID -> 예약
+     */
+    public void getReservationsByIds(Collection<String> reservationIds, FirestoreCallback<Map<String, Reservation>> callback) {
+        List<String> ids = new ArrayList<>(new LinkedHashSet<>(reservationIds));
+        if (ids.isEmpty()) {
+            callback.onSuccess(new HashMap<>());
+            return;
+        }
+
+        getDocumentsById(COLLECTION_RESERVATIONS, ids)
+                .addOnSuccessListener(documents -> {
+                    Map<String, Reservation> reservations = new HashMap<>();
+                    for (DocumentSnapshot doc : documents) {
+                        Reservation reservation = documentToReservation(doc);
+                        if (reservation != null) {
+                            reservations.put(doc.getId(), reservation);
+                        }
+                    }
+                    callback.onSuccess(reservations);
+                })
+                .addOnFailureListener(callback::onFailure);
+    }
+
+    /**
+     * 특정 강의실의 기간 내 예약 (취소 제외, 반복 예약 충돌 검사용)
+     * listenToRoomReservations와 같은 roomId + date 복합 인덱스를 사용합니다.
+     */
+    public void getReservationsForRoomBetween(String roomId, LocalDate from, LocalDate to, FirestoreCallback<List<Reservation>> callback) {
+        db.collection(COLLECTION_RESERVATIONS)
+                .whereEqualTo("roomId", roomId)
+                .whereGreaterThanOrEqualTo("date", from.toString())
+                .whereLessThanOrEqualTo("date", to.toString())
+                .get()
+                .addOnSuccessListener(querySnapshot -> {
+                    List<Reservation> reservations = new ArrayList<>();
+                    for (DocumentSnapshot doc : querySnapshot.getDocuments()) {
+                        Reservation reservation = documentToReservation(doc);
+                        if (reservation != null && reservation.getStatus() != ReservationStatus.CANCELLED) {
+                            reservations.add(reservation);
+                        }
+                    }
+                    callback.onSuccess(reservations);
+                })
+                .addOnFailureListener(callback::onFailure);
+    }
+
+    /**
+     * 예약 한 페이지 조회 (문서 커서 기반, 이력 길이와 관계없이 페이지 크기만큼만 읽음)
+     * 필요한 복합 인덱스는 FIRESTORE_STRUCTURE.md 참고
+     * @param after 이 문서 다음부터 (다음 페이지, null 가능)
+     * @param before 이 문서 직전까지 (이전 페이지, null 가능, after보다 우선)
+     */
+    public void getReservationPage(ReservationPageQuery pageQuery, DocumentSnapshot after, DocumentSnapshot before,
+                                   int limit, FirestoreCallback<ReservationPage> callback) {
+        Query query = db.collection(COLLECTION_RESERVATIONS);
+        if (pageQuery.getUserId() != null) {
+            query = query.whereEqualTo("userId", pageQuery.getUserId());
+        }
+        switch (pageQuery.getKind()) {
+            case PAST:
+                List<String> activeStatuses = new ArrayList<>();
+                for (ReservationStatus status : ReservationStatus.values()) {
+                    if (status != ReservationStatus.CANCELLED) {
+                        activeStatuses.add(status.name());
+                    }
+                }
+                query = query.whereIn("status", activeStatuses)
+                        .whereLessThan("date", pageQuery.getDate().toString());
+                break;
+            case CANCELLED:
+                query = query.whereEqualTo("status", ReservationStatus.CANCELLED.name());
+                break;
+            case ON_DATE:
+                query = query.whereEqualTo("date", pageQuery.getDate().toString());
+                break;
+        }
+        Query.Direction direction = pageQuery.isNewestFirst() ? Query.Direction.DESCENDING : Query.Direction.ASCENDING;
+        if (pageQuery.getKind() != ReservationPageQuery.Kind.ON_DATE) {
+            query = query.orderBy("date", direction);
+        }
+        query = query.orderBy("startTime", direction)
+                .orderBy(FieldPath.documentId(), direction);
+
+        if (before != null) {
+            query = query.endBefore(before).limitToLast(limit);
+        } else {
+            if (after != null) {
+                query = query.startAfter(after);
+            }
+            query = query.limit(limit);
+        }
+
+        query.get()
+                .addOnSuccessListener(querySnapshot -> {
+                    List<DocumentSnapshot> documents = querySnapshot.getDocuments();
+                    List<Reservation> reservations = new ArrayList<>(documents.size());
+                    for (DocumentSnapshot doc : documents) {
+                        Reservation reservation = documentToReservation(doc);
+                        if (reservation != null) {
+                            reservations.add(reservation);
+                        }
+                    }
+                    // 변환에 실패한 문서가 있어도 커서는 읽은 문서 기준
+                    DocumentSnapshot first = documents.isEmpty() ? null : documents.get(0);
+                    DocumentSnapshot last = documents.isEmpty() ? null : documents.get(documents.size() - 1);
+                    callback.onSuccess(new ReservationPage(reservations, first, last, documents.size() >= limit));
+                })
+                .addOnFailureListener(callback::onFailure);
+    }
+
     public void getReservationsByUser(String userId, FirestoreCallback<List<Reservation>> callback) {
         db.collection(COLLECTION_RESERVATIONS)
                 .whereEqualTo("userId", userId)
@@ -249,6 +567,30 @@ public class FirestoreManager {
                 .addOnFailureListener(callback::onFailure);
     }
 
+    /**
+     * 한 사용자의 특정 날짜/강의실 예약만 조회 (QR 체크인 인덱스가 준비되지 않았을 때, 취소 포함)
+     * 등호 조건만 사용하므로 전체 이력 크기와 관계없이 해당 날짜의 예약만 읽습니다.
+     */
+    public void getUserReservationsForRoomOnDate(String userId, String roomId, LocalDate date, FirestoreCallback<List<Reservation>> callback) {
+        db.collection(COLLECTION_RESERVATIONS)
+                .whereEqualTo("userId", userId)
+                .whereEqualTo("date", date.toString())
+                .whereEqualTo("roomId", roomId)
+                .get()
+                .addOnSuccessListener(querySnapshot -> {
+                    List<Reservation> reservations = new ArrayList<>();
+                    for (DocumentSnapshot doc : querySnapshot.getDocuments()) {
+                        Reservation reservation = documentToReservation(doc);
+                        if (reservation != null) {
+                            reservations.add(reservation);
+                        }
+                    }
+                    reservations.sort((r1, r2) -> r1.getStartTime().compareTo(r2.getStartTime()));
+                    callback.onSuccess(reservations);
+                })
+                .addOnFailureListener(callback::onFailure);
+    }
+
     public void getAllReservations(FirestoreCallback<List<Reservation>> callback) {
         db.collection(COLLECTION_RESERVATIONS)
                 .get()
@@ -267,27 +609,110 @@ public class FirestoreManager {
 
     /**
      * 예약 실시간 리스너 (다른 사용자의 변경사항 즉시 반영)
+     * 첫 스냅샷에는 전체 예약이, 이후에는 변경된 문서만 전달됩니다. (getDocumentChanges 기반)
+     * 문서 변환은 파싱 스레드에서 수행되며 콜백도 파싱 스레드에서 호출됩니다.
      * @return ListenerRegistration (해제 시 remove() 호출)
      */
-    public ListenerRegistration listenToReservations(FirestoreCallback<List<Reservation>> callback) {
-        return db.collection(COLLECTION_RESERVATIONS)
-                .addSnapshotListener((querySnapshot, error) -> {
-                    if (error != null) {
-                        callback.onFailure(error);
-                        return;
-                    }
+    public ListenerRegistration listenToReservations(FirestoreCallback<SyncBatch<Reservation>> callback) {
+        return listenToReservationChangesSince(0, callback);
+    }
 
-                    if (querySnapshot != null) {
-                        List<Reservation> reservations = new ArrayList<>();
-                        for (DocumentSnapshot doc : querySnapshot.getDocuments()) {
-                            Reservation reservation = documentToReservation(doc);
-                            if (reservation != null) {
-                                reservations.add(reservation);
-                            }
-                        }
-                        callback.onSuccess(reservations);
+    /**
+     * 워터마크 이후 변경된 예약만 구독하는 증분 리스너 (관리자 전체 범위)
+     * 첫 스냅샷에는 updatedAt이 워터마크보다 큰 문서 전체가, 이후에는 변경된 문서만 전달됩니다.
+     * 문서 변환은 파싱 스레드에서 수행되며 콜백도 파싱 스레드에서 호출됩니다.
+     * @param watermarkMillis 마지막으로 반영한 updatedAt (epoch millis), 0이면 전체 동기화
+     * @return ListenerRegistration (해제 시 remove() 호출)
+     */
+    public ListenerRegistration listenToReservationChangesSince(long watermarkMillis, FirestoreCallback<SyncBatch<Reservation>> callback) {
+        return listenToReservationChanges(db.collection(COLLECTION_RESERVATIONS), watermarkMillis, callback);
+    }
+
+    /**
+     * 특정 사용자의 예약만 구독하는 증분 리스너 (userId + updatedAt 복합 인덱스 필요)
+     */
+    public ListenerRegistration listenToUserReservationChanges(String userId, long watermarkMillis, FirestoreCallback<SyncBatch<Reservation>> callback) {
+        Query query = db.collection(COLLECTION_RESERVATIONS)
+                .whereEqualTo("userId", userId);
+        return listenToReservationChanges(query, watermarkMillis, callback);
+    }
+
+    /**
+     * 특정 상태의 예약만 구독하는 증분 리스너 (관리자 상태 필터, status + updatedAt 복합 인덱스 필요)
+     * 상태가 바뀌어 범위를 벗어난 예약도 삭제(removedIds)로 전달되므로, 실제 삭제 여부는 getReservationsByIds로 확인합니다.
+     */
+    public ListenerRegistration listenToReservationChangesByStatus(ReservationStatus status, long watermarkMillis, FirestoreCallback<SyncBatch<Reservation>> callback) {
+        Query query = db.collection(COLLECTION_RESERVATIONS)
+                .whereEqualTo("status", status.name());
+        return listenToReservationChanges(query, watermarkMillis, callback);
+    }
+
+    /**
+     * 특정 강의실의 기간 내 예약 구독 (roomId + date 복합 인덱스 필요)
+     * 날짜는 ISO 문자열로 저장되어 있으므로 문자열 범위 비교가 날짜 순서와 일치합니다.
+     */
+    public ListenerRegistration listenToRoomReservations(String roomId, LocalDate from, LocalDate to, FirestoreCallback<SyncBatch<Reservation>> callback) {
+        Query query = db.collection(COLLECTION_RESERVATIONS)
+                .whereEqualTo("roomId", roomId)
+                .whereGreaterThanOrEqualTo("date", from.toString())
+                .whereLessThanOrEqualTo("date", to.toString());
+        return listenToReservationChanges(query, 0, callback);
+    }
+
+    private ListenerRegistration listenToReservationChanges(Query query, long watermarkMillis, FirestoreCallback<SyncBatch<Reservation>> callback) {
+        if (watermarkMillis > 0) {
+            query = query.whereGreaterThan("updatedAt", new Timestamp(new Date(watermarkMillis)));
+        }
+        return listenToDocumentChanges(query, this::documentToReservation, callback);
+    }
+
+    /**
+     * 문서 변환 함수 (변환할 수 없는 문서는 null)
+     */
+    private interface DocumentMapper<T> {
+        T map(DocumentSnapshot doc);
+    }
+
+    /**
+     * getDocumentChanges()만 변환하여 SyncBatch로 전달하는 공통 리스너
+     * 전체 문서를 매번 다시 변환하지 않으므로 문서 하나가 바뀌면 그 문서만 변환됩니다.
+     * 항목 ID는 문서의 "id" 필드(없으면 문서 ID)를 사용합니다.
+     */
+    private <T> ListenerRegistration listenToDocumentChanges(Query query, DocumentMapper<T> mapper, FirestoreCallback<SyncBatch<T>> callback) {
+        final boolean[] first = {true};
+        return query.addSnapshotListener(AppExecutors.getInstance().parsing(), (querySnapshot, error) -> {
+            if (error != null) {
+                callback.onFailure(error);
+                return;
+            }
+
+            if (querySnapshot != null) {
+                SyncBatch<T> batch = new SyncBatch<>();
+                if (first[0]) {
+                    batch.markInitial();
+                    first[0] = false;
+                }
+                for (DocumentChange change : querySnapshot.getDocumentChanges()) {
+                    DocumentSnapshot doc = change.getDocument();
+                    String id = doc.getString("id");
+                    if (id == null) {
+                        id = doc.getId();
                     }
-                });
+                    if (change.getType() == DocumentChange.Type.REMOVED) {
+                        batch.addRemoval(id);
+                        continue;
+                    }
+                    T item = mapper.map(doc);
+                    if (item != null) {
+                        batch.addUpsert(id, item, updatedAtMillis(doc));
+                    } else if (change.getType() == DocumentChange.Type.MODIFIED) {
+                        // 수정 후 변환할 수 없게 된 문서는 목록에서 제거
+                        batch.addRemoval(id);
+                    }
+                }
+                callback.onSuccess(batch);
+            }
+        });
     }
 
     public void getReservationsByRoomAndDate(String roomId, LocalDate date, FirestoreCallback<List<Reservation>> callback) {
@@ -334,29 +759,48 @@ public class FirestoreManager {
 
     public void addTimetableEntry(TimetableEntry entry, FirestoreCallback<Void> callback) {
         Map<String, Object> data = timetableEntryToMap(entry);
-        db.collection(COLLECTION_TIMETABLE)
-                .document(entry.getId())
-                .set(data)
+        com.google.firebase.firestore.WriteBatch batch = db.batch();
+        batch.set(db.collection(COLLECTION_TIMETABLE).document(entry.getId()), data);
+        // 학기 목록 집계와 강의실 참조 수도 같은 배치로 갱신
+        List<TimetableEntry> added = java.util.Collections.singletonList(entry);
+        for (Map.Entry<String, Map<String, Object>> delta : semesterDeltas(added).entrySet()) {
+            batch.set(semesterDocument(delta.getKey()), delta.getValue(), SetOptions.merge());
+        }
+        for (Map.Entry<String, Map<String, Object>> delta : roomRefDeltas(added).entrySet()) {
+            batch.set(db.collection(COLLECTION_ROOM_REFS).document(delta.getKey()), delta.getValue(), SetOptions.merge());
+        }
+        batch.commit()
                 .addOnSuccessListener(aVoid -> callback.onSuccess(null))
                 .addOnFailureListener(callback::onFailure);
     }
 
     public void addTimetableEntries(List<TimetableEntry> entries, FirestoreCallback<Void> callback) {
+        addTimetableEntries(entries, null, callback);
+    }
+
+    /**
+     * 시간표 일괄 저장 (500개 단위 배치로 나누어 동시 커밋 수를 제한하며 저장)
+     * 배치 간 원자성은 없으나 문서 ID가 고정되어 있어 실패 후 다시 저장해도 중복되지 않습니다.
+     * @param progress 진행 상황 콜백 (null 가능, 메인 스레드)
+     */
+    public void addTimetableEntries(List<TimetableEntry> entries, BatchWriter.ProgressListener progress, FirestoreCallback<Void> callback) {
         if (entries.isEmpty()) {
             callback.onSuccess(null);
             return;
         }
 
-        // Firestore batch write (최대 500개)
-        com.google.firebase.firestore.WriteBatch batch = db.batch();
+        BatchWriter writer = new BatchWriter(db).onProgress(progress);
         for (TimetableEntry entry : entries) {
-            Map<String, Object> data = timetableEntryToMap(entry);
-            batch.set(db.collection(COLLECTION_TIMETABLE).document(entry.getId()), data);
+            writer.set(db.collection(COLLECTION_TIMETABLE).document(entry.getId()), timetableEntryToMap(entry));
         }
 
-        batch.commit()
-                .addOnSuccessListener(aVoid -> callback.onSuccess(null))
-                .addOnFailureListener(callback::onFailure);
+        // 학기 목록 집계와 강의실 참조 수는 증감 대신 저장이 끝난 뒤 학기 시간표를 다시 세어 기록 (재시도/일부 실패에도 실제 수와 일치)
+        writer.commit()
+                .addOnSuccessListener(count -> recountSemesters(entries)
+                        .addOnSuccessListener(aVoid -> callback.onSuccess(null))
+                        .addOnFailureListener(callback::onFailure))
+                .addOnFailureListener(e -> recountSemesters(entries)
+                        .addOnCompleteListener(recount -> callback.onFailure(e)));
     }
 
     public void getAllTimetableEntries(FirestoreCallback<List<TimetableEntry>> callback) {
@@ -377,32 +821,37 @@ public class FirestoreManager {
 
     /**
      * 시간표 실시간 리스너 (다른 사용자의 변경사항 즉시 반영)
+     * 첫 스냅샷에는 전체 시간표가, 이후에는 변경된 문서만 전달됩니다. (getDocumentChanges 기반)
+     * 문서 변환은 파싱 스레드에서 수행되며 콜백도 파싱 스레드에서 호출됩니다.
      * @return ListenerRegistration (해제 시 remove() 호출)
      */
-    public ListenerRegistration listenToTimetableEntries(FirestoreCallback<List<TimetableEntry>> callback) {
-        return db.collection(COLLECTION_TIMETABLE)
-                .addSnapshotListener((querySnapshot, error) -> {
-                    if (error != null) {
-                        callback.onFailure(error);
-                        return;
-                    }
+    public ListenerRegistration listenToTimetableEntries(FirestoreCallback<SyncBatch<TimetableEntry>> callback) {
+        return listenToDocumentChanges(db.collection(COLLECTION_TIMETABLE), this::documentToTimetableEntry, callback);
+    }
 
-                    if (querySnapshot != null) {
-                        List<TimetableEntry> entries = new ArrayList<>();
-                        for (DocumentSnapshot doc : querySnapshot.getDocuments()) {
-                            TimetableEntry entry = documentToTimetableEntry(doc);
-                            if (entry != null) {
-                                entries.add(entry);
-                            }
+    public void getTimetableEntriesForRoom(String roomId, FirestoreCallback<List<TimetableEntry>> callback) {
+        db.collection(COLLECTION_TIMETABLE)
+                .whereEqualTo("roomId", roomId)
+                .get()
+                .addOnSuccessListener(querySnapshot -> {
+                    List<TimetableEntry> entries = new ArrayList<>();
+                    for (DocumentSnapshot doc : querySnapshot.getDocuments()) {
+                        TimetableEntry entry = documentToTimetableEntry(doc);
+                        if (entry != null) {
+                            entries.add(entry);
                         }
-                        callback.onSuccess(entries);
                     }
-                });
+                    callback.onSuccess(entries);
+                })
+                .addOnFailureListener(callback::onFailure);
     }
 
-    public void getTimetableEntriesForRoom(String roomId, FirestoreCallback<List<TimetableEntry>> callback) {
+    /**
+     * 해당 요일의 모든 강의실 수업 (강의실 찾기에서 요일 점유 계산용)
+     */
+    public void getTimetableEntriesForDay(DayOfWeek dayOfWeek, FirestoreCallback<List<TimetableEntry>> callback) {
         db.collection(COLLECTION_TIMETABLE)
-                .whereEqualTo("roomId", roomId)
+                .whereEqualTo("dayOfWeek", dayOfWeek.name())
                 .get()
                 .addOnSuccessListener(querySnapshot -> {
                     List<TimetableEntry> entries = new ArrayList<>();
@@ -435,24 +884,61 @@ public class FirestoreManager {
                 .addOnFailureListener(callback::onFailure);
     }
 
+    /**
+     * 시간표 단건 삭제
+     * 학기 목록의 수업 수와 강의실 참조 수는 같은 트랜잭션에서 현재 값을 읽어 하나 줄인 절대값으로 기록합니다.
+     * (이미 지워진 수업이면 아무것도 바꾸지 않으므로 재시도해도 두 번 줄지 않음)
+     */
     public void deleteTimetableEntry(String entryId, FirestoreCallback<Void> callback) {
-        db.collection(COLLECTION_TIMETABLE)
-                .document(entryId)
-                .delete()
-                .addOnSuccessListener(aVoid -> callback.onSuccess(null))
+        DocumentReference entryRef = db.collection(COLLECTION_TIMETABLE).document(entryId);
+        db.runTransaction(transaction -> {
+                    DocumentSnapshot doc = transaction.get(entryRef);
+                    if (!doc.exists()) {
+                        return null;
+                    }
+                    String semester = doc.getString("semester");
+                    String roomId = doc.getString("roomId");
+                    DocumentSnapshot semesterDoc = null;
+                    DocumentSnapshot refDoc = null;
+                    if (semester != null && !semester.isEmpty()) {
+                        semesterDoc = transaction.get(semesterDocument(semester));
+                        if (roomId != null && !roomId.isEmpty()) {
+                            refDoc = transaction.get(db.collection(COLLECTION_ROOM_REFS).document(roomId));
+                        }
+                    }
+
+                    transaction.delete(entryRef);
+                    // 집계 문서가 없으면(이전 버전 데이터) 첫 조회 때 시간표 전체로 작성됨
+                    if (semesterDoc != null && semesterDoc.exists()) {
+                        Long entryCount = semesterDoc.getLong("entryCount");
+                        Map<String, Object> data = new HashMap<>();
+                        data.put("entryCount", Math.max(0L, (entryCount != null ? entryCount : 0L) - 1));
+                        data.put("updatedAt", Timestamp.now());
+                        transaction.set(semesterDoc.getReference(), data, SetOptions.merge());
+                    }
+                    if (refDoc != null && refDoc.exists()) {
+                        transaction.set(refDoc.getReference(),
+                                roomRefData(refDoc, semester, semesterRefCount(refDoc, semester) - 1), SetOptions.merge());
+                    }
+                    return null;
+                })
+                .addOnSuccessListener(result -> callback.onSuccess(null))
                 .addOnFailureListener(callback::onFailure);
     }
 
     public void deleteAllTimetableEntries(FirestoreCallback<Void> callback) {
-        db.collection(COLLECTION_TIMETABLE)
-                .get()
-                .addOnSuccessListener(querySnapshot -> {
-                    com.google.firebase.firestore.WriteBatch batch = db.batch();
-                    for (DocumentSnapshot doc : querySnapshot.getDocuments()) {
-                        batch.delete(doc.getReference());
+        Tasks.whenAllSuccess(db.collection(COLLECTION_TIMETABLE).get(), db.collection(COLLECTION_SEMESTERS).get(),
+                        db.collection(COLLECTION_ROOM_REFS).get())
+                .addOnSuccessListener(results -> {
+                    // 시간표와 학기 목록, 강의실 참조 수를 함께 삭제
+                    BatchWriter writer = new BatchWriter(db);
+                    for (Object result : results) {
+                        for (DocumentSnapshot doc : ((QuerySnapshot) result).getDocuments()) {
+                            writer.delete(doc.getReference());
+                        }
                     }
-                    batch.commit()
-                            .addOnSuccessListener(aVoid -> callback.onSuccess(null))
+                    writer.commit()
+                            .addOnSuccessListener(count -> callback.onSuccess(null))
                             .addOnFailureListener(callback::onFailure);
                 })
                 .addOnFailureListener(callback::onFailure);
@@ -477,60 +963,60 @@ public class FirestoreManager {
 
     /**
      * 학기별 시간표 실시간 리스너 (다른 사용자의 변경사항 즉시 반영)
+     * 첫 스냅샷에는 해당 학기 전체가, 이후에는 변경된 문서만 전달됩니다. (getDocumentChanges 기반)
+     * 문서 변환은 파싱 스레드에서 수행되며 콜백도 파싱 스레드에서 호출됩니다.
      * @return ListenerRegistration (해제 시 remove() 호출)
      */
-    public ListenerRegistration listenToTimetableEntriesBySemester(String semester, FirestoreCallback<List<TimetableEntry>> callback) {
-        return db.collection(COLLECTION_TIMETABLE)
-                .whereEqualTo("semester", semester)
-                .addSnapshotListener((querySnapshot, error) -> {
-                    if (error != null) {
-                        callback.onFailure(error);
-                        return;
-                    }
-
-                    if (querySnapshot != null) {
-                        List<TimetableEntry> entries = new ArrayList<>();
-                        for (DocumentSnapshot doc : querySnapshot.getDocuments()) {
-                            TimetableEntry entry = documentToTimetableEntry(doc);
-                            if (entry != null) {
-                                entries.add(entry);
-                            }
-                        }
-                        callback.onSuccess(entries);
-                    }
-                });
+    public ListenerRegistration listenToTimetableEntriesBySemester(String semester, FirestoreCallback<SyncBatch<TimetableEntry>> callback) {
+        return listenToDocumentChanges(db.collection(COLLECTION_TIMETABLE).whereEqualTo("semester", semester),
+                this::documentToTimetableEntry, callback);
     }
 
     public void deleteTimetableEntriesBySemester(String semester, FirestoreCallback<Void> callback) {
-        // 1단계: 해당 학기의 시간표에 사용된 강의실 ID 목록 추출
+        // 강의실 참조 수가 작성되어 있어야 사용되지 않는 강의실을 판단할 수 있음
+        ensureTimetableIndexes(new FirestoreCallback<List<SemesterSummary>>() {
+            @Override
+            public void onSuccess(List<SemesterSummary> catalog) {
+                deleteSemesterEntries(semester, callback);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                callback.onFailure(e);
+            }
+        });
+    }
+
+    private void deleteSemesterEntries(String semester, FirestoreCallback<Void> callback) {
+        // 1단계: 해당 학기의 시간표와 강의실별 수업 수 조회
         db.collection(COLLECTION_TIMETABLE)
                 .whereEqualTo("semester", semester)
                 .get()
                 .addOnSuccessListener(querySnapshot -> {
-                    // 시간표에 사용된 강의실 ID 수집
-                    java.util.Set<String> roomIdsToCheck = new java.util.HashSet<>();
+                    Map<String, Integer> roomCounts = new HashMap<>();
                     for (DocumentSnapshot doc : querySnapshot.getDocuments()) {
                         String roomId = doc.getString("roomId");
                         if (roomId != null && !roomId.isEmpty()) {
-                            roomIdsToCheck.add(roomId);
+                            roomCounts.merge(roomId, 1, Integer::sum);
                         }
                     }
 
                     android.util.Log.d("FirestoreManager",
                         "Deleting semester " + semester + ", found " + querySnapshot.size() +
-                        " timetable entries with rooms: " + roomIdsToCheck);
+                        " timetable entries in " + roomCounts.size() + " rooms");
 
-                    // 2단계: 시간표 삭제
-                    com.google.firebase.firestore.WriteBatch batch = db.batch();
+                    // 2단계: 시간표 삭제 (500개 단위 배치)
+                    BatchWriter writer = new BatchWriter(db);
                     for (DocumentSnapshot doc : querySnapshot.getDocuments()) {
-                        batch.delete(doc.getReference());
+                        writer.delete(doc.getReference());
                     }
-                    batch.commit()
-                            .addOnSuccessListener(aVoid -> {
+                    writer.delete(semesterDocument(semester));
+                    writer.commit()
+                            .addOnSuccessListener(count -> {
                                 android.util.Log.d("FirestoreManager",
                                     "Successfully deleted " + querySnapshot.size() + " timetable entries for semester " + semester);
-                                // 3단계: 다른 학기에서 사용되지 않는 강의실 삭제
-                                deleteUnusedRooms(roomIdsToCheck, semester, callback);
+                                // 3단계: 참조 수를 줄이고 더 이상 참조되지 않는 강의실 삭제
+                                releaseRoomRefs(roomCounts, semester, callback);
                             })
                             .addOnFailureListener(e -> {
                                 android.util.Log.e("FirestoreManager",
@@ -546,55 +1032,49 @@ public class FirestoreManager {
     }
 
     /**
-     * 특정 학기 삭제 후 다른 학기의 시간표에서 사용되지 않는 강의실 삭제
+     * 삭제된 학기의 강의실 참조를 지운 뒤 사용되지 않는 강의실 삭제
+     * 시간표 삭제가 끝난 뒤에만 지우므로, 중간에 실패하면 참조 수가 남아 강의실이 보존됩니다.
      */
-    private void deleteUnusedRooms(java.util.Set<String> roomIds, String deletedSemester, FirestoreCallback<Void> callback) {
-        if (roomIds.isEmpty()) {
+    private void releaseRoomRefs(Map<String, Integer> roomCounts, String deletedSemester, FirestoreCallback<Void> callback) {
+        if (roomCounts.isEmpty()) {
             android.util.Log.d("FirestoreManager",
                 "No rooms to check for deletion (semester " + deletedSemester + " had no rooms)");
             callback.onSuccess(null);
             return;
         }
 
-        android.util.Log.d("FirestoreManager",
-            "Checking if rooms can be deleted: " + roomIds);
-
-        // 모든 시간표 조회 (삭제된 학기의 시간표는 이미 삭제됨)
-        db.collection(COLLECTION_TIMETABLE)
-                .get()
-                .addOnSuccessListener(querySnapshot -> {
-                    android.util.Log.d("FirestoreManager",
-                        "Found " + querySnapshot.size() + " remaining timetable entries");
-
-                    // 다른 학기에서 사용 중인 강의실 ID 수집 (학기가 null인 항목은 제외)
-                    java.util.Set<String> usedRoomIds = new java.util.HashSet<>();
-                    for (DocumentSnapshot doc : querySnapshot.getDocuments()) {
-                        String roomId = doc.getString("roomId");
-                        String semester = doc.getString("semester");
+        Map<String, Integer> released = new HashMap<>();
+        for (String roomId : roomCounts.keySet()) {
+            released.put(roomId, 0);
+        }
+        setRoomRefCounts(deletedSemester, released)
+                .addOnSuccessListener(aVoid -> deleteUnusedRooms(new ArrayList<>(roomCounts.keySet()), callback))
+                .addOnFailureListener(e -> {
+                    android.util.Log.e("FirestoreManager", "Failed to update room references", e);
+                    callback.onFailure(e);
+                });
+    }
 
-                        // 학기가 null이 아닌 경우만 사용 중으로 간주
-                        if (roomId != null && !roomId.isEmpty() && semester != null) {
-                            usedRoomIds.add(roomId);
-                            android.util.Log.d("FirestoreManager",
-                                "Room " + roomId + " is still used in semester " + semester);
-                        } else if (semester == null) {
-                            android.util.Log.d("FirestoreManager",
-                                "Ignoring room " + roomId + " with null semester (invalid data)");
-                        }
+    /**
+     * 주어진 강의실 중 어느 학기에서도 참조하지 않는 강의실 삭제 (참조 수 문서만 조회)
+     */
+    private void deleteUnusedRooms(List<String> roomIds, FirestoreCallback<Void> callback) {
+        getDocumentsById(COLLECTION_ROOM_REFS, roomIds)
+                .addOnSuccessListener(refDocs -> {
+                    Map<String, DocumentSnapshot> refsById = new HashMap<>();
+                    for (DocumentSnapshot doc : refDocs) {
+                        refsById.put(doc.getId(), doc);
                     }
 
-                    android.util.Log.d("FirestoreManager",
-                        "Rooms still in use: " + usedRoomIds);
-
-                    // 다른 학기 시간표에서 사용되지 않는 강의실 찾기
                     List<String> roomsToDelete = new ArrayList<>();
                     for (String roomId : roomIds) {
-                        if (!usedRoomIds.contains(roomId)) {
+                        DocumentSnapshot ref = refsById.get(roomId);
+                        Long totalRefs = ref != null ? ref.getLong("totalRefs") : null;
+                        if (totalRefs == null || totalRefs <= 0) {
                             roomsToDelete.add(roomId);
                         }
                     }
 
-                    // 강의실 삭제
                     if (roomsToDelete.isEmpty()) {
                         android.util.Log.d("FirestoreManager",
                             "No unused rooms to delete (all rooms are used in other semesters)");
@@ -605,14 +1085,15 @@ public class FirestoreManager {
                     android.util.Log.d("FirestoreManager",
                         "Will delete " + roomsToDelete.size() + " unused rooms: " + roomsToDelete);
 
-                    com.google.firebase.firestore.WriteBatch deleteBatch = db.batch();
+                    BatchWriter writer = new BatchWriter(db);
                     for (String roomId : roomsToDelete) {
-                        deleteBatch.delete(db.collection(COLLECTION_ROOMS).document(roomId));
+                        writer.delete(db.collection(COLLECTION_ROOMS).document(roomId));
+                        writer.delete(db.collection(COLLECTION_ROOM_REFS).document(roomId));
                     }
-                    deleteBatch.commit()
-                            .addOnSuccessListener(aVoid -> {
+                    writer.commit()
+                            .addOnSuccessListener(count -> {
                                 android.util.Log.d("FirestoreManager",
-                                    "Successfully deleted " + roomsToDelete.size() + " unused rooms: " + roomsToDelete);
+                                    "Successfully deleted " + roomsToDelete.size() + " unused rooms");
                                 callback.onSuccess(null);
                             })
                             .addOnFailureListener(e -> {
@@ -623,31 +1104,372 @@ public class FirestoreManager {
                 })
                 .addOnFailureListener(e -> {
                     android.util.Log.e("FirestoreManager",
-                        "Failed to query remaining timetable entries", e);
+                        "Failed to query room references", e);
                     callback.onFailure(e);
                 });
     }
 
+    /**
+     * 학기 이름 목록 (최신 학기부터)
+     */
     public void getAllSemesters(FirestoreCallback<List<String>> callback) {
+        getSemesterCatalog(new FirestoreCallback<List<SemesterSummary>>() {
+            @Override
+            public void onSuccess(List<SemesterSummary> catalog) {
+                List<String> semesters = new ArrayList<>(catalog.size());
+                for (SemesterSummary summary : catalog) {
+                    semesters.add(summary.getSemester());
+                }
+                callback.onSuccess(semesters);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                callback.onFailure(e);
+            }
+        });
+    }
+
+    /**
+     * 학기 목록 조회 (semesters 컬렉션만 읽음, 최신 학기부터)
+     */
+    public void getSemesterCatalog(FirestoreCallback<List<SemesterSummary>> callback) {
+        ensureTimetableIndexes(callback);
+    }
+
+    /**
+     * 학기 목록과 강의실 참조 수가 작성되어 있는지 확인 후 학기 목록 반환
+     * 도입 전 데이터는 meta/migrations 표시가 없으므로 처음 한 번만 시간표 전체를 읽어 작성합니다.
+     */
+    private void ensureTimetableIndexes(FirestoreCallback<List<SemesterSummary>> callback) {
+        if (timetableIndexesReady) {
+            readSemesterCatalog(callback);
+            return;
+        }
+        db.collection(COLLECTION_META).document(DOC_MIGRATIONS)
+                .get()
+                .addOnSuccessListener(markerDoc -> {
+                    if (Boolean.TRUE.equals(markerDoc.getBoolean(FIELD_SEMESTER_CATALOG_MIGRATION))
+                            && Boolean.TRUE.equals(markerDoc.getBoolean(FIELD_ROOM_REFS_MIGRATION))) {
+                        timetableIndexesReady = true;
+                        readSemesterCatalog(callback);
+                    } else {
+                        rebuildTimetableIndexes(callback);
+                    }
+                })
+                .addOnFailureListener(callback::onFailure);
+    }
+
+    private void readSemesterCatalog(FirestoreCallback<List<SemesterSummary>> callback) {
+        db.collection(COLLECTION_SEMESTERS)
+                .get()
+                .addOnSuccessListener(querySnapshot -> {
+                    List<SemesterSummary> catalog = new ArrayList<>();
+                    for (DocumentSnapshot doc : querySnapshot.getDocuments()) {
+                        SemesterSummary summary = documentToSemesterSummary(doc);
+                        // 수업을 하나씩 모두 지운 학기는 제외
+                        if (summary != null && summary.getEntryCount() > 0) {
+                            catalog.add(summary);
+                        }
+                    }
+                    sortNewestFirst(catalog);
+                    callback.onSuccess(catalog);
+                })
+                .addOnFailureListener(callback::onFailure);
+    }
+
+    /**
+     * 시간표 전체를 읽어 학기 목록과 강의실 참조 수를 다시 작성 (도입 전 데이터 이전용)
+     */
+    private void rebuildTimetableIndexes(FirestoreCallback<List<SemesterSummary>> callback) {
         db.collection(COLLECTION_TIMETABLE)
                 .get()
                 .addOnSuccessListener(querySnapshot -> {
-                    java.util.Set<String> semestersSet = new java.util.HashSet<>();
+                    Map<String, Integer> entryCounts = new HashMap<>();
+                    Map<String, Set<String>> roomIds = new HashMap<>();
+                    Map<String, Map<String, Integer>> roomRefs = new HashMap<>();
                     for (DocumentSnapshot doc : querySnapshot.getDocuments()) {
                         String semester = doc.getString("semester");
-                        if (semester != null && !semester.isEmpty()) {
-                            semestersSet.add(semester);
+                        if (semester == null || semester.isEmpty()) {
+                            continue;
+                        }
+                        entryCounts.merge(semester, 1, Integer::sum);
+                        String roomId = doc.getString("roomId");
+                        Set<String> rooms = roomIds.computeIfAbsent(semester, key -> new HashSet<>());
+                        if (roomId != null && !roomId.isEmpty()) {
+                            rooms.add(roomId);
+                            roomRefs.computeIfAbsent(roomId, key -> new HashMap<>()).merge(semester, 1, Integer::sum);
                         }
                     }
-                    List<String> semesters = new ArrayList<>(semestersSet);
-                    java.util.Collections.sort(semesters, java.util.Collections.reverseOrder());
-                    callback.onSuccess(semesters);
+
+                    Timestamp now = Timestamp.now();
+                    java.time.LocalDateTime updatedAt = toLocalDateTime(now);
+                    BatchWriter writer = new BatchWriter(db);
+                    List<SemesterSummary> catalog = new ArrayList<>();
+                    for (Map.Entry<String, Integer> entry : entryCounts.entrySet()) {
+                        String semester = entry.getKey();
+                        Set<String> rooms = roomIds.get(semester);
+                        Map<String, Object> data = new HashMap<>();
+                        data.put("semester", semester);
+                        data.put("entryCount", entry.getValue());
+                        data.put("roomIds", new ArrayList<>(rooms));
+                        data.put("updatedAt", now);
+                        writer.set(semesterDocument(semester), data);
+                        catalog.add(new SemesterSummary(semester, entry.getValue(), rooms.size(), updatedAt));
+                    }
+                    for (Map.Entry<String, Map<String, Integer>> entry : roomRefs.entrySet()) {
+                        int total = 0;
+                        for (int count : entry.getValue().values()) {
+                            total += count;
+                        }
+                        Map<String, Object> data = new HashMap<>();
+                        data.put("roomId", entry.getKey());
+                        data.put("semesters", new HashMap<>(entry.getValue()));
+                        data.put("totalRefs", total);
+                        writer.set(db.collection(COLLECTION_ROOM_REFS).document(entry.getKey()), data);
+                    }
+                    sortNewestFirst(catalog);
+
+                    Map<String, Object> markerData = new HashMap<>();
+                    markerData.put(FIELD_SEMESTER_CATALOG_MIGRATION, true);
+                    markerData.put(FIELD_ROOM_REFS_MIGRATION, true);
+                    markerData.put("updatedAt", now);
+                    writer.set(db.collection(COLLECTION_META).document(DOC_MIGRATIONS), markerData, SetOptions.merge());
+
+                    // 저장에 실패하면 다음 조회 때 다시 작성 (참조 수 없이 강의실을 지우지 않도록 실패로 전달)
+                    writer.commit()
+                            .addOnSuccessListener(count -> {
+                                timetableIndexesReady = true;
+                                callback.onSuccess(catalog);
+                            })
+                            .addOnFailureListener(e -> {
+                                android.util.Log.w("FirestoreManager", "Failed to write timetable indexes", e);
+                                callback.onFailure(e);
+                            });
                 })
                 .addOnFailureListener(callback::onFailure);
     }
 
+    /**
+     * 시간표 추가분을 학기별 집계 변경값으로 변환 (SetOptions.merge로 기록)
+     */
+    private Map<String, Map<String, Object>> semesterDeltas(List<TimetableEntry> entries) {
+        Map<String, Integer> entryCounts = new HashMap<>();
+        Map<String, Set<String>> roomIds = new HashMap<>();
+        for (TimetableEntry entry : entries) {
+            String semester = entry.getSemester();
+            if (semester == null || semester.isEmpty()) {
+                continue;
+            }
+            entryCounts.merge(semester, 1, Integer::sum);
+            Set<String> rooms = roomIds.computeIfAbsent(semester, key -> new HashSet<>());
+            if (entry.getRoomId() != null && !entry.getRoomId().isEmpty()) {
+                rooms.add(entry.getRoomId());
+            }
+        }
+
+        Timestamp now = Timestamp.now();
+        Map<String, Map<String, Object>> deltas = new HashMap<>();
+        for (Map.Entry<String, Integer> entry : entryCounts.entrySet()) {
+            Map<String, Object> delta = new HashMap<>();
+            delta.put("semester", entry.getKey());
+            delta.put("entryCount", FieldValue.increment(entry.getValue()));
+            Set<String> rooms = roomIds.get(entry.getKey());
+            if (!rooms.isEmpty()) {
+                delta.put("roomIds", FieldValue.arrayUnion(rooms.toArray()));
+            }
+            delta.put("updatedAt", now);
+            deltas.put(entry.getKey(), delta);
+        }
+        return deltas;
+    }
+
+    /**
+     * 시간표 추가분을 강의실별 참조 수 변경값으로 변환 (SetOptions.merge로 기록)
+     */
+    private Map<String, Map<String, Object>> roomRefDeltas(List<TimetableEntry> entries) {
+        Map<String, Map<String, Integer>> counts = new HashMap<>();
+        for (TimetableEntry entry : entries) {
+            String semester = entry.getSemester();
+            String roomId = entry.getRoomId();
+            if (semester == null || semester.isEmpty() || roomId == null || roomId.isEmpty()) {
+                continue;
+            }
+            counts.computeIfAbsent(roomId, key -> new HashMap<>()).merge(semester, 1, Integer::sum);
+        }
+
+        Map<String, Map<String, Object>> deltas = new HashMap<>();
+        for (Map.Entry<String, Map<String, Integer>> room : counts.entrySet()) {
+            Map<String, Object> semesters = new HashMap<>();
+            int total = 0;
+            for (Map.Entry<String, Integer> semester : room.getValue().entrySet()) {
+                semesters.put(semester.getKey(), FieldValue.increment(semester.getValue()));
+                total += semester.getValue();
+            }
+            Map<String, Object> delta = new HashMap<>();
+            delta.put("roomId", room.getKey());
+            delta.put("semesters", semesters);
+            delta.put("totalRefs", FieldValue.increment(total));
+            deltas.put(room.getKey(), delta);
+        }
+        return deltas;
+    }
+
+    /**
+     * 학기의 시간표를 다시 세어 학기 목록 집계와 강의실 참조 수를 절대값으로 기록
+     * 일괄 저장이 일부 배치만 반영되었거나 같은 수업을 다시 저장해도 저장된 문서 수와 일치합니다.
+     * @param roomIds 이번에 저장한 강의실 (해당 학기 시간표에 남지 않았으면 0으로 기록)
+     */
+    private Task<Void> recountSemester(String semester, Set<String> roomIds) {
+        return db.collection(COLLECTION_TIMETABLE)
+                .whereEqualTo("semester", semester)
+                .get()
+                .continueWithTask(query -> {
+                    List<DocumentSnapshot> docs = query.getResult().getDocuments();
+                    Map<String, Integer> counts = new HashMap<>();
+                    for (String roomId : roomIds) {
+                        counts.put(roomId, 0);
+                    }
+                    Set<String> usedRooms = new HashSet<>();
+                    for (DocumentSnapshot doc : docs) {
+                        String roomId = doc.getString("roomId");
+                        if (roomId != null && !roomId.isEmpty()) {
+                            counts.merge(roomId, 1, Integer::sum);
+                            usedRooms.add(roomId);
+                        }
+                    }
+
+                    Map<String, Object> summary = new HashMap<>();
+                    summary.put("semester", semester);
+                    summary.put("entryCount", docs.size());
+                    summary.put("roomIds", new ArrayList<>(usedRooms));
+                    summary.put("updatedAt", Timestamp.now());
+                    return Tasks.whenAll(semesterDocument(semester).set(summary), setRoomRefCounts(semester, counts));
+                });
+    }
+
+    /**
+     * 저장한 시간표의 학기마다 recountSemester
+     */
+    private Task<Void> recountSemesters(List<TimetableEntry> entries) {
+        Map<String, Set<String>> roomIds = new HashMap<>();
+        for (TimetableEntry entry : entries) {
+            String semester = entry.getSemester();
+            if (semester == null || semester.isEmpty()) {
+                continue;
+            }
+            Set<String> rooms = roomIds.computeIfAbsent(semester, key -> new HashSet<>());
+            if (entry.getRoomId() != null && !entry.getRoomId().isEmpty()) {
+                rooms.add(entry.getRoomId());
+            }
+        }
+        List<Task<Void>> recounts = new ArrayList<>();
+        for (Map.Entry<String, Set<String>> semester : roomIds.entrySet()) {
+            recounts.add(recountSemester(semester.getKey(), semester.getValue()));
+        }
+        return Tasks.whenAll(recounts);
+    }
+
+    /**
+     * 강의실들의 한 학기 참조 수를 절대값으로 기록
+     * 트랜잭션에서 현재 문서를 읽어 totalRefs를 다시 계산하므로, 커밋 결과를 모른 채 재시도해도 두 번 반영되지 않습니다.
+     * @param counts 강의실 ID → 해당 학기 수업 수 (0이면 학기 키 삭제)
+     */
+    private Task<Void> setRoomRefCounts(String semester, Map<String, Integer> counts) {
+        List<String> roomIds = new ArrayList<>(counts.keySet());
+        List<Task<Void>> transactions = new ArrayList<>();
+        // 트랜잭션 하나의 쓰기 한도 안에서 나누어 기록
+        for (int from = 0; from < roomIds.size(); from += BatchWriter.MAX_OPS_PER_BATCH) {
+            List<String> chunk = roomIds.subList(from, Math.min(from + BatchWriter.MAX_OPS_PER_BATCH, roomIds.size()));
+            Task<Void> transaction = db.runTransaction(tx -> {
+                List<DocumentSnapshot> docs = new ArrayList<>(chunk.size());
+                for (String roomId : chunk) {
+                    docs.add(tx.get(db.collection(COLLECTION_ROOM_REFS).document(roomId)));
+                }
+                for (DocumentSnapshot doc : docs) {
+                    tx.set(doc.getReference(), roomRefData(doc, semester, counts.get(doc.getId())), SetOptions.merge());
+                }
+                return null;
+            });
+            transactions.add(transaction);
+        }
+        return Tasks.whenAll(transactions);
+    }
+
+    /**
+     * 참조 수 문서에서 한 학기의 현재 수업 수
+     */
+    private static long semesterRefCount(DocumentSnapshot refDoc, String semester) {
+        Object semesters = refDoc.get("semesters");
+        if (semesters instanceof Map) {
+            Object count = ((Map<?, ?>) semesters).get(semester);
+            if (count instanceof Number) {
+                return ((Number) count).longValue();
+            }
+        }
+        return 0L;
+    }
+
+    /**
+     * 강의실 하나의 한 학기 참조 수를 count로 바꾼 기록값 (SetOptions.merge로 기록)
+     * totalRefs는 나머지 학기의 현재 값과 count의 합으로 다시 계산합니다.
+     * @param count 0 이하이면 학기 키 삭제
+     */
+    private static Map<String, Object> roomRefData(DocumentSnapshot refDoc, String semester, long count) {
+        long total = Math.max(0L, count);
+        Object current = refDoc.get("semesters");
+        if (current instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) current).entrySet()) {
+                if (!semester.equals(entry.getKey()) && entry.getValue() instanceof Number) {
+                    total += ((Number) entry.getValue()).longValue();
+                }
+            }
+        }
+        Map<String, Object> semesters = new HashMap<>();
+        semesters.put(semester, count > 0 ? (Object) count : FieldValue.delete());
+        Map<String, Object> data = new HashMap<>();
+        data.put("roomId", refDoc.getId());
+        data.put("semesters", semesters);
+        data.put("totalRefs", total);
+        return data;
+    }
+
+    private DocumentReference semesterDocument(String semester) {
+        // 문서 ID에 '/'는 사용할 수 없음
+        return db.collection(COLLECTION_SEMESTERS).document(semester.replace('/', '_'));
+    }
+
+    private static void sortNewestFirst(List<SemesterSummary> catalog) {
+        catalog.sort((a, b) -> b.getSemester().compareTo(a.getSemester()));
+    }
+
     // ==================== Conversion Utilities ====================
 
+    private long updatedAtMillis(DocumentSnapshot doc) {
+        Timestamp updatedAt = doc.getTimestamp("updatedAt");
+        return updatedAt != null ? updatedAt.toDate().getTime() : 0L;
+    }
+
+    private SemesterSummary documentToSemesterSummary(DocumentSnapshot doc) {
+        String semester = doc.getString("semester");
+        if (semester == null || semester.isEmpty()) {
+            return null;
+        }
+        Long entryCount = doc.getLong("entryCount");
+        List<?> roomIds = (List<?>) doc.get("roomIds");
+        Timestamp updatedAt = doc.getTimestamp("updatedAt");
+        return new SemesterSummary(semester,
+                entryCount != null ? entryCount.intValue() : 0,
+                roomIds != null ? roomIds.size() : 0,
+                updatedAt != null ? toLocalDateTime(updatedAt) : null);
+    }
+
+    private static java.time.LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return Instant.ofEpochMilli(timestamp.toDate().getTime())
+                .atZone(ZoneId.systemDefault())
+                .toLocalDateTime();
+    }
+
     private Room documentToRoom(DocumentSnapshot doc) {
         try {
             String id = doc.getString("id");
@@ -669,31 +1491,11 @@ public class FirestoreManager {
 
     private Reservation documentToReservation(DocumentSnapshot doc) {
         try {
-            String id = doc.getString("id");
-            String roomId = doc.getString("roomId");
-            String roomName = doc.getString("roomName");
-            String title = doc.getString("title");
-            String owner = doc.getString("owner");
-            String ownerStudentId = doc.getString("ownerStudentId");  // 학번
-            String dateStr = doc.getString("date");
-            String startTimeStr = doc.getString("startTime");
-            String endTimeStr = doc.getString("endTime");
-            Long attendeesLong = doc.getLong("attendees");
-            int attendees = attendeesLong != null ? attendeesLong.intValue() : 0;
-            String statusStr = doc.getString("status");
-            String note = doc.getString("note");
-
-            LocalDate date = LocalDate.parse(dateStr);
-            LocalTime startTime = LocalTime.parse(startTimeStr);
-            LocalTime endTime = LocalTime.parse(endTimeStr);
-            ReservationStatus status = statusStr != null ? ReservationStatus.valueOf(statusStr) : ReservationStatus.PENDING;
-
-            // 학번이 없는 경우 빈 문자열로 처리 (기존 예약 호환성)
-            if (ownerStudentId == null) {
-                ownerStudentId = "";
+            Map<String, Object> data = doc.getData();
+            if (data == null) {
+                return null;
             }
-
-            return new Reservation(id, roomId, roomName, title, owner, ownerStudentId, date, startTime, endTime, attendees, status, note);
+            return FirestoreMapper.reservationFromMap(data);
         } catch (Exception e) {
             e.printStackTrace();
             return null;
@@ -714,7 +1516,7 @@ public class FirestoreManager {
         return data;
     }
 
-    private Map<String, Object> reservationToMap(Reservation reservation) {
+    Map<String, Object> reservationToMap(Reservation reservation) {
         Map<String, Object> data = new HashMap<>();
         data.put("id", reservation.getId());
         data.put("roomId", reservation.getRoomId());
@@ -794,31 +1596,63 @@ public class FirestoreManager {
     // ==================== Notification Management ====================
 
     /**
-     * 관리자용 알림 생성
+     * 관리자용 알림 생성 (즉시 기록, 일반적인 도메인 알림은 NotificationDispatcher 사용)
      */
     public void createNotification(String title, String message, String type, String relatedId, FirestoreCallback<Void> callback) {
+        db.collection(COLLECTION_NOTIFICATIONS)
+                .add(notificationToMap(title, message, type, relatedId, Timestamp.now()))
+                .addOnSuccessListener(documentReference -> callback.onSuccess(null))
+                .addOnFailureListener(callback::onFailure);
+    }
+
+    /**
+     * 모인 관리자 알림 일괄 기록 (NotificationDispatcher에서 호출)
+     * 여러 건이 합쳐진 알림은 count와 relatedIds 필드를 함께 기록합니다.
+     */
+    public void createNotifications(List<NotificationDispatcher.Digest> digests, FirestoreCallback<Void> callback) {
+        Timestamp now = Timestamp.now();
+        BatchWriter writer = new BatchWriter(db);
+        for (NotificationDispatcher.Digest digest : digests) {
+            Map<String, Object> data = notificationToMap(digest.getTitle(), digest.getMessage(), digest.getType(),
+                    digest.getRelatedId(), now);
+            if (digest.getCount() > 1) {
+                data.put("count", digest.getCount());
+                data.put("relatedIds", new ArrayList<>(digest.getRelatedIds()));
+            }
+            // 자동 ID 문서를 미리 만들어 두므로 배치 재시도 시에도 중복 기록되지 않음
+            writer.set(db.collection(COLLECTION_NOTIFICATIONS).document(), data);
+        }
+        writer.commit()
+                .addOnSuccessListener(count -> callback.onSuccess(null))
+                .addOnFailureListener(callback::onFailure);
+    }
+
+    private Map<String, Object> notificationToMap(String title, String message, String type, String relatedId, Timestamp timestamp) {
         Map<String, Object> data = new HashMap<>();
         data.put("title", title);
         data.put("message", message);
         data.put("type", type); // "reservation", "room", "timetable"
         data.put("targetUserId", "admin");
-        data.put("timestamp", Timestamp.now());
+        data.put("timestamp", timestamp);
         data.put("read", false);
         data.put("relatedId", relatedId);
-
-        db.collection(COLLECTION_NOTIFICATIONS)
-                .add(data)
-                .addOnSuccessListener(documentReference -> callback.onSuccess(null))
-                .addOnFailureListener(callback::onFailure);
+        return data;
     }
 
     /**
-     * 관리자용 알림 목록 조회 (실시간 리스너)
+     * 관리자용 알림 목록 조회 (실시간 리스너, 최신 ADMIN_NOTIFICATION_PAGE_SIZE개)
      */
     public ListenerRegistration listenToAdminNotifications(FirestoreCallback<List<com.example.bangbillija.model.Notification>> callback) {
-        return db.collection(COLLECTION_NOTIFICATIONS)
-                .whereEqualTo("targetUserId", "admin")
-                .orderBy("timestamp", Query.Direction.DESCENDING)
+        return listenToAdminNotifications(ADMIN_NOTIFICATION_PAGE_SIZE, callback);
+    }
+
+    /**
+     * 관리자용 알림 첫 페이지 실시간 리스너 (이전 알림은 getAdminNotificationsBefore로 조회)
+     * @param limit 구독할 최신 알림 수
+     */
+    public ListenerRegistration listenToAdminNotifications(int limit, FirestoreCallback<List<com.example.bangbillija.model.Notification>> callback) {
+        return adminNotificationsQuery()
+                .limit(limit)
                 .addSnapshotListener((querySnapshot, error) -> {
                     if (error != null) {
                         callback.onFailure(error);
@@ -838,6 +1672,40 @@ public class FirestoreManager {
                 });
     }
 
+    /**
+     * 관리자용 알림 이전 페이지 조회 (커서: 현재 목록의 마지막 알림)
+     * @param last 이미 받은 가장 오래된 알림
+     */
+    public void getAdminNotificationsBefore(com.example.bangbillija.model.Notification last, int limit,
+                                            FirestoreCallback<List<com.example.bangbillija.model.Notification>> callback) {
+        java.time.Instant instant = last.getTimestamp().atZone(ZoneId.systemDefault()).toInstant();
+        adminNotificationsQuery()
+                .startAfter(new Timestamp(instant.getEpochSecond(), instant.getNano()), last.getId())
+                .limit(limit)
+                .get()
+                .addOnSuccessListener(querySnapshot -> {
+                    List<com.example.bangbillija.model.Notification> notifications = new ArrayList<>();
+                    for (DocumentSnapshot doc : querySnapshot.getDocuments()) {
+                        com.example.bangbillija.model.Notification notification = mapToNotification(doc);
+                        if (notification != null) {
+                            notifications.add(notification);
+                        }
+                    }
+                    callback.onSuccess(notifications);
+                })
+                .addOnFailureListener(callback::onFailure);
+    }
+
+    /**
+     * 관리자 알림 정렬 (최신순, 같은 시각이면 문서 ID 역순으로 커서 위치를 고정)
+     */
+    private Query adminNotificationsQuery() {
+        return db.collection(COLLECTION_NOTIFICATIONS)
+                .whereEqualTo("targetUserId", "admin")
+                .orderBy("timestamp", Query.Direction.DESCENDING)
+                .orderBy(FieldPath.documentId(), Query.Direction.DESCENDING);
+    }
+
     /**
      * 알림 읽음 처리
      */
@@ -867,7 +1735,8 @@ public class FirestoreManager {
                 return null;
             }
 
-            java.time.LocalDateTime localDateTime = Instant.ofEpochMilli(timestamp.toDate().getTime())
+            // 페이지 커서로 다시 쓰이므로 나노초까지 유지
+            java.time.LocalDateTime localDateTime = Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanoseconds())
                     .atZone(ZoneId.systemDefault())
                     .toLocalDateTime();
 
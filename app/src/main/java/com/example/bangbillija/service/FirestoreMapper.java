@@ -0,0 +1,52 @@
+package com.example.bangbillija.service;
+
+import com.example.bangbillija.model.Reservation;
+import com.example.bangbillija.model.ReservationStatus;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Map;
+
+/**
+ * Firestore 문서 필드 맵을 모델로 변환 (Firebase 의존성 없음, benchmark 모듈에서도 사용)
+ * FirestoreManager는 DocumentSnapshot.getData() 결과를 그대로 넘깁니다.
+ */
+public final class FirestoreMapper {
+
+    private FirestoreMapper() {
+    }
+
+    /**
+     * reservations 문서 필드를 Reservation으로 변환
+     * @throws RuntimeException 날짜/시간/상태 형식이 올바르지 않은 경우
+     */
+    public static Reservation reservationFromMap(Map<String, Object> data) {
+        String id = stringOf(data, "id");
+        String roomId = stringOf(data, "roomId");
+        String roomName = stringOf(data, "roomName");
+        String title = stringOf(data, "title");
+        String owner = stringOf(data, "owner");
+        String ownerStudentId = stringOf(data, "ownerStudentId");  // 학번
+        String statusStr = stringOf(data, "status");
+        String note = stringOf(data, "note");
+        Object attendeesValue = data.get("attendees");
+        int attendees = attendeesValue instanceof Number ? ((Number) attendeesValue).intValue() : 0;
+
+        LocalDate date = LocalDate.parse(stringOf(data, "date"));
+        LocalTime startTime = LocalTime.parse(stringOf(data, "startTime"));
+        LocalTime endTime = LocalTime.parse(stringOf(data, "endTime"));
+        ReservationStatus status = statusStr != null ? ReservationStatus.valueOf(statusStr) : ReservationStatus.PENDING;
+
+        // 학번이 없는 경우 빈 문자열로 처리 (기존 예약 호환성)
+        if (ownerStudentId == null) {
+            ownerStudentId = "";
+        }
+
+        return new Reservation(id, roomId, roomName, title, owner, ownerStudentId, date, startTime, endTime, attendees, status, note);
+    }
+
+    private static String stringOf(Map<String, Object> data, String field) {
+        Object value = data.get(field);
+        return value instanceof String ? (String) value : null;
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.bangbillija.service;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관리자 알림을 짧은 시간 동안 모았다가 한 번에 기록합니다.
+ * 같은 종류·같은 그룹(건물 등)의 알림은 요약 알림 하나로 합쳐지고 ("공학관에서 37건의 새로운 예약"),
+ * 모인 알림은 BatchWriter로 함께 저장됩니다.
+ * 앱이 대기 시간 안에 종료되면 모인 알림은 기록되지 않습니다.
+ */
+public class NotificationDispatcher {
+
+    // 알림을 모으는 시간
+    static final long FLUSH_DELAY_MILLIS = 5_000;
+    // 이만큼 모이면 대기 시간과 관계없이 바로 기록
+    static final int MAX_BUFFERED_EVENTS = 200;
+    // 요약 알림에 남길 관련 ID 수
+    static final int MAX_RELATED_IDS = 20;
+
+    private static NotificationDispatcher instance;
+
+    private final FirestoreManager firestoreManager = FirestoreManager.getInstance();
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Runnable flushTask = this::flush;
+
+    // 종류+그룹 → 모인 알림 (도착 순서 유지)
+    private final Map<String, Digest> pending = new LinkedHashMap<>();
+    private int pendingEvents;
+
+    private NotificationDispatcher() {
+    }
+
+    public static synchronized NotificationDispatcher getInstance() {
+        if (instance == null) {
+            instance = new NotificationDispatcher();
+        }
+        return instance;
+    }
+
+    /**
+     * 기록할 알림 하나 (여러 건이 합쳐진 경우 count > 1)
+     */
+    public static final class Digest {
+        private final String type;
+        private final String group;
+        private final String title;
+        private String message;
+        private String relatedId;
+        private final List<String> relatedIds = new ArrayList<>();
+        private int count;
+
+        Digest(String type, String group, String title) {
+            this.type = type;
+            this.group = group;
+            this.title = title;
+        }
+
+        void add(String message, String relatedId) {
+            count++;
+            this.message = message;
+            this.relatedId = relatedId;
+            if (relatedId != null && !relatedId.isEmpty() && relatedIds.size() < MAX_RELATED_IDS) {
+                relatedIds.add(relatedId);
+            }
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        /**
+         * 한 건이면 원래 메시지, 여러 건이면 요약 메시지
+         */
+        public String getMessage() {
+            if (count == 1) {
+                return message;
+            }
+            return group.isEmpty()
+                    ? String.format("%d건의 %s", count, title)
+                    : String.format("%s에서 %d건의 %s", group, count, title);
+        }
+
+        /**
+         * 한 건이면 관련 ID, 여러 건이면 빈 문자열 (관련 ID 목록은 getRelatedIds)
+         */
+        public String getRelatedId() {
+            return count == 1 ? relatedId : "";
+        }
+
+        public List<String> getRelatedIds() {
+            return Collections.unmodifiableList(relatedIds);
+        }
+
+        public int getCount() {
+            return count;
+        }
+    }
+
+    /**
+     * 관리자 알림 추가 (대기 시간 후 같은 종류·그룹끼리 합쳐서 기록)
+     * @param type "reservation", "room", "timetable"
+     * @param group 합칠 단위 (건물명 등, 없으면 빈 문자열)
+     * @param title 알림 제목 (요약 알림에도 사용)
+     */
+    public synchronized void post(String type, String group, String title, String message, String relatedId) {
+        String safeGroup = group != null ? group : "";
+        String key = type + '\u0000' + safeGroup + '\u0000' + title;
+        Digest digest = pending.get(key);
+        if (digest == null) {
+            digest = new Digest(type, safeGroup, title);
+            pending.put(key, digest);
+        }
+        digest.add(message, relatedId);
+        pendingEvents++;
+
+        if (pendingEvents >= MAX_BUFFERED_EVENTS) {
+            handler.removeCallbacks(flushTask);
+            handler.post(flushTask);
+        } else if (pendingEvents == 1) {
+            handler.postDelayed(flushTask, FLUSH_DELAY_MILLIS);
+        }
+    }
+
+    /**
+     * 모인 알림을 즉시 기록
+     */
+    public void flush() {
+        List<Digest> digests;
+        synchronized (this) {
+            handler.removeCallbacks(flushTask);
+            if (pending.isEmpty()) {
+                return;
+            }
+            digests = new ArrayList<>(pending.values());
+            pending.clear();
+            pendingEvents = 0;
+        }
+
+        firestoreManager.createNotifications(digests, new FirestoreManager.FirestoreCallback<Void>() {
+            @Override
+            public void onSuccess(Void result) {
+                android.util.Log.d("NotificationDispatcher", "Wrote " + digests.size() + " notifications");
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                // 알림 기록 실패는 원래 작업에 영향을 주지 않으므로 로그만 남김
+                android.util.Log.e("NotificationDispatcher", "Failed to write notifications", e);
+            }
+        });
+    }
+}
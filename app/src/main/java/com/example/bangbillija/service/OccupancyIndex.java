@@ -0,0 +1,531 @@
+package com.example.bangbillija.service;
+
+import com.example.bangbillija.model.DayOccupancy;
+import com.example.bangbillija.model.Reservation;
+import com.example.bangbillija.model.ReservationStatus;
+import com.example.bangbillija.model.TimeSlot;
+import com.example.bangbillija.model.TimetableEntry;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 강의실별 점유 인덱스
+ * 예약(날짜별)과 시간표(요일별)를 분 단위 정렬 배열로 보관하고 변경분만 반영합니다.
+ * "강의실 X의 D일 빈 시간", "T1~T2에 비어 있는 강의실", "이번 주 첫 N분 빈 시간"을
+ * 전체 목록을 다시 필터링/정렬하지 않고 이진 탐색으로 응답합니다.
+ */
+public class OccupancyIndex {
+
+    private final Map<String, RoomSchedule> schedules = new HashMap<>();
+    private final Set<String> knownRoomIds = new LinkedHashSet<>();
+    private final Map<String, Reservation> reservationsById = new HashMap<>();
+    private final Map<String, TimetableEntry> entriesById = new HashMap<>();
+
+    // ==================== 변경 반영 ====================
+
+    /**
+     * 강의실 목록을 등록합니다 (예약/수업이 없는 강의실도 빈 강의실 검색에 포함되도록).
+     */
+    public synchronized void registerRooms(Collection<String> roomIds) {
+        knownRoomIds.addAll(roomIds);
+    }
+
+    /**
+     * 예약 추가/수정 (취소된 예약은 점유에서 제외)
+     */
+    public synchronized void putReservation(Reservation reservation) {
+        removeReservation(reservation.getId());
+        if (reservation.getStatus() == ReservationStatus.CANCELLED) {
+            return;
+        }
+        reservationsById.put(reservation.getId(), reservation);
+        scheduleFor(reservation.getRoomId())
+                .reservationsOn(reservation.getDate().toEpochDay(), true)
+                .insert(toMinute(reservation.getStartTime()), toMinute(reservation.getEndTime()), reservation);
+    }
+
+    public synchronized void removeReservation(String reservationId) {
+        Reservation previous = reservationsById.remove(reservationId);
+        if (previous == null) {
+            return;
+        }
+        RoomSchedule schedule = schedules.get(previous.getRoomId());
+        if (schedule == null) {
+            return;
+        }
+        IntervalList list = schedule.reservationsOn(previous.getDate().toEpochDay(), false);
+        if (list != null) {
+            list.remove(toMinute(previous.getStartTime()), previous);
+        }
+    }
+
+    /**
+     * 특정 강의실/날짜의 예약을 서버에서 받은 목록으로 교체합니다.
+     */
+    public synchronized void replaceReservations(String roomId, LocalDate date, List<Reservation> reservations) {
+        replaceReservations(roomId, date, reservations, Collections.emptyList());
+    }
+
+    /**
+     * 특정 강의실/날짜의 예약을 서버에서 받은 목록으로 교체하되, 서버에 아직 반영되지 않은 예약(pending)은 유지합니다.
+     * 같은 ID의 서버 예약은 pending 상태로 대체되고 (취소 대기 중이면 점유에서 빠짐),
+     * 다른 강의실/날짜로 옮겨진 pending 예약은 이 날짜에서 제외합니다.
+     * @param pending 보내지 않은 변경을 적용한 예약 (다른 강의실/날짜 항목이 섞여 있어도 됨)
+     */
+    public synchronized void replaceReservations(String roomId, LocalDate date, List<Reservation> reservations,
+                                                 Collection<Reservation> pending) {
+        Map<String, Reservation> merged = new LinkedHashMap<>();
+        for (Reservation reservation : reservations) {
+            merged.put(reservation.getId(), reservation);
+        }
+        for (Reservation reservation : pending) {
+            if (roomId.equals(reservation.getRoomId()) && date.equals(reservation.getDate())) {
+                merged.put(reservation.getId(), reservation);
+            } else {
+                merged.remove(reservation.getId());
+            }
+        }
+
+        IntervalList list = scheduleFor(roomId).reservationsOn(date.toEpochDay(), false);
+        if (list != null) {
+            for (int i = 0; i < list.size; i++) {
+                reservationsById.remove(((Reservation) list.payloads[i]).getId());
+            }
+            list.clear();
+        }
+        for (Reservation reservation : merged.values()) {
+            putReservation(reservation);
+        }
+    }
+
+    /**
+     * 실시간 리스너로 받은 전체 예약 목록으로 예약 인덱스를 다시 구성합니다.
+     */
+    public synchronized void replaceAllReservations(Collection<Reservation> reservations) {
+        reservationsById.clear();
+        for (RoomSchedule schedule : schedules.values()) {
+            schedule.reservationsByDay.clear();
+        }
+        for (Reservation reservation : reservations) {
+            putReservation(reservation);
+        }
+    }
+
+    public synchronized void putTimetableEntry(TimetableEntry entry) {
+        removeTimetableEntry(entry.getId());
+        entriesById.put(entry.getId(), entry);
+        scheduleFor(entry.getRoomId())
+                .classesOn(entry.getDayOfWeek().getValue())
+                .insert(toMinute(entry.getStartTime()), toMinute(entry.getEndTime()), entry);
+    }
+
+    public synchronized void removeTimetableEntry(String entryId) {
+        TimetableEntry previous = entriesById.remove(entryId);
+        if (previous == null) {
+            return;
+        }
+        RoomSchedule schedule = schedules.get(previous.getRoomId());
+        if (schedule != null) {
+            schedule.classesOn(previous.getDayOfWeek().getValue())
+                    .remove(toMinute(previous.getStartTime()), previous);
+        }
+    }
+
+    /**
+     * 특정 강의실의 시간표를 교체합니다.
+     */
+    public synchronized void replaceTimetable(String roomId, List<TimetableEntry> entries) {
+        RoomSchedule schedule = scheduleFor(roomId);
+        for (IntervalList list : schedule.classesByDay) {
+            if (list == null) {
+                continue;
+            }
+            for (int i = 0; i < list.size; i++) {
+                entriesById.remove(((TimetableEntry) list.payloads[i]).getId());
+            }
+            list.clear();
+        }
+        for (TimetableEntry entry : entries) {
+            if (roomId.equals(entry.getRoomId())) {
+                putTimetableEntry(entry);
+            }
+        }
+    }
+
+    /**
+     * 전체 시간표로 시간표 인덱스를 다시 구성합니다.
+     */
+    public synchronized void replaceAllTimetable(Collection<TimetableEntry> entries) {
+        entriesById.clear();
+        for (RoomSchedule schedule : schedules.values()) {
+            Arrays.fill(schedule.classesByDay, null);
+        }
+        for (TimetableEntry entry : entries) {
+            putTimetableEntry(entry);
+        }
+    }
+
+    public synchronized void clear() {
+        schedules.clear();
+        reservationsById.clear();
+        entriesById.clear();
+    }
+
+    // ==================== 조회 ====================
+
+    /**
+     * 예약/수업 슬롯과 빈 시간 슬롯을 시간 순으로 반환합니다 (SlotEngine과 동일한 형식).
+     */
+    public synchronized List<TimeSlot> dailySlots(String roomId, LocalDate date) {
+        IntervalList reservations = reservationsOf(roomId, date);
+        IntervalList classes = classesOf(roomId, date);
+
+        int reservationCount = reservations != null ? reservations.size : 0;
+        int classCount = classes != null ? classes.size : 0;
+        List<TimeSlot> blocked = new ArrayList<>(reservationCount + classCount);
+
+        // 두 정렬 배열 병합 (시작 시간이 같으면 예약이 먼저)
+        int i = 0;
+        int j = 0;
+        while (i < reservationCount || j < classCount) {
+            boolean takeReservation = j >= classCount
+                    || (i < reservationCount && reservations.starts[i] <= classes.starts[j]);
+            if (takeReservation) {
+                blocked.add(TimeSlot.fromReservation((Reservation) reservations.payloads[i++]));
+            } else {
+                blocked.add(TimeSlot.forCourse(date, (TimetableEntry) classes.payloads[j++]));
+            }
+        }
+        return SlotEngine.fillGaps(date, blocked);
+    }
+
+    /**
+     * 빈 시간 슬롯만 반환합니다.
+     */
+    public synchronized List<TimeSlot> freeSlots(String roomId, LocalDate date) {
+        List<TimeSlot> free = new ArrayList<>();
+        IntervalList reservations = reservationsOf(roomId, date);
+        IntervalList classes = classesOf(roomId, date);
+        GapCursor cursor = new GapCursor(reservations, classes);
+        while (cursor.next()) {
+            free.add(TimeSlot.available(date, toTime(cursor.gapStart), toTime(cursor.gapEnd)));
+        }
+        return free;
+    }
+
+    /**
+     * 해당 시간대에 예약/수업이 전혀 없는지 확인합니다.
+     */
+    public synchronized boolean isFree(String roomId, LocalDate date, LocalTime start, LocalTime end) {
+        int startMinute = toMinute(start);
+        int endMinute = toMinute(end);
+        IntervalList reservations = reservationsOf(roomId, date);
+        IntervalList classes = classesOf(roomId, date);
+        return (reservations == null || !reservations.overlaps(startMinute, endMinute))
+                && (classes == null || !classes.overlaps(startMinute, endMinute));
+    }
+
+    /**
+     * 등록된 모든 강의실 중 T1~T2에 비어 있는 강의실 ID 목록
+     */
+    public synchronized List<String> freeRooms(LocalDate date, LocalTime start, LocalTime end) {
+        Set<String> candidates = new LinkedHashSet<>(knownRoomIds);
+        candidates.addAll(schedules.keySet());
+        return freeRooms(candidates, date, start, end);
+    }
+
+    public synchronized List<String> freeRooms(Collection<String> roomIds, LocalDate date, LocalTime start, LocalTime end) {
+        List<String> free = new ArrayList<>();
+        for (String roomId : roomIds) {
+            if (isFree(roomId, date, start, end)) {
+                free.add(roomId);
+            }
+        }
+        return free;
+    }
+
+    /**
+     * 강의실의 해당 날짜 30분 셀 점유 상태 (예약 + 수업)
+     */
+    public synchronized DayOccupancy dayOccupancy(String roomId, LocalDate date) {
+        IntervalList reservations = reservationsOf(roomId, date);
+        IntervalList classes = classesOf(roomId, date);
+        long bits = (reservations != null ? reservations.cellMask() : 0L)
+                | (classes != null ? classes.cellMask() : 0L);
+        return DayOccupancy.of(bits);
+    }
+
+    /**
+     * 30분 셀 기준으로 T1~T2에 비어 있는 강의실 ID 목록
+     * 강의실마다 캐시된 비트마스크 하나만 비교하므로 강의실 수가 많아도 빠릅니다.
+     */
+    public synchronized List<String> freeRoomsOnGrid(Collection<String> roomIds, LocalDate date, LocalTime start, LocalTime end) {
+        DayOccupancy requested = DayOccupancy.ofRange(start, end);
+        List<String> free = new ArrayList<>();
+        if (requested.isEmpty()) {
+            return free;
+        }
+        for (String roomId : roomIds) {
+            if (!dayOccupancy(roomId, date).overlaps(requested)) {
+                free.add(roomId);
+            }
+        }
+        return free;
+    }
+
+    /**
+     * from 날짜부터 7일 안에서 처음으로 minutes분 이상 비어 있는 시간을 찾습니다.
+     * @return 찾은 구간 (minutes분 길이), 없으면 null
+     */
+    public synchronized TimeSlot firstFreeWindow(String roomId, LocalDate from, int minutes) {
+        for (int day = 0; day < 7; day++) {
+            LocalDate date = from.plusDays(day);
+            GapCursor cursor = new GapCursor(reservationsOf(roomId, date), classesOf(roomId, date));
+            while (cursor.next()) {
+                if (cursor.gapEnd - cursor.gapStart >= minutes) {
+                    return TimeSlot.available(date, toTime(cursor.gapStart), toTime(cursor.gapStart + minutes));
+                }
+            }
+        }
+        return null;
+    }
+
+    // ==================== 내부 구현 ====================
+
+    private RoomSchedule scheduleFor(String roomId) {
+        RoomSchedule schedule = schedules.get(roomId);
+        if (schedule == null) {
+            schedule = new RoomSchedule();
+            schedules.put(roomId, schedule);
+        }
+        return schedule;
+    }
+
+    private IntervalList reservationsOf(String roomId, LocalDate date) {
+        RoomSchedule schedule = schedules.get(roomId);
+        return schedule != null ? schedule.reservationsOn(date.toEpochDay(), false) : null;
+    }
+
+    private IntervalList classesOf(String roomId, LocalDate date) {
+        RoomSchedule schedule = schedules.get(roomId);
+        return schedule != null ? schedule.classesByDay[date.getDayOfWeek().getValue() - 1] : null;
+    }
+
+    static int toMinute(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    static LocalTime toTime(int minute) {
+        return LocalTime.of(minute / 60, minute % 60);
+    }
+
+    /**
+     * 강의실 하나의 일정: 요일별 수업, 날짜(epochDay)별 예약
+     */
+    private static class RoomSchedule {
+        final IntervalList[] classesByDay = new IntervalList[7];
+        final Map<Long, IntervalList> reservationsByDay = new HashMap<>();
+
+        IntervalList classesOn(int isoDayOfWeek) {
+            IntervalList list = classesByDay[isoDayOfWeek - 1];
+            if (list == null) {
+                list = new IntervalList();
+                classesByDay[isoDayOfWeek - 1] = list;
+            }
+            return list;
+        }
+
+        IntervalList reservationsOn(long epochDay, boolean create) {
+            IntervalList list = reservationsByDay.get(epochDay);
+            if (list == null && create) {
+                list = new IntervalList();
+                reservationsByDay.put(epochDay, list);
+            }
+            return list;
+        }
+    }
+
+    /**
+     * 시작 분 기준으로 정렬된 구간 배열
+     * maxEnds[i]는 0..i 구간 중 가장 늦은 종료 분으로, 겹침 검사를 이진 탐색 한 번으로 끝냅니다.
+     */
+    static final class IntervalList {
+        int[] starts = new int[4];
+        int[] ends = new int[4];
+        int[] maxEnds = new int[4];
+        Object[] payloads = new Object[4];
+        int size;
+        // 30분 셀 비트마스크 캐시 (변경 시 무효화)
+        private long cellMask;
+        private boolean cellMaskValid;
+
+        void insert(int start, int end, Object payload) {
+            if (size == starts.length) {
+                int capacity = size * 2;
+                starts = Arrays.copyOf(starts, capacity);
+                ends = Arrays.copyOf(ends, capacity);
+                maxEnds = Arrays.copyOf(maxEnds, capacity);
+                payloads = Arrays.copyOf(payloads, capacity);
+            }
+            // 같은 시작 분이 있으면 뒤에 삽입 (삽입 순서 유지)
+            int index = upperBound(start);
+            int moved = size - index;
+            System.arraycopy(starts, index, starts, index + 1, moved);
+            System.arraycopy(ends, index, ends, index + 1, moved);
+            System.arraycopy(payloads, index, payloads, index + 1, moved);
+            starts[index] = start;
+            ends[index] = end;
+            payloads[index] = payload;
+            size++;
+            cellMaskValid = false;
+            recomputeMaxEnds(index);
+        }
+
+        void remove(int start, Object payload) {
+            int index = lowerBound(start);
+            while (index < size && starts[index] == start && payloads[index] != payload) {
+                index++;
+            }
+            if (index >= size || payloads[index] != payload) {
+                return;
+            }
+            int moved = size - index - 1;
+            System.arraycopy(starts, index + 1, starts, index, moved);
+            System.arraycopy(ends, index + 1, ends, index, moved);
+            System.arraycopy(payloads, index + 1, payloads, index, moved);
+            size--;
+            payloads[size] = null;
+            cellMaskValid = false;
+            recomputeMaxEnds(index);
+        }
+
+        void clear() {
+            Arrays.fill(payloads, 0, size, null);
+            size = 0;
+            cellMaskValid = false;
+        }
+
+        long cellMask() {
+            if (!cellMaskValid) {
+                long bits = 0L;
+                for (int i = 0; i < size; i++) {
+                    bits |= DayOccupancy.ofRange(toTime(starts[i]), toTime(ends[i])).bits();
+                }
+                cellMask = bits;
+                cellMaskValid = true;
+            }
+            return cellMask;
+        }
+
+        /**
+         * [start, end)와 겹치는 구간이 있는지 확인합니다.
+         */
+        boolean overlaps(int start, int end) {
+            // 시작이 end보다 앞선 구간들 중 가장 늦게 끝나는 구간이 start 이후에 끝나면 겹침
+            int last = lowerBound(end) - 1;
+            return last >= 0 && maxEnds[last] > start;
+        }
+
+        private void recomputeMaxEnds(int from) {
+            int max = from > 0 ? maxEnds[from - 1] : Integer.MIN_VALUE;
+            for (int i = from; i < size; i++) {
+                max = Math.max(max, ends[i]);
+                maxEnds[i] = max;
+            }
+        }
+
+        private int lowerBound(int value) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (starts[mid] < value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private int upperBound(int value) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (starts[mid] <= value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * 예약/수업 두 구간 배열을 병합하며 운영 시간(09:00~21:00) 안의 빈 구간을 차례로 돌려줍니다.
+     */
+    private static final class GapCursor {
+        private final IntervalList first;
+        private final IntervalList second;
+        private int i;
+        private int j;
+        private int current = SlotEngine.DAY_START_MINUTE;
+        private boolean finished;
+        int gapStart;
+        int gapEnd;
+
+        GapCursor(IntervalList first, IntervalList second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        boolean next() {
+            while (!finished) {
+                int firstSize = first != null ? first.size : 0;
+                int secondSize = second != null ? second.size : 0;
+                if (i >= firstSize && j >= secondSize) {
+                    finished = true;
+                    if (current < SlotEngine.DAY_END_MINUTE) {
+                        gapStart = current;
+                        gapEnd = SlotEngine.DAY_END_MINUTE;
+                        return true;
+                    }
+                    return false;
+                }
+
+                int start;
+                int end;
+                if (j >= secondSize || (i < firstSize && first.starts[i] <= second.starts[j])) {
+                    start = first.starts[i];
+                    end = first.ends[i++];
+                } else {
+                    start = second.starts[j];
+                    end = second.ends[j++];
+                }
+
+                int gapLimit = Math.min(start, SlotEngine.DAY_END_MINUTE);
+                int previous = current;
+                current = Math.max(current, end);
+                if (previous < gapLimit) {
+                    gapStart = previous;
+                    gapEnd = gapLimit;
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,699 @@
+package com.example.bangbillija.service;
+
+import com.example.bangbillija.model.DayOccupancy;
+import com.example.bangbillija.model.PendingMutation;
+import com.example.bangbillija.model.RecurrenceRule;
+import com.example.bangbillija.model.Reservation;
+import com.example.bangbillija.model.ReservationSeries;
+import com.example.bangbillija.model.ReservationStatus;
+import com.example.bangbillija.model.TimetableEntry;
+import com.google.firebase.Timestamp;
+import com.google.firebase.firestore.DocumentReference;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FieldValue;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.SetOptions;
+import com.google.firebase.firestore.WriteBatch;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 충돌 검사와 예약 생성을 하나의 트랜잭션으로 처리하는 예약 서비스
+ *
+ * 강의실/날짜마다 room_occupancy/{roomId}_{date} 문서를 두고, 예약 ID별 30분 셀 비트마스크(holds)를 저장합니다.
+ * 트랜잭션은 이 작은 문서 하나만 읽고 쓰므로 경합이 해당 강의실/날짜로 한정되며,
+ * 충돌 시 겹치는 예약과 시간대를 추가 조회 없이 알려줍니다.
+ * 수업 시간표는 자주 바뀌지 않으므로 트랜잭션 전에 클라이언트에서 확인합니다.
+ */
+public class ReservationBookingService {
+
+    private static final String COLLECTION_RESERVATIONS = "reservations";
+    private static final String COLLECTION_ROOM_OCCUPANCY = "room_occupancy";
+    private static final String COLLECTION_RESERVATION_SERIES = "reservation_series";
+    private static final String FIELD_HOLDS = "holds";
+    // 마지막으로 반영된 outbox 변경의 멱등 키
+    private static final String FIELD_LAST_MUTATION_ID = "lastMutationId";
+
+    private static ReservationBookingService instance;
+    private final FirebaseFirestore db = FirebaseFirestore.getInstance();
+    private final FirestoreManager firestoreManager = FirestoreManager.getInstance();
+
+    private ReservationBookingService() {
+    }
+
+    public static synchronized ReservationBookingService getInstance() {
+        if (instance == null) {
+            instance = new ReservationBookingService();
+        }
+        return instance;
+    }
+
+    /**
+     * 충돌이 없을 때만 예약을 생성합니다.
+     * 충돌 시 BookingConflictException으로 실패하며 getConflicts()로 사유를 확인할 수 있습니다.
+     */
+    public void book(Reservation reservation, String userId, String userEmail, FirestoreManager.FirestoreCallback<String> callback) {
+        book(reservation, userId, userEmail, null, callback);
+    }
+
+    /**
+     * 멱등 키와 함께 예약 생성 (outbox 재전송용)
+     * 같은 키로 이미 만들어진 예약이면 다시 쓰지 않고 성공으로 처리합니다.
+     */
+    public void book(Reservation reservation, String userId, String userEmail, String mutationId,
+                     FirestoreManager.FirestoreCallback<String> callback) {
+        DayOccupancy requested = DayOccupancy.ofRange(reservation.getStartTime(), reservation.getEndTime());
+        if (requested.isEmpty()) {
+            callback.onFailure(new Exception("운영 시간(09:00~21:00) 내에서만 예약할 수 있습니다"));
+            return;
+        }
+
+        // 1. 수업 시간 확인 (시간표는 트랜잭션 대상이 아님)
+        firestoreManager.getTimetableEntriesForRoomAndDay(reservation.getRoomId(), reservation.getDate().getDayOfWeek(),
+                new FirestoreManager.FirestoreCallback<List<TimetableEntry>>() {
+                    @Override
+                    public void onSuccess(List<TimetableEntry> entries) {
+                        List<String> conflicts = new ArrayList<>();
+                        for (TimetableEntry entry : entries) {
+                            if (DayOccupancy.ofRange(entry.getStartTime(), entry.getEndTime()).overlaps(requested)) {
+                                conflicts.add(String.format("수업 '%s' (%s~%s)",
+                                        entry.getCourseName(), entry.getStartTime(), entry.getEndTime()));
+                            }
+                        }
+                        if (!conflicts.isEmpty()) {
+                            callback.onFailure(new BookingConflictException(conflicts));
+                            return;
+                        }
+
+                        // 2. 점유 문서 트랜잭션
+                        runBookingTransaction(reservation, userId, userEmail, mutationId, requested, null, callback);
+                    }
+
+                    @Override
+                    public void onFailure(Exception e) {
+                        callback.onFailure(e);
+                    }
+                });
+    }
+
+    private void runBookingTransaction(Reservation reservation, String userId, String userEmail, String mutationId,
+                                       DayOccupancy requested, Map<String, Long> seedHolds,
+                                       FirestoreManager.FirestoreCallback<String> callback) {
+        DocumentReference occupancyRef = occupancyRef(reservation.getRoomId(), reservation.getDate());
+        DocumentReference reservationRef = db.collection(COLLECTION_RESERVATIONS).document(reservation.getId());
+
+        Map<String, Object> data = firestoreManager.reservationToMap(reservation);
+        data.put("userId", userId);
+        data.put("ownerEmail", userEmail);
+        if (mutationId != null) {
+            data.put(FIELD_LAST_MUTATION_ID, mutationId);
+        }
+
+        db.runTransaction(transaction -> {
+                    DocumentSnapshot occupancy = transaction.get(occupancyRef);
+                    DocumentSnapshot existing = transaction.get(reservationRef);
+                    if (existing.exists()) {
+                        if (mutationId != null && mutationId.equals(existing.getString(FIELD_LAST_MUTATION_ID))) {
+                            // 응답을 받지 못한 이전 전송이 이미 반영됨
+                            return null;
+                        }
+                        throw new BookingConflictException("이미 존재하는 예약 ID입니다: " + reservation.getId());
+                    }
+
+                    Map<String, Long> holds;
+                    if (occupancy.exists()) {
+                        holds = readHolds(occupancy);
+                    } else if (seedHolds != null) {
+                        holds = seedHolds;
+                    } else {
+                        // 점유 문서가 없는 날짜: 기존 예약으로 초기화한 뒤 다시 시도
+                        throw new SeedRequiredException();
+                    }
+
+                    List<String> conflicts = new ArrayList<>();
+                    for (Map.Entry<String, Long> hold : holds.entrySet()) {
+                        DayOccupancy held = DayOccupancy.of(hold.getValue());
+                        if (held.overlaps(requested)) {
+                            conflicts.add(String.format("예약 %s (%s)", hold.getKey(), held.describe()));
+                        }
+                    }
+                    if (!conflicts.isEmpty()) {
+                        throw new BookingConflictException(conflicts);
+                    }
+
+                    Map<String, Object> newHolds = new HashMap<>();
+                    if (!occupancy.exists()) {
+                        newHolds.putAll(holds);
+                    }
+                    newHolds.put(reservation.getId(), requested.bits());
+
+                    Map<String, Object> occupancyData = new HashMap<>();
+                    occupancyData.put("roomId", reservation.getRoomId());
+                    occupancyData.put("date", reservation.getDate().toString());
+                    occupancyData.put(FIELD_HOLDS, newHolds);
+                    occupancyData.put("updatedAt", Timestamp.now());
+
+                    transaction.set(reservationRef, data);
+                    transaction.set(occupancyRef, occupancyData, SetOptions.merge());
+                    return null;
+                })
+                .addOnSuccessListener(result -> callback.onSuccess(reservation.getId()))
+                .addOnFailureListener(e -> {
+                    Exception cause = unwrap(e);
+                    if (cause instanceof SeedRequiredException) {
+                        seedAndRetry(reservation, userId, userEmail, mutationId, requested, callback);
+                    } else {
+                        callback.onFailure(cause);
+                    }
+                });
+    }
+
+    /**
+     * 점유 문서가 생기기 전에 만들어진 예약을 holds로 변환하여 트랜잭션을 다시 실행합니다.
+     */
+    private void seedAndRetry(Reservation reservation, String userId, String userEmail, String mutationId,
+                              DayOccupancy requested, FirestoreManager.FirestoreCallback<String> callback) {
+        firestoreManager.getReservationsForRoom(reservation.getRoomId(), reservation.getDate(),
+                new FirestoreManager.FirestoreCallback<List<Reservation>>() {
+                    @Override
+                    public void onSuccess(List<Reservation> existing) {
+                        // 취소된 예약은 getReservationsForRoom에서 이미 제외됨
+                        Map<String, Long> seed = new HashMap<>();
+                        for (Reservation r : existing) {
+                            DayOccupancy held = DayOccupancy.ofRange(r.getStartTime(), r.getEndTime());
+                            if (!held.isEmpty()) {
+                                seed.put(r.getId(), held.bits());
+                            }
+                        }
+                        runBookingTransaction(reservation, userId, userEmail, mutationId, requested, seed, callback);
+                    }
+
+                    @Override
+                    public void onFailure(Exception e) {
+                        callback.onFailure(e);
+                    }
+                });
+    }
+
+    /**
+     * 반복 예약 생성: 모든 발생을 기간 내 예약, 수업과 한 번에 비교(사전 검사)한 뒤,
+     * 모든 발생 날짜의 점유 문서를 읽는 하나의 트랜잭션에서 hold를 다시 확인하고 시리즈 문서, 발생 예약, hold를 함께 씁니다.
+     * 단건 예약과 같은 점유 문서를 기준으로 하므로 동시에 들어온 단건/반복 예약과 겹쳐 저장되지 않습니다.
+     * 충돌이 있으면 아무것도 쓰지 않고 SeriesConflictException(충돌 날짜 포함)으로 실패합니다.
+     * @return 생성한 발생 수
+     */
+    public void bookSeries(ReservationSeries series, String userId, String userEmail,
+                           FirestoreManager.FirestoreCallback<Integer> callback) {
+        DayOccupancy requested = DayOccupancy.ofRange(series.getStartTime(), series.getEndTime());
+        if (requested.isEmpty()) {
+            callback.onFailure(new Exception("운영 시간(09:00~21:00) 내에서만 예약할 수 있습니다"));
+            return;
+        }
+        List<Reservation> occurrences = series.occurrences();
+        if (occurrences.isEmpty()) {
+            callback.onFailure(new Exception("반복 기간에 예약할 날짜가 없습니다"));
+            return;
+        }
+        if (occurrences.size() > RecurrenceRule.MAX_OCCURRENCES) {
+            callback.onFailure(new Exception("반복 예약은 최대 " + RecurrenceRule.MAX_OCCURRENCES + "회까지 만들 수 있습니다"));
+            return;
+        }
+
+        LocalDate first = occurrences.get(0).getDate();
+        LocalDate last = occurrences.get(occurrences.size() - 1).getDate();
+        firestoreManager.getReservationsForRoomBetween(series.getRoomId(), first, last,
+                new FirestoreManager.FirestoreCallback<List<Reservation>>() {
+                    @Override
+                    public void onSuccess(List<Reservation> existing) {
+                        firestoreManager.getTimetableEntriesForRoom(series.getRoomId(),
+                                new FirestoreManager.FirestoreCallback<List<TimetableEntry>>() {
+                                    @Override
+                                    public void onSuccess(List<TimetableEntry> classes) {
+                                        List<SeriesConflictChecker.Conflict> conflicts =
+                                                SeriesConflictChecker.check(occurrences, existing, classes);
+                                        if (!conflicts.isEmpty()) {
+                                            callback.onFailure(new SeriesConflictException(conflicts));
+                                            return;
+                                        }
+                                        writeSeries(series, occurrences, existing, requested, userId, userEmail, callback);
+                                    }
+
+                                    @Override
+                                    public void onFailure(Exception e) {
+                                        callback.onFailure(e);
+                                    }
+                                });
+                    }
+
+                    @Override
+                    public void onFailure(Exception e) {
+                        callback.onFailure(e);
+                    }
+                });
+    }
+
+    private void writeSeries(ReservationSeries series, List<Reservation> occurrences, List<Reservation> existing,
+                             DayOccupancy requested, String userId, String userEmail,
+                             FirestoreManager.FirestoreCallback<Integer> callback) {
+        // 점유 문서가 없는 날짜의 초기 holds (단건 예약의 seedAndRetry와 같은 기준: 트랜잭션 직전에 조회한 기존 예약)
+        Map<LocalDate, Map<String, Long>> seeds = new HashMap<>();
+        for (Reservation occurrence : occurrences) {
+            seeds.put(occurrence.getDate(), new HashMap<>());
+        }
+        for (Reservation reservation : existing) {
+            Map<String, Long> seed = seeds.get(reservation.getDate());
+            DayOccupancy held = DayOccupancy.ofRange(reservation.getStartTime(), reservation.getEndTime());
+            if (seed != null && !held.isEmpty()) {
+                seed.put(reservation.getId(), held.bits());
+            }
+        }
+
+        DocumentReference seriesRef = db.collection(COLLECTION_RESERVATION_SERIES).document(series.getId());
+        Map<String, Object> seriesData = seriesToMap(series, userId, userEmail, occurrences.size());
+
+        // 발생마다 점유 문서 1개 + 예약 문서 1개를 쓰므로 MAX_OCCURRENCES가 트랜잭션 쓰기 한도(500) 안에 들어옴
+        db.runTransaction(transaction -> {
+                    // 트랜잭션은 모든 읽기를 쓰기보다 먼저 수행해야 함
+                    List<DocumentSnapshot> occupancies = new ArrayList<>(occurrences.size());
+                    for (Reservation occurrence : occurrences) {
+                        occupancies.add(transaction.get(occupancyRef(occurrence.getRoomId(), occurrence.getDate())));
+                    }
+                    if (transaction.get(seriesRef).exists()) {
+                        throw new BookingConflictException("이미 존재하는 반복 예약 ID입니다: " + series.getId());
+                    }
+                    for (Reservation occurrence : occurrences) {
+                        if (transaction.get(db.collection(COLLECTION_RESERVATIONS).document(occurrence.getId())).exists()) {
+                            throw new BookingConflictException("이미 존재하는 예약 ID입니다: " + occurrence.getId());
+                        }
+                    }
+
+                    List<Map<String, Long>> holdsByOccurrence = new ArrayList<>(occurrences.size());
+                    List<SeriesConflictChecker.Conflict> conflicts = new ArrayList<>();
+                    for (int i = 0; i < occurrences.size(); i++) {
+                        Reservation occurrence = occurrences.get(i);
+                        DocumentSnapshot occupancy = occupancies.get(i);
+                        Map<String, Long> holds = occupancy.exists() ? readHolds(occupancy) : seeds.get(occurrence.getDate());
+                        holdsByOccurrence.add(holds);
+                        for (Map.Entry<String, Long> hold : holds.entrySet()) {
+                            DayOccupancy held = DayOccupancy.of(hold.getValue());
+                            if (held.overlaps(requested)) {
+                                conflicts.add(new SeriesConflictChecker.Conflict(occurrence.getDate(),
+                                        String.format("예약 %s (%s)", hold.getKey(), held.describe())));
+                                break;
+                            }
+                        }
+                    }
+                    if (!conflicts.isEmpty()) {
+                        throw new SeriesConflictException(conflicts);
+                    }
+
+                    Timestamp now = Timestamp.now();
+                    transaction.set(seriesRef, seriesData);
+                    for (int i = 0; i < occurrences.size(); i++) {
+                        Reservation occurrence = occurrences.get(i);
+                        Map<String, Object> data = firestoreManager.reservationToMap(occurrence);
+                        data.put("userId", userId);
+                        data.put("ownerEmail", userEmail);
+                        data.put("seriesId", series.getId());
+                        transaction.set(db.collection(COLLECTION_RESERVATIONS).document(occurrence.getId()), data);
+
+                        Map<String, Object> newHolds = new HashMap<>();
+                        if (!occupancies.get(i).exists()) {
+                            newHolds.putAll(holdsByOccurrence.get(i));
+                        }
+                        newHolds.put(occurrence.getId(), requested.bits());
+                        Map<String, Object> occupancyData = new HashMap<>();
+                        occupancyData.put("roomId", occurrence.getRoomId());
+                        occupancyData.put("date", occurrence.getDate().toString());
+                        occupancyData.put(FIELD_HOLDS, newHolds);
+                        occupancyData.put("updatedAt", now);
+                        transaction.set(occupancyRef(occurrence.getRoomId(), occurrence.getDate()), occupancyData, SetOptions.merge());
+                    }
+                    return null;
+                })
+                .addOnSuccessListener(result -> callback.onSuccess(occurrences.size()))
+                .addOnFailureListener(e -> callback.onFailure(unwrap(e)));
+    }
+
+    private Map<String, Object> seriesToMap(ReservationSeries series, String userId, String userEmail, int occurrenceCount) {
+        RecurrenceRule rule = series.getRule();
+        List<String> exceptions = new ArrayList<>();
+        for (LocalDate date : rule.getExceptions()) {
+            exceptions.add(date.toString());
+        }
+        Map<String, Object> data = new HashMap<>();
+        data.put("id", series.getId());
+        data.put("roomId", series.getRoomId());
+        data.put("roomName", series.getRoomName());
+        data.put("title", series.getTitle());
+        data.put("owner", series.getOwner());
+        data.put("ownerStudentId", series.getOwnerStudentId());
+        data.put("userId", userId);
+        data.put("ownerEmail", userEmail);
+        data.put("startTime", series.getStartTime().toString());
+        data.put("endTime", series.getEndTime().toString());
+        data.put("attendees", series.getAttendees());
+        data.put("note", series.getNote() != null ? series.getNote() : "");
+        data.put("startDate", rule.getStartDate().toString());
+        data.put("untilDate", rule.getUntilDate().toString());
+        data.put("intervalWeeks", rule.getIntervalWeeks());
+        data.put("exceptions", exceptions);
+        data.put("occurrenceCount", occurrenceCount);
+        data.put("createdAt", Timestamp.now());
+        return data;
+    }
+
+    /**
+     * 예약을 취소하고 점유 문서에서 해당 예약의 셀을 해제합니다. (한 번의 트랜잭션)
+     * 예약 ID 문서가 없으면(마이그레이션 전 문서) 예약 ID로 조회하여 처리합니다.
+     */
+    public void cancel(String reservationId, FirestoreManager.FirestoreCallback<Void> callback) {
+        DocumentReference reservationRef = db.collection(COLLECTION_RESERVATIONS).document(reservationId);
+        db.runTransaction(transaction -> {
+                    DocumentSnapshot doc = transaction.get(reservationRef);
+                    if (!doc.exists()) {
+                        return false;
+                    }
+                    if (ReservationStatus.CANCELLED.name().equals(doc.getString("status"))) {
+                        // 이미 취소됨 (점유 셀도 해제된 상태)
+                        return true;
+                    }
+                    Map<String, Object> updates = new HashMap<>();
+                    updates.put("status", ReservationStatus.CANCELLED.name());
+                    updates.put("updatedAt", Timestamp.now());
+                    transaction.update(reservationRef, updates);
+                    releaseHold(doc, reservationId, (ref, value) -> transaction.set(ref, value, SetOptions.merge()));
+                    return true;
+                })
+                .addOnSuccessListener(found -> {
+                    if (found) {
+                        callback.onSuccess(null);
+                    } else {
+                        cancelLegacy(reservationId, callback);
+                    }
+                })
+                .addOnFailureListener(callback::onFailure);
+    }
+
+    private void cancelLegacy(String reservationId, FirestoreManager.FirestoreCallback<Void> callback) {
+        db.collection(COLLECTION_RESERVATIONS)
+                .whereEqualTo("id", reservationId)
+                .get()
+                .addOnSuccessListener(querySnapshot -> {
+                    if (querySnapshot.isEmpty()) {
+                        callback.onFailure(new Exception("예약을 찾을 수 없습니다"));
+                        return;
+                    }
+                    DocumentSnapshot doc = querySnapshot.getDocuments().get(0);
+                    Map<String, Object> updates = new HashMap<>();
+                    updates.put("status", ReservationStatus.CANCELLED.name());
+                    updates.put("updatedAt", Timestamp.now());
+
+                    WriteBatch batch = db.batch();
+                    batch.update(doc.getReference(), updates);
+                    releaseHold(doc, reservationId, (ref, value) -> batch.set(ref, value, SetOptions.merge()));
+                    batch.commit()
+                            .addOnSuccessListener(aVoid -> callback.onSuccess(null))
+                            .addOnFailureListener(callback::onFailure);
+                })
+                .addOnFailureListener(callback::onFailure);
+    }
+
+    /**
+     * outbox의 연속된 수정/취소를 한 트랜잭션으로 반영합니다. (모든 문서를 먼저 읽고 한꺼번에 씀)
+     * 변경마다 서버의 현재 상태를 확인하여, 이미 반영된 변경(멱등 키 일치, 이미 취소됨)은 성공으로,
+     * 취소된 예약의 수정이나 요청 시점 이후 다른 사용자가 상태를 바꾼 경우는 거절로 분류합니다.
+     * 예약 ID 문서가 없는 변경(마이그레이션 전 문서)은 missing으로 돌려주어 개별 경로로 처리하게 합니다.
+     */
+    public void applyMutations(List<PendingMutation> mutations, FirestoreManager.FirestoreCallback<MutationResult> callback) {
+        db.runTransaction(transaction -> {
+                    MutationResult result = new MutationResult();
+                    Map<String, DocumentSnapshot> docs = new HashMap<>();
+                    for (PendingMutation mutation : mutations) {
+                        String reservationId = mutation.getReservationId();
+                        if (!docs.containsKey(reservationId)) {
+                            docs.put(reservationId, transaction.get(db.collection(COLLECTION_RESERVATIONS).document(reservationId)));
+                        }
+                    }
+
+                    // 응답을 받지 못한 이전 전송이 반영된 경우: 문서의 멱등 키와 같은 변경과 그 앞의 같은 예약 변경은 이미 반영됨
+                    Set<String> alreadyApplied = new HashSet<>();
+                    for (int i = 0; i < mutations.size(); i++) {
+                        PendingMutation mutation = mutations.get(i);
+                        DocumentSnapshot doc = docs.get(mutation.getReservationId());
+                        if (doc.exists() && mutation.getId().equals(doc.getString(FIELD_LAST_MUTATION_ID))) {
+                            for (int j = 0; j <= i; j++) {
+                                if (mutations.get(j).getReservationId().equals(mutation.getReservationId())) {
+                                    alreadyApplied.add(mutations.get(j).getId());
+                                }
+                            }
+                        }
+                    }
+
+                    // 같은 예약에 대한 변경은 앞선 변경을 반영한 상태로 판단하고 문서마다 한 번만 씀
+                    Map<String, String> statuses = new HashMap<>();
+                    Map<String, Map<String, Object>> writes = new LinkedHashMap<>();
+                    Map<String, DocumentSnapshot> cancelled = new LinkedHashMap<>();
+                    for (PendingMutation mutation : mutations) {
+                        String reservationId = mutation.getReservationId();
+                        DocumentSnapshot doc = docs.get(reservationId);
+                        if (!doc.exists()) {
+                            result.missing.add(mutation.getId());
+                            continue;
+                        }
+                        if (alreadyApplied.contains(mutation.getId())) {
+                            result.applied.add(mutation.getId());
+                            continue;
+                        }
+                        String current = statuses.containsKey(reservationId) ? statuses.get(reservationId) : doc.getString("status");
+                        ReservationStatus target = mutation.targetStatus();
+                        String rejection = rejectionReason(mutation, current, target);
+                        if (rejection != null) {
+                            result.rejected.put(mutation.getId(), rejection);
+                            continue;
+                        }
+                        result.applied.add(mutation.getId());
+                        if (target != null && target.name().equals(current)) {
+                            // 이미 목표 상태 (다른 관리자가 먼저 승인, 이미 취소 등)
+                            continue;
+                        }
+
+                        Map<String, Object> updates = writes.get(reservationId);
+                        if (updates == null) {
+                            updates = new HashMap<>();
+                            writes.put(reservationId, updates);
+                        }
+                        if (mutation.getKind() == PendingMutation.Kind.CANCEL) {
+                            updates.put("status", ReservationStatus.CANCELLED.name());
+                            cancelled.put(reservationId, doc);
+                        } else {
+                            updates.putAll(mutation.getUpdates());
+                        }
+                        updates.put(FIELD_LAST_MUTATION_ID, mutation.getId());
+                        if (target != null) {
+                            statuses.put(reservationId, target.name());
+                        }
+                    }
+
+                    Timestamp now = Timestamp.now();
+                    for (Map.Entry<String, Map<String, Object>> write : writes.entrySet()) {
+                        write.getValue().put("updatedAt", now);
+                        transaction.update(db.collection(COLLECTION_RESERVATIONS).document(write.getKey()), write.getValue());
+                    }
+                    for (Map.Entry<String, DocumentSnapshot> cancel : cancelled.entrySet()) {
+                        releaseHold(cancel.getValue(), cancel.getKey(), (ref, value) -> transaction.set(ref, value, SetOptions.merge()));
+                    }
+                    return result;
+                })
+                .addOnSuccessListener(callback::onSuccess)
+                .addOnFailureListener(callback::onFailure);
+    }
+
+    /**
+     * 서버 상태 기준으로 변경을 받아들일 수 없는 이유 (받아들일 수 있으면 null)
+     */
+    private static String rejectionReason(PendingMutation mutation, String current, ReservationStatus target) {
+        if (ReservationStatus.CANCELLED.name().equals(current)) {
+            return mutation.getKind() == PendingMutation.Kind.CANCEL ? null : "이미 취소된 예약입니다";
+        }
+        ReservationStatus expected = mutation.getExpectedStatus();
+        if (target != null && !target.name().equals(current) && expected != null && !expected.name().equals(current)) {
+            return "다른 사용자가 예약 상태를 변경했습니다 (현재: " + current + ")";
+        }
+        return null;
+    }
+
+    /**
+     * applyMutations 결과 (변경 ID 기준)
+     */
+    public static class MutationResult {
+        private final Set<String> applied = new HashSet<>();
+        private final Map<String, String> rejected = new HashMap<>();
+        private final Set<String> missing = new HashSet<>();
+
+        public boolean isApplied(String mutationId) {
+            return applied.contains(mutationId);
+        }
+
+        /**
+         * 거절 사유 (거절되지 않았으면 null)
+         */
+        public String rejectionOf(String mutationId) {
+            return rejected.get(mutationId);
+        }
+
+        public boolean isMissing(String mutationId) {
+            return missing.contains(mutationId);
+        }
+    }
+
+    /**
+     * 예약 삭제 시 점유 셀 해제 (예약 문서 삭제는 FirestoreManager.deleteReservation이 담당)
+     */
+    public void releaseHold(Reservation reservation, FirestoreManager.FirestoreCallback<Void> callback) {
+        occupancyRef(reservation.getRoomId(), reservation.getDate())
+                .set(holdRemoval(reservation.getId()), SetOptions.merge())
+                .addOnSuccessListener(aVoid -> callback.onSuccess(null))
+                .addOnFailureListener(callback::onFailure);
+    }
+
+    private void releaseHold(DocumentSnapshot reservationDoc, String reservationId, HoldWriter writer) {
+        String roomId = reservationDoc.getString("roomId");
+        String date = reservationDoc.getString("date");
+        if (roomId == null || date == null) {
+            return;
+        }
+        writer.write(db.collection(COLLECTION_ROOM_OCCUPANCY).document(roomId + "_" + date), holdRemoval(reservationId));
+    }
+
+    private Map<String, Object> holdRemoval(String reservationId) {
+        Map<String, Object> removal = new HashMap<>();
+        removal.put(reservationId, FieldValue.delete());
+        Map<String, Object> data = new HashMap<>();
+        data.put(FIELD_HOLDS, removal);
+        data.put("updatedAt", Timestamp.now());
+        return data;
+    }
+
+    /**
+     * 트랜잭션 함수에서 던진 예외가 감싸져 전달되는 경우 원래 예외를 꺼냅니다.
+     */
+    private Exception unwrap(Exception e) {
+        Throwable cause = e;
+        while (cause != null) {
+            if (cause instanceof BookingConflictException || cause instanceof SeedRequiredException) {
+                return (Exception) cause;
+            }
+            cause = cause.getCause();
+        }
+        return e;
+    }
+
+    /**
+     * 해당 날짜의 강의실별 예약 점유 (room_occupancy 문서를 날짜로 한 번에 조회)
+     * 아직 hold가 없는 날짜(첫 예약 전 마이그레이션 데이터)는 결과에 없을 수 있습니다.
+     * @return 강의실 ID -> 모든 hold를 합친 점유 상태
+     */
+    public void getDayOccupancies(LocalDate date, FirestoreManager.FirestoreCallback<Map<String, DayOccupancy>> callback) {
+        db.collection(COLLECTION_ROOM_OCCUPANCY)
+                .whereEqualTo("date", date.toString())
+                .get()
+                .addOnSuccessListener(querySnapshot -> {
+                    Map<String, DayOccupancy> occupancies = new HashMap<>();
+                    for (DocumentSnapshot doc : querySnapshot.getDocuments()) {
+                        String roomId = doc.getString("roomId");
+                        if (roomId == null) {
+                            continue;
+                        }
+                        long bits = 0L;
+                        for (long hold : readHolds(doc).values()) {
+                            bits |= hold;
+                        }
+                        occupancies.put(roomId, DayOccupancy.of(bits));
+                    }
+                    callback.onSuccess(occupancies);
+                })
+                .addOnFailureListener(callback::onFailure);
+    }
+
+    private DocumentReference occupancyRef(String roomId, LocalDate date) {
+        return db.collection(COLLECTION_ROOM_OCCUPANCY).document(roomId + "_" + date);
+    }
+
+    private Map<String, Long> readHolds(DocumentSnapshot occupancy) {
+        Map<String, Long> holds = new HashMap<>();
+        Object raw = occupancy.get(FIELD_HOLDS);
+        if (raw instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) raw).entrySet()) {
+                if (entry.getValue() instanceof Number) {
+                    holds.put(String.valueOf(entry.getKey()), ((Number) entry.getValue()).longValue());
+                }
+            }
+        }
+        return holds;
+    }
+
+    private interface HoldWriter {
+        void write(DocumentReference ref, Map<String, Object> value);
+    }
+
+    /**
+     * 예약 시간 충돌
+     * 트랜잭션 함수는 FirebaseFirestoreException만 던질 수 있고, 이 예외는 재시도 대상이 되므로
+     * 재시도 없이 바로 실패하도록 unchecked 예외로 정의합니다.
+     */
+    public static class BookingConflictException extends RuntimeException {
+        private final List<String> conflicts;
+
+        public BookingConflictException(List<String> conflicts) {
+            super("이미 사용 중인 시간입니다: " + String.join(", ", conflicts));
+            this.conflicts = conflicts;
+        }
+
+        public BookingConflictException(String message) {
+            super(message);
+            this.conflicts = new ArrayList<>();
+        }
+
+        public List<String> getConflicts() {
+            return conflicts;
+        }
+    }
+
+    /**
+     * 반복 예약 중 일부 날짜가 기존 예약/수업과 충돌
+     */
+    public static class SeriesConflictException extends BookingConflictException {
+        private final List<LocalDate> conflictDates = new ArrayList<>();
+
+        public SeriesConflictException(List<SeriesConflictChecker.Conflict> conflicts) {
+            super(describe(conflicts));
+            for (SeriesConflictChecker.Conflict conflict : conflicts) {
+                conflictDates.add(conflict.getDate());
+                getConflicts().add(conflict.getDate() + " " + conflict.getReason());
+            }
+        }
+
+        /**
+         * 충돌한 날짜 (오름차순)
+         */
+        public List<LocalDate> getConflictDates() {
+            return conflictDates;
+        }
+
+        private static String describe(List<SeriesConflictChecker.Conflict> conflicts) {
+            return conflicts.size() + "개 날짜가 이미 사용 중입니다: " + conflicts.get(0).getDate() + " "
+                    + conflicts.get(0).getReason() + (conflicts.size() > 1 ? " 외" : "");
+        }
+    }
+
+    private static class SeedRequiredException extends RuntimeException {
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.bangbillija.service;
+
+import com.example.bangbillija.model.Reservation;
+import com.google.firebase.firestore.DocumentSnapshot;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 예약 한 페이지와 앞뒤 페이지 조회용 커서
+ */
+public class ReservationPage {
+
+    private final List<Reservation> items;
+    private final DocumentSnapshot first;
+    private final DocumentSnapshot last;
+    private final boolean full;
+
+    ReservationPage(List<Reservation> items, DocumentSnapshot first, DocumentSnapshot last, boolean full) {
+        this.items = Collections.unmodifiableList(items);
+        this.first = first;
+        this.last = last;
+        this.full = full;
+    }
+
+    public List<Reservation> getItems() {
+        return items;
+    }
+
+    /**
+     * 이전 페이지 조회 커서 (빈 페이지이면 null)
+     */
+    public DocumentSnapshot getFirst() {
+        return first;
+    }
+
+    /**
+     * 다음 페이지 조회 커서 (빈 페이지이면 null)
+     */
+    public DocumentSnapshot getLast() {
+        return last;
+    }
+
+    /**
+     * 요청한 크기만큼 채워졌는지 (false이면 이 방향으로 더 없음)
+     */
+    public boolean isFull() {
+        return full;
+    }
+}
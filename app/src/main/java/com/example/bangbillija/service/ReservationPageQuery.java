@@ -0,0 +1,64 @@
+package com.example.bangbillija.service;
+
+import java.time.LocalDate;
+
+/**
+ * 페이지 단위로 조회할 예약 범위
+ * 지난 예약/취소된 예약은 최신순(날짜, 시작 시간 내림차순), 특정 날짜는 시간순으로 정렬됩니다.
+ */
+public final class ReservationPageQuery {
+
+    public enum Kind {
+        PAST,       // 오늘 이전, 취소 제외
+        CANCELLED,  // 취소된 예약
+        ON_DATE     // 특정 날짜
+    }
+
+    private final Kind kind;
+    private final String userId;
+    private final LocalDate date;
+
+    private ReservationPageQuery(Kind kind, String userId, LocalDate date) {
+        this.kind = kind;
+        this.userId = userId;
+        this.date = date;
+    }
+
+    /**
+     * @param userId 사용자 ID (null이면 전체 사용자, 관리자용)
+     * @param today 이 날짜 이전이 지난 예약
+     */
+    public static ReservationPageQuery past(String userId, LocalDate today) {
+        return new ReservationPageQuery(Kind.PAST, userId, today);
+    }
+
+    public static ReservationPageQuery cancelled(String userId) {
+        return new ReservationPageQuery(Kind.CANCELLED, userId, null);
+    }
+
+    public static ReservationPageQuery onDate(String userId, LocalDate date) {
+        return new ReservationPageQuery(Kind.ON_DATE, userId, date);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    /**
+     * PAST이면 기준일(오늘), ON_DATE이면 조회 날짜
+     */
+    public LocalDate getDate() {
+        return date;
+    }
+
+    /**
+     * 최신순 정렬 여부 (ON_DATE만 시간순)
+     */
+    public boolean isNewestFirst() {
+        return kind != Kind.ON_DATE;
+    }
+}
@@ -0,0 +1,252 @@
+package com.example.bangbillija.service;
+
+import com.example.bangbillija.model.DayOccupancy;
+import com.example.bangbillija.model.Room;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 조건(수용 인원, 시설, 건물, 날짜/시간)에 맞는 빈 강의실 찾기 (불변, 강의실 목록이 바뀌면 새로 생성)
+ * 강의실을 수용 인원 순 배열로 두고 시설마다 비트를 부여해 강의실별 시설 비트마스크를 미리 계산하므로,
+ * 검색은 인원 하한을 이진 탐색한 뒤 남은 강의실마다 마스크 비교와 하루 점유 비트마스크 비교만 수행합니다.
+ */
+public class RoomFinder {
+
+    /**
+     * 강의실의 해당 날짜 점유 상태 (예약 + 수업)
+     */
+    public interface OccupancyLookup {
+        DayOccupancy occupancyOf(String roomId);
+    }
+
+    /**
+     * 검색 조건
+     */
+    public static final class Criteria {
+        private final LocalDate date;
+        private final LocalTime startTime;
+        private final LocalTime endTime;
+        private final int minCapacity;
+        private final List<String> facilities;
+        private final String building;
+
+        /**
+         * @param facilities 모두 갖춰야 하는 시설 (비어 있으면 조건 없음)
+         * @param building 건물 (null이면 전체)
+         */
+        public Criteria(LocalDate date, LocalTime startTime, LocalTime endTime, int minCapacity,
+                        Collection<String> facilities, String building) {
+            this.date = date;
+            this.startTime = startTime;
+            this.endTime = endTime;
+            this.minCapacity = minCapacity;
+            this.facilities = facilities == null ? Collections.emptyList() : new ArrayList<>(facilities);
+            this.building = building;
+        }
+
+        public LocalDate getDate() {
+            return date;
+        }
+
+        public LocalTime getStartTime() {
+            return startTime;
+        }
+
+        public LocalTime getEndTime() {
+            return endTime;
+        }
+
+        public int getMinCapacity() {
+            return minCapacity;
+        }
+
+        public List<String> getFacilities() {
+            return facilities;
+        }
+
+        public String getBuilding() {
+            return building;
+        }
+    }
+
+    /**
+     * 검색 결과 한 건
+     */
+    public static final class Match {
+        private final Room room;
+        private final int spareSeats;
+        private final int freeMinutesAfter;
+
+        Match(Room room, int spareSeats, int freeMinutesAfter) {
+            this.room = room;
+            this.spareSeats = spareSeats;
+            this.freeMinutesAfter = freeMinutesAfter;
+        }
+
+        public Room getRoom() {
+            return room;
+        }
+
+        /**
+         * 요청 인원을 넘는 좌석 수
+         */
+        public int getSpareSeats() {
+            return spareSeats;
+        }
+
+        /**
+         * 종료 시간 이후 연속으로 비어 있는 시간 (분, 운영 종료까지)
+         */
+        public int getFreeMinutesAfter() {
+            return freeMinutesAfter;
+        }
+    }
+
+    // 좌석이 덜 남는 강의실 우선, 같으면 이후 여유 시간이 긴 강의실, 이름 순
+    private static final Comparator<Match> RANKING = (m1, m2) -> {
+        int spareCompare = Integer.compare(m1.spareSeats, m2.spareSeats);
+        if (spareCompare != 0) return spareCompare;
+        int freeCompare = Integer.compare(m2.freeMinutesAfter, m1.freeMinutesAfter);
+        if (freeCompare != 0) return freeCompare;
+        return m1.room.getName().compareTo(m2.room.getName());
+    };
+
+    // 수용 인원 오름차순
+    private final Room[] rooms;
+    private final int[] capacities;
+    private final long[] facilityMasks;
+    // 64번째 이후 시설은 비트 없이 문자열로 비교
+    private final List<List<String>> facilityNames;
+    private final Map<String, Integer> facilityBits = new HashMap<>();
+    private final List<String> facilityLabels = new ArrayList<>();
+
+    public RoomFinder(List<Room> roomList) {
+        rooms = roomList.toArray(new Room[0]);
+        Arrays.sort(rooms, Comparator.comparingInt(Room::getCapacity).thenComparing(Room::getId));
+        capacities = new int[rooms.length];
+        facilityMasks = new long[rooms.length];
+        facilityNames = new ArrayList<>(rooms.length);
+        for (int i = 0; i < rooms.length; i++) {
+            capacities[i] = rooms[i].getCapacity();
+            List<String> names = new ArrayList<>();
+            long mask = 0L;
+            if (rooms[i].getFacilities() != null) {
+                for (String facility : rooms[i].getFacilities()) {
+                    String key = normalize(facility);
+                    if (key.isEmpty()) {
+                        continue;
+                    }
+                    names.add(key);
+                    Integer bit = facilityBits.get(key);
+                    if (bit == null && facilityBits.size() < Long.SIZE) {
+                        bit = facilityBits.size();
+                        facilityBits.put(key, bit);
+                        facilityLabels.add(facility.trim());
+                    }
+                    if (bit != null) {
+                        mask |= 1L << bit;
+                    }
+                }
+            }
+            facilityMasks[i] = mask;
+            facilityNames.add(names);
+        }
+    }
+
+    /**
+     * 강의실들이 가진 시설 이름 (처음 등장한 순서, 조건 선택 화면용)
+     */
+    public List<String> getFacilityLabels() {
+        return Collections.unmodifiableList(facilityLabels);
+    }
+
+    /**
+     * 조건에 맞고 해당 시간이 비어 있는 강의실 (순위 순)
+     */
+    public List<Match> find(Criteria criteria, OccupancyLookup occupancy) {
+        List<Match> matches = new ArrayList<>();
+        DayOccupancy requested = DayOccupancy.ofRange(criteria.getStartTime(), criteria.getEndTime());
+        if (requested.isEmpty()) {
+            return matches;
+        }
+
+        long requiredMask = 0L;
+        List<String> unindexed = new ArrayList<>();
+        for (String facility : criteria.getFacilities()) {
+            String key = normalize(facility);
+            if (key.isEmpty()) {
+                continue;
+            }
+            Integer bit = facilityBits.get(key);
+            if (bit != null) {
+                requiredMask |= 1L << bit;
+            } else if (facilityBits.size() < Long.SIZE) {
+                // 어떤 강의실에도 없는 시설
+                return matches;
+            } else {
+                unindexed.add(key);
+            }
+        }
+
+        String building = criteria.getBuilding();
+        int endCell = lastCell(requested) + 1;
+        for (int i = lowerBound(criteria.getMinCapacity()); i < rooms.length; i++) {
+            Room room = rooms[i];
+            if ((facilityMasks[i] & requiredMask) != requiredMask) {
+                continue;
+            }
+            if (building != null && !building.equals(room.getBuilding())) {
+                continue;
+            }
+            if (!unindexed.isEmpty() && !facilityNames.get(i).containsAll(unindexed)) {
+                continue;
+            }
+            DayOccupancy day = occupancy.occupancyOf(room.getId());
+            if (day.overlaps(requested)) {
+                continue;
+            }
+            int freeMinutesAfter = day.freeRunFrom(endCell) * DayOccupancy.CELL_MINUTES;
+            matches.add(new Match(room, capacities[i] - criteria.getMinCapacity(), freeMinutesAfter));
+        }
+        matches.sort(RANKING);
+        return matches;
+    }
+
+    /**
+     * 수용 인원이 minCapacity 이상인 첫 위치
+     */
+    private int lowerBound(int minCapacity) {
+        int low = 0;
+        int high = capacities.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (capacities[mid] < minCapacity) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int lastCell(DayOccupancy occupancy) {
+        return Long.SIZE - 1 - Long.numberOfLeadingZeros(occupancy.bits());
+    }
+
+    private static String normalize(String facility) {
+        if (facility == null) {
+            return "";
+        }
+        return facility.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+    }
+}
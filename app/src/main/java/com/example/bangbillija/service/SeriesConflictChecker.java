@@ -0,0 +1,164 @@
+package com.example.bangbillija.service;
+
+import com.example.bangbillija.model.DayOccupancy;
+import com.example.bangbillija.model.Reservation;
+import com.example.bangbillija.model.ReservationStatus;
+import com.example.bangbillija.model.TimetableEntry;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 반복 예약의 모든 발생을 기존 예약, 수업과 한 번에 비교
+ * 모든 구간을 (날짜 * 하루 셀 수 + 셀 번호)의 절대 셀 좌표로 바꿔 시작 순으로 정렬한 뒤,
+ * 발생 목록과 점유 목록을 한 번씩만 훑으며(sweep line) 지금까지 시작한 점유 중 가장 늦게 끝나는 구간과 비교합니다.
+ * 날짜마다 따로 조회/비교하지 않으므로 발생 수 N, 점유 수 M에 대해 O((N + M) log M)입니다.
+ * 셀 단위는 DayOccupancy와 같아 트랜잭션 예약의 충돌 판정과 일치합니다.
+ */
+public final class SeriesConflictChecker {
+
+    /**
+     * 충돌한 발생 한 건
+     */
+    public static final class Conflict {
+        private final LocalDate date;
+        private final String reason;
+
+        Conflict(LocalDate date, String reason) {
+            this.date = date;
+            this.reason = reason;
+        }
+
+        public LocalDate getDate() {
+            return date;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+    }
+
+    private static final class Interval {
+        final long start;
+        final long end;
+        final LocalDate date;
+        final String label;
+
+        Interval(long start, long end, LocalDate date, String label) {
+            this.start = start;
+            this.end = end;
+            this.date = date;
+            this.label = label;
+        }
+    }
+
+    private SeriesConflictChecker() {
+    }
+
+    /**
+     * @param occurrences 새로 만들 예약 (같은 날짜는 없어야 함)
+     * @param existing 기간 내 기존 예약 (취소된 예약과 occurrences와 같은 ID는 무시)
+     * @param classes 강의실의 수업 (발생 날짜의 요일에 맞춰 적용)
+     * @return 충돌한 발생 (날짜 순, 발생마다 한 건)
+     */
+    public static List<Conflict> check(List<Reservation> occurrences, Collection<Reservation> existing,
+                                       Collection<TimetableEntry> classes) {
+        List<Conflict> conflicts = new ArrayList<>();
+        List<Interval> requested = new ArrayList<>(occurrences.size());
+        Set<String> occurrenceIds = new HashSet<>();
+        Set<LocalDate> dates = new HashSet<>();
+        for (Reservation occurrence : occurrences) {
+            occurrenceIds.add(occurrence.getId());
+            dates.add(occurrence.getDate());
+            Interval interval = toInterval(occurrence.getDate(),
+                    DayOccupancy.ofRange(occurrence.getStartTime(), occurrence.getEndTime()), null);
+            if (interval != null) {
+                requested.add(interval);
+            }
+        }
+        if (requested.isEmpty()) {
+            return conflicts;
+        }
+
+        List<Interval> blocking = new ArrayList<>();
+        for (Reservation reservation : existing) {
+            if (reservation.getStatus() == ReservationStatus.CANCELLED || occurrenceIds.contains(reservation.getId())) {
+                continue;
+            }
+            Interval interval = toInterval(reservation.getDate(),
+                    DayOccupancy.ofRange(reservation.getStartTime(), reservation.getEndTime()),
+                    String.format("예약 '%s' (%s~%s)", reservation.getTitle(),
+                            reservation.getStartTime(), reservation.getEndTime()));
+            if (interval != null) {
+                blocking.add(interval);
+            }
+        }
+
+        // 수업은 요일별로 묶어 발생 날짜에 투영
+        Map<DayOfWeek, List<TimetableEntry>> classesByDay = new EnumMap<>(DayOfWeek.class);
+        for (TimetableEntry entry : classes) {
+            List<TimetableEntry> entries = classesByDay.get(entry.getDayOfWeek());
+            if (entries == null) {
+                entries = new ArrayList<>();
+                classesByDay.put(entry.getDayOfWeek(), entries);
+            }
+            entries.add(entry);
+        }
+        for (LocalDate date : dates) {
+            List<TimetableEntry> entries = classesByDay.get(date.getDayOfWeek());
+            if (entries == null) {
+                continue;
+            }
+            for (TimetableEntry entry : entries) {
+                Interval interval = toInterval(date, DayOccupancy.ofRange(entry.getStartTime(), entry.getEndTime()),
+                        String.format("수업 '%s' (%s~%s)", entry.getCourseName(), entry.getStartTime(), entry.getEndTime()));
+                if (interval != null) {
+                    blocking.add(interval);
+                }
+            }
+        }
+
+        Interval[] sortedRequested = requested.toArray(new Interval[0]);
+        Interval[] sortedBlocking = blocking.toArray(new Interval[0]);
+        Arrays.sort(sortedRequested, (a, b) -> Long.compare(a.start, b.start));
+        Arrays.sort(sortedBlocking, (a, b) -> Long.compare(a.start, b.start));
+
+        // 발생끼리는 겹치지 않으므로 끝 시각도 오름차순: 이미 반영한 점유는 다음 발생에도 유효한 후보
+        Interval latest = null;
+        int next = 0;
+        for (Interval occurrence : sortedRequested) {
+            while (next < sortedBlocking.length && sortedBlocking[next].start < occurrence.end) {
+                if (latest == null || sortedBlocking[next].end > latest.end) {
+                    latest = sortedBlocking[next];
+                }
+                next++;
+            }
+            if (latest != null && latest.end > occurrence.start) {
+                conflicts.add(new Conflict(occurrence.date, latest.label));
+            }
+        }
+        return conflicts;
+    }
+
+    /**
+     * 날짜의 점유 셀을 절대 셀 구간으로 (점유가 없으면 null)
+     */
+    private static Interval toInterval(LocalDate date, DayOccupancy occupancy, String label) {
+        if (occupancy.isEmpty()) {
+            return null;
+        }
+        long bits = occupancy.bits();
+        long base = date.toEpochDay() * DayOccupancy.CELLS;
+        int firstCell = Long.numberOfTrailingZeros(bits);
+        int endCell = Long.SIZE - Long.numberOfLeadingZeros(bits);
+        return new Interval(base + firstCell, base + endCell, date, label);
+    }
+}
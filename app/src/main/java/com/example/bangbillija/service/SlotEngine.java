@@ -1,5 +1,6 @@
 package com.example.bangbillija.service;
 
+import com.example.bangbillija.model.DayOccupancy;
 import com.example.bangbillija.model.Reservation;
 import com.example.bangbillija.model.TimeSlot;
 import com.example.bangbillija.model.TimetableEntry;
@@ -10,12 +11,13 @@ import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public final class SlotEngine {
 
-    private static final LocalTime DAY_START = LocalTime.of(9, 0);
-    private static final LocalTime DAY_END = LocalTime.of(21, 0);
+    static final LocalTime DAY_START = DayOccupancy.DAY_START;
+    static final LocalTime DAY_END = DayOccupancy.DAY_END;
+    static final int DAY_START_MINUTE = DAY_START.getHour() * 60 + DAY_START.getMinute();
+    static final int DAY_END_MINUTE = DAY_END.getHour() * 60 + DAY_END.getMinute();
 
     private SlotEngine() {
     }
@@ -29,86 +31,54 @@ public final class SlotEngine {
      * 30분 단위 예약을 지원하며, 빈 시간은 자동으로 "예약 가능" 슬롯으로 채워집니다.
      */
     public static List<TimeSlot> calculateDailySlots(LocalDate date, List<Reservation> reservations, List<TimetableEntry> allTimetableEntries) {
-        List<TimeSlot> slots = new ArrayList<>();
-
         // 해당 날짜의 요일 추출
         DayOfWeek dayOfWeek = date.getDayOfWeek();
 
-        // 해당 요일의 시간표만 필터링
-        List<TimetableEntry> todayTimetable = allTimetableEntries.stream()
-                .filter(entry -> entry.getDayOfWeek() == dayOfWeek)
-                .collect(Collectors.toList());
-
-        // 예약과 시간표를 합쳐서 "사용 중인 시간 블록"으로 처리
-        List<TimeBlock> blockedTimes = new ArrayList<>();
-
-        // 예약 추가
+        // 예약과 시간표(해당 요일만)를 합쳐서 "사용 중인 시간 블록"으로 처리
+        List<TimeSlot> blocked = new ArrayList<>(reservations.size() + allTimetableEntries.size());
         for (Reservation reservation : reservations) {
-            blockedTimes.add(new TimeBlock(
-                    reservation.getStartTime(),
-                    reservation.getEndTime(),
-                    TimeSlot.fromReservation(reservation)
-            ));
+            blocked.add(TimeSlot.fromReservation(reservation));
         }
-
-        // 시간표 추가 (수업 시간)
-        for (TimetableEntry entry : todayTimetable) {
-            blockedTimes.add(new TimeBlock(
-                    entry.getStartTime(),
-                    entry.getEndTime(),
-                    TimeSlot.forCourse(date, entry)
-            ));
-        }
-
-        // 시간 순으로 정렬
-        blockedTimes.sort(Comparator.comparing(TimeBlock::getStart));
-
-        // 빈 시간을 찾아서 "예약 가능" 슬롯으로 채우기
-        LocalTime currentTime = DAY_START;
-
-        for (TimeBlock block : blockedTimes) {
-            // 현재 시간과 블록 시작 사이에 빈 시간이 있으면 예약 가능 슬롯 추가
-            if (currentTime.isBefore(block.getStart())) {
-                slots.add(TimeSlot.available(date, currentTime, block.getStart()));
+        for (TimetableEntry entry : allTimetableEntries) {
+            if (entry.getDayOfWeek() == dayOfWeek) {
+                blocked.add(TimeSlot.forCourse(date, entry));
             }
-
-            // 블록된 시간 추가 (예약 또는 수업)
-            slots.add(block.getSlot());
-
-            // 현재 시간을 블록 끝으로 이동
-            currentTime = block.getEnd().isAfter(currentTime) ? block.getEnd() : currentTime;
         }
 
-        // 마지막 블록 이후부터 운영 종료 시간까지 빈 시간이 있으면 추가
-        if (currentTime.isBefore(DAY_END)) {
-            slots.add(TimeSlot.available(date, currentTime, DAY_END));
-        }
+        // 시간 순으로 정렬 (안정 정렬이므로 같은 시작 시간이면 예약이 수업보다 앞에 옴)
+        blocked.sort(Comparator.comparing(TimeSlot::getStart));
 
-        return slots;
+        return fillGaps(date, blocked);
     }
 
-    // 내부 헬퍼 클래스: 시간 블록 (예약 또는 시간표)
-    private static class TimeBlock {
-        private final LocalTime start;
-        private final LocalTime end;
-        private final TimeSlot slot;
-
-        TimeBlock(LocalTime start, LocalTime end, TimeSlot slot) {
-            this.start = start;
-            this.end = end;
-            this.slot = slot;
-        }
-
-        LocalTime getStart() {
-            return start;
-        }
+    /**
+     * 미리 구축된 점유 인덱스로 슬롯을 계산합니다.
+     * 시간표 필터링과 정렬이 인덱스에 이미 반영되어 있으므로 호출마다 전체 시간표를 다시 훑지 않습니다.
+     */
+    public static List<TimeSlot> calculateDailySlots(String roomId, LocalDate date, OccupancyIndex index) {
+        return index.dailySlots(roomId, date);
+    }
 
-        LocalTime getEnd() {
-            return end;
+    /**
+     * 시작 시간 순으로 정렬된 사용 중 블록 사이의 빈 시간을 "예약 가능" 슬롯으로 채웁니다.
+     * 빈 시간은 30분 셀 점유 비트마스크의 빈 구간으로 계산하므로, 셀에 일부만 걸친 블록은 셀 전체를 차지합니다.
+     */
+    static List<TimeSlot> fillGaps(LocalDate date, List<TimeSlot> sortedBlocked) {
+        long occupied = 0L;
+        for (TimeSlot block : sortedBlocked) {
+            occupied |= DayOccupancy.ofRange(block.getStart(), block.getEnd()).bits();
         }
-
-        TimeSlot getSlot() {
-            return slot;
+        List<TimeSlot> available = DayOccupancy.of(occupied).toAvailableSlots(date);
+
+        // 두 정렬 목록 병합 (빈 구간은 블록과 겹치지 않음)
+        List<TimeSlot> slots = new ArrayList<>(sortedBlocked.size() + available.size());
+        int i = 0;
+        int j = 0;
+        while (i < sortedBlocked.size() || j < available.size()) {
+            boolean takeAvailable = i >= sortedBlocked.size()
+                    || (j < available.size() && available.get(j).getStart().isBefore(sortedBlocked.get(i).getStart()));
+            slots.add(takeAvailable ? available.get(j++) : sortedBlocked.get(i++));
         }
+        return slots;
     }
 }
@@ -0,0 +1,72 @@
+package com.example.bangbillija.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 증분 동기화 한 번에 전달되는 변경분
+ * 마지막 워터마크(updatedAt) 이후 추가/수정된 문서와 삭제된 문서 ID를 담습니다.
+ */
+public class SyncBatch<T> {
+
+    private final List<T> upserts = new ArrayList<>();
+    private final Map<String, Long> updatedAtById = new HashMap<>();
+    private final List<String> removedIds = new ArrayList<>();
+    private long watermark;
+    private boolean initial;
+
+    void addUpsert(String id, T item, long updatedAt) {
+        // 같은 배치에서 삭제 후 다시 추가된 경우(문서 ID 이전 등) 추가가 우선
+        removedIds.remove(id);
+        upserts.add(item);
+        updatedAtById.put(id, updatedAt);
+        watermark = Math.max(watermark, updatedAt);
+    }
+
+    void addRemoval(String id) {
+        if (updatedAtById.containsKey(id)) {
+            return;
+        }
+        removedIds.add(id);
+    }
+
+    void markInitial() {
+        initial = true;
+    }
+
+    public List<T> getUpserts() {
+        return upserts;
+    }
+
+    /**
+     * 문서의 updatedAt (epoch millis), 알 수 없으면 0
+     */
+    public long getUpdatedAt(String id) {
+        Long updatedAt = updatedAtById.get(id);
+        return updatedAt != null ? updatedAt : 0L;
+    }
+
+    public List<String> getRemovedIds() {
+        return removedIds;
+    }
+
+    /**
+     * 이 배치에 포함된 가장 최근 updatedAt (epoch millis)
+     */
+    public long getWatermark() {
+        return watermark;
+    }
+
+    /**
+     * 리스너 등록 직후 첫 스냅샷 여부 (쿼리 범위 내 문서 전체가 upsert로 포함됨)
+     */
+    public boolean isInitial() {
+        return initial;
+    }
+
+    public boolean isEmpty() {
+        return upserts.isEmpty() && removedIds.isEmpty();
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.bangbillija.ui;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.example.bangbillija.data.ListDiff;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 저장소가 미리 계산한 ListDiff를 그대로 적용하는 어댑터
+ * 실시간 목록은 applyChanges()로 변경된 위치만 알리고,
+ * 검색 필터처럼 화면에서 만든 목록만 submitList()로 DiffUtil 비교를 수행합니다.
+ */
+public abstract class ChangeListAdapter<T, VH extends RecyclerView.ViewHolder> extends RecyclerView.Adapter<VH> {
+
+    private static final long NO_VERSION = -1;
+
+    private final DiffUtil.ItemCallback<T> diffCallback;
+    private List<T> items = Collections.emptyList();
+    // 마지막으로 적용한 ListDiff 버전 (submitList 후에는 NO_VERSION)
+    private long version = NO_VERSION;
+
+    protected ChangeListAdapter(@NonNull DiffUtil.ItemCallback<T> diffCallback) {
+        this.diffCallback = diffCallback;
+    }
+
+    /**
+     * 미리 계산된 변경 내역 적용
+     * 이어지는 변경이 아니면(중간 게시가 합쳐졌거나 다른 목록에서 전환된 경우) 전체 교체합니다.
+     */
+    public void applyChanges(@NonNull ListDiff<T> diff) {
+        boolean continuous = !diff.isReset() && diff.getFromVersion() == version;
+        items = diff.getItems();
+        version = diff.getToVersion();
+        if (!continuous) {
+            notifyDataSetChanged();
+            return;
+        }
+        for (ListDiff.Op op : diff.getOps()) {
+            switch (op.getType()) {
+                case INSERT:
+                    notifyItemInserted(op.getPosition());
+                    break;
+                case REMOVE:
+                    notifyItemRemoved(op.getPosition());
+                    break;
+                case CHANGE:
+                    notifyItemChanged(op.getPosition());
+                    break;
+                case MOVE:
+                    notifyItemMoved(op.getPosition(), op.getToPosition());
+                    break;
+            }
+        }
+    }
+
+    /**
+     * 화면에서 만든 목록으로 교체 (DiffUtil로 변경 위치 계산)
+     */
+    public void submitList(List<T> newList) {
+        List<T> oldList = items;
+        List<T> nextList = newList == null ? Collections.emptyList() : new ArrayList<>(newList);
+        DiffUtil.DiffResult result = DiffUtil.calculateDiff(new DiffUtil.Callback() {
+            @Override
+            public int getOldListSize() {
+                return oldList.size();
+            }
+
+            @Override
+            public int getNewListSize() {
+                return nextList.size();
+            }
+
+            @Override
+            public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+                return diffCallback.areItemsTheSame(oldList.get(oldItemPosition), nextList.get(newItemPosition));
+            }
+
+            @Override
+            public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
+                return diffCallback.areContentsTheSame(oldList.get(oldItemPosition), nextList.get(newItemPosition));
+            }
+        });
+        items = nextList;
+        version = NO_VERSION;
+        result.dispatchUpdatesTo(this);
+    }
+
+    public List<T> getCurrentList() {
+        return Collections.unmodifiableList(items);
+    }
+
+    protected T getItem(int position) {
+        return items.get(position);
+    }
+
+    @Override
+    public int getItemCount() {
+        return items.size();
+    }
+}
@@ -12,7 +12,9 @@ import androidx.lifecycle.ViewModelProvider;
 
 import com.example.bangbillija.R;
 import com.example.bangbillija.core.SharedReservationViewModel;
+import com.example.bangbillija.data.ReservationRepository;
 import com.example.bangbillija.service.AuthManager;
+import com.example.bangbillija.service.NotificationDispatcher;
 import com.example.bangbillija.ui.calendar.CalendarFragment;
 import com.example.bangbillija.ui.checkin.QrCheckInFragment;
 import com.example.bangbillija.ui.reservations.CreateReservationFragment;
@@ -72,6 +74,13 @@ public class MainActivity extends AppCompatActivity implements Navigator {
             }
         });
 
+        // 서버가 거절하여 되돌린 예약 변경 안내
+        ReservationRepository.getInstance().getMutationRejections().observe(this, message -> {
+            if (message != null) {
+                Snackbar.make(findViewById(R.id.fragmentContainer), message, Snackbar.LENGTH_LONG).show();
+            }
+        });
+
         bottomNavigationView.setOnItemSelectedListener(item -> {
             int itemId = item.getItemId();
             if (itemId == R.id.menu_rooms) {
@@ -130,6 +139,20 @@ public class MainActivity extends AppCompatActivity implements Navigator {
         }
     }
 
+    @Override
+    protected void onStart() {
+        super.onStart();
+        // 오프라인 중 쌓인 예약 변경을 바로 다시 전송
+        ReservationRepository.getInstance().flushPendingMutations();
+    }
+
+    @Override
+    protected void onStop() {
+        super.onStop();
+        // 백그라운드로 가기 전에 모아 둔 관리자 알림 기록
+        NotificationDispatcher.getInstance().flush();
+    }
+
     @Override
     public void openReservationDetail() {
         switchTo(detailFragment, getString(R.string.title_reservation_detail), true);
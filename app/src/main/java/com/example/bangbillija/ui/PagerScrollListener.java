@@ -0,0 +1,38 @@
+package com.example.bangbillija.ui;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.example.bangbillija.data.ReservationPager;
+
+/**
+ * RecyclerView 스크롤 위치를 현재 ReservationPager에 전달하여 앞뒤 페이지를 미리 불러옵니다.
+ * 레이아웃 직후에도 onScrolled(0, 0)이 호출되므로 첫 페이지가 화면을 채우지 못하면 다음 페이지를 이어서 요청합니다.
+ */
+public class PagerScrollListener extends RecyclerView.OnScrollListener {
+
+    public interface PagerProvider {
+        /**
+         * 현재 목록을 채우는 페이저 (페이지 목록이 아니면 null)
+         */
+        ReservationPager currentPager();
+    }
+
+    private final PagerProvider provider;
+
+    public PagerScrollListener(PagerProvider provider) {
+        this.provider = provider;
+    }
+
+    @Override
+    public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+        ReservationPager pager = provider.currentPager();
+        RecyclerView.LayoutManager layoutManager = recyclerView.getLayoutManager();
+        if (pager == null || !(layoutManager instanceof LinearLayoutManager)) {
+            return;
+        }
+        LinearLayoutManager linear = (LinearLayoutManager) layoutManager;
+        pager.onScrolled(linear.findFirstVisibleItemPosition(), linear.findLastVisibleItemPosition(), linear.getItemCount());
+    }
+}
@@ -4,7 +4,6 @@ import android.os.Bundle;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
-import android.widget.CalendarView;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -13,15 +12,17 @@ import androidx.lifecycle.ViewModelProvider;
 import androidx.recyclerview.widget.LinearLayoutManager;
 
 import com.example.bangbillija.core.SharedReservationViewModel;
+import com.example.bangbillija.data.ReservationDateIndex;
+import com.example.bangbillija.data.ReservationRepository;
 import com.example.bangbillija.databinding.FragmentCalendarBinding;
 import com.example.bangbillija.model.Reservation;
 import com.example.bangbillija.model.Room;
 import com.example.bangbillija.service.AuthManager;
-import com.example.bangbillija.service.FirestoreManager;
 import com.example.bangbillija.ui.Navigator;
 import com.example.bangbillija.ui.reservations.MyReservationsAdapter;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
@@ -33,10 +34,13 @@ public class CalendarFragment extends Fragment {
     private SharedReservationViewModel viewModel;
     private AuthManager authManager;
     private MyReservationsAdapter reservationAdapter;
-    private List<Reservation> allReservations = new ArrayList<>();
+    // 저장소가 실시간 구독으로 유지하는 날짜별 예약 (날짜 조회와 월 히트맵 모두 서버 조회 없이 처리)
+    private final ReservationDateIndex dateIndex = ReservationRepository.getInstance().getDateIndex();
     private List<Room> allRooms = new ArrayList<>();
     private LocalDate selectedDate = null;
+    private YearMonth displayedMonth = YearMonth.now();
     private final DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy년 M월 d일 (E)", Locale.KOREAN);
+    private final DateTimeFormatter monthFormatter = DateTimeFormatter.ofPattern("yyyy년 M월", Locale.KOREAN);
 
     @Nullable
     @Override
@@ -58,12 +62,16 @@ public class CalendarFragment extends Fragment {
             if (rooms != null) {
                 allRooms = rooms;
                 android.util.Log.d("CalendarFragment", "Rooms loaded: " + rooms.size());
+                // 강의실 수가 이용률의 분모이므로 히트맵 다시 그리기
+                renderMonth();
             }
         });
 
         setupRecyclerView();
         setupCalendar();
-        loadReservations();
+
+        // 예약이 바뀌면 보고 있는 월과 선택한 날짜만 인덱스에서 다시 읽음
+        ReservationRepository.getInstance().getDateIndexChanges().observe(getViewLifecycleOwner(), version -> loadReservations());
     }
 
     private void setupRecyclerView() {
@@ -123,60 +131,45 @@ public class CalendarFragment extends Fragment {
     private void setupCalendar() {
         // 오늘 날짜로 초기화
         selectedDate = LocalDate.now();
+        displayedMonth = YearMonth.from(selectedDate);
+        binding.heatmapView.setSelectedDate(selectedDate);
         updateSelectedDateInfo();
 
-        binding.calendarView.setOnDateChangeListener(new CalendarView.OnDateChangeListener() {
-            @Override
-            public void onSelectedDayChange(@NonNull CalendarView view, int year, int month, int dayOfMonth) {
-                selectedDate = LocalDate.of(year, month + 1, dayOfMonth);
-                updateSelectedDateInfo();
-                showReservationsForDate(selectedDate);
-            }
+        binding.heatmapView.setOnDateSelectedListener(date -> {
+            selectedDate = date;
+            updateSelectedDateInfo();
+            showReservationsForDate(selectedDate);
         });
+        binding.buttonPrevMonth.setOnClickListener(v -> {
+            displayedMonth = displayedMonth.minusMonths(1);
+            renderMonth();
+        });
+        binding.buttonNextMonth.setOnClickListener(v -> {
+            displayedMonth = displayedMonth.plusMonths(1);
+            renderMonth();
+        });
+        loadReservations();
     }
 
+    /**
+     * 보고 있는 월의 히트맵과 선택한 날짜의 예약을 인덱스에서 다시 읽기
+     */
     private void loadReservations() {
-        if (authManager.currentUser() == null) {
-            return;
+        renderMonth();
+        if (selectedDate != null) {
+            showReservationsForDate(selectedDate);
         }
+    }
 
-        FirestoreManager firestoreManager = FirestoreManager.getInstance();
-
-        // 관리자인 경우 모든 예약 로드, 일반 사용자는 자신의 예약만 로드
-        if (authManager.isAdmin()) {
-            firestoreManager.getAllReservations(new FirestoreManager.FirestoreCallback<>() {
-                @Override
-                public void onSuccess(List<Reservation> reservations) {
-                    allReservations = reservations;
-                    // 현재 선택된 날짜의 예약 표시
-                    if (selectedDate != null) {
-                        showReservationsForDate(selectedDate);
-                    }
-                }
-
-                @Override
-                public void onFailure(Exception e) {
-                    // Handle error silently
-                }
-            });
-        } else {
-            String userId = authManager.currentUser().getUid();
-            firestoreManager.getReservationsByUser(userId, new FirestoreManager.FirestoreCallback<>() {
-                @Override
-                public void onSuccess(List<Reservation> reservations) {
-                    allReservations = reservations;
-                    // 현재 선택된 날짜의 예약 표시
-                    if (selectedDate != null) {
-                        showReservationsForDate(selectedDate);
-                    }
-                }
-
-                @Override
-                public void onFailure(Exception e) {
-                    // Handle error silently
-                }
-            });
+    /**
+     * 보고 있는 월의 날짜별 예약 수/이용률을 한 번에 그리기
+     */
+    private void renderMonth() {
+        if (binding == null) {
+            return;
         }
+        binding.textMonth.setText(displayedMonth.format(monthFormatter));
+        binding.heatmapView.setMonthLoad(dateIndex.monthLoad(displayedMonth), allRooms.size());
     }
 
     private void updateSelectedDateInfo() {
@@ -185,15 +178,17 @@ public class CalendarFragment extends Fragment {
         }
     }
 
+    /**
+     * 선택한 날짜의 예약 (관리자는 전체, 일반 사용자는 본인 예약)
+     */
     private void showReservationsForDate(LocalDate date) {
-        List<Reservation> dayReservations = new ArrayList<>();
+        renderReservations(dateIndex.forDate(date));
+    }
 
-        for (Reservation reservation : allReservations) {
-            if (reservation.getDate().equals(date)) {
-                dayReservations.add(reservation);
-            }
+    private void renderReservations(List<Reservation> dayReservations) {
+        if (binding == null) {
+            return;
         }
-
         if (dayReservations.isEmpty()) {
             binding.recyclerReservations.setVisibility(View.GONE);
             binding.textEmpty.setVisibility(View.VISIBLE);
@@ -204,15 +199,8 @@ public class CalendarFragment extends Fragment {
             binding.textEmpty.setVisibility(View.GONE);
             binding.textReservationCount.setVisibility(View.VISIBLE);
             binding.textReservationCount.setText(dayReservations.size() + "개 예약");
-            reservationAdapter.submitList(dayReservations);
         }
-    }
-
-    @Override
-    public void onResume() {
-        super.onResume();
-        // 화면이 다시 보일 때 예약 목록 새로고침
-        loadReservations();
+        reservationAdapter.submitList(dayReservations);
     }
 
     private void handleDetailView(Reservation reservation) {
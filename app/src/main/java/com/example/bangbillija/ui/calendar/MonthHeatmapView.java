@@ -0,0 +1,202 @@
+package com.example.bangbillija.ui.calendar;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.RectF;
+import android.graphics.Typeface;
+import android.util.AttributeSet;
+import android.view.MotionEvent;
+import android.view.View;
+
+import androidx.annotation.Nullable;
+import androidx.core.content.ContextCompat;
+
+import com.example.bangbillija.R;
+import com.example.bangbillija.model.MonthLoad;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * 한 달 달력을 날짜별 이용률 히트맵으로 그리는 뷰 (일요일 시작)
+ * 날짜 칸의 색 농도는 이용률, 아래 숫자는 예약 수이며 MonthLoad 하나로 한 번에 그립니다.
+ */
+public class MonthHeatmapView extends View {
+
+    public interface OnDateSelectedListener {
+        void onDateSelected(LocalDate date);
+    }
+
+    private static final String[] WEEKDAYS = {"일", "월", "화", "수", "목", "금", "토"};
+    private static final int MIN_ALPHA = 0x1A;
+    private static final int MAX_ALPHA = 0xE6;
+
+    private final Paint cellPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint selectedPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint dayPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint countPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint weekdayPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final RectF cellRect = new RectF();
+    private final float density;
+    private final int heatColor;
+    private final int textColor;
+    private final int mutedTextColor;
+
+    private YearMonth month = YearMonth.now();
+    private MonthLoad load = MonthLoad.empty(month);
+    private int roomCount;
+    private LocalDate selectedDate;
+    private OnDateSelectedListener listener;
+
+    public MonthHeatmapView(Context context) {
+        this(context, null);
+    }
+
+    public MonthHeatmapView(Context context, @Nullable AttributeSet attrs) {
+        super(context, attrs);
+        density = getResources().getDisplayMetrics().density;
+        heatColor = ContextCompat.getColor(context, R.color.primary);
+        textColor = ContextCompat.getColor(context, R.color.on_surface);
+        mutedTextColor = ContextCompat.getColor(context, R.color.on_surface_variant);
+
+        cellPaint.setStyle(Paint.Style.FILL);
+        selectedPaint.setStyle(Paint.Style.STROKE);
+        selectedPaint.setStrokeWidth(2 * density);
+        selectedPaint.setColor(ContextCompat.getColor(context, R.color.on_primary_container));
+        dayPaint.setTextAlign(Paint.Align.CENTER);
+        dayPaint.setTextSize(14 * density);
+        countPaint.setTextAlign(Paint.Align.CENTER);
+        countPaint.setTextSize(10 * density);
+        weekdayPaint.setTextAlign(Paint.Align.CENTER);
+        weekdayPaint.setTextSize(12 * density);
+        weekdayPaint.setColor(mutedTextColor);
+    }
+
+    public void setOnDateSelectedListener(OnDateSelectedListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * 표시할 월과 날짜별 집계 (roomCount는 이용률 계산의 분모)
+     */
+    public void setMonthLoad(MonthLoad load, int roomCount) {
+        this.month = load.getMonth();
+        this.load = load;
+        this.roomCount = roomCount;
+        invalidate();
+    }
+
+    public void setSelectedDate(LocalDate date) {
+        this.selectedDate = date;
+        invalidate();
+    }
+
+    private float headerHeight() {
+        return 24 * density;
+    }
+
+    private float rowHeight() {
+        return 48 * density;
+    }
+
+    private int firstColumn() {
+        // DayOfWeek: 월=1 ... 일=7 -> 일요일이 0번 열
+        return month.atDay(1).getDayOfWeek().getValue() % 7;
+    }
+
+    private int rowCount() {
+        return (firstColumn() + month.lengthOfMonth() + 6) / 7;
+    }
+
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        int width = MeasureSpec.getSize(widthMeasureSpec);
+        // 월에 따라 높이가 바뀌지 않도록 항상 6주 높이를 확보
+        int height = (int) (headerHeight() + rowHeight() * 6) + getPaddingTop() + getPaddingBottom();
+        setMeasuredDimension(width, resolveSize(height, heightMeasureSpec));
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+        super.onDraw(canvas);
+        float left = getPaddingLeft();
+        float top = getPaddingTop();
+        float cellWidth = (getWidth() - getPaddingLeft() - getPaddingRight()) / 7f;
+        float rowHeight = rowHeight();
+        float inset = 2 * density;
+        float radius = 8 * density;
+
+        for (int column = 0; column < 7; column++) {
+            canvas.drawText(WEEKDAYS[column], left + cellWidth * (column + 0.5f), top + headerHeight() * 0.7f, weekdayPaint);
+        }
+
+        LocalDate today = LocalDate.now();
+        int firstColumn = firstColumn();
+        int length = month.lengthOfMonth();
+        for (int day = 1; day <= length; day++) {
+            int position = firstColumn + day - 1;
+            float cellLeft = left + (position % 7) * cellWidth;
+            float cellTop = top + headerHeight() + (position / 7) * rowHeight;
+            cellRect.set(cellLeft + inset, cellTop + inset, cellLeft + cellWidth - inset, cellTop + rowHeight - inset);
+
+            int count = load.getReservationCount(day);
+            float utilization = load.utilization(day, roomCount);
+            if (count > 0) {
+                int alpha = MIN_ALPHA + Math.round((MAX_ALPHA - MIN_ALPHA) * utilization);
+                cellPaint.setColor((heatColor & 0x00FFFFFF) | (alpha << 24));
+                canvas.drawRoundRect(cellRect, radius, radius, cellPaint);
+            }
+
+            LocalDate date = month.atDay(day);
+            if (date.equals(selectedDate)) {
+                canvas.drawRoundRect(cellRect, radius, radius, selectedPaint);
+            }
+
+            // 진한 칸은 흰 글씨
+            boolean dark = count > 0 && utilization > 0.5f;
+            dayPaint.setColor(dark ? Color.WHITE : textColor);
+            dayPaint.setTypeface(date.equals(today) ? Typeface.DEFAULT_BOLD : Typeface.DEFAULT);
+            float centerX = cellRect.centerX();
+            canvas.drawText(String.valueOf(day), centerX, cellTop + rowHeight * 0.45f, dayPaint);
+            if (count > 0) {
+                countPaint.setColor(dark ? Color.WHITE : mutedTextColor);
+                canvas.drawText(count + "건", centerX, cellTop + rowHeight * 0.8f, countPaint);
+            }
+        }
+    }
+
+    @Override
+    public boolean onTouchEvent(MotionEvent event) {
+        if (event.getAction() == MotionEvent.ACTION_DOWN) {
+            return true;
+        }
+        if (event.getAction() != MotionEvent.ACTION_UP) {
+            return super.onTouchEvent(event);
+        }
+        float cellWidth = (getWidth() - getPaddingLeft() - getPaddingRight()) / 7f;
+        float y = event.getY() - getPaddingTop() - headerHeight();
+        float x = event.getX() - getPaddingLeft();
+        if (x < 0 || y < 0 || cellWidth <= 0) {
+            return true;
+        }
+        int row = (int) (y / rowHeight());
+        int column = Math.min(6, (int) (x / cellWidth));
+        int day = row * 7 + column - firstColumn() + 1;
+        if (row < rowCount() && day >= 1 && day <= month.lengthOfMonth()) {
+            LocalDate date = month.atDay(day);
+            setSelectedDate(date);
+            performClick();
+            if (listener != null) {
+                listener.onDateSelected(date);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean performClick() {
+        return super.performClick();
+    }
+}
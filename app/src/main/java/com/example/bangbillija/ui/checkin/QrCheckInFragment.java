@@ -121,11 +121,13 @@ public class QrCheckInFragment extends Fragment {
             LocalTime now = LocalTime.now();
             LocalDate today = LocalDate.now();
 
-            // 사용자의 예약 목록 조회
-            FirestoreManager firestoreManager = FirestoreManager.getInstance();
-            firestoreManager.getReservationsByUser(user.getUid(), new FirestoreManager.FirestoreCallback<List<Reservation>>() {
+            // 오늘 해당 강의실의 본인 예약만 조회 (실시간 인덱스에 있으면 즉시 응답)
+            reservationRepository.getTodayReservationsForRoom(user.getUid(), roomId, new FirestoreManager.FirestoreCallback<List<Reservation>>() {
                 @Override
                 public void onSuccess(List<Reservation> reservations) {
+                    if (binding == null) {
+                        return;
+                    }
                     // 오늘 날짜, 해당 강의실의 예약 찾기
                     Reservation matchingReservation = null;
 
@@ -189,6 +191,9 @@ public class QrCheckInFragment extends Fragment {
                 @Override
                 public void onFailure(Exception e) {
                     android.util.Log.e("QrCheckIn", "예약 조회 실패", e);
+                    if (binding == null) {
+                        return;
+                    }
                     Snackbar.make(binding.getRoot(), "예약 정보를 가져올 수 없습니다: " + e.getMessage(),
                             Snackbar.LENGTH_LONG).show();
                 }
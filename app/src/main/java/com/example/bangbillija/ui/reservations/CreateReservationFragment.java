@@ -15,11 +15,15 @@ import androidx.lifecycle.ViewModelProvider;
 import com.example.bangbillija.core.SharedReservationViewModel;
 import com.example.bangbillija.data.ReservationRepository;
 import com.example.bangbillija.databinding.FragmentCreateReservationBinding;
+import com.example.bangbillija.model.DayOccupancy;
+import com.example.bangbillija.model.RecurrenceRule;
 import com.example.bangbillija.model.Reservation;
+import com.example.bangbillija.model.ReservationSeries;
 import com.example.bangbillija.model.ReservationStatus;
 import com.example.bangbillija.model.Room;
 import com.example.bangbillija.service.AuthManager;
 import com.example.bangbillija.service.FirestoreManager;
+import com.example.bangbillija.service.ReservationBookingService;
 import com.example.bangbillija.ui.Navigator;
 import com.google.android.material.dialog.MaterialAlertDialogBuilder;
 import com.google.android.material.snackbar.Snackbar;
@@ -43,8 +47,16 @@ public class CreateReservationFragment extends Fragment {
     private LocalDate selectedDate;
     private LocalTime selectedStartTime;
     private LocalTime selectedEndTime;
+    // 반복 예약 종료일 (반복 선택 시)
+    private LocalDate repeatUntil;
     private List<Reservation> existingReservations = new ArrayList<>();
     private List<com.example.bangbillija.model.TimetableEntry> existingTimetable = new ArrayList<>();
+    private com.google.firebase.firestore.ListenerRegistration roomReservationsListener;
+    // 기존 예약 + 수업의 30분 셀 점유 상태
+    private DayOccupancy dayOccupancy = DayOccupancy.empty();
+
+    // 최소 예약 시간 (1시간 = 2셀)
+    private static final int MIN_RESERVATION_CELLS = 2;
 
     private final DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy년 M월 d일 (E)");
     private final DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm");
@@ -89,6 +101,12 @@ public class CreateReservationFragment extends Fragment {
         binding.buttonSelectStartTime.setOnClickListener(v -> showStartTimePicker());
         binding.buttonSelectEndTime.setOnClickListener(v -> showEndTimePicker());
         binding.buttonCreate.setOnClickListener(v -> createReservation());
+        binding.checkRepeat.setOnCheckedChangeListener((button, checked) -> {
+            binding.layoutRepeat.setVisibility(checked ? View.VISIBLE : View.GONE);
+            updateRepeatSummary();
+        });
+        binding.checkBiweekly.setOnCheckedChangeListener((button, checked) -> updateRepeatSummary());
+        binding.buttonRepeatUntil.setOnClickListener(v -> showRepeatUntilPicker());
         binding.buttonCancel.setOnClickListener(v -> {
             if (getActivity() instanceof Navigator) {
                 requireActivity().onBackPressed();
@@ -108,6 +126,11 @@ public class CreateReservationFragment extends Fragment {
 
                     // 날짜 변경 시 시간 선택 초기화
                     resetTimeSelection();
+                    if (repeatUntil != null && repeatUntil.isBefore(selectedDate)) {
+                        repeatUntil = null;
+                        binding.buttonRepeatUntil.setText("반복 종료일 선택");
+                    }
+                    updateRepeatSummary();
 
                     // 해당 날짜의 기존 예약 로드
                     loadExistingReservations();
@@ -121,6 +144,57 @@ public class CreateReservationFragment extends Fragment {
         datePicker.show();
     }
 
+    private void showRepeatUntilPicker() {
+        if (selectedDate == null) {
+            Snackbar.make(binding.getRoot(), "먼저 날짜를 선택하세요", Snackbar.LENGTH_SHORT).show();
+            return;
+        }
+        LocalDate initialDate = repeatUntil != null ? repeatUntil : selectedDate.plusWeeks(4);
+
+        DatePickerDialog datePicker = new DatePickerDialog(
+                requireContext(),
+                (view, year, month, dayOfMonth) -> {
+                    repeatUntil = LocalDate.of(year, month + 1, dayOfMonth);
+                    binding.buttonRepeatUntil.setText("종료일: " + repeatUntil.format(dateFormatter));
+                    updateRepeatSummary();
+                },
+                initialDate.getYear(),
+                initialDate.getMonthValue() - 1,
+                initialDate.getDayOfMonth()
+        );
+
+        long dayMillis = 24L * 60 * 60 * 1000;
+        datePicker.getDatePicker().setMinDate(selectedDate.toEpochDay() * dayMillis);
+        datePicker.getDatePicker().setMaxDate(selectedDate.plusWeeks(RecurrenceRule.MAX_OCCURRENCES - 1).toEpochDay() * dayMillis);
+        datePicker.show();
+    }
+
+    /**
+     * 선택한 날짜/종료일로 만들 반복 규칙 (반복을 선택하지 않았거나 정보가 부족하면 null)
+     */
+    @Nullable
+    private RecurrenceRule buildRepeatRule() {
+        if (!binding.checkRepeat.isChecked() || selectedDate == null || repeatUntil == null) {
+            return null;
+        }
+        return binding.checkBiweekly.isChecked()
+                ? RecurrenceRule.biweekly(selectedDate, repeatUntil)
+                : RecurrenceRule.weekly(selectedDate, repeatUntil);
+    }
+
+    private void updateRepeatSummary() {
+        if (selectedDate == null) {
+            binding.textRepeatSummary.setText("먼저 날짜를 선택하세요");
+            return;
+        }
+        RecurrenceRule rule = buildRepeatRule();
+        if (rule == null) {
+            binding.textRepeatSummary.setText("반복 종료일을 선택하세요");
+            return;
+        }
+        binding.textRepeatSummary.setText(rule.describe() + " (총 " + rule.occurrences().size() + "회)");
+    }
+
     private void showStartTimePicker() {
         if (selectedRoom == null || selectedDate == null) {
             Snackbar.make(binding.getRoot(), "먼저 강의실과 날짜를 선택하세요", Snackbar.LENGTH_SHORT).show();
@@ -171,41 +245,13 @@ public class CreateReservationFragment extends Fragment {
     }
 
     /**
-     * 특정 시작 시간이 차단되어 있는지 확인
+     * 특정 시작 시간이 차단되어 있는지 확인 (최소 1시간 = 2셀이 연속으로 비어 있어야 함)
      */
     private boolean isTimeBlocked(LocalTime startTime) {
         if (selectedDate == null || selectedRoom == null) {
             return false;
         }
-
-        // 최소 1시간 예약이므로 종료 시간 계산
-        LocalTime endTime = startTime.plusHours(1);
-
-        // 기존 예약과 충돌 확인
-        for (Reservation reservation : existingReservations) {
-            if (timesOverlap(startTime, endTime, reservation.getStartTime(), reservation.getEndTime())) {
-                return true;
-            }
-        }
-
-        // 시간표와 충돌 확인
-        java.time.DayOfWeek dayOfWeek = selectedDate.getDayOfWeek();
-        for (com.example.bangbillija.model.TimetableEntry entry : existingTimetable) {
-            if (entry.getDayOfWeek() == dayOfWeek) {
-                if (timesOverlap(startTime, endTime, entry.getStartTime(), entry.getEndTime())) {
-                    return true;
-                }
-            }
-        }
-
-        return false;
-    }
-
-    /**
-     * 두 시간 범위가 겹치는지 확인
-     */
-    private boolean timesOverlap(LocalTime start1, LocalTime end1, LocalTime start2, LocalTime end2) {
-        return start1.isBefore(end2) && end1.isAfter(start2);
+        return dayOccupancy.freeRunFrom(DayOccupancy.cellOf(startTime)) < MIN_RESERVATION_CELLS;
     }
 
     private void showEndTimePicker() {
@@ -227,10 +273,14 @@ public class CreateReservationFragment extends Fragment {
             return;
         }
 
+        // 시작 셀부터 연속으로 비어 있는 구간의 끝 = 선택 가능한 가장 늦은 종료 시간
+        int startCell = DayOccupancy.cellOf(selectedStartTime);
+        LocalTime latestFreeEnd = DayOccupancy.timeOf(startCell + dayOccupancy.freeRunFrom(startCell));
+
         String[] timeStrings = availableEndTimes.stream()
                 .map(time -> {
                     // 해당 종료 시간이 예약 가능한지 확인
-                    boolean isBlocked = isEndTimeBlocked(time);
+                    boolean isBlocked = time.isAfter(latestFreeEnd);
                     String timeStr = time.format(timeFormatter);
 
                     if (isBlocked) {
@@ -268,25 +318,19 @@ public class CreateReservationFragment extends Fragment {
         if (selectedDate == null || selectedRoom == null || selectedStartTime == null) {
             return false;
         }
+        return !dayOccupancy.isFree(selectedStartTime, endTime);
+    }
 
-        // 기존 예약과 충돌 확인
-        for (Reservation reservation : existingReservations) {
-            if (timesOverlap(selectedStartTime, endTime, reservation.getStartTime(), reservation.getEndTime())) {
-                return true;
-            }
-        }
-
-        // 시간표와 충돌 확인
-        java.time.DayOfWeek dayOfWeek = selectedDate.getDayOfWeek();
-        for (com.example.bangbillija.model.TimetableEntry entry : existingTimetable) {
-            if (entry.getDayOfWeek() == dayOfWeek) {
-                if (timesOverlap(selectedStartTime, endTime, entry.getStartTime(), entry.getEndTime())) {
-                    return true;
-                }
-            }
+    /**
+     * 기존 예약과 해당 요일 수업으로 점유 비트마스크를 다시 계산합니다.
+     */
+    private void updateDayOccupancy() {
+        if (selectedDate == null) {
+            dayOccupancy = DayOccupancy.empty();
+            return;
         }
-
-        return false;
+        dayOccupancy = DayOccupancy.fromReservations(existingReservations)
+                .or(DayOccupancy.fromTimetable(existingTimetable, selectedDate.getDayOfWeek()));
     }
 
     private void resetTimeSelection() {
@@ -318,17 +362,20 @@ public class CreateReservationFragment extends Fragment {
             return;
         }
 
-        // 예약 로드
-        reservationRepository.getReservationsByRoomAndDate(
+        // 선택한 강의실/날짜의 예약만 실시간 구독 (다른 사용자의 새 예약도 충돌 검사에 즉시 반영)
+        if (roomReservationsListener != null) {
+            roomReservationsListener.remove();
+        }
+        roomReservationsListener = reservationRepository.listenToRoomReservations(
                 selectedRoom.getId(),
                 selectedDate,
+                selectedDate,
                 new FirestoreManager.FirestoreCallback<List<Reservation>>() {
                     @Override
                     public void onSuccess(List<Reservation> reservations) {
-                        // CANCELLED 상태가 아닌 예약만 필터링
-                        existingReservations = reservations.stream()
-                                .filter(r -> r.getStatus() != ReservationStatus.CANCELLED)
-                                .collect(java.util.stream.Collectors.toList());
+                        // CANCELLED 상태가 아닌 예약만 전달됨
+                        existingReservations = reservations;
+                        updateDayOccupancy();
 
                         android.util.Log.d("CreateReservation", "Loaded " + existingReservations.size() + " existing reservations");
                     }
@@ -337,6 +384,7 @@ public class CreateReservationFragment extends Fragment {
                     public void onFailure(Exception e) {
                         android.util.Log.e("CreateReservation", "Failed to load reservations", e);
                         existingReservations.clear();
+                        updateDayOccupancy();
                     }
                 });
 
@@ -349,6 +397,7 @@ public class CreateReservationFragment extends Fragment {
                             @Override
                             public void onSuccess(List<com.example.bangbillija.model.TimetableEntry> timetable) {
                                 existingTimetable = timetable;
+                                updateDayOccupancy();
                                 android.util.Log.d("CreateReservation", "Loaded " + existingTimetable.size() + " timetable entries");
                             }
 
@@ -356,6 +405,7 @@ public class CreateReservationFragment extends Fragment {
                             public void onFailure(Exception e) {
                                 android.util.Log.e("CreateReservation", "Failed to load timetable", e);
                                 existingTimetable.clear();
+                                updateDayOccupancy();
                             }
                         });
     }
@@ -365,30 +415,12 @@ public class CreateReservationFragment extends Fragment {
             return false;
         }
 
-        // 기존 예약과의 충돌 검사
-        for (Reservation reservation : existingReservations) {
-            // 겹치는지 확인: 새 예약의 시작이 기존 예약 끝 전이고, 새 예약의 끝이 기존 예약 시작 후
-            boolean overlaps = selectedStartTime.isBefore(reservation.getEndTime()) &&
-                              selectedEndTime.isAfter(reservation.getStartTime());
-
-            if (overlaps) {
-                android.util.Log.d("CreateReservation", "Time conflict with reservation: " +
-                        reservation.getStartTime() + " - " + reservation.getEndTime());
-                return true;
-            }
-        }
-
-        // 시간표(수업 시간)와의 충돌 검사
-        for (com.example.bangbillija.model.TimetableEntry timetableEntry : existingTimetable) {
-            boolean overlaps = selectedStartTime.isBefore(timetableEntry.getEndTime()) &&
-                              selectedEndTime.isAfter(timetableEntry.getStartTime());
-
-            if (overlaps) {
-                android.util.Log.d("CreateReservation", "Time conflict with class: " +
-                        timetableEntry.getCourseName() + " (" +
-                        timetableEntry.getStartTime() + " - " + timetableEntry.getEndTime() + ")");
-                return true;
-            }
+        // 기존 예약 및 수업 시간과의 충돌 검사 (비트 연산 한 번)
+        DayOccupancy requested = DayOccupancy.ofRange(selectedStartTime, selectedEndTime);
+        if (dayOccupancy.overlaps(requested)) {
+            android.util.Log.d("CreateReservation", "Time conflict with occupied cells: " +
+                    dayOccupancy.and(requested).describe());
+            return true;
         }
 
         return false;
@@ -453,6 +485,11 @@ public class CreateReservationFragment extends Fragment {
             valid = false;
         }
 
+        if (binding.checkRepeat.isChecked() && repeatUntil == null) {
+            Snackbar.make(binding.getRoot(), "반복 종료일을 선택하세요", Snackbar.LENGTH_SHORT).show();
+            valid = false;
+        }
+
         if (!valid) {
             return;
         }
@@ -501,6 +538,25 @@ public class CreateReservationFragment extends Fragment {
         FirestoreManager.getInstance().getUserStudentId(userId, new FirestoreManager.FirestoreCallback<String>() {
             @Override
             public void onSuccess(String studentId) {
+                RecurrenceRule repeatRule = buildRepeatRule();
+                if (repeatRule != null) {
+                    ReservationSeries series = new ReservationSeries(
+                            generateId("RSS"),
+                            selectedRoom.getId(),
+                            selectedRoom.getName(),
+                            title,
+                            userId,
+                            studentId,
+                            selectedStartTime,
+                            selectedEndTime,
+                            attendees,
+                            note,
+                            repeatRule
+                    );
+                    createReservationSeries(series, userId, userEmail);
+                    return;
+                }
+
                 // 관리자 승인 없이 바로 RESERVED 상태로 생성
                 Reservation reservation = new Reservation(
                         reservationId,
@@ -546,11 +602,71 @@ public class CreateReservationFragment extends Fragment {
         });
     }
 
+    /**
+     * 반복 예약 생성. 일부 날짜가 충돌하면 해당 날짜를 빼고 다시 예약할지 묻습니다.
+     */
+    private void createReservationSeries(ReservationSeries series, String userId, String userEmail) {
+        reservationRepository.createReservationSeries(series, userId, userEmail, new FirestoreManager.FirestoreCallback<Integer>() {
+            @Override
+            public void onSuccess(Integer count) {
+                if (binding == null) {
+                    return;
+                }
+                setLoading(false);
+                Snackbar.make(binding.getRoot(), "반복 예약 " + count + "건이 확정되었습니다!", Snackbar.LENGTH_LONG).show();
+                if (getActivity() != null) {
+                    requireActivity().onBackPressed();
+                }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                if (binding == null) {
+                    return;
+                }
+                setLoading(false);
+                if (e instanceof ReservationBookingService.SeriesConflictException) {
+                    showSeriesConflictDialog(series, (ReservationBookingService.SeriesConflictException) e, userId, userEmail);
+                } else {
+                    Snackbar.make(binding.getRoot(), "반복 예약 생성 실패: " + e.getMessage(),
+                            Snackbar.LENGTH_LONG).show();
+                }
+            }
+        });
+    }
+
+    private void showSeriesConflictDialog(ReservationSeries series, ReservationBookingService.SeriesConflictException conflict,
+                                          String userId, String userEmail) {
+        List<LocalDate> conflictDates = conflict.getConflictDates();
+        int remaining = series.occurrences().size() - conflictDates.size();
+        String message = TextUtils.join("\n", conflict.getConflicts());
+
+        MaterialAlertDialogBuilder builder = new MaterialAlertDialogBuilder(requireContext())
+                .setTitle(conflictDates.size() + "개 날짜를 예약할 수 없습니다")
+                .setNegativeButton("취소", null);
+        if (remaining > 0) {
+            builder.setMessage(message + "\n\n이 날짜를 제외하고 " + remaining + "건을 예약할까요?")
+                    .setPositiveButton("제외하고 예약", (dialog, which) -> {
+                        setLoading(true);
+                        ReservationSeries retry = series.withRule(series.getRule().withExceptions(conflictDates));
+                        createReservationSeries(retry, userId, userEmail);
+                    });
+        } else {
+            builder.setMessage(message + "\n\n모든 날짜가 사용 중입니다. 다른 시간을 선택하세요.");
+        }
+        builder.show();
+    }
+
     private String generateReservationId() {
+        return generateId("RS");
+    }
+
+    private String generateId(String prefix) {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd");
         String datePart = selectedDate.format(formatter);
-        String uniquePart = UUID.randomUUID().toString().substring(0, 3).toUpperCase();
-        return "RS-" + datePart + "-" + uniquePart;
+        // 예약 ID가 문서 ID로 쓰이므로 같은 날짜 내 충돌 가능성을 낮게 유지
+        String uniquePart = UUID.randomUUID().toString().substring(0, 6).toUpperCase();
+        return prefix + "-" + datePart + "-" + uniquePart;
     }
 
     private void setLoading(boolean loading) {
@@ -563,6 +679,9 @@ public class CreateReservationFragment extends Fragment {
         binding.inputTitle.setEnabled(!loading);
         binding.inputAttendees.setEnabled(!loading);
         binding.inputNote.setEnabled(!loading);
+        binding.checkRepeat.setEnabled(!loading);
+        binding.checkBiweekly.setEnabled(!loading);
+        binding.buttonRepeatUntil.setEnabled(!loading);
     }
 
     private String getTrimmed(@Nullable CharSequence text) {
@@ -572,6 +691,10 @@ public class CreateReservationFragment extends Fragment {
     @Override
     public void onDestroyView() {
         super.onDestroyView();
+        if (roomReservationsListener != null) {
+            roomReservationsListener.remove();
+            roomReservationsListener = null;
+        }
         binding = null;
     }
 }
@@ -6,18 +6,18 @@ import android.view.ViewGroup;
 
 import androidx.annotation.NonNull;
 import androidx.recyclerview.widget.DiffUtil;
-import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.bangbillija.R;
 import com.example.bangbillija.databinding.ItemMyReservationBinding;
 import com.example.bangbillija.model.Reservation;
 import com.example.bangbillija.model.ReservationStatus;
+import com.example.bangbillija.ui.ChangeListAdapter;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
-public class MyReservationsAdapter extends ListAdapter<Reservation, MyReservationsAdapter.ViewHolder> {
+public class MyReservationsAdapter extends ChangeListAdapter<Reservation, MyReservationsAdapter.ViewHolder> {
 
     public interface ReservationClickListener {
         void onPrimaryAction(Reservation reservation);
@@ -14,16 +14,21 @@ import androidx.lifecycle.ViewModelProvider;
 import androidx.recyclerview.widget.LinearLayoutManager;
 
 import com.example.bangbillija.core.SharedReservationViewModel;
+import com.example.bangbillija.data.ListDiff;
+import com.example.bangbillija.data.ReservationPager;
 import com.example.bangbillija.databinding.FragmentMyReservationsBinding;
 import com.example.bangbillija.model.Reservation;
 import com.example.bangbillija.model.ReservationStatus;
 import com.example.bangbillija.model.Room;
 import com.example.bangbillija.service.AuthManager;
+import com.example.bangbillija.service.ReservationPageQuery;
 import com.example.bangbillija.ui.Navigator;
+import com.example.bangbillija.ui.PagerScrollListener;
 import com.example.bangbillija.ui.auth.LoginActivity;
 import com.google.android.material.snackbar.Snackbar;
 import com.google.firebase.auth.FirebaseUser;
 
+import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
 
@@ -33,9 +38,11 @@ public class MyReservationsFragment extends Fragment implements MyReservationsAd
     private SharedReservationViewModel viewModel;
     private MyReservationsAdapter adapter;
     private AuthManager authManager;
-    private List<Reservation> upcoming = Collections.emptyList();
-    private List<Reservation> past = Collections.emptyList();
-    private List<Reservation> cancelled = Collections.emptyList();
+    // 다가오는 예약의 마지막 변경 내역 (실시간 목록)
+    private ListDiff<Reservation> upcoming;
+    // 지난/취소된 예약은 이력이 길어질 수 있으므로 페이지 단위로 조회
+    private ReservationPager pastPager;
+    private ReservationPager cancelledPager;
 
     @Nullable
     @Override
@@ -57,31 +64,57 @@ public class MyReservationsFragment extends Fragment implements MyReservationsAd
         adapter = new MyReservationsAdapter(this);
         binding.recyclerReservations.setLayoutManager(new LinearLayoutManager(requireContext()));
         binding.recyclerReservations.setAdapter(adapter);
+        binding.recyclerReservations.addOnScrollListener(new PagerScrollListener(this::currentPager));
+
+        // 관리자는 전체 사용자, 일반 사용자는 본인 예약만
+        FirebaseUser user = authManager.currentUser();
+        String userId = authManager.isAdmin() || user == null ? null : user.getUid();
+        pastPager = new ReservationPager(ReservationPageQuery.past(userId, LocalDate.now()));
+        cancelledPager = new ReservationPager(ReservationPageQuery.cancelled(userId));
 
         binding.chipGroupFilters.setOnCheckedStateChangeListener((group, ids) -> refreshList());
 
         // 로그아웃 버튼
         binding.buttonLogout.setOnClickListener(v -> showLogoutDialog());
 
-        viewModel.getUpcomingReservations().observe(getViewLifecycleOwner(), reservations -> {
-            upcoming = reservations;
-            refreshList();
-        });
-        viewModel.getPastReservations().observe(getViewLifecycleOwner(), reservations -> {
-            past = reservations;
-            refreshList();
-        });
-        viewModel.getCancelledReservations().observe(getViewLifecycleOwner(), reservations -> {
-            cancelled = reservations;
+        // 저장소가 계산한 변경 내역을 현재 탭의 어댑터에 바로 적용
+        viewModel.getUpcomingChanges().observe(getViewLifecycleOwner(), diff -> {
+            upcoming = diff;
             refreshList();
         });
+        // 페이지가 추가되거나 밀려나면 현재 탭이 해당 목록일 때만 반영
+        pastPager.getItems().observe(getViewLifecycleOwner(), items -> refreshList());
+        cancelledPager.getItems().observe(getViewLifecycleOwner(), items -> refreshList());
     }
 
     @Override
     public void onResume() {
         super.onResume();
-        // 화면이 다시 보일 때 데이터 새로고침
+        // 화면이 다시 보일 때 데이터 새로고침 (이력 탭은 보일 때 첫 페이지만 다시 조회)
+        reloadReservations();
+    }
+
+    private void reloadReservations() {
         com.example.bangbillija.data.ReservationRepository.getInstance().refresh();
+        pastPager.invalidate();
+        cancelledPager.invalidate();
+        refreshList();
+    }
+
+    /**
+     * 현재 탭의 페이저 (다가오는 예약 탭이면 null)
+     */
+    private ReservationPager currentPager() {
+        if (binding == null) {
+            return null;
+        }
+        int checkedId = binding.chipGroupFilters.getCheckedChipId();
+        if (checkedId == binding.chipPast.getId()) {
+            return pastPager;
+        } else if (checkedId == binding.chipCancelled.getId()) {
+            return cancelledPager;
+        }
+        return null;
     }
 
     private void setupProfileSection() {
@@ -132,13 +165,15 @@ public class MyReservationsFragment extends Fragment implements MyReservationsAd
         if (binding == null) {
             return;
         }
-        int checkedId = binding.chipGroupFilters.getCheckedChipId();
-        if (checkedId == binding.chipPast.getId()) {
-            adapter.submitList(past == null ? Collections.emptyList() : new java.util.ArrayList<>(past));
-        } else if (checkedId == binding.chipCancelled.getId()) {
-            adapter.submitList(cancelled == null ? Collections.emptyList() : new java.util.ArrayList<>(cancelled));
+        ReservationPager pager = currentPager();
+        if (pager != null) {
+            pager.ensureLoaded();
+            adapter.submitList(pager.getItems().getValue());
+        } else if (upcoming == null) {
+            adapter.submitList(Collections.emptyList());
         } else {
-            adapter.submitList(upcoming == null ? Collections.emptyList() : new java.util.ArrayList<>(upcoming));
+            // 다른 탭에서 전환된 경우 어댑터가 전체 교체로 처리
+            adapter.applyChanges(upcoming);
         }
     }
 
@@ -198,7 +233,7 @@ public class MyReservationsFragment extends Fragment implements MyReservationsAd
                 requireContext(),
                 reservation,
                 binding.getRoot(),
-                () -> com.example.bangbillija.data.ReservationRepository.getInstance().refresh()
+                this::reloadReservations
         );
     }
 
@@ -210,7 +245,7 @@ public class MyReservationsFragment extends Fragment implements MyReservationsAd
                 requireContext(),
                 reservation,
                 binding.getRoot(),
-                () -> com.example.bangbillija.data.ReservationRepository.getInstance().refresh()
+                this::reloadReservations
         );
     }
 
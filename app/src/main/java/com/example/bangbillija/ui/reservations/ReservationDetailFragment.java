@@ -25,7 +25,6 @@ import com.example.bangbillija.ui.Navigator;
 import com.example.bangbillija.util.QRCodeUtil;
 import com.google.android.material.dialog.MaterialAlertDialogBuilder;
 import com.google.android.material.snackbar.Snackbar;
-import com.google.zxing.WriterException;
 
 import androidx.core.content.ContextCompat;
 
@@ -148,21 +147,32 @@ public class ReservationDetailFragment extends Fragment {
     }
 
     private void generateAndDisplayQRCode() {
-        try {
-            String qrContent = QRCodeUtil.createReservationQRContent(
-                    currentReservation.getId(),
-                    currentRoom.getId(),
-                    currentReservation.getDate().format(DateTimeFormatter.ISO_LOCAL_DATE),
-                    currentReservation.getStartTime().format(timeFormatter)
-            );
-
-            Bitmap qrBitmap = QRCodeUtil.generateQRCode(qrContent, 500, 500);
-            binding.imageQrCode.setImageBitmap(qrBitmap);
-            binding.cardQrCode.setVisibility(View.VISIBLE);
-        } catch (WriterException e) {
-            android.util.Log.e("ReservationDetail", "QR 코드 생성 실패", e);
-            binding.cardQrCode.setVisibility(View.GONE);
-        }
+        String qrContent = QRCodeUtil.createReservationQRContent(
+                currentReservation.getId(),
+                currentRoom.getId(),
+                currentReservation.getDate().format(DateTimeFormatter.ISO_LOCAL_DATE),
+                currentReservation.getStartTime().format(timeFormatter)
+        );
+
+        // 캐시에 있으면 즉시, 없으면 백그라운드에서 생성 후 표시
+        QRCodeUtil.loadQRCode(qrContent, 500, new QRCodeUtil.QRCodeCallback() {
+            @Override
+            public void onQRCode(Bitmap bitmap) {
+                if (binding == null) {
+                    return;
+                }
+                binding.imageQrCode.setImageBitmap(bitmap);
+                binding.cardQrCode.setVisibility(View.VISIBLE);
+            }
+
+            @Override
+            public void onError(Exception e) {
+                android.util.Log.e("ReservationDetail", "QR 코드 생성 실패", e);
+                if (binding != null) {
+                    binding.cardQrCode.setVisibility(View.GONE);
+                }
+            }
+        });
     }
 
     private void addRow(String label, String value) {
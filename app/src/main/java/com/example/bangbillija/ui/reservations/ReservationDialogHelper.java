@@ -76,7 +76,7 @@ public class ReservationDialogHelper {
                 .setMessage("'" + reservation.getTitle() + "' 예약 기록을 완전히 삭제하시겠습니까?\n\n" +
                         "이 작업은 되돌릴 수 없습니다.")
                 .setPositiveButton("삭제", (dialog, which) -> {
-                    FirestoreManager.getInstance()
+                    ReservationRepository.getInstance()
                             .deleteReservation(reservation.getId(),
                                     new FirestoreManager.FirestoreCallback<Void>() {
                                         @Override
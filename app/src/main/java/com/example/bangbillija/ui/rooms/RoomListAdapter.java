@@ -7,18 +7,18 @@ import android.view.ViewGroup;
 import androidx.annotation.NonNull;
 import androidx.core.content.ContextCompat;
 import androidx.recyclerview.widget.DiffUtil;
-import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.bangbillija.R;
 import com.example.bangbillija.databinding.ItemRoomBinding;
 import com.example.bangbillija.model.Room;
 import com.example.bangbillija.model.RoomStatus;
+import com.example.bangbillija.ui.ChangeListAdapter;
 
 import java.util.Locale;
 import java.util.stream.Collectors;
 
-public class RoomListAdapter extends ListAdapter<Room, RoomListAdapter.RoomViewHolder> {
+public class RoomListAdapter extends ChangeListAdapter<Room, RoomListAdapter.RoomViewHolder> {
 
     interface RoomClickListener {
         void onRoomClicked(Room room);
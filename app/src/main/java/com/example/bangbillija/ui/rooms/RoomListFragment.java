@@ -1,7 +1,16 @@
 package com.example.bangbillija.ui.rooms;
 
+import android.content.ContentValues;
+import android.app.DatePickerDialog;
+import android.content.Context;
 import android.graphics.Bitmap;
+import android.net.Uri;
+import android.os.Build;
 import android.os.Bundle;
+import android.os.Environment;
+import android.os.Handler;
+import android.os.Looper;
+import android.provider.MediaStore;
 import android.text.TextUtils;
 import android.view.LayoutInflater;
 import android.view.View;
@@ -14,21 +23,39 @@ import androidx.fragment.app.Fragment;
 import androidx.lifecycle.ViewModelProvider;
 import androidx.recyclerview.widget.LinearLayoutManager;
 
+import com.example.bangbillija.core.AppExecutors;
 import com.example.bangbillija.core.SharedReservationViewModel;
+import com.example.bangbillija.data.ReservationRepository;
+import com.example.bangbillija.data.RoomRepository;
+import com.example.bangbillija.databinding.DialogRoomFinderBinding;
 import com.example.bangbillija.databinding.FragmentRoomListBinding;
+import com.example.bangbillija.model.DayOccupancy;
 import com.example.bangbillija.model.Room;
 import com.example.bangbillija.model.RoomStatus;
 import com.example.bangbillija.service.AuthManager;
+import com.example.bangbillija.service.FirestoreManager;
+import com.example.bangbillija.service.RoomFinder;
 import com.example.bangbillija.ui.Navigator;
 import com.example.bangbillija.util.QRCodeUtil;
+import com.example.bangbillija.util.QRSheetExporter;
 import com.example.bangbillija.util.SimpleTextWatcher;
+import com.google.android.material.chip.Chip;
 import com.google.android.material.dialog.MaterialAlertDialogBuilder;
 import com.google.android.material.snackbar.Snackbar;
-import com.google.zxing.WriterException;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 public class RoomListFragment extends Fragment implements RoomListAdapter.RoomClickListener {
@@ -38,6 +65,19 @@ public class RoomListFragment extends Fragment implements RoomListAdapter.RoomCl
     private RoomListAdapter adapter;
     private AuthManager authManager;
     private List<Room> currentRooms = new ArrayList<>();
+    // QR 시트 PDF를 생성하는 중이면 중복 요청 방지
+    private boolean exportingQrSheet;
+    private static final long SEARCH_DEBOUNCE_MILLIS = 150L;
+    private final Handler searchHandler = new Handler(Looper.getMainLooper());
+    private final Runnable debouncedFilter = this::applyFilter;
+    // 마지막 검색 요청 번호 (늦게 도착한 이전 결과 무시)
+    private int searchGeneration;
+    // 빈 강의실 찾기 결과를 표시 중인지, 마지막 조건 (다음 검색의 기본값)
+    private boolean showingFinderResult;
+    private RoomFinder.Criteria lastCriteria;
+    private static final List<LocalTime> FINDER_TIMES = buildFinderTimes();
+    private final DateTimeFormatter finderDateFormatter = DateTimeFormatter.ofPattern("M월 d일 (E)", Locale.KOREAN);
+    private final DateTimeFormatter finderTimeFormatter = DateTimeFormatter.ofPattern("HH:mm");
 
     @Nullable
     @Override
@@ -57,8 +97,14 @@ public class RoomListFragment extends Fragment implements RoomListAdapter.RoomCl
         binding.recyclerRooms.setLayoutManager(new LinearLayoutManager(requireContext()));
         binding.recyclerRooms.setAdapter(adapter);
 
-        binding.inputSearch.addTextChangedListener(new SimpleTextWatcher(text -> applyFilter()));
+        // 입력이 잠시 멈춘 뒤에만 검색 (칩 변경은 바로 적용)
+        binding.inputSearch.addTextChangedListener(new SimpleTextWatcher(text -> {
+            searchHandler.removeCallbacks(debouncedFilter);
+            searchHandler.postDelayed(debouncedFilter, SEARCH_DEBOUNCE_MILLIS);
+        }));
         binding.chipGroup.setOnCheckedStateChangeListener((group, checkedId) -> applyFilter());
+        binding.buttonRoomFinder.setOnClickListener(v -> showRoomFinderDialog());
+        binding.buttonClearFinder.setOnClickListener(v -> applyFilter());
 
         // 관리자인 경우 FAB 표시
         boolean isAdmin = authManager.isAdmin();
@@ -90,51 +136,264 @@ public class RoomListFragment extends Fragment implements RoomListAdapter.RoomCl
                 }
             });
 
+            // 전체(또는 건물별) 강의실 QR 시트 PDF 출력
+            binding.fabExportQr.setVisibility(View.VISIBLE);
+            binding.fabExportQr.setOnClickListener(v -> showQRSheetExportDialog());
+
             android.util.Log.d("RoomListFragment", "FAB setup complete");
         } else {
             android.util.Log.d("RoomListFragment", "User is not admin, hiding FAB");
             binding.fabAddRoom.setVisibility(View.GONE);
+            binding.fabExportQr.setVisibility(View.GONE);
         }
 
-        viewModel.getRooms().observe(getViewLifecycleOwner(), rooms -> {
-            currentRooms = rooms;
-            adapter.submitList(new ArrayList<>(rooms));
+        // 필터가 없으면 저장소가 계산한 변경 내역을 바로 적용, 있으면 필터 결과로 비교
+        viewModel.getRoomChanges().observe(getViewLifecycleOwner(), diff -> {
+            currentRooms = diff.getItems();
+            if (showingFinderResult) {
+                // 조건 검색 결과는 해제할 때까지 유지
+                return;
+            }
+            if (isFilterActive()) {
+                applyFilter();
+            } else {
+                adapter.applyChanges(diff);
+            }
         });
     }
 
+    private boolean isFilterActive() {
+        boolean hasKeyword = binding.inputSearch.getText() != null
+                && !TextUtils.isEmpty(binding.inputSearch.getText().toString());
+        int checkedId = binding.chipGroup.getCheckedChipId();
+        return hasKeyword
+                || checkedId == binding.chipAvailable.getId()
+                || checkedId == binding.chipReserved.getId()
+                || checkedId == binding.chipLarge.getId();
+    }
+
+    /**
+     * 검색어와 칩 조건으로 강의실 검색 (인덱스 검색은 백그라운드, 결과만 메인 스레드에서 반영)
+     */
     private void applyFilter() {
-        if (currentRooms == null) {
+        if (binding == null) {
             return;
         }
-        String keyword = binding.inputSearch.getText() == null
-                ? ""
-                : binding.inputSearch.getText().toString().toLowerCase(Locale.getDefault());
+        searchHandler.removeCallbacks(debouncedFilter);
+        showingFinderResult = false;
+        binding.layoutFinderResult.setVisibility(View.GONE);
+        String keyword = binding.inputSearch.getText() == null ? "" : binding.inputSearch.getText().toString();
+        Predicate<Room> filter = chipFilter(binding.chipGroup.getCheckedChipId());
+        int generation = ++searchGeneration;
+        viewModel.searchRooms(keyword, filter, new FirestoreManager.FirestoreCallback<List<Room>>() {
+            @Override
+            public void onSuccess(List<Room> rooms) {
+                if (binding == null || generation != searchGeneration) {
+                    return;
+                }
+                adapter.submitList(rooms);
+            }
 
-        int checkedId = binding.chipGroup.getCheckedChipId();
-        List<Room> filtered = currentRooms.stream()
-                .filter(room -> matchRoom(room, keyword, checkedId))
-                .collect(Collectors.toList());
-        adapter.submitList(new ArrayList<>(filtered));
+            @Override
+            public void onFailure(Exception e) {
+                // 인덱스 검색은 실패하지 않음
+            }
+        });
     }
 
-    private boolean matchRoom(Room room, String keyword, int chipId) {
-        boolean matchesKeyword = TextUtils.isEmpty(keyword)
-                || room.getName().toLowerCase(Locale.getDefault()).contains(keyword)
-                || room.getBuilding().toLowerCase(Locale.getDefault()).contains(keyword);
-
-        if (!matchesKeyword) {
-            return false;
-        }
-
+    /**
+     * 선택한 칩에 해당하는 조건 (없으면 null)
+     */
+    @Nullable
+    private Predicate<Room> chipFilter(int chipId) {
         if (chipId == binding.chipAvailable.getId()) {
-            return room.getStatus() == RoomStatus.AVAILABLE;
+            return room -> room.getStatus() == RoomStatus.AVAILABLE;
         } else if (chipId == binding.chipReserved.getId()) {
-            return room.getStatus() == RoomStatus.RESERVED;
+            return room -> room.getStatus() == RoomStatus.RESERVED;
         } else if (chipId == binding.chipLarge.getId()) {
-            return room.getCapacity() >= 40;
+            return room -> room.getCapacity() >= 40;
+        }
+        return null;
+    }
+
+    /**
+     * 빈 강의실 찾기 조건 입력 (날짜/시간, 최소 인원, 건물, 시설)
+     */
+    private void showRoomFinderDialog() {
+        DialogRoomFinderBinding dialogBinding = DialogRoomFinderBinding.inflate(getLayoutInflater());
+        LocalDate[] date = {LocalDate.now()};
+        LocalTime[] start = {defaultFinderStart()};
+        LocalTime[] end = {start[0].plusHours(1)};
+        if (lastCriteria != null && !lastCriteria.getDate().isBefore(LocalDate.now())) {
+            date[0] = lastCriteria.getDate();
+            start[0] = lastCriteria.getStartTime();
+            end[0] = lastCriteria.getEndTime();
+            dialogBinding.inputFinderCapacity.setText(String.valueOf(lastCriteria.getMinCapacity()));
+        }
+        Runnable updateLabels = () -> {
+            dialogBinding.buttonFinderDate.setText("날짜: " + date[0].format(finderDateFormatter));
+            dialogBinding.buttonFinderStart.setText("시작: " + start[0].format(finderTimeFormatter));
+            dialogBinding.buttonFinderEnd.setText("종료: " + end[0].format(finderTimeFormatter));
+        };
+        updateLabels.run();
+
+        dialogBinding.buttonFinderDate.setOnClickListener(v -> {
+            DatePickerDialog picker = new DatePickerDialog(requireContext(), (view, year, month, dayOfMonth) -> {
+                date[0] = LocalDate.of(year, month + 1, dayOfMonth);
+                updateLabels.run();
+            }, date[0].getYear(), date[0].getMonthValue() - 1, date[0].getDayOfMonth());
+            picker.getDatePicker().setMinDate(System.currentTimeMillis() - 1000);
+            picker.show();
+        });
+        dialogBinding.buttonFinderStart.setOnClickListener(v -> {
+            List<LocalTime> options = new ArrayList<>(FINDER_TIMES.subList(0, FINDER_TIMES.size() - 1));
+            pickFinderTime("시작 시간 선택", options, time -> {
+                start[0] = time;
+                if (!end[0].isAfter(time)) {
+                    end[0] = time.plusMinutes(DayOccupancy.CELL_MINUTES);
+                }
+                updateLabels.run();
+            });
+        });
+        dialogBinding.buttonFinderEnd.setOnClickListener(v -> {
+            List<LocalTime> options = new ArrayList<>();
+            for (LocalTime time : FINDER_TIMES) {
+                if (time.isAfter(start[0])) {
+                    options.add(time);
+                }
+            }
+            pickFinderTime("종료 시간 선택", options, time -> {
+                end[0] = time;
+                updateLabels.run();
+            });
+        });
+
+        // 건물: 선택하지 않으면 전체
+        List<String> buildings = currentRooms.stream()
+                .map(Room::getBuilding)
+                .filter(building -> !TextUtils.isEmpty(building))
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+        for (String building : buildings) {
+            Chip chip = new Chip(requireContext());
+            chip.setText(building);
+            chip.setCheckable(true);
+            chip.setChecked(lastCriteria != null && building.equals(lastCriteria.getBuilding()));
+            dialogBinding.chipGroupFinderBuilding.addView(chip);
+        }
+        RoomFinder finder = RoomRepository.getInstance().getRoomFinder();
+        for (String facility : finder.getFacilityLabels()) {
+            Chip chip = new Chip(requireContext());
+            chip.setText(facility);
+            chip.setCheckable(true);
+            chip.setChecked(lastCriteria != null && lastCriteria.getFacilities().contains(facility));
+            dialogBinding.chipGroupFinderFacilities.addView(chip);
+        }
+
+        new MaterialAlertDialogBuilder(requireContext())
+                .setTitle("빈 강의실 찾기")
+                .setView(dialogBinding.getRoot())
+                .setPositiveButton("찾기", (dialog, which) -> {
+                    int minCapacity = 1;
+                    CharSequence capacityText = dialogBinding.inputFinderCapacity.getText();
+                    if (!TextUtils.isEmpty(capacityText)) {
+                        try {
+                            minCapacity = Math.max(1, Integer.parseInt(capacityText.toString().trim()));
+                        } catch (NumberFormatException ignored) {
+                            // 숫자가 아니면 인원 조건 없음
+                        }
+                    }
+                    String building = null;
+                    List<String> facilities = new ArrayList<>();
+                    for (int i = 0; i < dialogBinding.chipGroupFinderBuilding.getChildCount(); i++) {
+                        Chip chip = (Chip) dialogBinding.chipGroupFinderBuilding.getChildAt(i);
+                        if (chip.isChecked()) {
+                            building = chip.getText().toString();
+                        }
+                    }
+                    for (int i = 0; i < dialogBinding.chipGroupFinderFacilities.getChildCount(); i++) {
+                        Chip chip = (Chip) dialogBinding.chipGroupFinderFacilities.getChildAt(i);
+                        if (chip.isChecked()) {
+                            facilities.add(chip.getText().toString());
+                        }
+                    }
+                    findRooms(new RoomFinder.Criteria(date[0], start[0], end[0], minCapacity, facilities, building));
+                })
+                .setNegativeButton("취소", null)
+                .show();
+    }
+
+    private void pickFinderTime(String title, List<LocalTime> options, Consumer<LocalTime> onPicked) {
+        String[] labels = new String[options.size()];
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = options.get(i).format(finderTimeFormatter);
+        }
+        new MaterialAlertDialogBuilder(requireContext())
+                .setTitle(title)
+                .setItems(labels, (dialog, which) -> onPicked.accept(options.get(which)))
+                .setNegativeButton("취소", null)
+                .show();
+    }
+
+    /**
+     * 조건에 맞는 빈 강의실을 찾아 목록에 표시 (좌석이 덜 남는 강의실부터)
+     */
+    private void findRooms(RoomFinder.Criteria criteria) {
+        lastCriteria = criteria;
+        ReservationRepository.getInstance().findAvailableRooms(criteria, new FirestoreManager.FirestoreCallback<List<RoomFinder.Match>>() {
+            @Override
+            public void onSuccess(List<RoomFinder.Match> matches) {
+                if (binding == null) {
+                    return;
+                }
+                // 대기 중인 검색어 검색이 결과를 덮어쓰지 않도록 무효화
+                searchHandler.removeCallbacks(debouncedFilter);
+                searchGeneration++;
+                showingFinderResult = true;
+                List<Room> rooms = new ArrayList<>(matches.size());
+                for (RoomFinder.Match match : matches) {
+                    rooms.add(match.getRoom());
+                }
+                adapter.submitList(rooms);
+                binding.layoutFinderResult.setVisibility(View.VISIBLE);
+                binding.textFinderResult.setText(String.format(Locale.KOREAN, "%s %s~%s · %d명 이상 · 빈 강의실 %d개",
+                        criteria.getDate().format(finderDateFormatter),
+                        criteria.getStartTime().format(finderTimeFormatter),
+                        criteria.getEndTime().format(finderTimeFormatter),
+                        criteria.getMinCapacity(),
+                        rooms.size()));
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                if (binding != null) {
+                    Snackbar.make(binding.getRoot(), "빈 강의실 찾기 실패: " + e.getMessage(), Snackbar.LENGTH_LONG).show();
+                }
+            }
+        });
+    }
+
+    /**
+     * 다음 30분 단위 시각 (운영 시간 안으로 맞춤)
+     */
+    private static LocalTime defaultFinderStart() {
+        LocalTime now = LocalTime.now();
+        for (LocalTime time : FINDER_TIMES) {
+            if (time.isAfter(now) && time.isBefore(DayOccupancy.DAY_END.minusHours(1).plusMinutes(1))) {
+                return time;
+            }
         }
+        return DayOccupancy.DAY_START;
+    }
 
-        return true;
+    private static List<LocalTime> buildFinderTimes() {
+        List<LocalTime> times = new ArrayList<>();
+        for (LocalTime time = DayOccupancy.DAY_START; !time.isAfter(DayOccupancy.DAY_END);
+             time = time.plusMinutes(DayOccupancy.CELL_MINUTES)) {
+            times.add(time);
+        }
+        return times;
     }
 
     @Override
@@ -226,36 +485,155 @@ public class RoomListFragment extends Fragment implements RoomListAdapter.RoomCl
     }
 
     private void showRoomQRCodeDialog(Room room) {
-        try {
-            // QR 코드 생성
-            String qrContent = QRCodeUtil.createRoomQRContent(room.getId(), room.getName());
-            Bitmap qrBitmap = QRCodeUtil.generateQRCode(qrContent, 500, 500);
-
-            // 다이얼로그에 표시할 ImageView 생성
-            ImageView imageView = new ImageView(requireContext());
-            imageView.setImageBitmap(qrBitmap);
-            imageView.setPadding(32, 32, 32, 32);
-
-            new MaterialAlertDialogBuilder(requireContext())
-                    .setTitle(room.getName() + " QR 코드")
-                    .setMessage("사용자가 이 QR 코드를 스캔하여 체크인할 수 있습니다.\n\n" +
-                            "QR 코드를 출력하거나 화면에 표시하여 공유하세요.")
-                    .setView(imageView)
-                    .setPositiveButton("확인", null)
-                    .show();
-
-            Snackbar.make(binding.getRoot(), "QR 코드가 생성되었습니다", Snackbar.LENGTH_SHORT).show();
-
-        } catch (WriterException e) {
-            android.util.Log.e("RoomListFragment", "QR 코드 생성 실패", e);
-            Snackbar.make(binding.getRoot(), "QR 코드 생성 실패: " + e.getMessage(),
-                    Snackbar.LENGTH_LONG).show();
+        // QR 코드 생성 (캐시에 없으면 백그라운드에서 생성)
+        String qrContent = QRCodeUtil.createRoomQRContent(room.getId(), room.getName());
+        QRCodeUtil.loadQRCode(qrContent, 500, new QRCodeUtil.QRCodeCallback() {
+            @Override
+            public void onQRCode(Bitmap qrBitmap) {
+                if (binding == null) {
+                    return;
+                }
+                // 다이얼로그에 표시할 ImageView 생성
+                ImageView imageView = new ImageView(requireContext());
+                imageView.setImageBitmap(qrBitmap);
+                imageView.setPadding(32, 32, 32, 32);
+
+                new MaterialAlertDialogBuilder(requireContext())
+                        .setTitle(room.getName() + " QR 코드")
+                        .setMessage("사용자가 이 QR 코드를 스캔하여 체크인할 수 있습니다.\n\n" +
+                                "QR 코드를 출력하거나 화면에 표시하여 공유하세요.")
+                        .setView(imageView)
+                        .setPositiveButton("확인", null)
+                        .show();
+
+                Snackbar.make(binding.getRoot(), "QR 코드가 생성되었습니다", Snackbar.LENGTH_SHORT).show();
+            }
+
+            @Override
+            public void onError(Exception e) {
+                android.util.Log.e("RoomListFragment", "QR 코드 생성 실패", e);
+                if (binding != null) {
+                    Snackbar.make(binding.getRoot(), "QR 코드 생성 실패: " + e.getMessage(),
+                            Snackbar.LENGTH_LONG).show();
+                }
+            }
+        });
+    }
+
+    private void showQRSheetExportDialog() {
+        if (exportingQrSheet) {
+            Snackbar.make(binding.getRoot(), "QR 시트를 생성하고 있습니다", Snackbar.LENGTH_SHORT).show();
+            return;
         }
+        List<String> buildings = currentRooms.stream()
+                .map(Room::getBuilding)
+                .filter(building -> !TextUtils.isEmpty(building))
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+
+        String[] options = new String[buildings.size() + 1];
+        options[0] = "전체 강의실 (" + currentRooms.size() + "개)";
+        for (int i = 0; i < buildings.size(); i++) {
+            options[i + 1] = buildings.get(i);
+        }
+
+        new MaterialAlertDialogBuilder(requireContext())
+                .setTitle("QR 시트 출력")
+                .setItems(options, (dialog, which) ->
+                        exportQRSheet(which == 0 ? null : buildings.get(which - 1)))
+                .setNegativeButton("취소", null)
+                .show();
+    }
+
+    /**
+     * 강의실 QR 코드를 한 장에 여러 개씩 배치한 PDF를 다운로드 폴더에 저장
+     * @param building 출력할 건물 (null이면 전체)
+     */
+    private void exportQRSheet(@Nullable String building) {
+        List<Room> rooms = currentRooms.stream()
+                .filter(room -> building == null || building.equals(room.getBuilding()))
+                .sorted(Comparator.comparing(Room::getBuilding, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+                        .thenComparing(Room::getName, Comparator.nullsFirst(Comparator.<String>naturalOrder())))
+                .collect(Collectors.toList());
+        if (rooms.isEmpty()) {
+            Snackbar.make(binding.getRoot(), "출력할 강의실이 없습니다", Snackbar.LENGTH_SHORT).show();
+            return;
+        }
+
+        String fileName = "room_qr_" + (building == null ? "all" : building.replaceAll("[\\\\/:*?\"<>|\\s]", "_"))
+                + "_" + LocalDate.now() + ".pdf";
+        Context context = requireContext().getApplicationContext();
+        Snackbar progressBar = Snackbar.make(binding.getRoot(),
+                "QR 시트 생성 중... 0/" + rooms.size(), Snackbar.LENGTH_INDEFINITE);
+        progressBar.show();
+        exportingQrSheet = true;
+
+        AppExecutors executors = AppExecutors.getInstance();
+        executors.rendering().execute(() -> {
+            Uri uri = null;
+            try {
+                OutputStream outputStream;
+                String savePath;
+                if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+                    ContentValues values = new ContentValues();
+                    values.put(MediaStore.MediaColumns.DISPLAY_NAME, fileName);
+                    values.put(MediaStore.MediaColumns.MIME_TYPE, "application/pdf");
+                    values.put(MediaStore.MediaColumns.RELATIVE_PATH, Environment.DIRECTORY_DOWNLOADS);
+                    uri = context.getContentResolver().insert(MediaStore.Downloads.EXTERNAL_CONTENT_URI, values);
+                    if (uri == null) {
+                        throw new IOException("URI 생성 실패");
+                    }
+                    outputStream = context.getContentResolver().openOutputStream(uri);
+                    savePath = "다운로드 폴더";
+                } else {
+                    File downloadsDir = Environment.getExternalStoragePublicDirectory(Environment.DIRECTORY_DOWNLOADS);
+                    File outputFile = new File(downloadsDir, fileName);
+                    outputStream = new FileOutputStream(outputFile);
+                    savePath = outputFile.getAbsolutePath();
+                }
+                if (outputStream == null) {
+                    throw new IOException("파일 스트림 생성 실패");
+                }
+
+                int pages;
+                try (OutputStream out = outputStream) {
+                    pages = new QRSheetExporter().export(rooms, out, (completed, total) ->
+                            executors.mainThread().execute(() ->
+                                    progressBar.setText("QR 시트 생성 중... " + completed + "/" + total)));
+                }
+
+                executors.mainThread().execute(() -> {
+                    exportingQrSheet = false;
+                    progressBar.dismiss();
+                    if (binding != null) {
+                        Snackbar.make(binding.getRoot(),
+                                "QR 시트 " + pages + "쪽이 " + savePath + "에 저장되었습니다",
+                                Snackbar.LENGTH_LONG).show();
+                    }
+                });
+            } catch (Exception e) {
+                android.util.Log.e("RoomListFragment", "QR 시트 생성 실패", e);
+                if (uri != null) {
+                    // 일부만 기록된 파일은 남기지 않음
+                    context.getContentResolver().delete(uri, null, null);
+                }
+                executors.mainThread().execute(() -> {
+                    exportingQrSheet = false;
+                    progressBar.dismiss();
+                    if (binding != null) {
+                        Snackbar.make(binding.getRoot(), "QR 시트 생성 실패: " + e.getMessage(),
+                                Snackbar.LENGTH_LONG).show();
+                    }
+                });
+            }
+        });
     }
 
     @Override
     public void onDestroyView() {
         super.onDestroyView();
+        searchHandler.removeCallbacks(debouncedFilter);
         binding = null;
     }
 }
@@ -24,14 +24,18 @@ import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.bangbillija.R;
+import com.example.bangbillija.core.AppExecutors;
 import com.example.bangbillija.model.Room;
 import com.example.bangbillija.model.RoomStatus;
+import com.example.bangbillija.model.SemesterSummary;
 import com.example.bangbillija.model.TimetableEntry;
 import com.example.bangbillija.data.RoomRepository;
 import com.example.bangbillija.data.TimetableRepository;
+import com.example.bangbillija.service.BatchWriter;
 import com.example.bangbillija.service.FirestoreManager;
 import com.example.bangbillija.util.TimetableCSVParser;
 import com.google.android.material.button.MaterialButton;
+import com.google.android.material.snackbar.Snackbar;
 import com.google.android.material.textfield.TextInputEditText;
 
 import java.io.File;
@@ -289,112 +293,150 @@ public class TimetableFragment extends Fragment {
     }
 
     private void parseCSVFile(Uri uri, String semester) {
-        try {
-            InputStream inputStream = requireContext().getContentResolver().openInputStream(uri);
-            List<TimetableEntry> entries = TimetableCSVParser.parseCSV(inputStream, semester);
-
-            // 1단계: CSV에서 강의실 정보 추출 및 자동 등록
-            autoRegisterRoomsFromTimetable(entries);
-
-            // 2단계: Firestore에 시간표 저장
-            timetableRepository.addEntries(entries, new FirestoreManager.FirestoreCallback<Void>() {
-                @Override
-                public void onSuccess(Void result) {
-                    Toast.makeText(requireContext(),
-                            entries.size() + "개의 수업이 저장되었습니다",
-                            Toast.LENGTH_SHORT).show();
-                }
-
-                @Override
-                public void onFailure(Exception e) {
-                    Toast.makeText(requireContext(),
-                            "저장 실패: " + e.getMessage(),
-                            Toast.LENGTH_LONG).show();
+        android.content.Context context = requireContext().getApplicationContext();
+        // 대용량 CSV도 메인 스레드를 막지 않도록 디스크 스레드에서 스트리밍 파싱
+        AppExecutors.getInstance().diskIO().execute(() -> {
+            List<TimetableEntry> entries = new ArrayList<>();
+            // 강의실 자동 등록용 (파싱과 동시에 강의실별 첫 수업만 수집)
+            java.util.Map<String, TimetableEntry> uniqueRooms = new java.util.LinkedHashMap<>();
+            try (InputStream inputStream = context.getContentResolver().openInputStream(uri)) {
+                if (inputStream == null) {
+                    throw new java.io.FileNotFoundException(uri.toString());
                 }
-            });
-
-        } catch (TimetableCSVParser.ParseException e) {
-            Toast.makeText(requireContext(),
-                    "CSV 파싱 오류 (Line " + e.getLineNumber() + "): " + e.getMessage(),
-                    Toast.LENGTH_LONG).show();
-        } catch (Exception e) {
-            Toast.makeText(requireContext(),
-                    "파일 읽기 실패: " + e.getMessage(),
-                    Toast.LENGTH_SHORT).show();
-        }
+                TimetableCSVParser.ParseResult result = TimetableCSVParser.parse(inputStream, semester, entry -> {
+                    entries.add(entry);
+                    if (!uniqueRooms.containsKey(entry.getRoomId())) {
+                        uniqueRooms.put(entry.getRoomId(), entry);
+                    }
+                });
+                AppExecutors.getInstance().mainThread().execute(() -> {
+                    if (!isAdded()) {
+                        return;
+                    }
+                    if (result.hasErrors()) {
+                        showParseErrorsDialog(result, entries, uniqueRooms.values());
+                    } else {
+                        saveParsedEntries(entries, uniqueRooms.values());
+                    }
+                });
+            } catch (Exception e) {
+                AppExecutors.getInstance().mainThread().execute(() -> {
+                    if (isAdded()) {
+                        Toast.makeText(requireContext(),
+                                "파일 읽기 실패: " + e.getMessage(),
+                                Toast.LENGTH_SHORT).show();
+                    }
+                });
+            }
+        });
     }
 
     /**
-     * 시간표 엔트리에서 강의실 정보를 추출하여 자동으로 등록
+     * 오류 행 목록을 보여주고, 올바른 행만 저장할지 확인
      */
-    private void autoRegisterRoomsFromTimetable(List<TimetableEntry> entries) {
-        // 중복 제거를 위한 Map (roomId -> TimetableEntry)
-        java.util.Map<String, TimetableEntry> uniqueRooms = new java.util.HashMap<>();
-
-        for (TimetableEntry entry : entries) {
-            if (!uniqueRooms.containsKey(entry.getRoomId())) {
-                uniqueRooms.put(entry.getRoomId(), entry);
+    private void showParseErrorsDialog(TimetableCSVParser.ParseResult result, List<TimetableEntry> entries,
+                                       java.util.Collection<TimetableEntry> roomEntries) {
+        StringBuilder message = new StringBuilder();
+        message.append("오류 ").append(result.getErrorCount()).append("개 행을 제외하고 ")
+                .append(result.getEntryCount()).append("개 수업을 저장할 수 있습니다.\n\n");
+        int shown = 0;
+        for (TimetableCSVParser.ParseException error : result.getErrors()) {
+            if (shown++ >= 10) {
+                message.append("…");
+                break;
             }
+            message.append(error.getMessage()).append('\n');
         }
 
-        // 각 강의실을 확인하고 없으면 등록
-        for (TimetableEntry entry : uniqueRooms.values()) {
-            checkAndRegisterRoom(entry);
+        AlertDialog.Builder builder = new AlertDialog.Builder(requireContext())
+                .setTitle("CSV 파싱 오류")
+                .setMessage(message.toString())
+                .setNegativeButton("취소", null);
+        if (!entries.isEmpty()) {
+            builder.setPositiveButton("올바른 행만 저장", (dialog, which) -> saveParsedEntries(entries, roomEntries));
         }
+        builder.show();
+    }
+
+    private void saveParsedEntries(List<TimetableEntry> entries, java.util.Collection<TimetableEntry> roomEntries) {
+        // 1단계: CSV에서 강의실 정보 추출 및 자동 등록
+        autoRegisterRooms(roomEntries);
+
+        // 2단계: Firestore에 시간표 저장 (500개 단위 배치, 진행 상황 표시)
+        Snackbar progressBar = entries.size() > BatchWriter.MAX_OPS_PER_BATCH && getView() != null
+                ? Snackbar.make(getView(), "저장 중... 0/" + entries.size(), Snackbar.LENGTH_INDEFINITE)
+                : null;
+        if (progressBar != null) {
+            progressBar.show();
+        }
+        timetableRepository.addEntries(entries, (completed, total) -> {
+            if (progressBar != null) {
+                progressBar.setText("저장 중... " + completed + "/" + total);
+            }
+        }, new FirestoreManager.FirestoreCallback<Void>() {
+            @Override
+            public void onSuccess(Void result) {
+                if (progressBar != null) {
+                    progressBar.dismiss();
+                }
+                Toast.makeText(requireContext(),
+                        entries.size() + "개의 수업이 저장되었습니다",
+                        Toast.LENGTH_SHORT).show();
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                if (progressBar != null) {
+                    progressBar.dismiss();
+                }
+                Toast.makeText(requireContext(),
+                        "저장 실패: " + e.getMessage(),
+                        Toast.LENGTH_LONG).show();
+            }
+        });
     }
 
     /**
-     * 강의실이 존재하는지 확인하고 없으면 등록
+     * 강의실별 수업 정보로 강의실을 확인하고 없으면 자동으로 등록
+     * 존재 확인과 등록을 묶음으로 처리하므로 강의실 수와 관계없이 왕복 횟수가 적습니다.
+     * @param roomEntries 강의실마다 하나씩 고른 시간표 엔트리 (파싱 중 수집)
      */
-    private void checkAndRegisterRoom(TimetableEntry entry) {
-        String roomId = entry.getRoomId();
-        String roomName = entry.getRoomName();
-        int capacity = entry.getAttendees(); // 수강인원을 수용인원으로 사용
+    private void autoRegisterRooms(java.util.Collection<TimetableEntry> roomEntries) {
+        List<Room> candidates = new ArrayList<>(roomEntries.size());
+        for (TimetableEntry entry : roomEntries) {
+            candidates.add(roomFromEntry(entry));
+        }
 
-        // Firestore에서 해당 강의실이 존재하는지 확인
-        FirestoreManager.getInstance().getRoom(roomId, new FirestoreManager.FirestoreCallback<Room>() {
+        roomRepository.registerMissingRooms(candidates, new FirestoreManager.FirestoreCallback<List<Room>>() {
             @Override
-            public void onSuccess(Room existingRoom) {
-                // 이미 존재하면 아무것도 하지 않음
-                android.util.Log.d("TimetableFragment", "Room already exists: " + roomId);
+            public void onSuccess(List<Room> created) {
+                android.util.Log.d("TimetableFragment", "Rooms checked: " + candidates.size() + ", created: " + created.size());
             }
 
             @Override
             public void onFailure(Exception e) {
-                // 존재하지 않으면 새로 생성
-                android.util.Log.d("TimetableFragment", "Creating new room: " + roomId);
-
-                // 강의실명에서 건물명 및 층수 추출 (예: "공학관 301호" -> "공학관", "3층")
-                String building = extractBuilding(roomName);
-                String floor = extractFloor(roomName);
-
-                // 새 강의실 생성
-                Room newRoom = new Room(
-                    roomId,
-                    building,
-                    roomName,
-                    capacity,
-                    floor, // 강의실명에서 자동 추출된 층수
-                    new ArrayList<>(), // 시설 정보는 없으므로 빈 리스트
-                    RoomStatus.AVAILABLE
-                );
-
-                // RoomRepository를 통해 저장
-                roomRepository.addRoom(newRoom, new FirestoreManager.FirestoreCallback<Void>() {
-                    @Override
-                    public void onSuccess(Void result) {
-                        android.util.Log.d("TimetableFragment", "Room created successfully: " + roomId);
-                    }
-
-                    @Override
-                    public void onFailure(Exception e) {
-                        android.util.Log.e("TimetableFragment", "Failed to create room: " + roomId, e);
-                    }
-                });
+                android.util.Log.e("TimetableFragment", "Failed to register rooms", e);
             }
         });
     }
 
+    /**
+     * 시간표 엔트리로 새 강의실 정보 구성
+     */
+    private Room roomFromEntry(TimetableEntry entry) {
+        String roomName = entry.getRoomName();
+        // 강의실명에서 건물명 및 층수 추출 (예: "공학관 301호" -> "공학관", "3층")
+        return new Room(
+            entry.getRoomId(),
+            extractBuilding(roomName),
+            roomName,
+            entry.getAttendees(), // 수강인원을 수용인원으로 사용
+            extractFloor(roomName), // 강의실명에서 자동 추출된 층수
+            new ArrayList<>(), // 시설 정보는 없으므로 빈 리스트
+            RoomStatus.AVAILABLE
+        );
+    }
+
     /**
      * 강의실명에서 건물명 추출
      * 예: "공학관 301호" -> "공학관"
@@ -520,24 +562,31 @@ public class TimetableFragment extends Fragment {
 
     private void showSemesterPicker() {
         // 사용 가능한 학기 목록 로드
-        timetableRepository.getAllSemesters(new FirestoreManager.FirestoreCallback<List<String>>() {
+        timetableRepository.getSemesterCatalog(new FirestoreManager.FirestoreCallback<List<SemesterSummary>>() {
             @Override
-            public void onSuccess(List<String> semesters) {
-                if (semesters.isEmpty()) {
+            public void onSuccess(List<SemesterSummary> catalog) {
+                if (catalog.isEmpty()) {
                     Toast.makeText(requireContext(), "등록된 시간표가 없습니다", Toast.LENGTH_SHORT).show();
                     return;
                 }
 
-                // 학기 선택 다이얼로그
-                String[] semesterArray = semesters.toArray(new String[0]);
-                int currentIndex = semesters.indexOf(currentSemester);
-                if (currentIndex < 0) {
-                    currentIndex = 0;
+                // 학기 선택 다이얼로그 (학기별 수업/강의실 수 표시)
+                String[] semesterArray = new String[catalog.size()];
+                String[] labels = new String[catalog.size()];
+                int currentIndex = 0;
+                for (int i = 0; i < catalog.size(); i++) {
+                    SemesterSummary summary = catalog.get(i);
+                    semesterArray[i] = summary.getSemester();
+                    labels[i] = summary.getSemester() + " (수업 " + summary.getEntryCount()
+                            + "개 · 강의실 " + summary.getRoomCount() + "개)";
+                    if (summary.getSemester().equals(currentSemester)) {
+                        currentIndex = i;
+                    }
                 }
 
                 new AlertDialog.Builder(requireContext())
                         .setTitle("학기 선택")
-                        .setSingleChoiceItems(semesterArray, currentIndex, (dialog, which) -> {
+                        .setSingleChoiceItems(labels, currentIndex, (dialog, which) -> {
                             currentSemester = semesterArray[which];
                             buttonSelectSemester.setText(currentSemester);
                             timetableRepository.loadTimetableBySemester(currentSemester);
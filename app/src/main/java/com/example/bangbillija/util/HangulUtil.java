@@ -0,0 +1,49 @@
+package com.example.bangbillija.util;
+
+/**
+ * 한글 음절의 초성 추출 (초성 검색용)
+ * 완성형 음절(가~힣)은 초성 호환 자모(ㄱ~ㅎ)로 바꾸고 나머지 문자는 그대로 둡니다.
+ */
+public final class HangulUtil {
+
+    private static final char SYLLABLE_FIRST = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    // 초성 하나당 중성 21 x 종성 28 음절
+    private static final int SYLLABLES_PER_INITIAL = 21 * 28;
+    private static final char[] INITIALS = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private HangulUtil() {
+    }
+
+    /**
+     * 음절의 초성 (한글 음절이 아니면 c 그대로)
+     */
+    public static char initialOf(char c) {
+        if (c < SYLLABLE_FIRST || c > SYLLABLE_LAST) {
+            return c;
+        }
+        return INITIALS[(c - SYLLABLE_FIRST) / SYLLABLES_PER_INITIAL];
+    }
+
+    /**
+     * 초성으로 쓰이는 자음인지 (ㄱ, ㄲ, ㄴ ... ㅎ)
+     */
+    public static boolean isInitialConsonant(char c) {
+        for (char initial : INITIALS) {
+            if (initial == c) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 검색어 문자 q가 대상 문자 t와 일치하는지 (q가 자음이면 t의 초성과 비교)
+     */
+    public static boolean matches(char q, char t) {
+        return q == t || (isInitialConsonant(q) && initialOf(t) == q);
+    }
+}
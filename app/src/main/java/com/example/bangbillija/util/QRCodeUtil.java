@@ -1,43 +1,65 @@
 package com.example.bangbillija.util;
 
 import android.graphics.Bitmap;
-import android.graphics.Color;
+import android.util.LruCache;
 
-import com.google.zxing.BarcodeFormat;
-import com.google.zxing.EncodeHintType;
+import com.example.bangbillija.core.AppExecutors;
 import com.google.zxing.WriterException;
 import com.google.zxing.common.BitMatrix;
-import com.google.zxing.qrcode.QRCodeWriter;
-
-import java.util.HashMap;
-import java.util.Map;
 
 public class QRCodeUtil {
 
+    public interface QRCodeCallback {
+        void onQRCode(Bitmap bitmap);
+        void onError(Exception e);
+    }
+
+    // 생성한 QR 비트맵 캐시 (내용 + 크기 기준, 최대 메모리의 1/16까지)
+    private static final LruCache<String, Bitmap> cache =
+            new LruCache<String, Bitmap>((int) Math.min(Integer.MAX_VALUE, Runtime.getRuntime().maxMemory() / 16)) {
+                @Override
+                protected int sizeOf(String key, Bitmap bitmap) {
+                    return bitmap.getByteCount();
+                }
+            };
+
     /**
      * QR 코드 생성
+     * 모듈 단위로 인코딩한 뒤 픽셀 배열을 한 번에 채워 Bitmap을 만듭니다.
      * @param content QR 코드에 담을 내용
      * @param width QR 코드 가로 크기 (픽셀)
      * @param height QR 코드 세로 크기 (픽셀)
      * @return QR 코드 Bitmap
      */
     public static Bitmap generateQRCode(String content, int width, int height) throws WriterException {
-        QRCodeWriter writer = new QRCodeWriter();
-
-        Map<EncodeHintType, Object> hints = new HashMap<>();
-        hints.put(EncodeHintType.CHARACTER_SET, "UTF-8");
-        hints.put(EncodeHintType.MARGIN, 1);
-
-        BitMatrix bitMatrix = writer.encode(content, BarcodeFormat.QR_CODE, width, height, hints);
+        BitMatrix modules = QRRaster.encodeModules(content);
+        int[] pixels = QRRaster.render(modules, width, height);
+        return Bitmap.createBitmap(pixels, width, height, Bitmap.Config.RGB_565);
+    }
 
-        Bitmap bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.RGB_565);
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                bitmap.setPixel(x, y, bitMatrix.get(x, y) ? Color.BLACK : Color.WHITE);
-            }
+    /**
+     * 캐시된 QR 코드를 바로 반환하고, 없으면 렌더링 스레드에서 생성한 뒤 메인 스레드로 전달
+     * 캐시에 있으면 callback이 호출 스레드에서 즉시 실행됩니다.
+     * @param content QR 코드에 담을 내용
+     * @param size QR 코드 가로·세로 크기 (픽셀)
+     */
+    public static void loadQRCode(String content, int size, QRCodeCallback callback) {
+        String key = content + '\u0000' + size;
+        Bitmap cached = cache.get(key);
+        if (cached != null) {
+            callback.onQRCode(cached);
+            return;
         }
-
-        return bitmap;
+        AppExecutors executors = AppExecutors.getInstance();
+        executors.rendering().execute(() -> {
+            try {
+                Bitmap bitmap = generateQRCode(content, size, size);
+                cache.put(key, bitmap);
+                executors.mainThread().execute(() -> callback.onQRCode(bitmap));
+            } catch (WriterException | IllegalArgumentException e) {
+                executors.mainThread().execute(() -> callback.onError(e));
+            }
+        });
     }
 
     /**
@@ -51,8 +73,7 @@ public class QRCodeUtil {
     public static String createReservationQRContent(String reservationId, String roomId,
                                                     String date, String startTime) {
         // JSON 형식으로 예약 정보를 인코딩
-        return String.format("{\"reservationId\":\"%s\",\"roomId\":\"%s\",\"date\":\"%s\",\"startTime\":\"%s\"}",
-                reservationId, roomId, date, startTime);
+        return QRPayload.reservation(reservationId, roomId, date, startTime);
     }
 
     /**
@@ -63,7 +84,6 @@ public class QRCodeUtil {
      */
     public static String createRoomQRContent(String roomId, String roomName) {
         // JSON 형식으로 강의실 정보를 인코딩
-        return String.format("{\"roomId\":\"%s\",\"roomName\":\"%s\"}",
-                roomId, roomName);
+        return QRPayload.room(roomId, roomName);
     }
 }
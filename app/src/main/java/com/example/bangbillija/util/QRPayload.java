@@ -0,0 +1,42 @@
+package com.example.bangbillija.util;
+
+/**
+ * QR 코드에 담을 JSON 문자열 생성 (Android 의존성 없음, benchmark 모듈에서도 사용)
+ * String.format 대신 StringBuilder로 직접 조립합니다.
+ */
+public final class QRPayload {
+
+    private QRPayload() {
+    }
+
+    /**
+     * 예약 정보를 QR 코드 문자열로 변환
+     * @return {"reservationId":"..","roomId":"..","date":"..","startTime":".."}
+     */
+    public static String reservation(String reservationId, String roomId, String date, String startTime) {
+        StringBuilder builder = new StringBuilder(96);
+        builder.append('{');
+        appendField(builder, "reservationId", reservationId).append(',');
+        appendField(builder, "roomId", roomId).append(',');
+        appendField(builder, "date", date).append(',');
+        appendField(builder, "startTime", startTime);
+        return builder.append('}').toString();
+    }
+
+    /**
+     * 강의실 정보를 QR 코드 문자열로 변환 (체크인용)
+     * @return {"roomId":"..","roomName":".."}
+     */
+    public static String room(String roomId, String roomName) {
+        StringBuilder builder = new StringBuilder(64);
+        builder.append('{');
+        appendField(builder, "roomId", roomId).append(',');
+        appendField(builder, "roomName", roomName);
+        return builder.append('}').toString();
+    }
+
+    private static StringBuilder appendField(StringBuilder builder, String name, String value) {
+        // 기존 String.format("%s")과 같이 null은 "null"로 기록
+        return builder.append('"').append(name).append("\":\"").append(value).append('"');
+    }
+}
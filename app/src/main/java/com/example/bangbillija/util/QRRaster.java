@@ -0,0 +1,67 @@
+package com.example.bangbillija.util;
+
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.EncodeHintType;
+import com.google.zxing.WriterException;
+import com.google.zxing.common.BitMatrix;
+import com.google.zxing.qrcode.QRCodeWriter;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * QR 코드를 픽셀 배열로 그리기 (Android 의존성 없음, benchmark 모듈에서도 사용)
+ * 모듈 단위(한 칸 = 1)로 인코딩한 뒤 최근접 이웃 방식으로 확대하며,
+ * 같은 모듈 행에 속하는 픽셀 행은 앞 행을 복사합니다.
+ */
+public final class QRRaster {
+
+    public static final int BLACK = 0xFF000000;
+    public static final int WHITE = 0xFFFFFFFF;
+    // 가장자리 여백 (모듈 수)
+    private static final int MARGIN = 1;
+
+    private QRRaster() {
+    }
+
+    /**
+     * 모듈 단위 QR 행렬 (여백 포함, 가로·세로 = 모듈 수 + 2 * MARGIN)
+     */
+    public static BitMatrix encodeModules(String content) throws WriterException {
+        Map<EncodeHintType, Object> hints = new EnumMap<>(EncodeHintType.class);
+        hints.put(EncodeHintType.CHARACTER_SET, "UTF-8");
+        hints.put(EncodeHintType.MARGIN, MARGIN);
+        // 크기 0을 요청하면 확대 없이 모듈 크기 그대로 반환
+        return new QRCodeWriter().encode(content, BarcodeFormat.QR_CODE, 0, 0, hints);
+    }
+
+    /**
+     * 모듈 행렬을 width x height 픽셀(ARGB, 행 우선)로 확대
+     */
+    public static int[] render(BitMatrix modules, int width, int height) {
+        int moduleWidth = modules.getWidth();
+        int moduleHeight = modules.getHeight();
+        int[] pixels = new int[width * height];
+
+        // 픽셀 열 → 모듈 열 (행마다 나눗셈을 반복하지 않도록 미리 계산)
+        int[] moduleX = new int[width];
+        for (int x = 0; x < width; x++) {
+            moduleX[x] = (int) ((long) x * moduleWidth / width);
+        }
+
+        int previousModuleY = -1;
+        for (int y = 0; y < height; y++) {
+            int offset = y * width;
+            int moduleY = (int) ((long) y * moduleHeight / height);
+            if (moduleY == previousModuleY) {
+                System.arraycopy(pixels, offset - width, pixels, offset, width);
+                continue;
+            }
+            for (int x = 0; x < width; x++) {
+                pixels[offset + x] = modules.get(moduleX[x], moduleY) ? BLACK : WHITE;
+            }
+            previousModuleY = moduleY;
+        }
+        return pixels;
+    }
+}
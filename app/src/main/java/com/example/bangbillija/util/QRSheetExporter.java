@@ -0,0 +1,175 @@
+package com.example.bangbillija.util;
+
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Typeface;
+import android.graphics.pdf.PdfDocument;
+
+import com.example.bangbillija.model.Room;
+import com.google.zxing.WriterException;
+import com.google.zxing.common.BitMatrix;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 강의실 체크인 QR 코드를 A4 PDF 시트로 출력 (페이지당 3 x 4개)
+ * QR 인코딩은 제한된 작업 스레드에서 병렬로 수행하되 최대 두 페이지 분량만 미리 인코딩하고,
+ * 각 QR은 비트맵 없이 모듈 단위 사각형으로 그린 뒤 페이지를 바로 마감하여 메모리 사용량을 일정하게 유지합니다.
+ * 파일 쓰기가 포함되므로 백그라운드 스레드에서 호출해야 합니다.
+ */
+public class QRSheetExporter {
+
+    public interface ProgressListener {
+        /**
+         * 지금까지 시트에 그린 강의실 수 (호출한 백그라운드 스레드에서 실행)
+         */
+        void onProgress(int completedRooms, int totalRooms);
+    }
+
+    public static final int COLUMNS = 3;
+    public static final int ROWS = 4;
+    public static final int ROOMS_PER_PAGE = COLUMNS * ROWS;
+
+    // A4 (1pt = 1/72인치)
+    private static final int PAGE_WIDTH = 595;
+    private static final int PAGE_HEIGHT = 842;
+    private static final float PAGE_MARGIN = 36f;
+    private static final float FOOTER_HEIGHT = 20f;
+    private static final float QR_SIZE = 120f;
+    private static final float LABEL_GAP = 14f;
+
+    private final int workers;
+
+    public QRSheetExporter() {
+        this(Math.min(4, Math.max(1, Runtime.getRuntime().availableProcessors() - 1)));
+    }
+
+    public QRSheetExporter(int workers) {
+        this.workers = Math.max(1, workers);
+    }
+
+    /**
+     * rooms 순서대로 QR 시트를 그려 out에 PDF로 기록 (out은 호출한 쪽에서 닫음)
+     * @return 생성한 페이지 수
+     */
+    public int export(List<Room> rooms, OutputStream out, ProgressListener progress)
+            throws IOException, WriterException {
+        int total = rooms.size();
+        int pageCount = (total + ROOMS_PER_PAGE - 1) / ROOMS_PER_PAGE;
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        PdfDocument document = new PdfDocument();
+        try {
+            // 인코딩 중이거나 끝난 QR (그리는 순서대로, 최대 두 페이지 분량)
+            ArrayDeque<Future<BitMatrix>> pending = new ArrayDeque<>();
+            int submitted = 0;
+            int completed = 0;
+            Paint modulePaint = new Paint();
+            modulePaint.setColor(Color.BLACK);
+            modulePaint.setStyle(Paint.Style.FILL);
+            Paint namePaint = textPaint(14f, Typeface.BOLD);
+            Paint detailPaint = textPaint(10f, Typeface.NORMAL);
+            Paint footerPaint = textPaint(9f, Typeface.NORMAL);
+
+            for (int pageIndex = 0; pageIndex < pageCount; pageIndex++) {
+                while (submitted < total && pending.size() < ROOMS_PER_PAGE * 2) {
+                    Room room = rooms.get(submitted++);
+                    String content = QRCodeUtil.createRoomQRContent(room.getId(), room.getName());
+                    pending.addLast(pool.submit(() -> QRRaster.encodeModules(content)));
+                }
+
+                PdfDocument.PageInfo pageInfo =
+                        new PdfDocument.PageInfo.Builder(PAGE_WIDTH, PAGE_HEIGHT, pageIndex + 1).create();
+                PdfDocument.Page page = document.startPage(pageInfo);
+                Canvas canvas = page.getCanvas();
+                float cellWidth = (PAGE_WIDTH - PAGE_MARGIN * 2) / COLUMNS;
+                float cellHeight = (PAGE_HEIGHT - PAGE_MARGIN * 2 - FOOTER_HEIGHT) / ROWS;
+
+                int onPage = Math.min(ROOMS_PER_PAGE, total - pageIndex * ROOMS_PER_PAGE);
+                for (int slot = 0; slot < onPage; slot++) {
+                    Room room = rooms.get(pageIndex * ROOMS_PER_PAGE + slot);
+                    BitMatrix modules = await(pending.removeFirst());
+                    float cellLeft = PAGE_MARGIN + (slot % COLUMNS) * cellWidth;
+                    float cellTop = PAGE_MARGIN + (slot / COLUMNS) * cellHeight;
+                    float qrLeft = cellLeft + (cellWidth - QR_SIZE) / 2;
+                    float qrTop = cellTop + (cellHeight - QR_SIZE - LABEL_GAP * 3) / 2;
+                    drawModules(canvas, modules, qrLeft, qrTop, modulePaint);
+
+                    float centerX = cellLeft + cellWidth / 2;
+                    float labelTop = qrTop + QR_SIZE + LABEL_GAP;
+                    canvas.drawText(room.getName(), centerX, labelTop + 4f, namePaint);
+                    canvas.drawText(room.getBuilding() + " " + room.getFloor(), centerX, labelTop + LABEL_GAP + 4f, detailPaint);
+                    completed++;
+                }
+
+                canvas.drawText((pageIndex + 1) + " / " + pageCount, PAGE_WIDTH / 2f,
+                        PAGE_HEIGHT - PAGE_MARGIN, footerPaint);
+                document.finishPage(page);
+                if (progress != null) {
+                    progress.onProgress(completed, total);
+                }
+            }
+
+            document.writeTo(out);
+            return pageCount;
+        } finally {
+            pool.shutdownNow();
+            document.close();
+        }
+    }
+
+    /**
+     * 검은 모듈을 행마다 연속 구간 단위 사각형으로 그리기 (인쇄 시 선명하고 비트맵 메모리 불필요)
+     */
+    private static void drawModules(Canvas canvas, BitMatrix modules, float left, float top, Paint paint) {
+        int width = modules.getWidth();
+        int height = modules.getHeight();
+        float moduleSize = QR_SIZE / Math.max(width, height);
+        for (int y = 0; y < height; y++) {
+            int x = 0;
+            while (x < width) {
+                if (!modules.get(x, y)) {
+                    x++;
+                    continue;
+                }
+                int runStart = x;
+                while (x < width && modules.get(x, y)) {
+                    x++;
+                }
+                canvas.drawRect(left + runStart * moduleSize, top + y * moduleSize,
+                        left + x * moduleSize, top + (y + 1) * moduleSize, paint);
+            }
+        }
+    }
+
+    private static Paint textPaint(float size, int style) {
+        Paint paint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        paint.setColor(Color.BLACK);
+        paint.setTextSize(size);
+        paint.setTextAlign(Paint.Align.CENTER);
+        paint.setTypeface(Typeface.create(Typeface.DEFAULT, style));
+        return paint;
+    }
+
+    private static BitMatrix await(Future<BitMatrix> future) throws IOException, WriterException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("QR 시트 생성이 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof WriterException) {
+                throw (WriterException) cause;
+            }
+            throw new IOException("QR 코드 생성 실패", cause);
+        }
+    }
+}
@@ -2,10 +2,11 @@ package com.example.bangbillija.util;
 
 import com.example.bangbillija.model.TimetableEntry;
 
-import java.io.BufferedReader;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.time.DayOfWeek;
 import java.time.LocalTime;
@@ -13,107 +14,191 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+/**
+ * 시간표 CSV 스트리밍 파서 (RFC 4180)
+ * 큰따옴표로 감싼 필드 안의 쉼표/줄바꿈, 이스케이프된 따옴표("")를 지원하며
+ * 전체 파일을 메모리에 올리지 않고 행 단위로 EntrySink에 전달합니다.
+ * 잘못된 행은 건너뛰고 오류를 모아 ParseResult로 돌려줍니다.
+ */
 public class TimetableCSVParser {
 
+    // 보관할 최대 오류 수 (개수는 계속 셈)
+    static final int MAX_REPORTED_ERRORS = 100;
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MIN_FIELDS = 8;
+
+    /**
+     * 파싱된 시간표를 한 건씩 받는 콜백
+     */
+    public interface EntrySink {
+        void accept(TimetableEntry entry);
+    }
+
+    /**
+     * 파싱 결과 요약 (성공 건수와 행별 오류)
+     */
+    public static class ParseResult {
+        private final int entryCount;
+        private final int errorCount;
+        private final List<ParseException> errors;
+
+        ParseResult(int entryCount, int errorCount, List<ParseException> errors) {
+            this.entryCount = entryCount;
+            this.errorCount = errorCount;
+            this.errors = errors;
+        }
+
+        public int getEntryCount() {
+            return entryCount;
+        }
+
+        /**
+         * 전체 오류 행 수 (getErrors()는 앞쪽 MAX_REPORTED_ERRORS개만 포함)
+         */
+        public int getErrorCount() {
+            return errorCount;
+        }
+
+        public List<ParseException> getErrors() {
+            return errors;
+        }
+
+        public boolean hasErrors() {
+            return errorCount > 0;
+        }
+    }
+
     /**
-     * CSV 파일에서 시간표 파싱
+     * CSV 파일에서 시간표 파싱 (전체 목록이 필요한 경우)
      * CSV 형식: 과목명,강의실ID,강의실명,요일,시작시간,종료시간,수강인원,교수명,비고
-     * 예시: 알고리즘,room301,공학관 301호,월,09:00,10:30,40,김교수,중간고사 주의
+     * 예시: 알고리즘,room301,공학관 301호,월,09:00,10:30,40,김교수,"중간고사 주의, 팀 발표"
+     * @throws ParseException 오류 행이 있으면 모든 행을 확인한 뒤 첫 번째 오류를 던짐
      */
     public static List<TimetableEntry> parseCSV(InputStream inputStream, String semester) throws IOException, ParseException {
         List<TimetableEntry> entries = new ArrayList<>();
-        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        ParseResult result = parse(inputStream, semester, entries::add);
+        if (result.hasErrors()) {
+            throw result.getErrors().get(0);
+        }
+        return entries;
+    }
 
-        String line;
-        int lineNumber = 0;
-        boolean isFirstLine = true;
+    /**
+     * UTF-8 CSV를 스트리밍으로 파싱합니다. (스트림은 닫힘)
+     */
+    public static ParseResult parse(InputStream inputStream, String semester, EntrySink sink) throws IOException {
+        return parse(new InputStreamReader(inputStream, StandardCharsets.UTF_8), semester, sink);
+    }
 
-        while ((line = reader.readLine()) != null) {
-            lineNumber++;
+    /**
+     * CSV를 스트리밍으로 파싱하여 올바른 행은 sink로 전달하고, 잘못된 행은 건너뛰며 오류를 모읍니다.
+     * 첫 행은 헤더로 간주합니다. (Reader는 닫힘)
+     */
+    public static ParseResult parse(Reader reader, String semester, EntrySink sink) throws IOException {
+        int entryCount = 0;
+        int errorCount = 0;
+        List<ParseException> errors = new ArrayList<>();
 
-            // 첫 줄은 헤더이므로 건너뜀
-            if (isFirstLine) {
-                isFirstLine = false;
-                continue;
-            }
+        try (CsvRecordReader records = new CsvRecordReader(reader)) {
+            boolean isFirstRecord = true;
+            while (records.next()) {
+                // 첫 줄은 헤더이므로 건너뜀
+                if (isFirstRecord) {
+                    isFirstRecord = false;
+                    continue;
+                }
 
-            // 빈 줄 건너뜀
-            if (line.trim().isEmpty()) {
-                continue;
-            }
+                // 빈 줄 건너뜀
+                if (records.isBlank()) {
+                    continue;
+                }
 
-            try {
-                TimetableEntry entry = parseLine(line, semester);
-                entries.add(entry);
-            } catch (Exception e) {
-                throw new ParseException("Line " + lineNumber + ": " + e.getMessage(), lineNumber);
+                try {
+                    sink.accept(parseRecord(records.fields(), semester));
+                    entryCount++;
+                } catch (Exception e) {
+                    int lineNumber = records.recordLine();
+                    errorCount++;
+                    if (errors.size() < MAX_REPORTED_ERRORS) {
+                        errors.add(new ParseException("Line " + lineNumber + ": " + e.getMessage(), lineNumber));
+                    }
+                }
             }
         }
-
-        reader.close();
-        return entries;
+        return new ParseResult(entryCount, errorCount, errors);
     }
 
     /**
-     * CSV 필드에서 앞뒤 공백과 모든 따옴표 제거
+     * 따옴표 없이 입력된 필드 정리
+     * 앞뒤 공백과 엑셀 텍스트 접두사('), 필드 전체를 감싼 작은따옴표를 제거합니다.
+     * (큰따옴표로 감싼 필드는 내용을 그대로 사용)
      */
-    private static String cleanField(String field) {
+    static String cleanField(String field) {
         if (field == null) {
             return "";
         }
-        // 앞뒤 공백 제거
         field = field.trim();
-        // 모든 큰따옴표 제거
-        field = field.replace("\"", "");
-        // 모든 작은따옴표 제거
-        field = field.replace("'", "");
-        // 다시 trim
+        if (field.length() >= 2 && field.charAt(0) == '\'' && field.charAt(field.length() - 1) == '\'') {
+            field = field.substring(1, field.length() - 1);
+        } else if (field.startsWith("'")) {
+            field = field.substring(1);
+        }
         return field.trim();
     }
 
     /**
-     * 시간 문자열을 정규화 (9:00 -> 09:00)
+     * 시간 파싱 (9:00, 09:00 형식은 직접 계산하고, 그 외 형식은 LocalTime.parse 사용)
      */
-    private static String normalizeTime(String timeStr) {
-        if (timeStr == null || timeStr.isEmpty()) {
-            return timeStr;
-        }
-        // HH:mm 형식이 아니면 변환
-        String[] parts = timeStr.split(":");
-        if (parts.length == 2) {
-            String hour = parts[0].length() == 1 ? "0" + parts[0] : parts[0];
-            String minute = parts[1].length() == 1 ? "0" + parts[1] : parts[1];
-            return hour + ":" + minute;
-        }
-        return timeStr;
+    static LocalTime parseTime(String timeStr) {
+        int colon = timeStr.indexOf(':');
+        if (colon == 1 || colon == 2) {
+            int length = timeStr.length();
+            int minuteDigits = length - colon - 1;
+            if (minuteDigits == 1 || minuteDigits == 2) {
+                int hour = digits(timeStr, 0, colon);
+                int minute = digits(timeStr, colon + 1, length);
+                if (hour >= 0 && minute >= 0) {
+                    // 범위를 벗어나면 DateTimeException
+                    return LocalTime.of(hour, minute);
+                }
+            }
+        }
+        return LocalTime.parse(timeStr);
     }
 
-    private static TimetableEntry parseLine(String line, String semester) throws Exception {
-        String[] parts = line.split(",");
+    private static int digits(String value, int from, int to) {
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
 
-        if (parts.length < 8) {
-            throw new Exception("필드가 부족합니다. 최소 8개 필드 필요 (현재: " + parts.length + "개)");
+    private static TimetableEntry parseRecord(List<String> fields, String semester) throws Exception {
+        if (fields.size() < MIN_FIELDS) {
+            throw new Exception("필드가 부족합니다. 최소 " + MIN_FIELDS + "개 필드 필요 (현재: " + fields.size() + "개)");
         }
 
-        // 각 필드에서 따옴표 제거 및 trim
-        String courseName = cleanField(parts[0]);
-        String roomId = cleanField(parts[1]);
-        String roomName = cleanField(parts[2]);
-        String dayStr = cleanField(parts[3]);
-        String startTimeStr = cleanField(parts[4]);
-        String endTimeStr = cleanField(parts[5]);
-        String attendeesStr = cleanField(parts[6]);
-        String professor = cleanField(parts[7]);
-        String note = parts.length > 8 ? cleanField(parts[8]) : "";
+        String courseName = fields.get(0);
+        String roomId = fields.get(1);
+        String roomName = fields.get(2);
+        String dayStr = fields.get(3);
+        String startTimeStr = fields.get(4);
+        String endTimeStr = fields.get(5);
+        String attendeesStr = fields.get(6);
+        String professor = fields.get(7);
+        String note = fields.size() > MIN_FIELDS ? fields.get(MIN_FIELDS) : "";
 
         // 요일 파싱
         DayOfWeek dayOfWeek = parseDayOfWeek(dayStr);
 
         // 시간 파싱 (정규화 후)
-        startTimeStr = normalizeTime(startTimeStr);
-        endTimeStr = normalizeTime(endTimeStr);
-        LocalTime startTime = LocalTime.parse(startTimeStr);
-        LocalTime endTime = LocalTime.parse(endTimeStr);
+        LocalTime startTime = parseTime(startTimeStr);
+        LocalTime endTime = parseTime(endTimeStr);
 
         // 수강인원 파싱
         int attendees;
@@ -177,6 +262,152 @@ public class TimetableCSVParser {
         }
     }
 
+    /**
+     * RFC 4180 레코드 단위 리더
+     * 고정 크기 char 버퍼와 필드 버퍼, 필드 목록을 레코드마다 재사용합니다.
+     */
+    static final class CsvRecordReader implements Closeable {
+        private final Reader reader;
+        private final char[] buffer = new char[BUFFER_SIZE];
+        private int position;
+        private int limit;
+        private boolean started;
+
+        private final StringBuilder field = new StringBuilder();
+        private final List<String> fields = new ArrayList<>();
+        private int line = 1;
+        private int recordLine;
+
+        CsvRecordReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * 다음 레코드를 읽습니다.
+         * @return 파일 끝이면 false
+         */
+        boolean next() throws IOException {
+            fields.clear();
+            int c = read();
+            if (c < 0) {
+                return false;
+            }
+            if (!started) {
+                started = true;
+                // UTF-8 BOM 건너뜀
+                if (c == '\uFEFF') {
+                    c = read();
+                    if (c < 0) {
+                        return false;
+                    }
+                }
+            }
+            recordLine = line;
+
+            while (true) {
+                field.setLength(0);
+                boolean quoted = false;
+                if (c == '"') {
+                    quoted = true;
+                    c = readQuoted();
+                }
+                // 따옴표 밖의 문자 (닫는 따옴표 뒤에 붙은 문자도 관대하게 포함)
+                while (c >= 0 && c != ',' && c != '\n' && c != '\r') {
+                    field.append((char) c);
+                    c = read();
+                }
+                fields.add(quoted ? field.toString() : cleanField(field.toString()));
+
+                if (c == ',') {
+                    c = read();
+                    continue;
+                }
+                if (c == '\r') {
+                    line++;
+                    if (peek() == '\n') {
+                        read();
+                    }
+                } else if (c == '\n') {
+                    line++;
+                }
+                return true;
+            }
+        }
+
+        /**
+         * 여는 따옴표 다음부터 닫는 따옴표까지 읽고, 그 다음 문자를 돌려줍니다.
+         */
+        private int readQuoted() throws IOException {
+            while (true) {
+                int c = read();
+                if (c < 0) {
+                    // 닫히지 않은 따옴표: 파일 끝까지를 필드로 사용
+                    return c;
+                }
+                if (c == '"') {
+                    if (peek() == '"') {
+                        // 이스케이프된 따옴표 ("")
+                        read();
+                        field.append('"');
+                        continue;
+                    }
+                    return read();
+                }
+                if (c == '\n' || (c == '\r' && peek() != '\n')) {
+                    line++;
+                }
+                field.append((char) c);
+            }
+        }
+
+        List<String> fields() {
+            return fields;
+        }
+
+        /**
+         * 빈 줄 여부 (필드 하나가 비어 있는 레코드)
+         */
+        boolean isBlank() {
+            return fields.size() == 1 && fields.get(0).isEmpty();
+        }
+
+        /**
+         * 현재 레코드가 시작된 줄 번호 (1부터)
+         */
+        int recordLine() {
+            return recordLine;
+        }
+
+        private int read() throws IOException {
+            if (position >= limit && !fill()) {
+                return -1;
+            }
+            return buffer[position++];
+        }
+
+        private int peek() throws IOException {
+            if (position >= limit && !fill()) {
+                return -1;
+            }
+            return buffer[position];
+        }
+
+        private boolean fill() throws IOException {
+            int count = reader.read(buffer, 0, buffer.length);
+            if (count <= 0) {
+                return false;
+            }
+            position = 0;
+            limit = count;
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
     public static class ParseException extends Exception {
         private final int lineNumber;
 
@@ -0,0 +1,83 @@
+package com.example.bangbillija.data;
+
+import com.example.bangbillija.model.MonthLoad;
+import com.example.bangbillija.model.Reservation;
+import com.example.bangbillija.model.ReservationStatus;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * ReservationDateIndex 날짜 조회와 날짜별 합계(예약 수/점유 셀) 유지 검증
+ */
+public class ReservationDateIndexTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 9, 2);
+
+    @Test
+    public void forDate_returnsReservationsSortedByStart() {
+        ReservationDateIndex index = new ReservationDateIndex();
+        index.replaceAll(Arrays.asList(
+                reservation("late", DAY, 15, ReservationStatus.RESERVED),
+                reservation("early", DAY, 9, ReservationStatus.RESERVED),
+                reservation("next-day", DAY.plusDays(1), 10, ReservationStatus.RESERVED)));
+        index.put(reservation("middle", DAY, 12, ReservationStatus.PENDING));
+
+        List<Reservation> day = index.forDate(DAY);
+        assertEquals(3, day.size());
+        assertEquals("early", day.get(0).getId());
+        assertEquals("middle", day.get(1).getId());
+        assertEquals("late", day.get(2).getId());
+        assertTrue(index.forDate(DAY.minusDays(1)).isEmpty());
+    }
+
+    @Test
+    public void monthLoad_countsActiveReservationsAndCells() {
+        ReservationDateIndex index = new ReservationDateIndex();
+        index.replaceAll(Arrays.asList(
+                reservation("a", DAY, 10, ReservationStatus.RESERVED),
+                reservation("b", DAY, 13, ReservationStatus.CANCELLED),
+                reservation("c", DAY.plusMonths(1), 10, ReservationStatus.RESERVED)));
+
+        MonthLoad load = index.monthLoad(YearMonth.of(2024, 9));
+        assertEquals(1, load.getReservationCount(2));
+        // 1시간 예약 = 30분 셀 2개
+        assertEquals(2, load.getOccupiedCells(2));
+        assertEquals(0, load.getReservationCount(3));
+        assertEquals(1, load.totalReservations());
+        assertEquals(2f / 24f, load.utilization(2, 1), 1e-6f);
+    }
+
+    @Test
+    public void put_movesReservationAndUpdatesTotals() {
+        ReservationDateIndex index = new ReservationDateIndex();
+        index.put(reservation("a", DAY, 10, ReservationStatus.RESERVED));
+        long version = index.version();
+
+        index.put(reservation("a", DAY.plusDays(3), 10, ReservationStatus.RESERVED));
+        assertTrue(index.version() > version);
+        MonthLoad load = index.monthLoad(YearMonth.of(2024, 9));
+        assertEquals(0, load.getReservationCount(2));
+        assertEquals(1, load.getReservationCount(5));
+
+        // 취소로 바뀌면 목록에는 남고 합계에서는 빠짐
+        index.put(reservation("a", DAY.plusDays(3), 10, ReservationStatus.CANCELLED));
+        assertEquals(1, index.forDate(DAY.plusDays(3)).size());
+        assertEquals(0, index.monthLoad(YearMonth.of(2024, 9)).getReservationCount(5));
+
+        index.remove("a");
+        assertTrue(index.forDate(DAY.plusDays(3)).isEmpty());
+    }
+
+    private Reservation reservation(String id, LocalDate date, int startHour, ReservationStatus status) {
+        return new Reservation(id, "room301", "강의실", "회의", "user", "20240001",
+                date, LocalTime.of(startHour, 0), LocalTime.of(startHour + 1, 0), 4, status, "");
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.bangbillija.data;
+
+import com.example.bangbillija.model.Reservation;
+import com.example.bangbillija.model.ReservationStatus;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * ReservationPartitioner 분류/정렬 유지와 변경 한 건당 비교 횟수(O(log n)) 검증
+ */
+public class ReservationPartitionerTest {
+
+    private static final int LARGE_SET = 50_000;
+
+    private long comparisons;
+    private ReservationPartitioner partitioner;
+
+    @Before
+    public void setUp() {
+        comparisons = 0;
+        Comparator<Reservation> counting = (r1, r2) -> {
+            comparisons++;
+            return ReservationPartitioner.NEWEST_FIRST.compare(r1, r2);
+        };
+        partitioner = new ReservationPartitioner(counting);
+    }
+
+    @Test
+    public void replaceAll_classifiesAndSortsNewestFirst() {
+        LocalDate today = LocalDate.now();
+        List<Reservation> reservations = new ArrayList<>();
+        reservations.add(reservation("a", today.plusDays(1), 10, ReservationStatus.RESERVED));
+        reservations.add(reservation("b", today.plusDays(3), 9, ReservationStatus.PENDING));
+        reservations.add(reservation("c", today.minusDays(2), 14, ReservationStatus.RESERVED));
+        reservations.add(reservation("d", today.plusDays(1), 15, ReservationStatus.CANCELLED));
+        reservations.add(reservation("e", today, 13, ReservationStatus.CHECKED_IN));
+
+        partitioner.replaceAll(reservations);
+
+        assertEquals(ids("b", "a", "e"), idsOf(partitioner.getUpcoming()));
+        assertEquals(ids("c"), idsOf(partitioner.getPast()));
+        assertEquals(ids("d"), idsOf(partitioner.getCancelled()));
+    }
+
+    @Test
+    public void upsert_movesModifiedReservationBetweenBuckets() {
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        List<Reservation> reservations = new ArrayList<>();
+        reservations.add(reservation("a", tomorrow, 10, ReservationStatus.RESERVED));
+        reservations.add(reservation("b", tomorrow, 12, ReservationStatus.RESERVED));
+        partitioner.replaceAll(reservations);
+
+        // MODIFIED: 취소 처리
+        partitioner.upsert(reservation("a", tomorrow, 10, ReservationStatus.CANCELLED));
+        assertEquals(ids("b"), idsOf(partitioner.getUpcoming()));
+        assertEquals(ids("a"), idsOf(partitioner.getCancelled()));
+
+        // ADDED
+        partitioner.upsert(reservation("c", tomorrow, 11, ReservationStatus.PENDING));
+        assertEquals(ids("b", "c"), idsOf(partitioner.getUpcoming()));
+
+        // REMOVED
+        assertNotNull(partitioner.remove("b"));
+        assertNull(partitioner.remove("missing"));
+        assertEquals(ids("c"), idsOf(partitioner.getUpcoming()));
+        assertEquals(2, partitioner.size());
+    }
+
+    @Test
+    public void setToday_movesExpiredUpcomingToPast() {
+        LocalDate today = LocalDate.now();
+        List<Reservation> reservations = new ArrayList<>();
+        reservations.add(reservation("a", today, 10, ReservationStatus.RESERVED));
+        partitioner.replaceAll(reservations);
+
+        assertFalse(partitioner.setToday(today));
+        assertTrue(partitioner.setToday(today.plusDays(1)));
+        assertTrue(partitioner.getUpcoming().isEmpty());
+        assertEquals(ids("a"), idsOf(partitioner.getPast()));
+    }
+
+    @Test
+    public void singleChangeOnLargeSet_usesLogarithmicComparisons() {
+        partitioner.replaceAll(randomReservations(LARGE_SET, new Random(42)));
+        int bound = 2 * (32 - Integer.numberOfLeadingZeros(LARGE_SET)) + 2;
+
+        // ADDED
+        comparisons = 0;
+        partitioner.upsert(reservation("new", LocalDate.now().plusDays(7), 15, ReservationStatus.RESERVED));
+        assertTrue("ADDED comparisons: " + comparisons, comparisons <= bound);
+
+        // MODIFIED (기존 위치 삭제 + 새 위치 삽입)
+        comparisons = 0;
+        partitioner.upsert(reservation("r100", LocalDate.now().plusDays(2), 11, ReservationStatus.CANCELLED));
+        assertTrue("MODIFIED comparisons: " + comparisons, comparisons <= 2 * bound);
+
+        // REMOVED
+        comparisons = 0;
+        partitioner.remove("r200");
+        assertTrue("REMOVED comparisons: " + comparisons, comparisons <= bound);
+
+        assertEquals(LARGE_SET, partitioner.size());
+        assertSorted(partitioner.getUpcoming());
+        assertSorted(partitioner.getPast());
+        assertSorted(partitioner.getCancelled());
+    }
+
+    private List<Reservation> randomReservations(int count, Random random) {
+        List<Reservation> reservations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            reservations.add(randomReservation("r" + i, random));
+        }
+        return reservations;
+    }
+
+    private Reservation randomReservation(String id, Random random) {
+        LocalDate date = LocalDate.now().plusDays(random.nextInt(730) - 365);
+        ReservationStatus status = random.nextInt(10) == 0 ? ReservationStatus.CANCELLED : ReservationStatus.RESERVED;
+        return reservation(id, date, 9 + random.nextInt(11), status);
+    }
+
+    private static Reservation reservation(String id, LocalDate date, int startHour, ReservationStatus status) {
+        LocalTime start = LocalTime.of(startHour, 0);
+        return new Reservation(id, "room", "강의실", "회의", "user", "20240001",
+                date, start, start.plusHours(1), 4, status, "");
+    }
+
+    private static void assertSorted(List<Reservation> reservations) {
+        for (int i = 1; i < reservations.size(); i++) {
+            assertTrue(ReservationPartitioner.NEWEST_FIRST.compare(reservations.get(i - 1), reservations.get(i)) < 0);
+        }
+    }
+
+    private static List<String> ids(String... ids) {
+        List<String> result = new ArrayList<>();
+        for (String id : ids) {
+            result.add(id);
+        }
+        return result;
+    }
+
+    private static List<String> idsOf(List<Reservation> reservations) {
+        List<String> result = new ArrayList<>();
+        for (Reservation reservation : reservations) {
+            result.add(reservation.getId());
+        }
+        return result;
+    }
+}
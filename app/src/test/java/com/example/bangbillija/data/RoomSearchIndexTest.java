@@ -0,0 +1,67 @@
+package com.example.bangbillija.data;
+
+import com.example.bangbillija.model.Room;
+import com.example.bangbillija.model.RoomStatus;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * RoomSearchIndex 초성/약어 검색과 점수 순 정렬 검증
+ */
+public class RoomSearchIndexTest {
+
+    private RoomSearchIndex index() {
+        RoomSearchIndex index = new RoomSearchIndex();
+        index.rebuild(Arrays.asList(
+                room("eng301", "공학관", "301호", "3층", RoomStatus.AVAILABLE, "빔프로젝터"),
+                room("eng402", "공학관", "402호", "4층", RoomStatus.RESERVED, "화이트보드"),
+                room("hum301", "인문관", "301호", "3층", RoomStatus.AVAILABLE, "빔프로젝터", "마이크"),
+                room("sci101", "과학관", "공용실습실", "1층", RoomStatus.AVAILABLE)));
+        return index;
+    }
+
+    @Test
+    public void search_matchesInitialConsonants() {
+        List<Room> result = index().search("ㄱㅎㄱ", null);
+        assertEquals(3, result.size());
+        // 과학관은 "ㄱㅎㄱ" 초성도 일치
+        assertEquals("eng301", result.get(0).getId());
+        assertEquals("eng402", result.get(1).getId());
+        assertEquals("sci101", result.get(2).getId());
+    }
+
+    @Test
+    public void search_matchesBuildingAndNameAbbreviation() {
+        List<Room> result = index().search("공3", null);
+        assertEquals(1, result.size());
+        assertEquals("eng301", result.get(0).getId());
+    }
+
+    @Test
+    public void search_ranksNameMatchesBeforeBuildingMatches() {
+        // 강의실명 "공용실습실"이 건물명 "공학관"보다 앞
+        List<Room> result = index().search("공", null);
+        assertEquals(3, result.size());
+        assertEquals("sci101", result.get(0).getId());
+    }
+
+    @Test
+    public void search_appliesFilterAndMatchesFacilities() {
+        RoomSearchIndex index = index();
+        List<Room> result = index.search("빔 프로젝터", room -> room.getBuilding().equals("인문관"));
+        assertEquals(1, result.size());
+        assertEquals("hum301", result.get(0).getId());
+
+        assertEquals(3, index.search("", room -> room.getStatus() == RoomStatus.AVAILABLE).size());
+        assertTrue(index.search("없는강의실", null).isEmpty());
+    }
+
+    private Room room(String id, String building, String name, String floor, RoomStatus status, String... facilities) {
+        return new Room(id, building, name, 30, floor, Arrays.asList(facilities), status);
+    }
+}
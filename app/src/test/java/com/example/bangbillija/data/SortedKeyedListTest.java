@@ -0,0 +1,208 @@
+package com.example.bangbillija.data;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * SortedKeyedList 정렬 유지와 drainDiff()의 삽입/이동/삭제 변경 내역 검증
+ * 변경 내역은 어댑터처럼 이전 게시본에 순서대로 적용해 현재 목록과 같아지는지 확인합니다.
+ */
+public class SortedKeyedListTest {
+
+    private static final Comparator<Item> BY_RANK = Comparator.<Item>comparingInt(item -> item.rank)
+            .thenComparing(item -> item.id);
+
+    private SortedKeyedList<Item> list;
+
+    @Before
+    public void setUp() {
+        list = new SortedKeyedList<>(BY_RANK, item -> item.id);
+    }
+
+    @Test
+    public void firstDrainAndReplaceAll_areResets() {
+        ListDiff<Item> initial = list.drainDiff();
+        assertTrue(initial.isReset());
+        assertTrue(initial.getItems().isEmpty());
+
+        // 같은 키가 여러 번 있으면 마지막 항목만 남음
+        list.replaceAll(Arrays.asList(new Item("b", 3), new Item("a", 1), new Item("b", 0)));
+        ListDiff<Item> diff = list.drainDiff();
+        assertTrue(diff.isReset());
+        assertTrue(diff.getOps().isEmpty());
+        assertEquals(ids("b", "a"), idsOf(diff.getItems()));
+        assertEquals(initial.getToVersion(), diff.getFromVersion());
+        assertTrue(diff.getToVersion() > diff.getFromVersion());
+    }
+
+    @Test
+    public void upsert_newKeyRecordsInsertAtSortedPosition() {
+        list.replaceAll(Arrays.asList(new Item("a", 1), new Item("b", 3)));
+        list.drainDiff();
+
+        list.upsert(new Item("c", 2));
+        list.upsert(new Item("d", 0));
+        ListDiff<Item> diff = list.drainDiff();
+
+        assertFalse(diff.isReset());
+        assertEquals(2, diff.getOps().size());
+        assertOp(diff.getOps().get(0), ListDiff.Type.INSERT, 1, 1);
+        assertOp(diff.getOps().get(1), ListDiff.Type.INSERT, 0, 0);
+        assertEquals(ids("d", "a", "c", "b"), idsOf(diff.getItems()));
+    }
+
+    @Test
+    public void upsert_rekeyedItemRecordsMoveThenChange() {
+        list.replaceAll(Arrays.asList(new Item("a", 1), new Item("b", 2), new Item("c", 3), new Item("d", 4)));
+        list.drainDiff();
+
+        list.upsert(new Item("a", 5));
+        ListDiff<Item> moved = list.drainDiff();
+        assertEquals(2, moved.getOps().size());
+        assertOp(moved.getOps().get(0), ListDiff.Type.MOVE, 0, 3);
+        assertOp(moved.getOps().get(1), ListDiff.Type.CHANGE, 3, 3);
+        assertEquals(ids("b", "c", "d", "a"), idsOf(moved.getItems()));
+
+        // 정렬 위치가 그대로면 CHANGE만
+        list.upsert(new Item("c", 3));
+        ListDiff<Item> changed = list.drainDiff();
+        assertEquals(1, changed.getOps().size());
+        assertOp(changed.getOps().get(0), ListDiff.Type.CHANGE, 1, 1);
+        assertSame(changed.getItems().get(1), list.get("c"));
+    }
+
+    @Test
+    public void remove_recordsRemoveAndIgnoresUnknownKeys() {
+        list.replaceAll(Arrays.asList(new Item("a", 1), new Item("b", 2), new Item("c", 3)));
+        list.drainDiff();
+
+        assertEquals("b", list.remove("b").id);
+        assertNull(list.remove("missing"));
+        ListDiff<Item> diff = list.drainDiff();
+
+        assertEquals(1, diff.getOps().size());
+        assertOp(diff.getOps().get(0), ListDiff.Type.REMOVE, 1, 1);
+        assertEquals(ids("a", "c"), idsOf(diff.getItems()));
+        assertFalse(list.contains("b"));
+        assertEquals(2, list.size());
+    }
+
+    @Test
+    public void drainDiff_fallsBackToResetAfterTooManyOps() {
+        list.drainDiff();
+        for (int i = 0; i < 100; i++) {
+            list.upsert(new Item("id" + i, i));
+        }
+        ListDiff<Item> diff = list.drainDiff();
+        assertTrue(diff.isReset());
+        assertTrue(diff.getOps().isEmpty());
+        assertEquals(100, diff.getItems().size());
+
+        // 전체 교체 뒤에는 다시 개별 변경을 기록
+        list.remove("id0");
+        assertFalse(list.drainDiff().isReset());
+    }
+
+    @Test
+    public void randomRekeyedUpserts_keepOrderAndDiffsReplayOntoPreviousList() {
+        Random random = new Random(42);
+        Map<String, Integer> expected = new HashMap<>();
+        list.drainDiff();
+        List<String> adapter = new ArrayList<>();
+
+        for (int round = 0; round < 50; round++) {
+            for (int i = 0; i < 20; i++) {
+                String id = "r" + random.nextInt(40);
+                if (random.nextInt(4) == 0) {
+                    list.remove(id);
+                    expected.remove(id);
+                } else {
+                    int rank = random.nextInt(10);
+                    list.upsert(new Item(id, rank));
+                    expected.put(id, rank);
+                }
+            }
+
+            ListDiff<Item> diff = list.drainDiff();
+            List<Item> items = diff.getItems();
+            assertFalse(diff.isReset());
+            assertEquals(expected.size(), items.size());
+            for (int i = 0; i < items.size(); i++) {
+                assertEquals(expected.get(items.get(i).id), Integer.valueOf(items.get(i).rank));
+                if (i > 0) {
+                    assertTrue(BY_RANK.compare(items.get(i - 1), items.get(i)) < 0);
+                }
+            }
+
+            replay(adapter, diff.getOps());
+            assertEquals(items.size(), adapter.size());
+            for (int i = 0; i < adapter.size(); i++) {
+                // "*"는 새로 넣거나 바뀐 자리 (어댑터가 items에서 다시 읽음)
+                if (!"*".equals(adapter.get(i))) {
+                    assertEquals(items.get(i).id, adapter.get(i));
+                }
+            }
+            adapter = idsOf(items);
+        }
+    }
+
+    /**
+     * 어댑터처럼 변경을 순서대로 적용 (새로 넣거나 바뀐 자리는 "*")
+     */
+    private static void replay(List<String> adapter, List<ListDiff.Op> ops) {
+        for (ListDiff.Op op : ops) {
+            switch (op.getType()) {
+                case INSERT:
+                    adapter.add(op.getPosition(), "*");
+                    break;
+                case REMOVE:
+                    adapter.remove(op.getPosition());
+                    break;
+                case MOVE:
+                    adapter.add(op.getToPosition(), adapter.remove(op.getPosition()));
+                    break;
+                case CHANGE:
+                    adapter.set(op.getPosition(), "*");
+                    break;
+            }
+        }
+    }
+
+    private static void assertOp(ListDiff.Op op, ListDiff.Type type, int position, int toPosition) {
+        assertEquals(type, op.getType());
+        assertEquals(position, op.getPosition());
+        assertEquals(toPosition, op.getToPosition());
+    }
+
+    private static List<String> ids(String... ids) {
+        return Arrays.asList(ids);
+    }
+
+    private static List<String> idsOf(List<Item> items) {
+        List<String> ids = new ArrayList<>();
+        for (Item item : items) {
+            ids.add(item.id);
+        }
+        return ids;
+    }
+
+    private static final class Item {
+        final String id;
+        final int rank;
+
+        Item(String id, int rank) {
+            this.id = id;
+            this.rank = rank;
+        }
+    }
+}
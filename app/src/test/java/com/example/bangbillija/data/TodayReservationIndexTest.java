@@ -0,0 +1,88 @@
+package com.example.bangbillija.data;
+
+import com.example.bangbillija.model.Reservation;
+import com.example.bangbillija.model.ReservationStatus;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * TodayReservationIndex 강의실별 조회와 서버 동기화 전/날짜 변경 시 미확정 처리 검증
+ */
+public class TodayReservationIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 9, 2);
+
+    @Test
+    public void lookup_returnsNullUntilMarkedLive() {
+        TodayReservationIndex index = new TodayReservationIndex();
+        index.rebuild("user", TODAY, Arrays.asList(reservation("r1", "user", "room301", TODAY, 10)));
+
+        assertNull(index.lookup("user", "room301", TODAY));
+
+        index.markLive();
+        assertEquals(1, index.lookup("user", "room301", TODAY).size());
+    }
+
+    @Test
+    public void rebuild_keepsOnlyOwnersReservationsForTodaySortedByStart() {
+        TodayReservationIndex index = new TodayReservationIndex();
+        index.rebuild("user", TODAY, Arrays.asList(
+                reservation("late", "user", "room301", TODAY, 15),
+                reservation("early", "user", "room301", TODAY, 9),
+                reservation("other-user", "someone", "room301", TODAY, 11),
+                reservation("tomorrow", "user", "room301", TODAY.plusDays(1), 10),
+                reservation("other-room", "user", "room302", TODAY, 10)));
+        index.markLive();
+
+        List<Reservation> room301 = index.lookup("user", "room301", TODAY);
+        assertEquals(2, room301.size());
+        assertEquals("early", room301.get(0).getId());
+        assertEquals("late", room301.get(1).getId());
+        assertTrue(index.lookup("user", "room999", TODAY).isEmpty());
+    }
+
+    @Test
+    public void put_movesReservationBetweenRoomsAndRemoveDropsIt() {
+        TodayReservationIndex index = new TodayReservationIndex();
+        index.rebuild("user", TODAY, Arrays.asList(reservation("r1", "user", "room301", TODAY, 10)));
+        index.markLive();
+
+        index.put(reservation("r1", "user", "room302", TODAY, 10));
+        assertTrue(index.lookup("user", "room301", TODAY).isEmpty());
+        assertEquals(1, index.lookup("user", "room302", TODAY).size());
+
+        // 다른 날짜로 옮겨진 예약은 인덱스에서 빠짐
+        index.put(reservation("r1", "user", "room302", TODAY.plusDays(3), 10));
+        assertTrue(index.lookup("user", "room302", TODAY).isEmpty());
+
+        index.put(reservation("r2", "user", "room302", TODAY, 13));
+        index.remove("r2");
+        assertTrue(index.lookup("user", "room302", TODAY).isEmpty());
+    }
+
+    @Test
+    public void lookup_isUnknownForOtherUserOrDate() {
+        TodayReservationIndex index = new TodayReservationIndex();
+        index.rebuild("user", TODAY, Arrays.asList(reservation("r1", "user", "room301", TODAY, 10)));
+        index.markLive();
+
+        assertNull(index.lookup("someone", "room301", TODAY));
+        assertNull(index.lookup("user", "room301", TODAY.plusDays(1)));
+
+        index.clear();
+        assertNull(index.lookup("user", "room301", TODAY));
+    }
+
+    private Reservation reservation(String id, String owner, String roomId, LocalDate date, int startHour) {
+        return new Reservation(id, roomId, "강의실", "회의", owner, "20240001",
+                date, LocalTime.of(startHour, 0), LocalTime.of(startHour + 1, 0), 4,
+                ReservationStatus.RESERVED, "");
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.bangbillija.model;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * DayOccupancy 셀 반올림, 연속 빈 구간 검색, 반전 마스킹 경계 검증
+ */
+public class DayOccupancyTest {
+
+    // 셀 0~1(09:00~10:00)과 셀 4(11:00~11:30) 점유
+    private static final DayOccupancy SAMPLE = DayOccupancy.ofRange(time(9, 0), time(10, 0))
+            .or(DayOccupancy.ofRange(time(11, 0), time(11, 30)));
+
+    @Test
+    public void ofRange_roundsOffGridTimesOutwardAndClipsToOpeningHours() {
+        // 셀에 일부만 걸쳐도 셀 전체를 점유
+        assertEquals(0b11L, DayOccupancy.ofRange(time(9, 10), time(9, 50)).bits());
+        assertEquals(0b1100L, DayOccupancy.ofRange(time(10, 0), time(11, 0)).bits());
+        assertEquals(1L, DayOccupancy.ofRange(time(8, 0), time(9, 30)).bits());
+        assertEquals(1L << 23, DayOccupancy.ofRange(time(20, 45), time(22, 0)).bits());
+        assertEquals(DayOccupancy.full(), DayOccupancy.ofRange(time(8, 0), time(23, 0)));
+        // 길이가 0이거나 운영 시간 밖이면 비어 있음
+        assertTrue(DayOccupancy.ofRange(time(9, 30), time(9, 30)).isEmpty());
+        assertTrue(DayOccupancy.ofRange(time(7, 0), time(8, 30)).isEmpty());
+        assertTrue(DayOccupancy.ofRange(time(21, 0), time(22, 0)).isEmpty());
+        assertTrue(DayOccupancy.ofRange(time(12, 0), time(11, 0)).isEmpty());
+
+        // 끝과 시작이 맞닿으면 비어 있음, 반올림된 셀에 걸치면 점유
+        assertTrue(SAMPLE.isFree(time(10, 0), time(11, 0)));
+        assertFalse(SAMPLE.isFree(time(10, 0), time(11, 10)));
+        assertFalse(SAMPLE.isFree(time(21, 0), time(22, 0)));
+    }
+
+    @Test
+    public void firstFreeRun_findsRunsOfAtLeastMinCells() {
+        assertEquals(2, SAMPLE.firstFreeRun(0, 1));
+        assertEquals(2, SAMPLE.firstFreeRun(0, 2));
+        // 셀 2~3은 두 칸뿐이므로 세 칸은 셀 5부터
+        assertEquals(5, SAMPLE.firstFreeRun(0, 3));
+        assertEquals(5, SAMPLE.firstFreeRun(3, 2));
+        assertEquals(6, SAMPLE.firstFreeRun(6, 1));
+        // 셀 5~23 = 19칸
+        assertEquals(5, SAMPLE.firstFreeRun(0, 19));
+        assertEquals(-1, SAMPLE.firstFreeRun(0, 20));
+    }
+
+    @Test
+    public void firstFreeRun_handlesBoundaryArguments() {
+        DayOccupancy empty = DayOccupancy.empty();
+        assertEquals(0, empty.firstFreeRun(0, DayOccupancy.CELLS));
+        assertEquals(-1, empty.firstFreeRun(1, DayOccupancy.CELLS));
+        // 하루 셀 수보다 긴 구간은 없음 (시프트 폭이 64를 넘어도)
+        assertEquals(-1, empty.firstFreeRun(0, DayOccupancy.CELLS + 1));
+        assertEquals(-1, empty.firstFreeRun(0, 65));
+        assertEquals(23, empty.firstFreeRun(23, 1));
+        assertEquals(-1, empty.firstFreeRun(DayOccupancy.CELLS, 1));
+        assertEquals(0, empty.firstFreeRun(-3, 1));
+        assertEquals(0, empty.firstFreeRun(-3, 0));
+        assertEquals(7, SAMPLE.firstFreeRun(7, 0));
+        assertEquals(-1, DayOccupancy.full().firstFreeRun(0, 1));
+    }
+
+    @Test
+    public void freeRunFrom_countsToTheNextOccupiedCellOrDayEnd() {
+        assertEquals(0, SAMPLE.freeRunFrom(0));
+        assertEquals(2, SAMPLE.freeRunFrom(2));
+        assertEquals(19, SAMPLE.freeRunFrom(5));
+        assertEquals(1, SAMPLE.freeRunFrom(23));
+        assertEquals(1, DayOccupancy.empty().freeRunFrom(23));
+        assertEquals(0, DayOccupancy.ofRange(time(20, 30), time(21, 0)).freeRunFrom(23));
+        assertEquals(DayOccupancy.CELLS, DayOccupancy.empty().freeRunFrom(0));
+        assertEquals(0, DayOccupancy.empty().freeRunFrom(DayOccupancy.CELLS));
+        assertEquals(0, DayOccupancy.empty().freeRunFrom(-1));
+    }
+
+    @Test
+    public void not_staysWithinTheDayMask() {
+        assertEquals(DayOccupancy.full(), DayOccupancy.empty().not());
+        assertTrue(DayOccupancy.full().not().isEmpty());
+        DayOccupancy free = SAMPLE.not();
+        assertEquals(DayOccupancy.CELLS - 3, free.occupiedCellCount());
+        assertEquals(0L, free.bits() >>> DayOccupancy.CELLS);
+        assertFalse(free.overlaps(SAMPLE));
+        assertEquals(SAMPLE, free.not());
+        // 생성 시에도 하루 셀 밖 비트는 버림
+        assertEquals(DayOccupancy.full(), DayOccupancy.of(-1L));
+    }
+
+    @Test
+    public void slotsAndDescriptionFollowFreeAndOccupiedRuns() {
+        LocalDate date = LocalDate.of(2024, 9, 2);
+        List<TimeSlot> slots = SAMPLE.toAvailableSlots(date);
+        assertEquals(2, slots.size());
+        assertEquals(time(10, 0), slots.get(0).getStart());
+        assertEquals(time(11, 0), slots.get(0).getEnd());
+        assertEquals(time(11, 30), slots.get(1).getStart());
+        assertEquals(DayOccupancy.DAY_END, slots.get(1).getEnd());
+        assertEquals("09:00~10:00, 11:00~11:30", SAMPLE.describe());
+        assertTrue(DayOccupancy.full().toAvailableSlots(date).isEmpty());
+
+        assertEquals(-1, DayOccupancy.cellOf(time(8, 59)));
+        assertEquals(23, DayOccupancy.cellOf(time(20, 59)));
+        assertEquals(-1, DayOccupancy.cellOf(DayOccupancy.DAY_END));
+        assertEquals(DayOccupancy.DAY_END, DayOccupancy.timeOf(DayOccupancy.CELLS));
+    }
+
+    private static LocalTime time(int hour, int minute) {
+        return LocalTime.of(hour, minute);
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.bangbillija.service;
+
+import com.example.bangbillija.model.Reservation;
+import com.example.bangbillija.model.ReservationStatus;
+import com.example.bangbillija.model.TimeSlot;
+import com.example.bangbillija.model.TimetableEntry;
+
+import org.junit.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * OccupancyIndex 겹침 판정, 경계, 삭제/교체와 pending 예약 유지 검증
+ */
+public class OccupancyIndexTest {
+
+    // 2024-09-02는 월요일
+    private static final LocalDate DAY = LocalDate.of(2024, 9, 2);
+
+    @Test
+    public void isFree_detectsOverlapButAllowsTouchingBoundaries() {
+        OccupancyIndex index = new OccupancyIndex();
+        index.putReservation(reservation("a", "room", DAY, 10, 0, 12, 0, ReservationStatus.RESERVED));
+        index.putTimetableEntry(new TimetableEntry("t1", "자료구조", "room", "301호", DayOfWeek.MONDAY,
+                LocalTime.of(14, 0), LocalTime.of(15, 30), 30, "교수", "", "2024-2"));
+
+        assertFalse(index.isFree("room", DAY, time(11, 30), time(12, 30)));
+        assertFalse(index.isFree("room", DAY, time(9, 0), time(21, 0)));
+        assertFalse(index.isFree("room", DAY, time(15, 0), time(16, 0)));
+        // 끝과 시작이 맞닿는 구간은 겹치지 않음
+        assertTrue(index.isFree("room", DAY, time(9, 0), time(10, 0)));
+        assertTrue(index.isFree("room", DAY, time(12, 0), time(14, 0)));
+        assertTrue(index.isFree("room", DAY, time(15, 30), time(17, 0)));
+        // 수업은 요일 기준, 예약은 날짜 기준
+        assertFalse(index.isFree("room", DAY.plusWeeks(1), time(14, 0), time(15, 0)));
+        assertTrue(index.isFree("room", DAY.plusWeeks(1), time(10, 0), time(12, 0)));
+    }
+
+    @Test
+    public void isFree_usesLongestEarlierInterval() {
+        OccupancyIndex index = new OccupancyIndex();
+        // 긴 예약 뒤에 짧은 예약이 있어도 긴 예약의 종료 시간으로 판정
+        index.putReservation(reservation("long", "room", DAY, 9, 0, 18, 0, ReservationStatus.RESERVED));
+        index.putReservation(reservation("short", "room", DAY, 10, 0, 10, 30, ReservationStatus.RESERVED));
+
+        assertFalse(index.isFree("room", DAY, time(16, 0), time(17, 0)));
+        assertEquals(Collections.singletonList("other"),
+                index.freeRooms(Arrays.asList("room", "other"), DAY, time(16, 0), time(17, 0)));
+    }
+
+    @Test
+    public void putAndRemove_updateOccupancy() {
+        OccupancyIndex index = new OccupancyIndex();
+        index.putReservation(reservation("a", "room", DAY, 10, 0, 12, 0, ReservationStatus.RESERVED));
+        // 같은 ID를 다시 넣으면 이전 구간을 대체
+        index.putReservation(reservation("a", "room", DAY, 13, 0, 14, 0, ReservationStatus.RESERVED));
+        assertTrue(index.isFree("room", DAY, time(10, 0), time(12, 0)));
+        assertFalse(index.isFree("room", DAY, time(13, 0), time(14, 0)));
+
+        // 취소된 예약은 점유에서 제외
+        index.putReservation(reservation("a", "room", DAY, 13, 0, 14, 0, ReservationStatus.CANCELLED));
+        assertTrue(index.isFree("room", DAY, time(13, 0), time(14, 0)));
+
+        index.putReservation(reservation("b", "room", DAY, 16, 0, 17, 0, ReservationStatus.RESERVED));
+        index.removeReservation("b");
+        assertTrue(index.isFree("room", DAY, time(9, 0), time(21, 0)));
+        assertTrue(index.dayOccupancy("room", DAY).isEmpty());
+
+        TimeSlot first = index.firstFreeWindow("room", DAY, 60);
+        assertEquals(time(9, 0), first.getStart());
+    }
+
+    @Test
+    public void replaceReservations_replacesOnlyThatRoomAndDate() {
+        OccupancyIndex index = new OccupancyIndex();
+        index.putReservation(reservation("a", "room", DAY, 10, 0, 11, 0, ReservationStatus.RESERVED));
+        index.putReservation(reservation("b", "room", DAY.plusDays(1), 10, 0, 11, 0, ReservationStatus.RESERVED));
+
+        index.replaceReservations("room", DAY,
+                Collections.singletonList(reservation("c", "room", DAY, 15, 0, 16, 0, ReservationStatus.RESERVED)));
+
+        assertTrue(index.isFree("room", DAY, time(10, 0), time(11, 0)));
+        assertFalse(index.isFree("room", DAY, time(15, 0), time(16, 0)));
+        assertFalse(index.isFree("room", DAY.plusDays(1), time(10, 0), time(11, 0)));
+        // 교체로 빠진 예약을 나중에 삭제해도 문제 없음
+        index.removeReservation("a");
+        assertFalse(index.isFree("room", DAY, time(15, 0), time(16, 0)));
+    }
+
+    @Test
+    public void replaceReservations_keepsPendingReservations() {
+        OccupancyIndex index = new OccupancyIndex();
+        Reservation booked = reservation("new", "room", DAY, 10, 0, 11, 0, ReservationStatus.RESERVED);
+        index.putReservation(booked);
+        List<Reservation> server = Arrays.asList(
+                reservation("cancelling", "room", DAY, 13, 0, 14, 0, ReservationStatus.RESERVED),
+                reservation("moving", "room", DAY, 15, 0, 16, 0, ReservationStatus.RESERVED));
+        List<Reservation> pending = Arrays.asList(
+                booked,
+                reservation("cancelling", "room", DAY, 13, 0, 14, 0, ReservationStatus.CANCELLED),
+                reservation("moving", "room", DAY.plusDays(1), 15, 0, 16, 0, ReservationStatus.RESERVED),
+                reservation("elsewhere", "other", DAY, 10, 0, 11, 0, ReservationStatus.RESERVED));
+
+        // 서버 응답에 아직 없는 예약은 유지, 취소/이동 대기 중인 예약은 이 날짜에서 빠짐
+        index.replaceReservations("room", DAY, server, pending);
+
+        assertFalse(index.isFree("room", DAY, time(10, 0), time(11, 0)));
+        assertTrue(index.isFree("room", DAY, time(13, 0), time(14, 0)));
+        assertTrue(index.isFree("room", DAY, time(15, 0), time(16, 0)));
+        assertTrue(index.isFree("other", DAY, time(10, 0), time(11, 0)));
+    }
+
+    private static LocalTime time(int hour, int minute) {
+        return LocalTime.of(hour, minute);
+    }
+
+    private static Reservation reservation(String id, String roomId, LocalDate date, int startHour, int startMinute,
+                                           int endHour, int endMinute, ReservationStatus status) {
+        return new Reservation(id, roomId, roomId, "예약", "user", "20240001", date,
+                LocalTime.of(startHour, startMinute), LocalTime.of(endHour, endMinute), 10, status, "");
+    }
+}
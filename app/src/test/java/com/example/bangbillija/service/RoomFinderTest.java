@@ -0,0 +1,78 @@
+package com.example.bangbillija.service;
+
+import com.example.bangbillija.model.DayOccupancy;
+import com.example.bangbillija.model.Room;
+import com.example.bangbillija.model.RoomStatus;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * RoomFinder 인원/시설/건물/점유 조건과 순위 검증
+ */
+public class RoomFinderTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 9, 2);
+
+    private final RoomFinder finder = new RoomFinder(Arrays.asList(
+            room("big", "공학관", 80, "빔 프로젝터", "화이트보드"),
+            room("mid", "공학관", 40, "빔프로젝터", "화이트보드"),
+            room("small", "공학관", 20, "화이트보드"),
+            room("hum", "인문관", 40, "빔프로젝터", "화이트보드", "마이크")));
+
+    @Test
+    public void find_filtersByCapacityFacilitiesAndRanksBySpareSeats() {
+        List<RoomFinder.Match> matches = finder.find(
+                criteria(10, 12, 30, Arrays.asList("빔프로젝터", "화이트보드"), null), roomId -> DayOccupancy.empty());
+
+        assertEquals(3, matches.size());
+        // 40석 두 곳이 80석보다 앞, 같은 좌석 수는 이름 순
+        assertEquals("hum", matches.get(0).getRoom().getId());
+        assertEquals("mid", matches.get(1).getRoom().getId());
+        assertEquals("big", matches.get(2).getRoom().getId());
+        assertEquals(10, matches.get(0).getSpareSeats());
+    }
+
+    @Test
+    public void find_skipsOccupiedRoomsAndAppliesBuilding() {
+        Map<String, DayOccupancy> occupancy = new HashMap<>();
+        occupancy.put("mid", DayOccupancy.ofRange(LocalTime.of(11, 30), LocalTime.of(13, 0)));
+        occupancy.put("big", DayOccupancy.ofRange(LocalTime.of(12, 0), LocalTime.of(13, 0)));
+
+        List<RoomFinder.Match> matches = finder.find(criteria(10, 12, 1, Collections.emptyList(), "공학관"),
+                roomId -> occupancy.getOrDefault(roomId, DayOccupancy.empty()));
+
+        assertEquals(2, matches.size());
+        assertEquals("small", matches.get(0).getRoom().getId());
+        assertEquals("big", matches.get(1).getRoom().getId());
+        // 12:00부터 예약이 있으므로 종료 후 여유 없음
+        assertEquals(0, matches.get(1).getFreeMinutesAfter());
+        assertEquals(9 * 60, matches.get(0).getFreeMinutesAfter());
+    }
+
+    @Test
+    public void find_returnsNothingForUnknownFacilityOrClosedHours() {
+        assertTrue(finder.find(criteria(10, 12, 1, Collections.singletonList("피아노"), null),
+                roomId -> DayOccupancy.empty()).isEmpty());
+        assertTrue(finder.find(criteria(21, 22, 1, Collections.emptyList(), null),
+                roomId -> DayOccupancy.empty()).isEmpty());
+    }
+
+    private RoomFinder.Criteria criteria(int startHour, int endHour, int minCapacity, List<String> facilities, String building) {
+        return new RoomFinder.Criteria(DAY, LocalTime.of(startHour, 0), LocalTime.of(endHour, 0),
+                minCapacity, facilities, building);
+    }
+
+    private Room room(String id, String building, int capacity, String... facilities) {
+        return new Room(id, building, id, capacity, "1층", Arrays.asList(facilities), RoomStatus.AVAILABLE);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.bangbillija.service;
+
+import com.example.bangbillija.model.RecurrenceRule;
+import com.example.bangbillija.model.Reservation;
+import com.example.bangbillija.model.ReservationSeries;
+import com.example.bangbillija.model.ReservationStatus;
+import com.example.bangbillija.model.TimetableEntry;
+
+import org.junit.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * 반복 규칙 구간 펼치기와 SeriesConflictChecker 일괄 충돌 검사 검증
+ */
+public class SeriesConflictCheckerTest {
+
+    // 2024-09-02는 월요일
+    private static final LocalDate START = LocalDate.of(2024, 9, 2);
+
+    @Test
+    public void rule_expandsOnlyRequestedWindowAndSkipsExceptions() {
+        RecurrenceRule rule = RecurrenceRule.biweekly(START, LocalDate.of(2024, 12, 31))
+                .withExceptions(Collections.singletonList(LocalDate.of(2024, 9, 30)));
+
+        List<LocalDate> dates = rule.occurrencesBetween(LocalDate.of(2024, 9, 10), LocalDate.of(2024, 10, 31));
+        assertEquals(Arrays.asList(LocalDate.of(2024, 9, 16), LocalDate.of(2024, 10, 14), LocalDate.of(2024, 10, 28)), dates);
+        assertFalse(rule.occursOn(LocalDate.of(2024, 9, 9)));
+        assertTrue(rule.occursOn(LocalDate.of(2024, 12, 23)));
+        assertEquals(8, rule.occurrences().size());
+    }
+
+    @Test
+    public void check_reportsReservationAndClassConflictsByDate() {
+        ReservationSeries series = series(RecurrenceRule.weekly(START, LocalDate.of(2024, 9, 30)));
+        List<Reservation> existing = Arrays.asList(
+                reservation("a", LocalDate.of(2024, 9, 9), 13, 15, ReservationStatus.RESERVED),
+                // 취소된 예약은 무시
+                reservation("b", LocalDate.of(2024, 9, 16), 14, 15, ReservationStatus.CANCELLED),
+                reservation("c", LocalDate.of(2024, 9, 23), 12, 14, ReservationStatus.RESERVED),
+                // 발생 날짜가 아닌 날의 예약은 무관
+                reservation("d", LocalDate.of(2024, 9, 24), 9, 21, ReservationStatus.RESERVED));
+        List<TimetableEntry> classes = Arrays.asList(
+                new TimetableEntry("t1", "자료구조", "room", "301호", DayOfWeek.MONDAY,
+                        LocalTime.of(14, 30), LocalTime.of(16, 0), 30, "교수", "", "2024-2"),
+                new TimetableEntry("t2", "운영체제", "room", "301호", DayOfWeek.TUESDAY,
+                        LocalTime.of(14, 0), LocalTime.of(16, 0), 30, "교수", "", "2024-2"));
+
+        List<SeriesConflictChecker.Conflict> conflicts = SeriesConflictChecker.check(series.occurrences(), existing, classes);
+
+        // 월요일 수업(14:30~16:00)이 매주 겹치므로 모든 날짜 충돌, 9/9는 예약 a보다 늦게 끝나는 수업이 사유
+        assertEquals(5, conflicts.size());
+        assertEquals(START, conflicts.get(0).getDate());
+        assertTrue(conflicts.get(0).getReason().contains("자료구조"));
+    }
+
+    @Test
+    public void check_ignoresOwnOccurrencesAndAdjacentBookings() {
+        ReservationSeries series = series(RecurrenceRule.weekly(START, LocalDate.of(2024, 9, 23)));
+        List<Reservation> occurrences = series.occurrences();
+        List<Reservation> existing = Arrays.asList(
+                occurrences.get(1),
+                reservation("before", LocalDate.of(2024, 9, 9), 12, 14, ReservationStatus.RESERVED),
+                reservation("after", LocalDate.of(2024, 9, 16), 15, 16, ReservationStatus.RESERVED),
+                reservation("hit", LocalDate.of(2024, 9, 23), 13, 16, ReservationStatus.CHECKED_IN));
+
+        List<SeriesConflictChecker.Conflict> conflicts = SeriesConflictChecker.check(occurrences, existing, Collections.emptyList());
+
+        assertEquals(1, conflicts.size());
+        assertEquals(LocalDate.of(2024, 9, 23), conflicts.get(0).getDate());
+        assertEquals("RSS-1-20240923", occurrences.get(3).getId());
+    }
+
+    private ReservationSeries series(RecurrenceRule rule) {
+        return new ReservationSeries("RSS-1", "room", "301호", "스터디", "user", "20240001",
+                LocalTime.of(14, 0), LocalTime.of(15, 0), 10, "", rule);
+    }
+
+    private Reservation reservation(String id, LocalDate date, int startHour, int endHour, ReservationStatus status) {
+        return new Reservation(id, "room", "301호", "기존", "other", "20240002", date,
+                LocalTime.of(startHour, 0), LocalTime.of(endHour, 0), 5, status, "");
+    }
+}
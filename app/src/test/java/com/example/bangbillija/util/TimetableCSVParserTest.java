@@ -0,0 +1,107 @@
+package com.example.bangbillija.util;
+
+import com.example.bangbillija.model.TimetableEntry;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * TimetableCSVParser RFC 4180 처리(따옴표, 이스케이프, 줄바꿈, CRLF, BOM)와 행별 오류 수집 검증
+ */
+public class TimetableCSVParserTest {
+
+    private static final String HEADER = "과목명,강의실ID,강의실명,요일,시작시간,종료시간,수강인원,교수명,비고\n";
+
+    @Test
+    public void parse_keepsCommasAndEscapedQuotesInsideQuotedFields() throws IOException {
+        List<TimetableEntry> entries = new ArrayList<>();
+        TimetableCSVParser.ParseResult result = parse(HEADER
+                + "알고리즘,room301,\"공학관 301호, 대형\",월,09:00,10:30,40,김교수,\"중간고사 \"\"필독\"\", 팀 발표\"\n", entries);
+
+        assertFalse(result.hasErrors());
+        assertEquals(1, entries.size());
+        TimetableEntry entry = entries.get(0);
+        assertEquals("공학관 301호, 대형", entry.getRoomName());
+        assertEquals("중간고사 \"필독\", 팀 발표", entry.getNote());
+        assertEquals(DayOfWeek.MONDAY, entry.getDayOfWeek());
+        assertEquals(LocalTime.of(10, 30), entry.getEndTime());
+        assertEquals("2024-2", entry.getSemester());
+    }
+
+    @Test
+    public void parse_handlesEmbeddedNewlinesAndCrlf() throws IOException {
+        List<TimetableEntry> entries = new ArrayList<>();
+        TimetableCSVParser.ParseResult result = parse(HEADER.replace("\n", "\r\n")
+                + "자료구조,room302,공학관 302호,화,9:00,10:30,30,이교수,\"첫 줄\r\n둘째 줄\"\r\n"
+                + "\r\n"
+                + "운영체제,room303,공학관 303호,WED,13:00,14:30,35,박교수,\r\n", entries);
+
+        assertFalse(result.hasErrors());
+        assertEquals(2, result.getEntryCount());
+        assertEquals("첫 줄\r\n둘째 줄", entries.get(0).getNote());
+        assertEquals(LocalTime.of(9, 0), entries.get(0).getStartTime());
+        assertEquals(DayOfWeek.WEDNESDAY, entries.get(1).getDayOfWeek());
+        assertEquals("", entries.get(1).getNote());
+    }
+
+    @Test
+    public void parse_stripsBomAndCleansUnquotedFields() throws IOException {
+        List<TimetableEntry> entries = new ArrayList<>();
+        byte[] bytes = ("\uFEFF" + HEADER + " 알고리즘 ,'room301',공학관 301호,목,'09:00,10:30,40,김교수\n")
+                .getBytes(StandardCharsets.UTF_8);
+        TimetableCSVParser.ParseResult result = TimetableCSVParser.parse(new ByteArrayInputStream(bytes), "2024-2", entries::add);
+
+        assertFalse(result.hasErrors());
+        assertEquals(1, entries.size());
+        assertEquals("알고리즘", entries.get(0).getCourseName());
+        assertEquals("room301", entries.get(0).getRoomId());
+        assertEquals(LocalTime.of(9, 0), entries.get(0).getStartTime());
+    }
+
+    @Test
+    public void parse_collectsErrorsPerLineAndContinues() throws IOException {
+        List<TimetableEntry> entries = new ArrayList<>();
+        TimetableCSVParser.ParseResult result = parse(HEADER
+                + "알고리즘,room301,공학관 301호,월,09:00,10:30,40,김교수\n"
+                + "자료구조,room302,공학관 302호,X요일,09:00,10:30,30,이교수\n"
+                // 따옴표 안 줄바꿈으로 한 레코드가 두 줄 (다음 레코드는 6번째 줄부터)
+                + "운영체제,room303,\"공학관\n303호\",수,13:00,14:30,35,박교수\n"
+                + "네트워크,room304,공학관 304호,금,11:00,10:00,20,최교수\n"
+                + "부족한,필드\n", entries);
+
+        assertEquals(2, result.getEntryCount());
+        assertEquals(3, result.getErrorCount());
+        List<TimetableCSVParser.ParseException> errors = result.getErrors();
+        assertEquals(3, errors.get(0).getLineNumber());
+        assertEquals(6, errors.get(1).getLineNumber());
+        assertEquals(7, errors.get(2).getLineNumber());
+        assertTrue(errors.get(0).getMessage().contains("요일"));
+        assertEquals("공학관\n303호", entries.get(1).getRoomName());
+    }
+
+    @Test
+    public void parseCSV_throwsFirstErrorAfterReadingAllLines() throws IOException {
+        try {
+            TimetableCSVParser.parseCSV(new ByteArrayInputStream((HEADER
+                    + "알고리즘,room301,공학관 301호,월,09:00,10:30,0,김교수\n"
+                    + "자료구조,,공학관 302호,화,09:00,10:30,30,이교수\n").getBytes(StandardCharsets.UTF_8)), "2024-2");
+            fail("ParseException expected");
+        } catch (TimetableCSVParser.ParseException e) {
+            assertEquals(2, e.getLineNumber());
+        }
+    }
+
+    private TimetableCSVParser.ParseResult parse(String csv, List<TimetableEntry> entries) throws IOException {
+        return TimetableCSVParser.parse(new StringReader(csv), "2024-2", entries::add);
+    }
+}
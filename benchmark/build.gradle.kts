@@ -0,0 +1,62 @@
+// JVM 전용 JMH 벤치마크 모듈
+// 앱 모듈의 순수 자바 코드(모델, 슬롯 계산, CSV 파싱, 예약 분류, 문서 변환, QR 문자열/래스터)만 직접 컴파일하여 측정합니다.
+// 실행: ./gradlew :benchmark:jmh  (결과: benchmark/build/results/jmh/results.json)
+// 기준값 기록: ./gradlew :benchmark:recordBaseline -Pbaseline=1.0  (benchmark/baselines/1.0.json)
+plugins {
+    `java-library`
+    alias(libs.plugins.jmh)
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+sourceSets {
+    main {
+        java {
+            // Android/Firebase에 의존하지 않는 파일만 포함
+            srcDir("../app/src/main/java")
+            include(
+                "com/example/bangbillija/model/**",
+                "com/example/bangbillija/service/SlotEngine.java",
+                "com/example/bangbillija/service/OccupancyIndex.java",
+                "com/example/bangbillija/service/FirestoreMapper.java",
+                "com/example/bangbillija/data/ReservationPartitioner.java",
+                "com/example/bangbillija/data/SortedKeyedList.java",
+                "com/example/bangbillija/data/ListDiff.java",
+                "com/example/bangbillija/util/TimetableCSVParser.java",
+                "com/example/bangbillija/util/QRPayload.java",
+                "com/example/bangbillija/util/QRRaster.java"
+            )
+        }
+    }
+}
+
+dependencies {
+    // QRRaster가 사용하는 인코더 (앱 모듈과 같은 버전)
+    implementation("com.google.zxing:core:3.5.2")
+    jmh(libs.jmh.core)
+    jmhAnnotationProcessor(libs.jmh.generator.annprocess)
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    timeUnit.set("us")
+    benchmarkMode.set(listOf("avgt"))
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    // 특정 벤치마크만: ./gradlew :benchmark:jmh -Pjmh.includes=SlotEngine
+    providers.gradleProperty("jmh.includes").orNull?.let { includes.set(listOf(it)) }
+}
+
+// 릴리스별 기준값을 저장소에 남겨 이후 결과와 비교
+tasks.register<Copy>("recordBaseline") {
+    val baseline = providers.gradleProperty("baseline").orElse("latest")
+    from(layout.buildDirectory.file("results/jmh/results.json"))
+    into(layout.projectDirectory.dir("baselines"))
+    rename { "${baseline.get()}.json" }
+}
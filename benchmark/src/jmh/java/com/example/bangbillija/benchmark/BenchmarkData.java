@@ -0,0 +1,136 @@
+package com.example.bangbillija.benchmark;
+
+import com.example.bangbillija.model.Reservation;
+import com.example.bangbillija.model.ReservationStatus;
+import com.example.bangbillija.model.Room;
+import com.example.bangbillija.model.RoomStatus;
+import com.example.bangbillija.model.TimetableEntry;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 벤치마크용 합성 데이터 생성기
+ * 같은 seed는 항상 같은 데이터를 만들므로 릴리스 간 결과를 비교할 수 있습니다.
+ */
+final class BenchmarkData {
+
+    static final long SEED = 20240301L;
+    static final LocalDate BASE_DATE = LocalDate.of(2024, 9, 2);
+    static final String SEMESTER = "2024-2";
+
+    private static final String[] BUILDINGS = {"공학관", "인문관", "자연관", "경영관", "예술관"};
+    private static final String[] DAYS = {"월", "화", "수", "목", "금"};
+    private static final ReservationStatus[] STATUSES = {
+            ReservationStatus.RESERVED, ReservationStatus.RESERVED, ReservationStatus.PENDING,
+            ReservationStatus.CHECKED_IN, ReservationStatus.CANCELLED
+    };
+
+    private BenchmarkData() {
+    }
+
+    static String roomId(int index) {
+        return "room" + index;
+    }
+
+    static List<Room> rooms(int count) {
+        List<Room> rooms = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String building = BUILDINGS[i % BUILDINGS.length];
+            rooms.add(new Room(roomId(i), building, building + " " + (100 + i) + "호", 20 + i % 60,
+                    (1 + i % 5) + "층", Arrays.asList("프로젝터", "와이파이"), RoomStatus.AVAILABLE));
+        }
+        return rooms;
+    }
+
+    /**
+     * 운영 시간(09:00~21:00) 안의 30분 단위 예약
+     * @param days BASE_DATE부터 흩어질 날짜 수
+     */
+    static List<Reservation> reservations(int count, int roomCount, int days, Random random) {
+        List<Reservation> reservations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            reservations.add(reservation("res" + i, roomId(random.nextInt(roomCount)),
+                    BASE_DATE.plusDays(random.nextInt(days)), random));
+        }
+        return reservations;
+    }
+
+    static Reservation reservation(String id, String roomId, LocalDate date, Random random) {
+        LocalTime start = LocalTime.of(9, 0).plusMinutes(30L * random.nextInt(22));
+        LocalTime end = start.plusMinutes(30L * (1 + random.nextInt(4)));
+        if (end.isAfter(LocalTime.of(21, 0)) || end.isBefore(start)) {
+            end = LocalTime.of(21, 0);
+        }
+        return new Reservation(id, roomId, roomId + "호", "스터디", "user" + random.nextInt(500),
+                "2020" + (1000 + random.nextInt(9000)), date, start, end, 2 + random.nextInt(20),
+                STATUSES[random.nextInt(STATUSES.length)], "");
+    }
+
+    static List<TimetableEntry> timetable(int count, int roomCount, Random random) {
+        List<TimetableEntry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalTime start = LocalTime.of(9 + random.nextInt(10), random.nextBoolean() ? 0 : 30);
+            String roomId = roomId(random.nextInt(roomCount));
+            entries.add(new TimetableEntry("tt" + i, "과목" + i, roomId, roomId + "호",
+                    DayOfWeek.of(1 + random.nextInt(5)), start, start.plusMinutes(75), 30,
+                    "교수" + (i % 300), "", SEMESTER));
+        }
+        return entries;
+    }
+
+    /**
+     * TimetableCSVParser 형식의 CSV (헤더 포함)
+     */
+    static byte[] timetableCsv(int rows, int roomCount, Random random) {
+        StringBuilder builder = new StringBuilder(rows * 64);
+        builder.append("과목명,강의실ID,강의실명,요일,시작시간,종료시간,수강인원,교수명,비고\n");
+        for (int i = 0; i < rows; i++) {
+            int hour = 9 + random.nextInt(10);
+            String roomId = roomId(random.nextInt(roomCount));
+            builder.append("과목").append(i).append(',')
+                    .append(roomId).append(',')
+                    .append('"').append(roomId).append("호\"").append(',')
+                    .append(DAYS[random.nextInt(DAYS.length)]).append(',')
+                    .append(hour).append(":00,")
+                    .append(hour + 1).append(":15,")
+                    .append(10 + random.nextInt(60)).append(',')
+                    .append("교수").append(i % 300).append(',')
+                    .append(i % 7 == 0 ? "'중간고사 주의'" : "")
+                    .append('\n');
+        }
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Firestore reservations 문서의 필드 맵 (getData() 결과와 같은 타입: 숫자는 Long)
+     */
+    static List<Map<String, Object>> reservationDocuments(int count, Random random) {
+        List<Map<String, Object>> documents = new ArrayList<>(count);
+        for (Reservation reservation : reservations(count, 1_000, 120, random)) {
+            Map<String, Object> data = new HashMap<>();
+            data.put("id", reservation.getId());
+            data.put("roomId", reservation.getRoomId());
+            data.put("roomName", reservation.getRoomName());
+            data.put("title", reservation.getTitle());
+            data.put("owner", reservation.getOwner());
+            data.put("ownerStudentId", reservation.getOwnerStudentId());
+            data.put("date", reservation.getDate().toString());
+            data.put("startTime", reservation.getStartTime().toString());
+            data.put("endTime", reservation.getEndTime().toString());
+            data.put("attendees", (long) reservation.getAttendees());
+            data.put("status", reservation.getStatus().name());
+            data.put("note", reservation.getNote());
+            documents.add(data);
+        }
+        return documents;
+    }
+}
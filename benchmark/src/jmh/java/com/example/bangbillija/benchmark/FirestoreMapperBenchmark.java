@@ -0,0 +1,36 @@
+package com.example.bangbillija.benchmark;
+
+import com.example.bangbillija.model.Reservation;
+import com.example.bangbillija.service.FirestoreMapper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 예약 문서 필드 맵 -> Reservation 변환 (스냅샷 1,000건 기준)
+ */
+@State(Scope.Benchmark)
+public class FirestoreMapperBenchmark {
+
+    private List<Map<String, Object>> documents;
+
+    @Setup
+    public void setUp() {
+        documents = BenchmarkData.reservationDocuments(1_000, new Random(BenchmarkData.SEED));
+    }
+
+    @Benchmark
+    public void decodeSnapshot(Blackhole blackhole) {
+        for (Map<String, Object> data : documents) {
+            Reservation reservation = FirestoreMapper.reservationFromMap(data);
+            blackhole.consume(reservation);
+        }
+    }
+}
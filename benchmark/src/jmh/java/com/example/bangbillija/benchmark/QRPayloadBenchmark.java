@@ -0,0 +1,38 @@
+package com.example.bangbillija.benchmark;
+
+import com.example.bangbillija.util.QRPayload;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 QR 문자열 생성 (QRCodeUtil.createReservationQRContent와 같은 경로)
+ * 기존 String.format 구현을 비교 기준으로 함께 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QRPayloadBenchmark {
+
+    public String reservationId = "RES-20240902-AB12CD";
+    public String roomId = "room301";
+    public String date = "2024-09-02";
+    public String startTime = "14:30";
+
+    @Benchmark
+    public String reservationPayload() {
+        return QRPayload.reservation(reservationId, roomId, date, startTime);
+    }
+
+    @Benchmark
+    public String reservationPayloadFormatBaseline() {
+        return String.format("{\"reservationId\":\"%s\",\"roomId\":\"%s\",\"date\":\"%s\",\"startTime\":\"%s\"}",
+                reservationId, roomId, date, startTime);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.bangbillija.benchmark;
+
+import com.example.bangbillija.util.QRPayload;
+import com.example.bangbillija.util.QRRaster;
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.EncodeHintType;
+import com.google.zxing.WriterException;
+import com.google.zxing.common.BitMatrix;
+import com.google.zxing.qrcode.QRCodeWriter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 500x500 예약 QR 픽셀 생성 (QRCodeUtil.generateQRCode와 같은 경로)
+ * 출력 크기로 인코딩한 뒤 픽셀마다 조회하던 기존 방식을 비교 기준으로 함께 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QRRasterBenchmark {
+
+    public int size = 500;
+    public String content = QRPayload.reservation("RES-20240902-AB12CD", "room301", "2024-09-02", "14:30");
+
+    @Benchmark
+    public int[] moduleRaster() throws WriterException {
+        return QRRaster.render(QRRaster.encodeModules(content), size, size);
+    }
+
+    @Benchmark
+    public int[] perPixelBaseline() throws WriterException {
+        Map<EncodeHintType, Object> hints = new EnumMap<>(EncodeHintType.class);
+        hints.put(EncodeHintType.CHARACTER_SET, "UTF-8");
+        hints.put(EncodeHintType.MARGIN, 1);
+        BitMatrix matrix = new QRCodeWriter().encode(content, BarcodeFormat.QR_CODE, size, size, hints);
+        int[] pixels = new int[size * size];
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < size; y++) {
+                pixels[y * size + x] = matrix.get(x, y) ? QRRaster.BLACK : QRRaster.WHITE;
+            }
+        }
+        return pixels;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.bangbillija.benchmark;
+
+import com.example.bangbillija.data.ReservationPartitioner;
+import com.example.bangbillija.model.Reservation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 내 예약 목록 분류 (ReservationRepository의 예정/지난/취소 분류 경로)
+ * 전체 재분류와 스냅샷 변경 한 건 반영을 비교합니다.
+ */
+@State(Scope.Benchmark)
+public class ReservationPartitionBenchmark {
+
+    @Param({"5000", "50000"})
+    public int reservationCount;
+
+    private List<Reservation> reservations;
+    private Reservation[] changes;
+    private ReservationPartitioner partitioner;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(BenchmarkData.SEED);
+        // 오늘 기준 앞뒤로 흩어지도록 BASE_DATE 주변 2년
+        reservations = BenchmarkData.reservations(reservationCount, 2_000, 730, random);
+        partitioner = new ReservationPartitioner();
+        partitioner.replaceAll(reservations);
+
+        changes = new Reservation[1024];
+        for (int i = 0; i < changes.length; i++) {
+            Reservation target = reservations.get(random.nextInt(reservationCount));
+            changes[i] = BenchmarkData.reservation(target.getId(), target.getRoomId(), target.getDate(), random);
+        }
+    }
+
+    @Benchmark
+    public int fullPartition() {
+        ReservationPartitioner fresh = new ReservationPartitioner();
+        fresh.replaceAll(reservations);
+        return fresh.size();
+    }
+
+    @Benchmark
+    public int applySingleChange() {
+        partitioner.upsert(changes[next++ & (changes.length - 1)]);
+        return partitioner.size();
+    }
+}
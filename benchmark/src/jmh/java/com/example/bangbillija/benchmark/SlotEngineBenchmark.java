@@ -0,0 +1,75 @@
+package com.example.bangbillija.benchmark;
+
+import com.example.bangbillija.model.Reservation;
+import com.example.bangbillija.model.TimeSlot;
+import com.example.bangbillija.model.TimetableEntry;
+import com.example.bangbillija.service.OccupancyIndex;
+import com.example.bangbillija.service.SlotEngine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 하루 슬롯 계산: 강의실의 예약/시간표 목록으로 매번 계산하는 경로와
+ * 학기 전체(10k 수업)가 반영된 점유 인덱스 경로
+ */
+@State(Scope.Benchmark)
+public class SlotEngineBenchmark {
+
+    @Param({"2000"})
+    public int roomCount;
+
+    @Param({"10000"})
+    public int timetableEntries;
+
+    private final LocalDate date = BenchmarkData.BASE_DATE.plusDays(3);
+    private String roomId;
+    private List<Reservation> roomReservations;
+    private List<TimetableEntry> roomTimetable;
+    private OccupancyIndex index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(BenchmarkData.SEED);
+        roomId = BenchmarkData.roomId(7);
+        roomReservations = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            roomReservations.add(BenchmarkData.reservation("day" + i, roomId, date, random));
+        }
+        List<TimetableEntry> semester = BenchmarkData.timetable(timetableEntries, roomCount, random);
+        roomTimetable = new ArrayList<>();
+        for (TimetableEntry entry : semester) {
+            if (entry.getRoomId().equals(roomId)) {
+                roomTimetable.add(entry);
+            }
+        }
+
+        index = new OccupancyIndex();
+        List<String> roomIds = new ArrayList<>(roomCount);
+        for (int i = 0; i < roomCount; i++) {
+            roomIds.add(BenchmarkData.roomId(i));
+        }
+        index.registerRooms(roomIds);
+        index.replaceAllTimetable(semester);
+        index.replaceAllReservations(BenchmarkData.reservations(50_000, roomCount, 120, random));
+        index.replaceReservations(roomId, date, roomReservations);
+    }
+
+    @Benchmark
+    public List<TimeSlot> dailySlotsFromLists() {
+        return SlotEngine.calculateDailySlots(date, roomReservations, roomTimetable);
+    }
+
+    @Benchmark
+    public List<TimeSlot> dailySlotsFromIndex() {
+        return SlotEngine.calculateDailySlots(roomId, date, index);
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.bangbillija.benchmark;
+
+import com.example.bangbillija.model.TimetableEntry;
+import com.example.bangbillija.util.TimetableCSVParser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 학기 시간표 CSV 업로드 파싱 (10k 행)
+ */
+@State(Scope.Benchmark)
+public class TimetableCsvBenchmark {
+
+    @Param({"10000"})
+    public int rows;
+
+    private byte[] csv;
+
+    @Setup
+    public void setUp() {
+        csv = BenchmarkData.timetableCsv(rows, 2_000, new Random(BenchmarkData.SEED));
+    }
+
+    @Benchmark
+    public List<TimetableEntry> parseSemester() throws Exception {
+        return TimetableCSVParser.parseCSV(new ByteArrayInputStream(csv), BenchmarkData.SEMESTER);
+    }
+}